@@ -41,12 +41,16 @@ public class AuthUserAuthenticator {
                         AuthUser::isActive,
                         authUser -> UserError.NON_ACTIVE_USER
                 )
-                .filterOrElse(
-                        authUser -> encoder.match(information.getPassword(), authUser.password()),
-                        authUser -> UserError.INVALID_PASSWORD
+                .flatMap(authUser -> passwordMatches(information.getPassword(), authUser)
+                        .filterOrElse(matches -> matches, matches -> UserError.INVALID_PASSWORD)
+                        .map(matches -> authUser)
                 ).map(authUser -> new Authentication(tokenGenerator.create(authUser).token()));
     }
 
+    private Either<UseCaseError, Boolean> passwordMatches(String rawPassword, AuthUser authUser) {
+        return PasswordEncoder.hashing(() -> encoder.match(rawPassword, authUser.password()));
+    }
+
     public void logout(Token token) {
         tokenRepo.store(token);
     }
@@ -11,7 +11,6 @@ import authentication.domain.user.PasswordEncoder;
 import authentication.domain.user.UserCreatedEvent;
 import io.vavr.control.Either;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 import shared.domain.email.EmailSender;
 import shared.domain.email.Message;
 import shared.domain.email.template.TemplateFactory;
@@ -21,7 +20,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthUserCreator {
 
-    private final EventBus           eventBus;
     private final EmailSender        emailSender;
     private final TokenGenerator     tokenGenerator;
     private final PasswordEncoder    passwordEncoder;
@@ -29,14 +27,12 @@ public class AuthUserCreator {
     private final AuthUserRepository authUserRepository;
 
     public AuthUserCreator(
-            EventBus           eventBus,
             EmailSender        emailSender,
             TokenGenerator     tokenGenerator,
             TemplateFactory    templateFactory,
             PasswordEncoder    passwordEncoder,
             AuthUserRepository authUserRepository
     ) {
-        this.eventBus           = eventBus;
         this.emailSender        = emailSender;
         this.tokenGenerator     = tokenGenerator;
         this.passwordEncoder    = passwordEncoder;
@@ -55,22 +51,18 @@ public class AuthUserCreator {
     }
 
     public Either<UseCaseError, Void> createUser(AuthUserId id, UserInformation userInformation) {
-        AuthUser authUser = AuthUser.createNew(
-                id,
-                userInformation.getEmail(),
-                passwordEncoder.encode(userInformation.getPassword())
-        );
         UserCreatedEvent userCreatedEvent = new UserCreatedEvent(
                 id.toString(),
                 userInformation.getEmail(),
                 userInformation.getType()
         );
 
-        return authUserRepository.store(authUser)
-                .toEither((UseCaseError) UserError.USER_EMAIL_ALREADY_EXISTS)
-                .peek(v -> {
-                    sendConfirmationEmail(authUser);
-                    eventBus.publish(userCreatedEvent);
-                });
+        return PasswordEncoder
+                .hashing(() -> passwordEncoder.encode(userInformation.getPassword()))
+                .map(encodedPassword -> AuthUser.createNew(id, userInformation.getEmail(), encodedPassword))
+                .flatMap(authUser -> authUserRepository.store(authUser, userCreatedEvent)
+                        .toEither((UseCaseError) UserError.USER_EMAIL_ALREADY_EXISTS)
+                        .peek(v -> sendConfirmationEmail(authUser))
+                );
     }
 }
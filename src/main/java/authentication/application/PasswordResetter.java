@@ -35,8 +35,12 @@ public class PasswordResetter {
     }
 
     private Either<UseCaseError, Void> updatePassword(AuthUser authUser, String newPassword) {
-        authUser.updatePassword(passwordEncoder.encode(newPassword));
-        return authUserRepo.update(authUser).toEither(UserError.DB_ERROR);
+        return PasswordEncoder
+                .hashing(() -> passwordEncoder.encode(newPassword))
+                .flatMap(encodedPassword -> {
+                    authUser.updatePassword(encodedPassword);
+                    return authUserRepo.update(authUser).toEither((UseCaseError) UserError.DB_ERROR);
+                });
     }
 
     public Either<UseCaseError, Void> updatePassword(Token token, PasswordResetInformation passwordResetInformation) {
@@ -9,4 +9,5 @@ public enum UserError implements UseCaseError {
     INVALID_PASSWORD,
     USER_EMAIL_ALREADY_EXISTS,
     FORBIDDEN,
+    PASSWORD_HASHING_UNAVAILABLE,
 }
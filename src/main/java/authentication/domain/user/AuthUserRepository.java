@@ -2,10 +2,13 @@ package authentication.domain.user;
 
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 public interface AuthUserRepository {
 
     Try<Void> store(AuthUser authUser);
+
+    Try<Void> store(AuthUser authUser, DomainEvent event);
     
     Try<Void> update(AuthUser authUser);
 
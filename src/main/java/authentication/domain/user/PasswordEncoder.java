@@ -1,8 +1,25 @@
 package authentication.domain.user;
 
+import authentication.application.dto.user.UserError;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import shared.application.UseCaseError;
+
+import java.util.function.Supplier;
+
 public interface PasswordEncoder {
     
     String encode(String password);
 
     boolean match(String rawPassword, String encodedPassword);
+
+    /**
+     * Runs a call to an encoder, an unavailable hashing is answered as
+     * PASSWORD_HASHING_UNAVAILABLE while any other failure is rethrown
+     */
+    static <T> Either<UseCaseError, T> hashing(Supplier<T> hashing) {
+        return Try.of(() -> Either.<UseCaseError, T>right(hashing.get()))
+                .recover(PasswordHashingUnavailable.class, error -> Either.left(UserError.PASSWORD_HASHING_UNAVAILABLE))
+                .get();
+    }
 }
@@ -0,0 +1,8 @@
+package authentication.domain.user;
+
+public class PasswordHashingUnavailable extends RuntimeException {
+
+    public PasswordHashingUnavailable(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package authentication.domain.user;
 
+import io.vavr.control.Option;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import shared.domain.DomainEvent;
@@ -21,4 +22,9 @@ public class UserCreatedEvent extends DomainEvent {
     public String getEventName() {
         return "USER_CREATED";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(id);
+    }
 }
@@ -6,6 +6,7 @@ import authentication.domain.user.AuthUserRepository;
 import authentication.domain.user.UserEmailAlreadyExist;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import javax.persistence.PersistenceException;
 import org.springframework.stereotype.Repository;
@@ -27,6 +28,13 @@ public class AuthUserMysqlRepo extends AuthenticationJPARepo<AuthUser, AuthUserI
                 .mapFailure(Case($(instanceOf(PersistenceException.class)), UserEmailAlreadyExist::new));
     }
     
+    @Override
+    public Try<Void> store(AuthUser authUser, DomainEvent event) {
+        //noinspection unchecked
+        return this.save(authUser, event)
+                .mapFailure(Case($(instanceOf(PersistenceException.class)), UserEmailAlreadyExist::new));
+    }
+    
     @Override
     public Option<AuthUser> findByEmail(String email) {
         return this.findByColumn("email", email);
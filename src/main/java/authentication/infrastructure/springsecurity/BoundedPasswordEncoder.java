@@ -0,0 +1,89 @@
+package authentication.infrastructure.springsecurity;
+
+import authentication.domain.user.PasswordEncoder;
+import authentication.domain.user.PasswordHashingUnavailable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BoundedPasswordEncoder runs hashing on a dedicated bounded pool, so a burst
+ * of logins can not take over request threads. It fails fast when the pool
+ * is saturated or the hash takes longer than the timeout.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder    delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration           timeout;
+    private final Timer              encodeTimer;
+    private final Timer              matchTimer;
+    private final Timer              queueWaitTimer;
+    private final Counter            rejections;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder    delegate,
+            ThreadPoolExecutor executor,
+            Duration           timeout,
+            MeterRegistry      meterRegistry
+    ) {
+        this.delegate       = delegate;
+        this.executor       = executor;
+        this.timeout        = timeout;
+        this.encodeTimer    = meterRegistry.timer("auth.password_hashing", "operation", "encode");
+        this.matchTimer     = meterRegistry.timer("auth.password_hashing", "operation", "match");
+        this.queueWaitTimer = meterRegistry.timer("auth.password_hashing.queue_wait");
+        this.rejections     = meterRegistry.counter("auth.password_hashing.rejected");
+        meterRegistry.gauge("auth.password_hashing.queue_size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    private <T> T execute(Timer timer, Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Callable<T> task = () -> {
+            queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return timer.recordCallable(hashing);
+        };
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingUnavailable("Password hashing pool is saturated");
+        }
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejections.increment();
+            throw new PasswordHashingUnavailable("Password hashing timed out");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailable("Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public String encode(String password) {
+        return execute(encodeTimer, () -> delegate.encode(password));
+    }
+
+    @Override
+    public boolean match(String rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> delegate.match(rawPassword, encodedPassword));
+    }
+}
@@ -0,0 +1,160 @@
+package authentication.infrastructure.springsecurity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * RouteTrieRequestMatcher compiles a table of ant style routes into a trie
+ * of path segments, so a request is resolved with a single walk instead of
+ * trying every route one after the other. Only literal segments and single
+ * segment wildcards (*) are supported, the rest of the matching rules
+ * (empty segments, trailing slash) are the same as AntPathRequestMatcher.
+ */
+public class RouteTrieRequestMatcher implements RequestMatcher {
+    private static final String WILDCARD = "*";
+
+    private final Node root;
+    private final List<Route> routes;
+
+    private RouteTrieRequestMatcher(Node root, List<Route> routes) {
+        this.root = root;
+        this.routes = routes;
+    }
+
+    public static RouteTrieRequestMatcher compile(Collection<Route> routes) {
+        Node root = new Node();
+        for (Route route : routes) {
+            Node node = root;
+            for (String segment : segments(route.pattern())) {
+                if (!segment.equals(WILDCARD) && segment.contains(WILDCARD))
+                    throw new IllegalArgumentException("Unsupported route pattern " + route.pattern());
+                node = node.child(segment);
+            }
+            node.accept(route.pattern().endsWith("/"), route.method());
+        }
+        return new RouteTrieRequestMatcher(root, List.copyOf(routes));
+    }
+
+    private static List<String> segments(String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : pattern.split("/"))
+            if (!segment.isEmpty())
+                segments.add(segment);
+        return segments;
+    }
+
+    public List<Route> routes() {
+        return routes;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String path = requestPath(request);
+        if (path == null || !path.startsWith("/"))
+            return false;
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        return matches(root, path, 0, path.endsWith("/"), method);
+    }
+
+    private boolean matches(Node node, String path, int position, boolean trailingSlash, HttpMethod method) {
+        int start = position;
+        while (start < path.length() && path.charAt(start) == '/')
+            start++;
+        if (start == path.length())
+            return node.accepts(trailingSlash, method)
+                    // Like AntPathMatcher a last * segment also matches nothing when the path ends with /
+                    || (trailingSlash && node.wildcard != null && node.wildcard.acceptsAny(method));
+        int end = path.indexOf('/', start);
+        if (end == -1)
+            end = path.length();
+        Node literal = node.children.get(path.substring(start, end));
+        if (literal != null && matches(literal, path, end, trailingSlash, method))
+            return true;
+        return node.wildcard != null && matches(node.wildcard, path, end, trailingSlash, method);
+    }
+
+    private static String requestPath(HttpServletRequest request) {
+        String url = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null)
+            url = url != null && !url.isEmpty() ? url + pathInfo : pathInfo;
+        return url;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final Methods withTrailingSlash = new Methods();
+        private final Methods withoutTrailingSlash = new Methods();
+        private Node wildcard;
+
+        Node child(String segment) {
+            if (segment.equals(WILDCARD)) {
+                if (wildcard == null)
+                    wildcard = new Node();
+                return wildcard;
+            }
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        void accept(boolean trailingSlash, HttpMethod method) {
+            (trailingSlash ? withTrailingSlash : withoutTrailingSlash).add(method);
+        }
+
+        boolean accepts(boolean trailingSlash, HttpMethod method) {
+            return (trailingSlash ? withTrailingSlash : withoutTrailingSlash).contains(method);
+        }
+
+        boolean acceptsAny(HttpMethod method) {
+            return withTrailingSlash.contains(method) || withoutTrailingSlash.contains(method);
+        }
+    }
+
+    private static class Methods {
+        private final EnumSet<HttpMethod> methods = EnumSet.noneOf(HttpMethod.class);
+        private boolean anyMethod;
+
+        void add(HttpMethod method) {
+            if (method == null)
+                anyMethod = true;
+            else
+                methods.add(method);
+        }
+
+        boolean contains(HttpMethod method) {
+            return anyMethod || (method != null && methods.contains(method));
+        }
+    }
+
+    public static class Route {
+        private final String     pattern;
+        private final HttpMethod method;
+
+        private Route(String pattern, HttpMethod method) {
+            this.pattern = Objects.requireNonNull(pattern);
+            this.method  = method;
+        }
+
+        public static Route of(String pattern) {
+            return new Route(pattern, null);
+        }
+
+        public static Route of(String pattern, String method) {
+            return new Route(pattern, HttpMethod.valueOf(method));
+        }
+
+        public String pattern() { return pattern; }
+
+        /**
+         * @return null when the route applies to every method
+         */
+        public HttpMethod method() { return method; }
+    }
+}
@@ -0,0 +1,61 @@
+package authentication.infrastructure.springsecurity.settings;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the highest bcrypt strength whose measured hash time stays
+ * within the given budget. Hashes already stored keep working because
+ * bcrypt encodes the strength used inside every hash.
+ */
+public class BCryptWorkFactorCalibrator {
+    public static final int MIN_STRENGTH = 5;
+    public static final int MAX_STRENGTH = 12;
+    private static final int SAMPLES = 3;
+
+    private final IntToLongFunction hashNanos;
+
+    public BCryptWorkFactorCalibrator() {
+        this(BCryptWorkFactorCalibrator::medianHashNanos);
+    }
+
+    /**
+     * @param hashNanos time a hash of the strength given takes, measured on
+     *                  this machine unless it is given
+     */
+    public BCryptWorkFactorCalibrator(IntToLongFunction hashNanos) {
+        this.hashNanos = hashNanos;
+    }
+
+    private static long medianHashNanos(int strength) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", BCrypt.gensalt(strength));
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    public int calibrate(Duration budget) {
+        int strength = MIN_STRENGTH;
+        long measured = hashNanos.applyAsLong(strength);
+        // Every extra strength point doubles the hashing time, so stop probing as soon as
+        // the estimate for the next one is already out of budget
+        while (strength < MAX_STRENGTH && measured * 2 <= budget.toNanos()) {
+            long next = hashNanos.applyAsLong(strength + 1);
+            if (next > budget.toNanos())
+                break;
+            strength++;
+            measured = next;
+        }
+        LoggerFactory.getLogger(this.getClass()).info(
+                "Using bcrypt strength " + strength + " (" + Duration.ofNanos(measured).toMillis() + "ms per hash)"
+        );
+        return strength;
+    }
+}
@@ -1,15 +1,70 @@
 package authentication.infrastructure.springsecurity.settings;
 
+import authentication.infrastructure.springsecurity.BoundedPasswordEncoder;
+import authentication.infrastructure.springsecurity.SpringSecurityPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
 
+    private final Environment env;
+
+    public PasswordEncoderConfig(Environment env) {
+        this.env = env;
+    }
+
+    private int workFactor() {
+        Long targetMillis = env.getProperty("auth.password_hashing.target_ms", Long.class);
+        if (targetMillis == null)
+            return BCryptWorkFactorCalibrator.MIN_STRENGTH;
+        return new BCryptWorkFactorCalibrator().calibrate(Duration.ofMillis(targetMillis));
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(5);
+        return new BCryptPasswordEncoder(workFactor());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor() {
+        int defaultPoolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int poolSize = env.getProperty("auth.password_hashing.pool_size", Integer.class, defaultPoolSize);
+        int queueCapacity = env.getProperty("auth.password_hashing.queue_capacity", Integer.class, 64);
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    @Primary
+    public BoundedPasswordEncoder boundedPasswordEncoder(
+            SpringSecurityPasswordEncoder springSecurityPasswordEncoder,
+            MeterRegistry meterRegistry
+    ) {
+        long timeoutMillis = env.getProperty("auth.password_hashing.timeout_ms", Long.class, 2000L);
+        return new BoundedPasswordEncoder(
+                springSecurityPasswordEncoder,
+                passwordHashingExecutor(),
+                Duration.ofMillis(timeoutMillis),
+                meterRegistry
+        );
     }
 }
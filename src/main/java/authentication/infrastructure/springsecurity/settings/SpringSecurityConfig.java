@@ -1,10 +1,13 @@
 package authentication.infrastructure.springsecurity.settings;
 
 import authentication.application.TokenBlockListFinder;
+import authentication.infrastructure.springsecurity.RouteTrieRequestMatcher;
+import authentication.infrastructure.springsecurity.RouteTrieRequestMatcher.Route;
 import authentication.infrastructure.springsecurity.TokenAuthenticationFilter;
 import authentication.infrastructure.springsecurity.TokenAuthenticationProvider;
 import com.google.common.collect.ImmutableList;
 
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -23,9 +26,7 @@ import org.springframework.security.web.authentication.AnonymousAuthenticationFi
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -34,48 +35,51 @@ import org.springframework.web.filter.CorsFilter;
 @Configuration
 @EnableWebSecurity
 public class SpringSecurityConfig extends WebSecurityConfigurerAdapter {
-    private final RequestMatcher PROTECTED_URLS = new OrRequestMatcher(
-            new AntPathRequestMatcher("/api/users/me/"),
-            new AntPathRequestMatcher("/api/users/*/", "PUT"),
-            new AntPathRequestMatcher("/api/bookings/*/mp_preferences/"),
-            new AntPathRequestMatcher("/api/bookings/", "GET"),
-            new AntPathRequestMatcher("/api/bookings/*/"),
-            new AntPathRequestMatcher("/api/collaborators/*/"),
-            new AntPathRequestMatcher("/api/collaborators/*/roles/"),
-            new AntPathRequestMatcher("/api/memberships/*/", "PUT"),
-            new AntPathRequestMatcher("/api/memberships/*/", "DELETE"),
-            new AntPathRequestMatcher("/api/memberships/*/acquisitions/", "POST"),
-            new AntPathRequestMatcher("/api/membership_acquisitions/", "GET"),
-            new AntPathRequestMatcher("/api/membership_acquisitions/*/mp_preferences/", "POST"),
-            new AntPathRequestMatcher("/api/news/*/", "PUT"),
-            new AntPathRequestMatcher("/api/news/*/", "DELETE"),
-            new AntPathRequestMatcher("/api/news/*/messages/", "POST"),
-            new AntPathRequestMatcher("/api/office_holders/*/"),
-            new AntPathRequestMatcher("/api/office_holders/*/office_branches/", "POST"),
-            new AntPathRequestMatcher("/api/office_branches/", "GET"),
-            new AntPathRequestMatcher("/api/office_branches/*/", "PUT"),
-            new AntPathRequestMatcher("/api/office_branches/*/", "DELETE"),
-            new AntPathRequestMatcher("/api/office_branches/*/collaborators/"),
-            new AntPathRequestMatcher("/api/office_branches/*/memberships/", "POST"),
-            new AntPathRequestMatcher("/api/office_branches/*/news/", "POST"),
-            new AntPathRequestMatcher("/api/office_branches/*/offices/", "POST"),
-            new AntPathRequestMatcher("/api/office_branches/*/roles/"),
-            new AntPathRequestMatcher("/api/office_branches/*/reviews/"),
-            new AntPathRequestMatcher("/api/office_branches/*/equipments/"),
-            new AntPathRequestMatcher("/api/office_branches/*/services/"),
-            new AntPathRequestMatcher("/api/offices/*/", "PUT"),
-            new AntPathRequestMatcher("/api/offices/*/", "DELETE"),
-            new AntPathRequestMatcher("/api/offices/*/bookings/", "POST"),
-            new AntPathRequestMatcher("/api/offices/*/bookings/", "GET"),
-            new AntPathRequestMatcher("/api/offices/*/inactivities/", "POST"),
-            new AntPathRequestMatcher("/api/offices/*/inactivities/", "PUT"),
-            new AntPathRequestMatcher("/api/offices/*/services/", "PUT"),
-            new AntPathRequestMatcher("/api/offices/*/equipments/", "PUT"),
-            new AntPathRequestMatcher("/api/roles/*/"),
-            new AntPathRequestMatcher("/api/office_branch_reports/*/total_amount_per_office/"),
-            new AntPathRequestMatcher("/api/office_branch_reports/*/total_bookings_per_office/"),
-            new AntPathRequestMatcher("/api/office_branch_reports/*/total_amount_per_month/")
+    public static final List<Route> PROTECTED_ROUTES = List.of(
+            Route.of("/api/users/me/"),
+            Route.of("/api/users/*/", "PUT"),
+            Route.of("/api/bookings/*/mp_preferences/"),
+            Route.of("/api/bookings/", "GET"),
+            Route.of("/api/bookings/*/"),
+            Route.of("/api/collaborators/*/"),
+            Route.of("/api/collaborators/*/roles/"),
+            Route.of("/api/memberships/*/", "PUT"),
+            Route.of("/api/memberships/*/", "DELETE"),
+            Route.of("/api/memberships/*/acquisitions/", "POST"),
+            Route.of("/api/membership_acquisitions/", "GET"),
+            Route.of("/api/membership_acquisitions/*/mp_preferences/", "POST"),
+            Route.of("/api/news/*/", "PUT"),
+            Route.of("/api/news/*/", "DELETE"),
+            Route.of("/api/news/*/messages/", "POST"),
+            Route.of("/api/office_holders/*/"),
+            Route.of("/api/office_holders/*/office_branches/", "POST"),
+            Route.of("/api/office_branches/", "GET"),
+            Route.of("/api/office_branches/*/", "PUT"),
+            Route.of("/api/office_branches/*/", "DELETE"),
+            Route.of("/api/office_branches/*/collaborators/"),
+            Route.of("/api/office_branches/*/collaborators/bulk/", "POST"),
+            Route.of("/api/office_branches/*/memberships/", "POST"),
+            Route.of("/api/office_branches/*/news/", "POST"),
+            Route.of("/api/office_branches/*/offices/", "POST"),
+            Route.of("/api/office_branches/*/offices/bulk/", "POST"),
+            Route.of("/api/office_branches/*/roles/"),
+            Route.of("/api/office_branches/*/reviews/"),
+            Route.of("/api/office_branches/*/equipments/"),
+            Route.of("/api/office_branches/*/services/"),
+            Route.of("/api/offices/*/", "PUT"),
+            Route.of("/api/offices/*/", "DELETE"),
+            Route.of("/api/offices/*/bookings/", "POST"),
+            Route.of("/api/offices/*/bookings/", "GET"),
+            Route.of("/api/offices/*/inactivities/", "POST"),
+            Route.of("/api/offices/*/inactivities/", "PUT"),
+            Route.of("/api/offices/*/services/", "PUT"),
+            Route.of("/api/offices/*/equipments/", "PUT"),
+            Route.of("/api/roles/*/"),
+            Route.of("/api/office_branch_reports/*/total_amount_per_office/"),
+            Route.of("/api/office_branch_reports/*/total_bookings_per_office/"),
+            Route.of("/api/office_branch_reports/*/total_amount_per_month/")
     );
+    private final RequestMatcher PROTECTED_URLS = RouteTrieRequestMatcher.compile(PROTECTED_ROUTES);
     private final RequestMatcher PUBLIC_URLS = new NegatedRequestMatcher(PROTECTED_URLS);
     @Autowired
     private TokenAuthenticationProvider tokenAuthenticationProvider;
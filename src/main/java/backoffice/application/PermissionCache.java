@@ -0,0 +1,157 @@
+package backoffice.application;
+
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.role.PermissionGenerationRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.EqualsAndHashCode;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the permissions resolved for every (auth user, office branch) pair,
+ * entries must be invalidated by every use case that changes roles,
+ * collaborators or office branch ownership.
+ *
+ * Every instance keeps its own entries, so invalidating them also bumps a
+ * generation shared through the backoffice database. Instances read it at most
+ * once per check interval when permissions are requested and drop all their
+ * entries when it moved, a revoked permission is not granted by any instance
+ * for longer than that interval.
+ */
+@Component
+public class PermissionCache {
+    private static final long     MAXIMUM_SIZE   = 10_000;
+    private static final Duration EXPIRATION     = Duration.ofMinutes(10);
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    private final Cache<Key, ResolvedPermissions> cache;
+    private final PermissionGenerationRepository  generationRepo;
+    private final LongSupplier                    nanoTime;
+    private final Logger                          logger;
+    private final AtomicLong invalidations = new AtomicLong();
+    private long             generation    = -1;
+    private long             checkedAt;
+
+    PermissionCache(
+            MeterRegistry                  meterRegistry,
+            PermissionGenerationRepository generationRepo,
+            LongSupplier                   nanoTime
+    ) {
+        this.cache          = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRATION)
+                .recordStats()
+                .build();
+        this.generationRepo = generationRepo;
+        this.nanoTime       = nanoTime;
+        this.logger         = LoggerFactory.getLogger(getClass());
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "backoffice.permissions");
+    }
+
+    @Autowired
+    public PermissionCache(MeterRegistry meterRegistry, PermissionGenerationRepository generationRepo) {
+        this(meterRegistry, generationRepo, System::nanoTime);
+    }
+
+    /**
+     * Drops every entry when the shared generation moved since the last check,
+     * or when it can not be read as the entries may be stale
+     */
+    private synchronized void checkGeneration() {
+        long now = nanoTime.getAsLong();
+        if (generation >= 0 && now - checkedAt < CHECK_INTERVAL.toNanos())
+            return;
+        checkedAt = now;
+        long current = generationRepo
+                .current()
+                .onFailure(error -> logger.error("Reading permission generation failed", error))
+                .getOrElse(-1L);
+        if (current < 0 || current != generation) {
+            invalidations.incrementAndGet();
+            cache.invalidateAll();
+        }
+        generation = current;
+    }
+
+    private void bumpGeneration() {
+        generationRepo
+                .increment()
+                .onFailure(error -> logger.error("Bumping permission generation failed", error));
+    }
+
+    /**
+     * Returns the permissions cached for the office branches requested, the ones
+     * missing are resolved all together with the resolver given
+     */
+    public Map<OfficeBranchId, ResolvedPermissions> getAll(
+            String email,
+            Collection<OfficeBranchId> officeBranchIds,
+            Function<Set<OfficeBranchId>, Map<OfficeBranchId, ResolvedPermissions>> resolver
+    ) {
+        checkGeneration();
+        Map<OfficeBranchId, ResolvedPermissions> permissions = new HashMap<>();
+        Set<OfficeBranchId> missing = new HashSet<>();
+        for (OfficeBranchId officeBranchId : officeBranchIds) {
+            var cached = cache.getIfPresent(new Key(email, officeBranchId));
+            if (cached != null)
+                permissions.put(officeBranchId, cached);
+            else
+                missing.add(officeBranchId);
+        }
+        if (missing.isEmpty())
+            return permissions;
+
+        long invalidationsBeforeResolve = invalidations.get();
+        var resolved = resolver.apply(missing);
+        synchronized (this) {
+            // Do not cache something that could have been invalidated while it was being resolved
+            if (invalidations.get() == invalidationsBeforeResolve)
+                resolved.forEach((officeBranchId, resolvedPermissions) ->
+                        cache.put(new Key(email, officeBranchId), resolvedPermissions));
+        }
+        permissions.putAll(resolved);
+        return permissions;
+    }
+
+    public void invalidate(String email, OfficeBranchId officeBranchId) {
+        bumpGeneration();
+        synchronized (this) {
+            invalidations.incrementAndGet();
+            cache.invalidate(new Key(email, officeBranchId));
+        }
+    }
+
+    public void invalidate(OfficeBranchId officeBranchId) {
+        bumpGeneration();
+        synchronized (this) {
+            invalidations.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.officeBranchId.equals(officeBranchId));
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final String         email;
+        private final OfficeBranchId officeBranchId;
+
+        Key(String email, OfficeBranchId officeBranchId) {
+            this.email          = email;
+            this.officeBranchId = officeBranchId;
+        }
+    }
+}
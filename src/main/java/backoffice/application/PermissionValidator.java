@@ -2,29 +2,73 @@ package backoffice.application;
 
 import authentication.application.AuthUserFinder;
 import authentication.application.dto.user.AuthUserResponse;
-import backoffice.application.office_branch.OfficeBranchAuthValidator;
 import backoffice.domain.collaborator.Collaborator;
 import backoffice.domain.collaborator.CollaboratorRepository;
 import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.office_branch.OfficeBranchRepository;
 import backoffice.domain.role.Permission;
 import io.vavr.control.Option;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 @Service
 public class PermissionValidator {
-    private final AuthUserFinder            authUserFinder;
-    private final CollaboratorRepository    collaboratorRepo;
-    private final OfficeBranchAuthValidator officeBranchAuthValidator;
+    private final AuthUserFinder         authUserFinder;
+    private final CollaboratorRepository collaboratorRepo;
+    private final OfficeBranchRepository officeBranchRepo;
+    private final PermissionCache        permissionCache;
 
     public PermissionValidator(
-            AuthUserFinder            authUserFinder,
-            CollaboratorRepository    collaboratorRepo,
-            OfficeBranchAuthValidator officeBranchAuthValidator
+            AuthUserFinder         authUserFinder,
+            CollaboratorRepository collaboratorRepo,
+            OfficeBranchRepository officeBranchRepo,
+            PermissionCache        permissionCache
     ) {
-        this.authUserFinder            = authUserFinder;
-        this.collaboratorRepo          = collaboratorRepo;
-        this.officeBranchAuthValidator = officeBranchAuthValidator;
+        this.authUserFinder   = authUserFinder;
+        this.collaboratorRepo = collaboratorRepo;
+        this.officeBranchRepo = officeBranchRepo;
+        this.permissionCache  = permissionCache;
+    }
+
+    /**
+     * Active collaborators get the permissions of their roles, otherwise
+     * owners get every permission and anyone else none of them
+     */
+    private Map<OfficeBranchId, ResolvedPermissions> resolvePermissions(
+            String email,
+            Set<OfficeBranchId> officeBranchIds
+    ) {
+        Map<OfficeBranchId, ResolvedPermissions> permissions = new HashMap<>();
+        for (Collaborator collaborator : collaboratorRepo.find(email, officeBranchIds))
+            if (collaborator.isActive())
+                permissions.put(collaborator.officeBranch().id(), ResolvedPermissions.of(collaborator));
+
+        Set<OfficeBranchId> notCollaborating = new HashSet<>(officeBranchIds);
+        notCollaborating.removeAll(permissions.keySet());
+        if (!notCollaborating.isEmpty())
+            officeBranchRepo
+                    .findIdsOwnedBy(email, notCollaborating)
+                    .forEach(officeBranchId -> permissions.put(officeBranchId, ResolvedPermissions.owner()));
+
+        for (OfficeBranchId officeBranchId : officeBranchIds)
+            permissions.putIfAbsent(officeBranchId, ResolvedPermissions.none());
+        return permissions;
+    }
+
+    public Map<OfficeBranchId, ResolvedPermissions> permissionsFor(
+            String email,
+            Collection<OfficeBranchId> officeBranchIds
+    ) {
+        if (officeBranchIds.isEmpty())
+            return Map.of();
+        return permissionCache.getAll(email, officeBranchIds, ids -> resolvePermissions(email, ids));
     }
 
     public boolean userHasPerms(OfficeBranch officeBranch, Permission permission) {
@@ -33,11 +77,8 @@ public class PermissionValidator {
                 .map(AuthUserResponse::getEmail);
         if (maybeAuthUserEmail.isEmpty())
             return false;
-        return collaboratorRepo
-                .find(maybeAuthUserEmail.get(), officeBranch)
-                .filter(Collaborator::isActive)
-                .map(collaborator -> collaborator.hasPermission(permission))
-                .getOrElse(() -> officeBranchAuthValidator.authUserIsOwner(officeBranch));
-
+        return permissionsFor(maybeAuthUserEmail.get(), List.of(officeBranch.id()))
+                .get(officeBranch.id())
+                .allows(permission);
     }
 }
@@ -0,0 +1,35 @@
+package backoffice.application;
+
+import backoffice.domain.collaborator.Collaborator;
+import backoffice.domain.role.Permission;
+import backoffice.domain.role.PermissionMask;
+
+/**
+ * Permissions an auth user has over an office branch, owners
+ * have access to everything while collaborators only have the
+ * permissions granted by their active roles
+ */
+public class ResolvedPermissions {
+    private static final ResolvedPermissions OWNER = new ResolvedPermissions(PermissionMask.ALL);
+    private static final ResolvedPermissions NONE = new ResolvedPermissions(PermissionMask.NONE);
+
+    private final int permissionMask;
+
+    private ResolvedPermissions(int permissionMask) {
+        this.permissionMask = permissionMask;
+    }
+
+    public static ResolvedPermissions owner() { return OWNER; }
+
+    public static ResolvedPermissions none() { return NONE; }
+
+    public static ResolvedPermissions of(Collaborator collaborator) {
+        return new ResolvedPermissions(collaborator.permissionMask());
+    }
+
+    public int permissionMask() { return permissionMask; }
+
+    public boolean allows(Permission permission) {
+        return PermissionMask.allows(permissionMask, permission);
+    }
+}
@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.domain.collaborator.CollaboratorRepository;
 import backoffice.domain.collaborator.CollaboratorToken;
@@ -14,10 +15,16 @@ public class CollaboratorActivator {
 
     private final CollaboratorRepository collaboratorRepo;
     private final CollaboratorTokenGenerator tokenGenerator;
+    private final PermissionCache permissionCache;
 
-    public CollaboratorActivator(CollaboratorRepository collaboratorRepo, CollaboratorTokenGenerator tokenGenerator) {
+    public CollaboratorActivator(
+            CollaboratorRepository collaboratorRepo,
+            CollaboratorTokenGenerator tokenGenerator,
+            PermissionCache permissionCache
+    ) {
         this.collaboratorRepo = collaboratorRepo;
         this.tokenGenerator = tokenGenerator;
+        this.permissionCache = permissionCache;
     }
 
     public Either<UseCaseError, Void> activate(CollaboratorToken collaboratorToken) {
@@ -27,7 +34,13 @@ public class CollaboratorActivator {
                 .flatMap(id -> collaboratorRepo.findById(id).toEither(CollaboratorError.COLLABORATOR_NOT_FOUND))
                 .flatMap(collaborator -> {
                     collaborator.activate();
-                    return collaboratorRepo.update(collaborator).toEither(CollaboratorError.DB_ERROR);
+                    return collaboratorRepo
+                            .update(collaborator)
+                            .onSuccess(v -> permissionCache.invalidate(
+                                    collaborator.email(),
+                                    collaborator.officeBranch().id()
+                            ))
+                            .toEither(CollaboratorError.DB_ERROR);
                 });
 
     }
@@ -0,0 +1,64 @@
+package backoffice.application.collaborator;
+
+import backoffice.application.dto.collaborator.CollaboratorInformation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Reads collaborator invitations from a csv with email,name,role_ids columns,
+ * where role ids are separated by ;. The header line is optional. Malformed
+ * lines are kept with missing values so they are reported as invalid rows.
+ */
+public class CollaboratorCsvReader {
+    private static final String HEADER = "email,";
+
+    private CollaboratorCsvReader() {}
+
+    private static Set<UUID> parseRoleIds(String roleIds) {
+        try {
+            return Arrays.stream(roleIds.split(";"))
+                    .map(String::trim)
+                    .filter(roleId -> !roleId.isEmpty())
+                    .map(UUID::fromString)
+                    .collect(Collectors.toSet());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static CollaboratorInformation parseLine(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 3)
+            return CollaboratorInformation.of(null, null, null);
+        return CollaboratorInformation.of(parseRoleIds(columns[2]), columns[0].trim(), columns[1].trim());
+    }
+
+    /**
+     * Stops reading after maxRows rows, so callers can detect a csv that is too
+     * big by asking for one more row than they accept without buffering it all
+     *
+     * @return the invitations by the number of the csv line they were read from
+     */
+    public static Map<Integer, CollaboratorInformation> read(Reader csv, int maxRows) throws IOException {
+        var reader = new BufferedReader(csv);
+        Map<Integer, CollaboratorInformation> invitations = new LinkedHashMap<>();
+        String line;
+        int lineNumber = 0;
+        while (invitations.size() < maxRows && (line = reader.readLine()) != null) {
+            lineNumber++;
+            boolean isHeader = lineNumber == 1 && line.trim().toLowerCase().startsWith(HEADER);
+            if (isHeader || line.isBlank())
+                continue;
+            invitations.put(lineNumber, parseLine(line));
+        }
+        return invitations;
+    }
+}
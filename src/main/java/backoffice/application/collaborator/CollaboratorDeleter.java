@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.domain.collaborator.CollaboratorId;
@@ -15,13 +16,16 @@ import org.springframework.stereotype.Service;
 public class CollaboratorDeleter {
     private final CollaboratorRepository collaboratorRepo;
     private final PermissionValidator    permissionValidator;
+    private final PermissionCache        permissionCache;
 
     public CollaboratorDeleter(
             CollaboratorRepository collaboratorRepo,
-            PermissionValidator    permissionValidator
+            PermissionValidator    permissionValidator,
+            PermissionCache        permissionCache
     ) {
         this.collaboratorRepo    = collaboratorRepo;
         this.permissionValidator = permissionValidator;
+        this.permissionCache     = permissionCache;
     }
 
     public Either<CollaboratorError, Void> delete(CollaboratorId id) {
@@ -38,6 +42,10 @@ public class CollaboratorDeleter {
                     return collaborator;
                 }).flatMap(collaborator -> collaboratorRepo
                         .update(collaborator)
+                        .onSuccess(v -> permissionCache.invalidate(
+                                collaborator.email(),
+                                collaborator.officeBranch().id()
+                        ))
                         .toEither(CollaboratorError.DB_ERROR)
                 );
     }
@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.application.dto.collaborator.CollaboratorUpdateInformation;
@@ -25,15 +26,18 @@ public class CollaboratorUpdater {
     private final PermissionValidator    permissionValidator;
     private final RoleRepository         roleRepo;
     private final CollaboratorRepository collaboratorRepo;
+    private final PermissionCache        permissionCache;
 
     public CollaboratorUpdater(
             PermissionValidator    permissionValidator,
             RoleRepository         roleRepo,
-            CollaboratorRepository collaboratorRepo
+            CollaboratorRepository collaboratorRepo,
+            PermissionCache        permissionCache
     ) {
         this.permissionValidator = permissionValidator;
         this.roleRepo            = roleRepo;
         this.collaboratorRepo    = collaboratorRepo;
+        this.permissionCache     = permissionCache;
     }
 
     private Set<Role> findRoles(OfficeBranch officeBranch, Set<UUID> ids) {
@@ -55,7 +59,13 @@ public class CollaboratorUpdater {
                         ), c -> CollaboratorError.FORBIDDEN)
                 .map(collaborator -> collaborator
                         .copy(info.getName(), findRoles(collaborator.officeBranch(), info.getRoleIds())))
-                .flatMap(collaborator -> collaboratorRepo.update(collaborator).toEither(CollaboratorError.DB_ERROR));
-
+                .flatMap(collaborator -> collaboratorRepo
+                        .update(collaborator)
+                        .onSuccess(v -> permissionCache.invalidate(
+                                collaborator.email(),
+                                collaborator.officeBranch().id()
+                        ))
+                        .toEither(CollaboratorError.DB_ERROR)
+                );
     }
 }
@@ -0,0 +1,153 @@
+package backoffice.application.collaborator;
+
+import backoffice.application.dto.collaborator.CollaboratorError;
+import backoffice.application.dto.collaborator.CollaboratorInformation;
+import backoffice.application.dto.collaborator.CollaboratorInvitationResult;
+import backoffice.application.dto.collaborator.CollaboratorInvitationResult.Status;
+import backoffice.application.office_branch.OfficeBranchFinder;
+import backoffice.domain.collaborator.Collaborator;
+import backoffice.domain.collaborator.CollaboratorId;
+import backoffice.domain.collaborator.CollaboratorRepository;
+import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.role.Access;
+import backoffice.domain.role.Permission;
+import backoffice.domain.role.Resource;
+import backoffice.domain.role.Role;
+import backoffice.domain.role.RoleId;
+import backoffice.domain.role.RoleRepository;
+import io.vavr.control.Either;
+import shared.application.UseCaseError;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.validation.Validator;
+import org.springframework.stereotype.Service;
+
+/**
+ * CollaboratorsCreator invites many collaborators to an office branch at once.
+ * It authorizes once, checks existing collaborators with a single query, stores
+ * every new collaborator in one batched transaction and sends all invitations
+ * as one batch, reporting what happened with every row.
+ */
+@Service
+public class CollaboratorsCreator {
+    public static final int MAX_INVITATIONS = 500;
+
+    private final RoleRepository         roleRepo;
+    private final OfficeBranchFinder     officeBranchFinder;
+    private final CollaboratorRepository collaboratorRepo;
+    private final InvitationEmailSender  invitationEmailSender;
+    private final Validator              validator;
+
+    public CollaboratorsCreator(
+            RoleRepository         roleRepo,
+            OfficeBranchFinder     officeBranchFinder,
+            CollaboratorRepository collaboratorRepo,
+            InvitationEmailSender  invitationEmailSender,
+            Validator              validator
+    ) {
+        this.roleRepo              = roleRepo;
+        this.officeBranchFinder    = officeBranchFinder;
+        this.collaboratorRepo      = collaboratorRepo;
+        this.invitationEmailSender = invitationEmailSender;
+        this.validator             = validator;
+    }
+
+    private Collaborator createNewCollaborator(
+            CollaboratorInformation info,
+            Map<RoleId, Role> officeBranchRoles,
+            OfficeBranch officeBranch
+    ) {
+        Set<Role> roles = info.getRoleIds()
+                .stream()
+                .map(RoleId::new)
+                .filter(officeBranchRoles::containsKey)
+                .map(officeBranchRoles::get)
+                .collect(Collectors.toSet());
+        return Collaborator.createNew(new CollaboratorId(), info.getEmail(), info.getName(), roles, officeBranch);
+    }
+
+    /* Emails are case insensitive, so they are compared in lower case */
+    private static String lowerCase(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private List<CollaboratorInvitationResult> invite(
+            OfficeBranch officeBranch,
+            Map<Integer, CollaboratorInformation> invitations
+    ) {
+        Map<Integer, CollaboratorInvitationResult> results = new LinkedHashMap<>();
+        Map<Integer, CollaboratorInformation> candidates = new LinkedHashMap<>();
+        Set<String> requestedEmails = new HashSet<>();
+        invitations.forEach((row, info) -> {
+            // Results keep the order of the rows given, whenever each of them is known
+            results.put(row, null);
+            if (info == null)
+                results.put(row, CollaboratorInvitationResult.rejected(row, null, Status.INVALID));
+            else if (!validator.validate(info).isEmpty())
+                results.put(row, CollaboratorInvitationResult.rejected(row, info.getEmail(), Status.INVALID));
+            else if (!requestedEmails.add(lowerCase(info.getEmail())))
+                results.put(row, CollaboratorInvitationResult.rejected(row, info.getEmail(), Status.DUPLICATED));
+            else
+                candidates.put(row, info);
+        });
+
+        var existingEmails = collaboratorRepo.findExistingEmails(requestedEmails, officeBranch);
+        var officeBranchRoles = roleRepo.findByOfficeBranch(officeBranch)
+                .stream()
+                .collect(Collectors.toMap(Role::id, Function.identity()));
+        Map<Integer, Collaborator> newCollaborators = new LinkedHashMap<>();
+        candidates.forEach((row, info) -> {
+            if (existingEmails.contains(lowerCase(info.getEmail())))
+                results.put(row, CollaboratorInvitationResult.rejected(row, info.getEmail(), Status.ALREADY_EXISTS));
+            else
+                newCollaborators.put(row, createNewCollaborator(info, officeBranchRoles, officeBranch));
+        });
+
+        var collaborators = new ArrayList<>(newCollaborators.values());
+        var stored = collaborators.isEmpty() || collaboratorRepo.storeAll(collaborators).isSuccess();
+        if (stored)
+            invitationEmailSender.sendInvitations(collaborators);
+        newCollaborators.forEach((row, collaborator) -> results.put(row, stored
+                ? CollaboratorInvitationResult.invited(row, collaborator.email(), collaborator.id().toString())
+                : CollaboratorInvitationResult.rejected(row, collaborator.email(), Status.DB_ERROR)));
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Rows are reported by their position in the list, starting by 1
+     */
+    public Either<UseCaseError, List<CollaboratorInvitationResult>> create(
+            OfficeBranchId officeBranchId,
+            List<CollaboratorInformation> invitations
+    ) {
+        Map<Integer, CollaboratorInformation> invitationsByRow = new LinkedHashMap<>();
+        for (int i = 0; i < invitations.size(); i++)
+            invitationsByRow.put(i + 1, invitations.get(i));
+        return create(officeBranchId, invitationsByRow);
+    }
+
+    /**
+     * Rows are reported by the number given along each invitation, such as the
+     * csv line it was read from
+     */
+    public Either<UseCaseError, List<CollaboratorInvitationResult>> create(
+            OfficeBranchId officeBranchId,
+            Map<Integer, CollaboratorInformation> invitations
+    ) {
+        if (invitations.size() > MAX_INVITATIONS)
+            return Either.left(CollaboratorError.TOO_MANY_INVITATIONS);
+        return officeBranchFinder
+                .findWithAuthorization(officeBranchId, Permission.create(Access.WRITE, Resource.COLLABORATOR))
+                .map(OfficeBranch::fromDTO)
+                .map(officeBranch -> invite(officeBranch, invitations));
+    }
+}
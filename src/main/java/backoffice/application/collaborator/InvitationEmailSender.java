@@ -7,6 +7,8 @@ import shared.domain.email.EmailSender;
 import shared.domain.email.Message;
 import shared.domain.email.template.TemplateFactory;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,15 +27,28 @@ public class InvitationEmailSender {
         this.templateFactory = templateFactory;
     }
 
-    public void sendInvitation(Collaborator collaborator) {
+    private Message invitationMessage(Collaborator collaborator) {
         CollaboratorToken confirmationToken = tokenGenerator.createToken(collaborator);
-        var message = Message.builder()
+        return Message.builder()
                 .recipient(collaborator.email())
                 .template(templateFactory.createCollaboratorInvitationTemplate(
                         collaborator.officeBranch().name(),
                         confirmationToken.getToken()
                 ))
                 .build();
-        emailSender.send(message);
+    }
+
+    public void sendInvitation(Collaborator collaborator) {
+        emailSender.send(invitationMessage(collaborator));
+    }
+
+    public void sendInvitations(List<Collaborator> collaborators) {
+        if (collaborators.isEmpty())
+            return;
+        var messages = collaborators
+                .stream()
+                .map(this::invitationMessage)
+                .collect(Collectors.toList());
+        emailSender.sendBatch(messages);
     }
 }
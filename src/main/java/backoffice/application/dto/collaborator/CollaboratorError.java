@@ -8,4 +8,5 @@ public enum CollaboratorError implements UseCaseError {
     INVALID_TOKEN,
     COLLABORATOR_NOT_FOUND,
     FORBIDDEN,
+    TOO_MANY_INVITATIONS,
 }
@@ -0,0 +1,27 @@
+package backoffice.application.dto.collaborator;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class CollaboratorInvitationResult {
+    Integer row;
+    String  email;
+    Status  status;
+    String  collaboratorId;
+
+    public enum Status {
+        INVITED,
+        INVALID,
+        DUPLICATED,
+        ALREADY_EXISTS,
+        DB_ERROR,
+    }
+
+    public static CollaboratorInvitationResult invited(Integer row, String email, String collaboratorId) {
+        return new CollaboratorInvitationResult(row, email, Status.INVITED, collaboratorId);
+    }
+
+    public static CollaboratorInvitationResult rejected(Integer row, String email, Status status) {
+        return new CollaboratorInvitationResult(row, email, status, null);
+    }
+}
@@ -0,0 +1,21 @@
+package backoffice.application.dto.office;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+@NoArgsConstructor
+public class OfficesInformation {
+    public static final int MAX_OFFICES = 200;
+
+    @NotEmpty(message = "Offices are required")
+    @Size(max = MAX_OFFICES, message = "You can create up to 200 offices at once")
+    private List<@Valid OfficeInformation> offices;
+}
@@ -6,5 +6,6 @@ public enum OfficeBranchError implements UseCaseError {
     OFFICE_BRANCH_NOT_EXIST,
     OFFICE_BRANCH_FORBIDDEN,
     OFFICE_BRANCH_HAS_CREATED_OFFICES,
+    OFFICE_BRANCH_INVALID_COORDINATES,
     DB_ERROR
 }
@@ -11,6 +11,7 @@ public class OfficeBranchInformation {
     String name, description, phone;
     List<String> imagesUrls;
     String province, city, street, zipCode;
+    Double latitude, longitude;
     
     public static OfficeBranchInformation of(
             String name,
@@ -21,6 +22,21 @@ public class OfficeBranchInformation {
             String city,
             String street,
             String zipCode
+    ) {
+        return of(name, description, phone, imagesUrls, province, city, street, zipCode, null, null);
+    }
+
+    public static OfficeBranchInformation of(
+            String name,
+            String description,
+            String phone,
+            List<String> imagesUrls,
+            String province,
+            String city,
+            String street,
+            String zipCode,
+            Double latitude,
+            Double longitude
     ) {
         return new OfficeBranchInformation(
                 name,
@@ -30,7 +46,9 @@ public class OfficeBranchInformation {
                 province,
                 city,
                 street,
-                zipCode
+                zipCode,
+                latitude,
+                longitude
         );
     }
 }
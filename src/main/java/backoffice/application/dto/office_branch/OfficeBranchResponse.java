@@ -26,5 +26,7 @@ public class OfficeBranchResponse {
         String city;
         String street;
         String zipCode;
+        Double latitude;
+        Double longitude;
     }
 }
@@ -1,5 +1,6 @@
 package backoffice.application.dto.office_branch;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,13 +8,53 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Optional;
 
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor
 @Getter
 public class OfficeBranchUpdateInformation {
     private String name, description, phone;
     private List<String> imagesUrls;
     private String province, city, street, zipCode;
+    private Double latitude, longitude;
+
+    public static OfficeBranchUpdateInformation of(
+            String name,
+            String description,
+            String phone,
+            List<String> imagesUrls,
+            String province,
+            String city,
+            String street,
+            String zipCode
+    ) {
+        return of(name, description, phone, imagesUrls, province, city, street, zipCode, null, null);
+    }
+
+    public static OfficeBranchUpdateInformation of(
+            String name,
+            String description,
+            String phone,
+            List<String> imagesUrls,
+            String province,
+            String city,
+            String street,
+            String zipCode,
+            Double latitude,
+            Double longitude
+    ) {
+        return new OfficeBranchUpdateInformation(
+                name,
+                description,
+                phone,
+                imagesUrls,
+                province,
+                city,
+                street,
+                zipCode,
+                latitude,
+                longitude
+        );
+    }
 
     public Optional<String> name() {
         return Optional.ofNullable(name);
@@ -46,4 +87,8 @@ public class OfficeBranchUpdateInformation {
     public Optional<String> zipCode() {
         return Optional.ofNullable(zipCode);
     }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
 }
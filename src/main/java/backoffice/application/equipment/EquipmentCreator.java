@@ -52,6 +52,8 @@ public class EquipmentCreator {
                 .findWithAuthorization(officeBranchId, Permission.create(Access.WRITE, Resource.EQUIPMENT))
                 .map(OfficeBranch::fromDTO)
                 .map(officeBranch -> createEquipment(id, info, officeBranch))
-                .flatMap(equipment -> equipmentRepo.store(equipment).toEither(EquipmentError.DB_ERROR));
+                .flatMap(equipment -> equipmentRepo
+                        .store(equipment, equipment.equipmentCreatedEvent())
+                        .toEither(EquipmentError.DB_ERROR));
     }
 }
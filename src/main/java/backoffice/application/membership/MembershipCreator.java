@@ -25,7 +25,10 @@ public class MembershipCreator {
     private final OfficeBranchFinder   officeBranchFinder;
     private final MembershipRepository membershipRepo;
 
-    public MembershipCreator(MembershipRepository membershipRepo, OfficeBranchFinder officeBranchFinder) {
+    public MembershipCreator(
+            MembershipRepository membershipRepo,
+            OfficeBranchFinder   officeBranchFinder
+    ) {
         this.membershipRepo     = membershipRepo;
         this.officeBranchFinder = officeBranchFinder;
     }
@@ -58,6 +61,8 @@ public class MembershipCreator {
                 .findWithAuthorization(officeBranchId, Permission.create(Access.WRITE, Resource.MEMBERSHIP))
                 .map(OfficeBranch::fromDTO)
                 .map(officeBranch -> createMembership(membershipId, info, officeBranch))
-                .flatMap(membership -> membershipRepo.store(membership).toEither(MembershipError.DB_ERROR));
+                .flatMap(membership -> membershipRepo
+                        .store(membership, membership.membershipCreatedEvent())
+                        .toEither(MembershipError.DB_ERROR));
     }
 }
@@ -17,7 +17,10 @@ public class MembershipDeleter {
     private final MembershipRepository membershipRepo;
     private final PermissionValidator  permissionValidator;
 
-    public MembershipDeleter(MembershipRepository membershipRepo, PermissionValidator permissionValidator) {
+    public MembershipDeleter(
+            MembershipRepository membershipRepo,
+            PermissionValidator  permissionValidator
+    ) {
         this.membershipRepo      = membershipRepo;
         this.permissionValidator = permissionValidator;
     }
@@ -33,6 +36,8 @@ public class MembershipDeleter {
                 .map(membership -> {
                     membership.delete();
                     return membership;
-                }).flatMap(membership -> membershipRepo.update(membership).toEither(MembershipError.DB_ERROR));
+                }).flatMap(membership -> membershipRepo
+                        .update(membership, membership.membershipDeletedEvent())
+                        .toEither(MembershipError.DB_ERROR));
     }
 }
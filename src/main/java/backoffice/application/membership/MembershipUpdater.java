@@ -17,7 +17,10 @@ public class MembershipUpdater {
     private final MembershipRepository membershipRepo;
     private final PermissionValidator  permissionValidator;
 
-    public MembershipUpdater(MembershipRepository membershipRepo, PermissionValidator permissionValidator) {
+    public MembershipUpdater(
+            MembershipRepository membershipRepo,
+            PermissionValidator  permissionValidator
+    ) {
         this.membershipRepo      = membershipRepo;
         this.permissionValidator = permissionValidator;
     }
@@ -32,7 +35,7 @@ public class MembershipUpdater {
                         ), m -> MembershipError.MEMBERSHIP_FORBIDDEN)
                 .map(membership -> membership.update(info))
                 .flatMap(membershipUpdated -> membershipRepo
-                        .update(membershipUpdated)
+                        .update(membershipUpdated, membershipUpdated.membershipUpdatedEvent())
                         .toEither(MembershipError.DB_ERROR));
     }
 }
@@ -6,6 +6,7 @@ import backoffice.domain.office.Image;
 import backoffice.domain.office.Office;
 import backoffice.domain.office.OfficeId;
 import backoffice.domain.office.OfficeRepository;
+import backoffice.domain.office.OfficesCreatedEvent;
 import backoffice.domain.office.Privacy;
 import backoffice.domain.office.Tables;
 import backoffice.domain.office_branch.OfficeBranch;
@@ -13,11 +14,13 @@ import backoffice.domain.office_branch.OfficeBranchId;
 import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
+import io.vavr.collection.Stream;
 import io.vavr.control.Either;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import static backoffice.application.dto.office.OfficeError.DB_ERROR;
@@ -26,16 +29,13 @@ import static backoffice.application.dto.office.OfficeError.SHARED_OFFICE_WITHOU
 @Service
 public class OfficeCreator {
 
-    private final EventBus eventBus;
     private final OfficeRepository officeRepo;
     private final OfficeBranchFinder officeBranchFinder;
 
     public OfficeCreator(
-            EventBus eventBus,
             OfficeRepository officeRepo,
             OfficeBranchFinder officeBranchFinder
     ) {
-        this.eventBus = eventBus;
         this.officeRepo = officeRepo;
         this.officeBranchFinder = officeBranchFinder;
     }
@@ -68,8 +68,38 @@ public class OfficeCreator {
                 .map(OfficeBranch::fromDTO)
                 .flatMap(officeBranch -> createNewOffice(officeId, info, officeBranch)
                         .toEither(SHARED_OFFICE_WITHOUT_TABLES))
-                .flatMap(office -> officeRepo.store(office)
-                        .peek(v ->eventBus.publish(office.officeCreatedEvent()))
+                .flatMap(office -> officeRepo.store(office, office.officeCreatedEvent())
                         .toEither(DB_ERROR));
     }
+
+    private Try<List<Office>> createNewOffices(List<OfficeInformation> offices, OfficeBranch officeBranch) {
+        return Try.sequence(Stream.ofAll(offices).map(info -> createNewOffice(new OfficeId(), info, officeBranch)))
+                .map(newOffices -> newOffices.toJavaList());
+    }
+
+    private OfficesCreatedEvent officesCreatedEvent(OfficeBranch officeBranch, List<Office> offices) {
+        return OfficesCreatedEvent.of(
+                officeBranch.id().toString(),
+                offices.stream().map(Office::officeCreatedEvent).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Creates all offices or none of them, they are stored in one transaction and
+     * announced with a single OfficesCreatedEvent
+     */
+    public Either<UseCaseError, List<OfficeId>> createAll(
+            OfficeBranchId officeBranchId,
+            List<OfficeInformation> offices
+    ) {
+        return officeBranchFinder
+                .findWithAuthorization(officeBranchId, Permission.create(Access.WRITE, Resource.OFFICE))
+                .map(OfficeBranch::fromDTO)
+                .flatMap(officeBranch -> createNewOffices(offices, officeBranch)
+                        .<UseCaseError>toEither(SHARED_OFFICE_WITHOUT_TABLES)
+                        .flatMap(newOffices -> officeRepo
+                                .storeAll(newOffices, officesCreatedEvent(officeBranch, newOffices))
+                                .map(v -> newOffices.stream().map(Office::id).collect(Collectors.toList()))
+                                .toEither(DB_ERROR)));
+    }
 }
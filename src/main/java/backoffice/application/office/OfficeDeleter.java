@@ -8,7 +8,6 @@ import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
 import io.vavr.control.Either;
-import shared.domain.EventBus;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -18,16 +17,13 @@ import org.springframework.stereotype.Service;
 public class OfficeDeleter {
     private final OfficeRepository    officeRepo;
     private final PermissionValidator permissionValidator;
-    private final EventBus            eventBus;
 
     public OfficeDeleter(
             OfficeRepository    officeRepo,
-            PermissionValidator permissionValidator,
-            EventBus            eventBus
+            PermissionValidator permissionValidator
     ) {
         this.officeRepo          = officeRepo;
         this.permissionValidator = permissionValidator;
-        this.eventBus            = eventBus;
     }
 
     public Either<OfficeError, Void> delete(OfficeId id) {
@@ -46,8 +42,7 @@ public class OfficeDeleter {
                     return office;
                 })
                 .flatMap(office -> officeRepo
-                        .update(office)
-                        .onSuccess(v -> eventBus.publish(office.officeDeletedEvent()))
+                        .update(office, office.officeDeletedEvent())
                         .toEither(OfficeError.DB_ERROR));
     }
 }
@@ -49,6 +49,8 @@ public class OfficeEquipmentUpdater {
                     office.setEquipments(equipmentsToAssociate);
                     return office;
                 })
-                .flatMap(office -> officeRepo.update(office).toEither(OfficeError.DB_ERROR));
+                .flatMap(office -> officeRepo
+                        .update(office, office.officeEquipmentsUpdatedEvent())
+                        .toEither(OfficeError.DB_ERROR));
     }
 }
@@ -49,6 +49,8 @@ public class OfficeServiceUpdater {
                     office.setServices(servicesToAssociate);
                     return office;
                 })
-                .flatMap(office -> officeRepo.update(office).toEither(OfficeError.DB_ERROR));
+                .flatMap(office -> officeRepo
+                        .update(office, office.officeServicesUpdatedEvent())
+                        .toEither(OfficeError.DB_ERROR));
     }
 }
@@ -11,22 +11,18 @@ import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
 import io.vavr.control.Either;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeUpdater {
-    private final EventBus            eventBus;
     private final OfficeRepository    officeRepo;
     private final PermissionValidator permissionValidator;
 
     public OfficeUpdater(
-            EventBus            eventBus,
             OfficeRepository    officeRepo,
             PermissionValidator permissionValidator
     ) {
-        this.eventBus            = eventBus;
         this.officeRepo          = officeRepo;
         this.permissionValidator = permissionValidator;
     }
@@ -42,8 +38,7 @@ public class OfficeUpdater {
                         o -> OfficeBranchError.OFFICE_BRANCH_FORBIDDEN)
                 .flatMap(office -> office.update(info).toEither(OfficeError.SHARED_OFFICE_WITHOUT_TABLES))
                 .flatMap(officeUpdated -> officeRepo
-                        .update(officeUpdated)
-                        .onSuccess(v -> eventBus.publish(officeUpdated.officeUpdatedEvent()))
+                        .update(officeUpdated, officeUpdated.officeUpdatedEvent())
                         .toEither(OfficeError.DB_ERROR));
     }
 }
@@ -38,13 +38,7 @@ public class OfficesFinder {
                 .find(officeBranchId)
                 .toEither((UseCaseError) OfficeBranchError.OFFICE_BRANCH_NOT_EXIST)
                 .map(OfficeBranch::fromDTO)
-                .map(officeRepo::findByOfficeBranch)
-                .map(offices -> {
-                    var officesNonDeleted = offices
-                            .stream()
-                            .filter(office -> !office.isDeleted(LocalDate.now(Clock.systemUTC())))
-                            .collect(Collectors.toList());
-                    return toOfficeResponses(officesNonDeleted);
-                });
+                .map(officeBranch -> officeRepo.findNonDeleted(officeBranch, LocalDate.now(Clock.systemUTC())))
+                .map(this::toOfficeResponses);
     }
 }
@@ -12,12 +12,12 @@ import backoffice.domain.office_holder.OfficeHolderId;
 import backoffice.domain.office_holder.OfficeHolderRepository;
 import io.vavr.control.Either;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
 
 import static backoffice.application.dto.office_branch.OfficeBranchError.DB_ERROR;
+import static backoffice.application.dto.office_branch.OfficeBranchError.OFFICE_BRANCH_INVALID_COORDINATES;
 import static backoffice.application.dto.office_holder.OfficeHolderError.OFFICE_HOLDER_FORBIDDEN;
 import static backoffice.application.dto.office_holder.OfficeHolderError.OFFICE_HOLDER_NOT_FOUND;
 import static java.util.stream.Collectors.toList;
@@ -25,18 +25,15 @@ import static java.util.stream.Collectors.toList;
 @Service
 public class OfficeBranchCreator {
 
-    private final EventBus eventBus;
     private final AuthUserValidator authUserValidator;
     private final OfficeBranchRepository officeBranchRepo;
     private final OfficeHolderRepository officeHolderRepo;
 
     public OfficeBranchCreator(
-            EventBus eventBus,
             AuthUserValidator authUserValidator,
             OfficeBranchRepository officeBranchRepo,
             OfficeHolderRepository officeHolderRepo
     ) {
-        this.eventBus = eventBus;
         this.officeBranchRepo = officeBranchRepo;
         this.officeHolderRepo = officeHolderRepo;
         this.authUserValidator = authUserValidator;
@@ -47,7 +44,14 @@ public class OfficeBranchCreator {
             OfficeBranchInformation info,
             OfficeHolder officeHolder
     ) {
-        Location location = new Location(info.getProvince(), info.getCity(), info.getStreet(), info.getZipCode());
+        Location location = new Location(
+                info.getProvince(),
+                info.getCity(),
+                info.getStreet(),
+                info.getZipCode(),
+                info.getLatitude(),
+                info.getLongitude()
+        );
         List<Image> images = info.getImagesUrls()
                 .stream()
                 .map(Image::new)
@@ -71,10 +75,13 @@ public class OfficeBranchCreator {
                         officeHolder -> authUserValidator.isSameUserAsAuthenticated(officeHolder.email()),
                         officeHolder -> OFFICE_HOLDER_FORBIDDEN
                 )
+                .filterOrElse(
+                        officeHolder -> Location.coordinatesAreValid(info.getLatitude(), info.getLongitude()),
+                        officeHolder -> OFFICE_BRANCH_INVALID_COORDINATES
+                )
                 .map(officeHolder -> createOfficeBranch(id, info, officeHolder))
                 .flatMap(officeBranch -> officeBranchRepo
-                        .store(officeBranch)
-                        .peek(v -> eventBus.publish(officeBranch.officeBranchCreatedEvent()))
+                        .store(officeBranch, officeBranch.officeBranchCreatedEvent())
                         .toEither(DB_ERROR)
                 );
     }
@@ -1,32 +1,32 @@
 package backoffice.application.office_branch;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.office.OfficesFinder;
 import backoffice.domain.office_branch.OfficeBranch;
 import backoffice.domain.office_branch.OfficeBranchId;
 import backoffice.domain.office_branch.OfficeBranchRepository;
 import io.vavr.control.Either;
-import shared.domain.EventBus;
 
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeBranchDeleter {
-    private final EventBus                  eventBus;
     private final OfficeBranchRepository    officeBranchRepo;
     private final OfficeBranchAuthValidator officeBranchAuthValidator;
     private final OfficesFinder             officesFinder;
+    private final PermissionCache           permissionCache;
 
     public OfficeBranchDeleter(
-            EventBus                  eventBus,
             OfficeBranchRepository    officeBranchRepo,
             OfficeBranchAuthValidator officeBranchAuthValidator,
-            OfficesFinder             officesFinder
+            OfficesFinder             officesFinder,
+            PermissionCache           permissionCache
     ) {
-        this.eventBus                  = eventBus;
         this.officeBranchRepo          = officeBranchRepo;
         this.officeBranchAuthValidator = officeBranchAuthValidator;
         this.officesFinder             = officesFinder;
+        this.permissionCache           = permissionCache;
     }
 
     public Either<OfficeBranchError, Void> delete(OfficeBranchId id) {
@@ -41,8 +41,8 @@ public class OfficeBranchDeleter {
                         officeBranch -> OfficeBranchError.OFFICE_BRANCH_HAS_CREATED_OFFICES)
                 .map(OfficeBranch::delete)
                 .flatMap(officeBranch -> officeBranchRepo
-                        .update(officeBranch)
-                        .onSuccess(v -> eventBus.publish(officeBranch.officeBranchDeletedEvent()))
+                        .update(officeBranch, officeBranch.officeBranchDeletedEvent())
+                        .onSuccess(v -> permissionCache.invalidate(officeBranch.id()))
                         .toEither(OfficeBranchError.DB_ERROR)
                 );
     }
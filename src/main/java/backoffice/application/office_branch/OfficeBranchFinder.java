@@ -15,6 +15,9 @@ import shared.application.UseCaseError;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import static backoffice.application.dto.office_branch.OfficeBranchError.OFFICE_BRANCH_FORBIDDEN;
@@ -69,4 +72,22 @@ public class OfficeBranchFinder {
                 .map(officeBranchRepo::findByOfficeHolder)
                 .map(this::toOfficeBranchResponses);
     }
+
+    public Either<OfficeHolderError, Page<OfficeBranchResponse>> findByOfficeHolder(
+            OfficeHolderId id,
+            Pageable pageable
+    ) {
+        return officeHolderRepo
+                .findById(id)
+                .toEither(OfficeHolderError.OFFICE_HOLDER_NOT_FOUND)
+                .map(officeHolder -> new PageImpl<>(
+                        toOfficeBranchResponses(officeBranchRepo.findByOfficeHolder(
+                                officeHolder,
+                                (int) pageable.getOffset(),
+                                pageable.getPageSize()
+                        )),
+                        pageable,
+                        officeBranchRepo.count(officeHolder)
+                ));
+    }
 }
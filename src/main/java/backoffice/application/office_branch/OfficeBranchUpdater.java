@@ -2,26 +2,23 @@ package backoffice.application.office_branch;
 
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.dto.office_branch.OfficeBranchUpdateInformation;
+import backoffice.domain.office_branch.Location;
 import backoffice.domain.office_branch.OfficeBranchId;
 import backoffice.domain.office_branch.OfficeBranchRepository;
 import io.vavr.control.Either;
-import shared.domain.EventBus;
 
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeBranchUpdater {
 
-    private final EventBus                  eventBus;
     private final OfficeBranchRepository    officeBranchRepo;
     private final OfficeBranchAuthValidator officeBranchAuthValidator;
 
     public OfficeBranchUpdater(
-            EventBus                  eventBus,
             OfficeBranchRepository    officeBranchRepo,
             OfficeBranchAuthValidator officeBranchAuthValidator
     ) {
-        this.eventBus                  = eventBus;
         this.officeBranchRepo          = officeBranchRepo;
         this.officeBranchAuthValidator = officeBranchAuthValidator;
     }
@@ -33,10 +30,12 @@ public class OfficeBranchUpdater {
                 .filterOrElse(
                         officeBranchAuthValidator::authUserIsOwner,
                         ob -> OfficeBranchError.OFFICE_BRANCH_FORBIDDEN)
+                .filterOrElse(
+                        ob -> Location.coordinatesAreValid(info.getLatitude(), info.getLongitude()),
+                        ob -> OfficeBranchError.OFFICE_BRANCH_INVALID_COORDINATES)
                 .map(officeBranch -> officeBranch.update(info))
                 .flatMap(officeBranchUpdated -> officeBranchRepo
-                        .update(officeBranchUpdated)
-                        .onSuccess(v -> eventBus.publish(officeBranchUpdated.officeBranchUpdatedEvent()))
+                        .update(officeBranchUpdated, officeBranchUpdated.officeBranchUpdatedEvent())
                         .toEither(OfficeBranchError.DB_ERROR)
                 );
 
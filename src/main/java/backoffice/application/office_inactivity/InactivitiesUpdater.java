@@ -8,20 +8,22 @@ import backoffice.domain.office.Office;
 import backoffice.domain.office.OfficeId;
 import backoffice.domain.office.OfficeRepository;
 import backoffice.domain.office_inactivity.Inactivity;
+import backoffice.domain.office_inactivity.InactivityCreatedEvent;
 import backoffice.domain.office_inactivity.InactivityId;
 import backoffice.domain.office_inactivity.InactivityRepository;
 import backoffice.domain.office_inactivity.InactivityType;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
 import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
-import io.vavr.Tuple;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -30,18 +32,15 @@ public class InactivitiesUpdater {
     private final InactivityRepository inactivityRepo;
     private final OfficeRepository officeRepo;
     private final PermissionValidator permissionValidator;
-    private final EventBus eventBus;
 
     public InactivitiesUpdater(
             InactivityRepository inactivityRepo,
             OfficeRepository officeRepo,
-            PermissionValidator permissionValidator,
-            EventBus eventBus
+            PermissionValidator permissionValidator
     ) {
         this.inactivityRepo = inactivityRepo;
         this.officeRepo = officeRepo;
         this.permissionValidator = permissionValidator;
-        this.eventBus = eventBus;
     }
 
     private Try<Inactivity> createInactivity(
@@ -64,40 +63,74 @@ public class InactivitiesUpdater {
         return infos.stream().map(info -> createInactivity(info, office)).collect(Collectors.toList());
     }
 
-    public Either<UseCaseError, Void> updateOfficeInactivities(OfficeId id, List<InactivityInformation> infos) {
-        var maybeOffice = officeRepo.findById(id);
+    private OfficeInactivitiesReplacedEvent inactivitiesReplacedEvent(
+            Office office,
+            List<Inactivity> inactivities
+    ) {
+        var officeBranchId = office.officeBranch().id().toString();
+        return OfficeInactivitiesReplacedEvent.of(
+                officeBranchId,
+                office.id().toString(),
+                inactivities.stream().map(inactivity -> InactivityCreatedEvent.of(
+                        inactivity.id().toString(),
+                        officeBranchId,
+                        office.id().toString(),
+                        inactivity.type().name(),
+                        inactivity.dayOfWeek(),
+                        inactivity.specificInactivityDay()
+                )).collect(Collectors.toList())
+        );
+    }
+
+    private Either<UseCaseError, Void> replaceInactivities(Office office, Set<Inactivity> inactivities) {
+        var currentInactivities = inactivityRepo.findAllByOffice(office);
+        var currentInactivitiesSet = new HashSet<>(currentInactivities);
+        var inactivitiesToDelete = currentInactivities
+                .stream()
+                .filter(inactivity -> !inactivities.contains(inactivity))
+                .collect(Collectors.toList());
+        var inactivitiesToCreate = inactivities
+                .stream()
+                .filter(inactivity -> !currentInactivitiesSet.contains(inactivity))
+                .collect(Collectors.toList());
+        if (inactivitiesToCreate.isEmpty() && inactivitiesToDelete.isEmpty())
+            return Either.right(null);
 
-        return maybeOffice.toEither((UseCaseError) OfficeError.OFFICE_NOT_FOUND)
+        var inactivitiesReplaced = currentInactivities
+                .stream()
+                .filter(inactivities::contains)
+                .collect(Collectors.toList());
+        inactivitiesReplaced.addAll(inactivitiesToCreate);
+        return inactivityRepo
+                .replace(
+                        inactivitiesToCreate,
+                        inactivitiesToDelete,
+                        inactivitiesReplacedEvent(office, inactivitiesReplaced)
+                ).toEither(InactivityError.DB_ERROR);
+    }
+
+    /**
+     * Replaces the inactivities of the office with the ones specified. The difference
+     * with the current inactivities is applied in a single transaction and announced
+     * with a single event holding the resulting set
+     */
+    public Either<UseCaseError, Void> updateOfficeInactivities(OfficeId id, List<InactivityInformation> infos) {
+        return officeRepo.findById(id)
+                .toEither((UseCaseError) OfficeError.OFFICE_NOT_FOUND)
                 .filterOrElse(
                         office -> permissionValidator.userHasPerms(
                                 office.officeBranch(),
                                 Permission.create(Access.WRITE, Resource.OFFICE)
                         ),
                         office -> OfficeError.OFFICE_FORBIDDEN)
-                .map(office -> this.createInactivities(infos, office))
-                .filterOrElse(
-                        inactivities -> inactivities.stream().allMatch(Try::isSuccess),
-                        inactivities -> InactivityError.INACTIVITY_TYPE_MISMATCH_WITH_DATE)
-                .map(inactivities -> inactivities.stream().map(Try::get).collect(Collectors.toSet()))
-                .map(inactivities -> {
-                    var currentInactivities = inactivityRepo.findAllByOffice(maybeOffice.get());
-                    var inactivitiesToDelete = currentInactivities
-                            .stream()
-                            .filter(inactivity -> !inactivities.contains(inactivity))
-                            .collect(Collectors.toList());
-                    var inactivitiesToCreate = inactivities
-                            .stream()
-                            .filter(inactivity -> !currentInactivities.contains(inactivity))
-                            .collect(Collectors.toList());
-                    return Tuple.of(inactivitiesToCreate, inactivitiesToDelete);
-                }).flatMap(inactivities -> inactivityRepo.bulkStore(inactivities._1)
-                        .onSuccess(v -> inactivityRepo.delete(inactivities._2))
-                        .onSuccess(v -> {
-                            inactivities._1.forEach(inactivity -> eventBus
-                                    .publish(inactivity.inactivityCreatedEvent()));
-                            inactivities._2.forEach(inactivity -> eventBus
-                                    .publish(inactivity.inactivityDeletedEvent()));
-                        }).toEither(InactivityError.DB_ERROR)
-                );
+                .flatMap(office -> {
+                    var inactivities = this.createInactivities(infos, office);
+                    if (!inactivities.stream().allMatch(Try::isSuccess))
+                        return Either.<UseCaseError, Void>left(InactivityError.INACTIVITY_TYPE_MISMATCH_WITH_DATE);
+                    return replaceInactivities(
+                            office,
+                            inactivities.stream().map(Try::get).collect(Collectors.toSet())
+                    );
+                });
     }
 }
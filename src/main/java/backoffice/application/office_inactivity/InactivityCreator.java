@@ -19,7 +19,6 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
 import org.springframework.stereotype.Service;
 
@@ -29,18 +28,15 @@ public class InactivityCreator {
     private final OfficeRepository     officeRepo;
     private final InactivityRepository inactivityRepo;
     private final PermissionValidator  permissionValidator;
-    private final EventBus             eventBus;
 
     public InactivityCreator(
             OfficeRepository     officeRepo,
             InactivityRepository inactivityRepo,
-            PermissionValidator  permissionValidator,
-            EventBus             eventBus
+            PermissionValidator  permissionValidator
     ) {
         this.officeRepo          = officeRepo;
         this.inactivityRepo      = inactivityRepo;
         this.permissionValidator = permissionValidator;
-        this.eventBus            = eventBus;
     }
     
     private Either<UseCaseError, Inactivity> createInactivity(
@@ -69,8 +65,7 @@ public class InactivityCreator {
                         ), office -> OfficeBranchError.OFFICE_BRANCH_FORBIDDEN)
                 .flatMap(office -> createInactivity(inactivityId, info, office))
                 .flatMap(inactivity -> inactivityRepo
-                        .store(inactivity)
-                        .onSuccess(v -> eventBus.publish(inactivity.inactivityCreatedEvent()))
+                        .store(inactivity, inactivity.inactivityCreatedEvent())
                         .toEither(InactivityError.DB_ERROR));
     }
 }
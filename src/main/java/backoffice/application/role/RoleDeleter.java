@@ -1,5 +1,6 @@
 package backoffice.application.role;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.role.RoleError;
 import backoffice.domain.role.Access;
@@ -15,10 +16,16 @@ import org.springframework.stereotype.Service;
 public class RoleDeleter {
     private final RoleRepository      roleRepo;
     private final PermissionValidator permissionValidator;
+    private final PermissionCache     permissionCache;
 
-    public RoleDeleter(RoleRepository roleRepo, PermissionValidator permissionValidator) {
+    public RoleDeleter(
+            RoleRepository      roleRepo,
+            PermissionValidator permissionValidator,
+            PermissionCache     permissionCache
+    ) {
         this.roleRepo            = roleRepo;
         this.permissionValidator = permissionValidator;
+        this.permissionCache     = permissionCache;
     }
 
     public Either<RoleError, Void> delete(RoleId id) {
@@ -33,6 +40,10 @@ public class RoleDeleter {
                     role.markAsDeleted();
                     return role;
                 })
-                .flatMap(role -> roleRepo.update(role).toEither(RoleError.DB_ERROR));
+                .flatMap(role -> roleRepo
+                        .update(role)
+                        .onSuccess(v -> permissionCache.invalidate(role.officeBranch().id()))
+                        .toEither(RoleError.DB_ERROR)
+                );
     }
 }
@@ -1,5 +1,6 @@
 package backoffice.application.role;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.role.RoleError;
 import backoffice.application.dto.role.RoleInformation;
@@ -22,10 +23,16 @@ public class RoleUpdater {
 
     private final RoleRepository      roleRepository;
     private final PermissionValidator permissionValidator;
+    private final PermissionCache     permissionCache;
 
-    public RoleUpdater(RoleRepository roleRepository, PermissionValidator permissionValidator) {
+    public RoleUpdater(
+            RoleRepository      roleRepository,
+            PermissionValidator permissionValidator,
+            PermissionCache     permissionCache
+    ) {
         this.roleRepository      = roleRepository;
         this.permissionValidator = permissionValidator;
+        this.permissionCache     = permissionCache;
     }
 
     private Role updateRole(Role role, RoleInformation information) {
@@ -52,6 +59,7 @@ public class RoleUpdater {
         var roleWithNewProps = roleWithNewPropsOrError.get();
         return roleRepository
                 .update(roleWithNewProps)
+                .onSuccess(v -> permissionCache.invalidate(roleWithNewProps.officeBranch().id()))
                 .toEither((UseCaseError) RoleError.DB_ERROR)
                 .map(v -> roleWithNewProps.toResponse());
     }
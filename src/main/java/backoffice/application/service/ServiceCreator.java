@@ -49,7 +49,7 @@ public class ServiceCreator {
                 .map(OfficeBranch::fromDTO)
                 .map(officeBranch -> createService(id, info, officeBranch))
                 .flatMap(officeBranchService -> officeBranchServiceRepo
-                        .store(officeBranchService)
+                        .store(officeBranchService, officeBranchService.serviceCreatedEvent())
                         .toEither(ServiceError.DB_ERROR));
     }
 }
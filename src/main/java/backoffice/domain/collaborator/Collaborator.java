@@ -3,6 +3,7 @@ package backoffice.domain.collaborator;
 import backoffice.application.dto.collaborator.CollaboratorResponse;
 import backoffice.domain.office_branch.OfficeBranch;
 import backoffice.domain.role.Permission;
+import backoffice.domain.role.PermissionMask;
 import backoffice.domain.role.Role;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -87,10 +88,16 @@ public class Collaborator {
 
     public void activate() { this.status = Status.ACTIVE; }
 
+    public int permissionMask() {
+        int mask = PermissionMask.NONE;
+        for (Role role : roles)
+            if (role.isActive())
+                mask |= role.permissionMask();
+        return mask;
+    }
+
     public boolean hasPermission(Permission permission) {
-        return roles.stream()
-                .filter(Role::isActive)
-                .anyMatch(role -> role.hasAccessTo(permission));
+        return PermissionMask.allows(permissionMask(), permission);
     }
 
     public CollaboratorResponse toResponse() {
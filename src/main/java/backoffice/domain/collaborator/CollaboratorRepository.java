@@ -1,21 +1,35 @@
 package backoffice.domain.collaborator;
 
 import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.office_branch.OfficeBranchId;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface CollaboratorRepository {
 
     Try<Void> store(Collaborator collaborator);
 
+    Try<Void> storeAll(List<Collaborator> collaborators);
+
     Try<Void> update(Collaborator collaborator);
 
     Option<Collaborator> findById(CollaboratorId id);
 
+    /**
+     * Emails are compared ignoring case, as in {@link #findExistingEmails}
+     */
     boolean exists(String email, OfficeBranch officeBranch);
 
+    /**
+     * @return emails, among the ones given, that already belong to a collaborator of the office branch. Emails
+     * are compared ignoring case so they are returned in lower case
+     */
+    Set<String> findExistingEmails(Collection<String> emails, OfficeBranch officeBranch);
+
     Option<Collaborator> findWithRoles(CollaboratorId id);
 
     List<Collaborator> find(OfficeBranch officeBranch);
@@ -23,4 +37,6 @@ public interface CollaboratorRepository {
     List<Collaborator> find(String email);
 
     Option<Collaborator> find(String email, OfficeBranch officeBranch);
+
+    List<Collaborator> find(String email, Collection<OfficeBranchId> officeBranchIds);
 }
@@ -60,4 +60,7 @@ public class Equipment {
 
     }
 
+    public EquipmentCreatedEvent equipmentCreatedEvent() {
+        return EquipmentCreatedEvent.of(id.toString(), officeBranch.id().toString(), name, category.toString());
+    }
 }
@@ -0,0 +1,27 @@
+package backoffice.domain.equipment;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class EquipmentCreatedEvent extends DomainEvent {
+    private final String id;
+    private final String officeBranchId;
+    private final String name;
+    private final String category;
+
+    @Override
+    public String getEventName() {
+        return "EQUIPMENT_CREATED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
@@ -2,6 +2,7 @@ package backoffice.domain.equipment;
 
 import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 
@@ -9,6 +10,8 @@ public interface EquipmentRepository {
 
     Try<Void> store(Equipment equipment);
 
+    Try<Void> store(Equipment equipment, DomainEvent event);
+
     List<Equipment> findByOfficeBranch(OfficeBranch officeBranch);
 
 }
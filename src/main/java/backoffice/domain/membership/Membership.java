@@ -84,7 +84,7 @@ public class Membership {
                 id.toString(),
                 name,
                 description,
-                accessDays.stream().map(Enum::name).collect(Collectors.toSet()),
+                accessDayNames(),
                 pricePerMonth
         );
     }
@@ -115,4 +115,34 @@ public class Membership {
         this.changed = LocalDate.now(Clock.systemUTC());
         return this;
     }
+
+    private Set<String> accessDayNames() {
+        return accessDays.stream().map(Enum::name).collect(Collectors.toSet());
+    }
+
+    public MembershipCreatedEvent membershipCreatedEvent() {
+        return MembershipCreatedEvent.of(
+                id.toString(),
+                officeBranch.id().toString(),
+                name,
+                description,
+                accessDayNames(),
+                pricePerMonth
+        );
+    }
+
+    public MembershipUpdatedEvent membershipUpdatedEvent() {
+        return MembershipUpdatedEvent.of(
+                id.toString(),
+                officeBranch.id().toString(),
+                name,
+                description,
+                accessDayNames(),
+                pricePerMonth
+        );
+    }
+
+    public MembershipDeletedEvent membershipDeletedEvent() {
+        return MembershipDeletedEvent.of(officeBranch.id().toString(), id.toString());
+    }
 }
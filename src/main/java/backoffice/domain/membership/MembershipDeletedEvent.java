@@ -0,0 +1,25 @@
+package backoffice.domain.membership;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class MembershipDeletedEvent extends DomainEvent {
+    private final String officeBranchId;
+    private final String membershipId;
+
+    @Override
+    public String getEventName() {
+        return "MEMBERSHIP_DELETED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
@@ -3,6 +3,7 @@ package backoffice.domain.membership;
 import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 
@@ -10,7 +11,11 @@ public interface MembershipRepository {
     
     Try<Void> store(Membership membership);
 
+    Try<Void> store(Membership membership, DomainEvent event);
+
     Try<Void> update(Membership membership);
+
+    Try<Void> update(Membership membership, DomainEvent event);
     
     Option<Membership> findById(MembershipId id);
 
@@ -0,0 +1,31 @@
+package backoffice.domain.membership;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+import java.util.Set;
+
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class MembershipUpdatedEvent extends DomainEvent {
+    private final String id;
+    private final String officeBranchId;
+    private final String name;
+    private final String description;
+    private final Set<String> accessDays;
+    private final Integer pricePerMonth;
+
+    @Override
+    public String getEventName() {
+        return "MEMBERSHIP_UPDATED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
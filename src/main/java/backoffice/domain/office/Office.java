@@ -27,6 +27,8 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 @Entity
 @Table(name = "offices")
@@ -53,7 +55,10 @@ public class Office {
     private OfficeBranch officeBranch;
     @Column
     private LocalDate deletedAt;
+    /* Collections are loaded with one subselect for all the offices returned
+    by a query instead of joining them, which multiplies the rows returned */
     @ManyToMany(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(
             name = "office_services",
             joinColumns = {@JoinColumn(name = "office_id")},
@@ -61,6 +66,7 @@ public class Office {
     )
     private Set<Service> services;
     @ManyToMany(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(
             name = "office_equipments",
             joinColumns = {@JoinColumn(name = "office_id")},
@@ -186,7 +192,9 @@ public class Office {
                 price,
                 capacity,
                 tables().map(Tables::quantity).getOrElse(0),
-                tables().map(Tables::capacityPerTable).getOrElse(0)
+                tables().map(Tables::capacityPerTable).getOrElse(0),
+                description,
+                image().map(Image::url).getOrNull()
         );
     }
 
@@ -199,7 +207,25 @@ public class Office {
                 price,
                 capacity,
                 tables().map(Tables::quantity).getOrElse(0),
-                tables().map(Tables::capacityPerTable).getOrElse(0)
+                tables().map(Tables::capacityPerTable).getOrElse(0),
+                description,
+                image().map(Image::url).getOrNull()
+        );
+    }
+
+    public OfficeServicesUpdatedEvent officeServicesUpdatedEvent() {
+        return OfficeServicesUpdatedEvent.of(
+                officeBranch.id().toString(),
+                id.toString(),
+                services.stream().map(service -> service.id().toString()).collect(Collectors.toList())
+        );
+    }
+
+    public OfficeEquipmentsUpdatedEvent officeEquipmentsUpdatedEvent() {
+        return OfficeEquipmentsUpdatedEvent.of(
+                officeBranch.id().toString(),
+                id.toString(),
+                equipments.stream().map(equipment -> equipment.id().toString()).collect(Collectors.toList())
         );
     }
 
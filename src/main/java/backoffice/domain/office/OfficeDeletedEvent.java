@@ -1,5 +1,6 @@
 package backoffice.domain.office;
 
+import io.vavr.control.Option;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,4 +17,9 @@ public class OfficeDeletedEvent extends DomainEvent {
     public String getEventName() {
         return "OFFICE_DELETED";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
 }
@@ -0,0 +1,28 @@
+package backoffice.domain.office;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+import java.util.List;
+
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class OfficeEquipmentsUpdatedEvent extends DomainEvent {
+    private final String       officeBranchId;
+    private final String       officeId;
+    private final List<String> equipmentIds;
+
+    @Override
+    public String getEventName() {
+        return "OFFICE_EQUIPMENTS_UPDATED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
@@ -3,16 +3,28 @@ package backoffice.domain.office;
 import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface OfficeRepository {
     
     Try<Void> store(Office office);
 
+    Try<Void> store(Office office, DomainEvent event);
+
+    Try<Void> storeAll(List<Office> offices);
+
+    Try<Void> storeAll(List<Office> offices, DomainEvent event);
+
     Try<Void> update(Office office);
+
+    Try<Void> update(Office office, DomainEvent event);
     
     Option<Office> findById(OfficeId id);
 
     List<Office> findByOfficeBranch(OfficeBranch officeBranch);
+
+    List<Office> findNonDeleted(OfficeBranch officeBranch, LocalDate today);
 }
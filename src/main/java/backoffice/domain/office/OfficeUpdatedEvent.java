@@ -1,5 +1,6 @@
 package backoffice.domain.office;
 
+import io.vavr.control.Option;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,9 +18,16 @@ public class OfficeUpdatedEvent extends DomainEvent {
     private final Integer capacity;
     private final Integer tablesQuantity;
     private final Integer capacityPerTable;
+    private final String  description;
+    private final String  imageUrl;
 
     @Override
     public String getEventName() {
         return "OFFICE_UPDATED";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
 }
@@ -0,0 +1,31 @@
+package backoffice.domain.office;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Published once when several offices of the same office branch are created
+ * together, so projections can apply all of them in a single write
+ */
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class OfficesCreatedEvent extends DomainEvent {
+    private final String                   officeBranchId;
+    private final List<OfficeCreatedEvent> offices;
+
+    @Override
+    public String getEventName() {
+        return "OFFICES_CREATED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
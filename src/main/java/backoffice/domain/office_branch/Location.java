@@ -13,7 +13,7 @@ import javax.persistence.Table;
 
 @Entity
 @Table(name = "locations")
-@EqualsAndHashCode(of = {"province", "city", "street", "zipCode"})
+@EqualsAndHashCode(of = {"province", "city", "street", "zipCode", "latitude", "longitude"})
 @AllArgsConstructor
 @NoArgsConstructor
 public class Location {
@@ -28,6 +28,11 @@ public class Location {
     private String street;
     @Column
     private String zipCode;
+    /* Coordinates are optional, office branches without them are not found by proximity */
+    @Column
+    private Double latitude;
+    @Column
+    private Double longitude;
     
     public Location(String province, String city, String street, String zipCode) {
         this.province = province;
@@ -36,6 +41,29 @@ public class Location {
         this.zipCode = zipCode;
     }
 
+    public Location(
+            String province,
+            String city,
+            String street,
+            String zipCode,
+            Double latitude,
+            Double longitude
+    ) {
+        this(province, city, street, zipCode);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Coordinates are either both given or both missing, and within the
+     * ranges of latitudes and longitudes
+     */
+    public static boolean coordinatesAreValid(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null)
+            return latitude == null && longitude == null;
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
     public Long id() { return id; }
 
     public String province() { return province; }
@@ -45,4 +73,8 @@ public class Location {
     public String street() { return street; }
     
     public String zipCode() { return zipCode;}
+
+    public Double latitude() { return latitude; }
+
+    public Double longitude() { return longitude; }
 }
@@ -99,7 +99,9 @@ public class OfficeBranch {
                 dto.getLocation().getProvince(),
                 dto.getLocation().getCity(),
                 dto.getLocation().getStreet(),
-                dto.getLocation().getZipCode()
+                dto.getLocation().getZipCode(),
+                dto.getLocation().getLatitude(),
+                dto.getLocation().getLongitude()
         );
         return new OfficeBranch(
                 OfficeBranchId.fromString(dto.getId()),
@@ -122,7 +124,9 @@ public class OfficeBranch {
                 info.province().isPresent() ? info.province().get() : this.location.province(),
                 info.city().isPresent() ? info.city().get() : this.location.city(),
                 info.street().isPresent() ? info.street().get() : this.location.street(),
-                info.zipCode().isPresent() ? info.zipCode().get() : this.location.zipCode()
+                info.zipCode().isPresent() ? info.zipCode().get() : this.location.zipCode(),
+                info.hasCoordinates() ? info.getLatitude() : this.location.latitude(),
+                info.hasCoordinates() ? info.getLongitude() : this.location.longitude()
         );
         if (info.imageUrls().isPresent()) {
             var newImageUrls = info.imageUrls().get();
@@ -177,7 +181,9 @@ public class OfficeBranch {
                 this.location.province(),
                 this.location.city(),
                 this.location.street(),
-                this.location.zipCode()
+                this.location.zipCode(),
+                this.location.latitude(),
+                this.location.longitude()
         );
         return OfficeBranchResponse.of(
                 id.toString(),
@@ -198,6 +204,8 @@ public class OfficeBranch {
                 location.province(),
                 location.city(),
                 location().street(),
+                location.latitude(),
+                location.longitude(),
                 phone,
                 images.stream().map(Image::url).collect(Collectors.toList())
         );
@@ -210,6 +218,8 @@ public class OfficeBranch {
                 location.province(),
                 location.city(),
                 location.street(),
+                location.latitude(),
+                location.longitude(),
                 phone,
                 images.stream().map(Image::url).collect(Collectors.toList())
         );
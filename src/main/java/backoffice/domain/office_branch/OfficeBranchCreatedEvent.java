@@ -1,5 +1,6 @@
 package backoffice.domain.office_branch;
 
+import io.vavr.control.Option;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,6 +18,8 @@ public class OfficeBranchCreatedEvent extends DomainEvent {
     private final String province;
     private final String city;
     private final String street;
+    private final Double latitude;
+    private final Double longitude;
     private final String phone;
     private final List<String> imageUrls;
 
@@ -24,4 +27,9 @@ public class OfficeBranchCreatedEvent extends DomainEvent {
     public String getEventName() {
         return "OFFICE_BRANCH_CREATED";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(id);
+    }
 }
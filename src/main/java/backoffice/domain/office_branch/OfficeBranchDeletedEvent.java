@@ -1,5 +1,6 @@
 package backoffice.domain.office_branch;
 
+import io.vavr.control.Option;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -15,4 +16,9 @@ public class OfficeBranchDeletedEvent extends DomainEvent {
     public String getEventName() {
         return "OFFICE_BRANCH_DELETED";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
 }
@@ -3,18 +3,30 @@ package backoffice.domain.office_branch;
 import backoffice.domain.office_holder.OfficeHolder;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OfficeBranchRepository {
     
     Try<Void> store(OfficeBranch officeBranch);
 
+    Try<Void> store(OfficeBranch officeBranch, DomainEvent event);
+
     Try<Void> update(OfficeBranch officeBranch);
+
+    Try<Void> update(OfficeBranch officeBranch, DomainEvent event);
     
     Option<OfficeBranch> findById(OfficeBranchId id);
 
     List<OfficeBranch> findByIds(List<OfficeBranchId> ids);
 
     List<OfficeBranch> findByOfficeHolder(OfficeHolder officeHolder);
+
+    List<OfficeBranch> findByOfficeHolder(OfficeHolder officeHolder, Integer offset, Integer limit);
+
+    Long count(OfficeHolder officeHolder);
+
+    List<OfficeBranchId> findIdsOwnedBy(String ownerEmail, Collection<OfficeBranchId> ids);
 }
@@ -61,6 +61,7 @@ public class Inactivity {
     public InactivityCreatedEvent inactivityCreatedEvent() {
         return InactivityCreatedEvent.of(
                 id.toString(),
+                office.officeBranch().id().toString(),
                 office.id().toString(),
                 type.name(),
                 dayOfWeek(),
@@ -68,10 +69,6 @@ public class Inactivity {
         );
     }
 
-    public InactivityDeletedEvent inactivityDeletedEvent() {
-        return InactivityDeletedEvent.of(id.toString());
-    }
-
     public InactivityId id() { return id; }
 
     public Option<DayOfWeek> dayOfWeek() { return Option.of(dayOfWeek); }
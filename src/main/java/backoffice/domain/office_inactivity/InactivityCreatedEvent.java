@@ -14,6 +14,7 @@ import java.time.LocalDate;
 @EqualsAndHashCode(callSuper = false)
 public class InactivityCreatedEvent extends DomainEvent {
     private final String            inactivityId;
+    private final String            officeBranchId;
     private final String            officeId;
     private final String            inactivityType;
     private final Option<DayOfWeek> dayOfWeek;
@@ -23,4 +24,9 @@ public class InactivityCreatedEvent extends DomainEvent {
     public String getEventName() {
         return "INACTIVITY_CREATED_EVENT";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
 }
@@ -2,6 +2,7 @@ package backoffice.domain.office_inactivity;
 
 import backoffice.domain.office.Office;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 
@@ -9,9 +10,11 @@ public interface InactivityRepository {
 
     Try<Void> store(Inactivity inactivity);
 
-    Try<Void> bulkStore(List<Inactivity> inactivities);
+    Try<Void> store(Inactivity inactivity, DomainEvent event);
 
     List<Inactivity> findAllByOffice(Office office);
 
     Try<Void> delete(List<Inactivity> inactivities);
+
+    Try<Void> replace(List<Inactivity> inactivitiesToStore, List<Inactivity> inactivitiesToDelete, DomainEvent event);
 }
@@ -0,0 +1,28 @@
+package backoffice.domain.office_inactivity;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+import java.util.List;
+
+@AllArgsConstructor(staticName = "of")
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class OfficeInactivitiesReplacedEvent extends DomainEvent {
+    private final String                       officeBranchId;
+    private final String                       officeId;
+    private final List<InactivityCreatedEvent> inactivities;
+
+    @Override
+    public String getEventName() {
+        return "OFFICE_INACTIVITIES_REPLACED_EVENT";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
@@ -0,0 +1,35 @@
+package backoffice.domain.role;
+
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Counter bumped every time roles, collaborators or office branch ownership
+ * change, there is a single row shared by every instance
+ */
+@Entity
+@Table(name = "permission_generations")
+@NoArgsConstructor
+public class PermissionGeneration {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+    @Column(nullable = false)
+    private long generation;
+
+    private PermissionGeneration(Integer id, long generation) {
+        this.id         = id;
+        this.generation = generation;
+    }
+
+    public static PermissionGeneration first() {
+        return new PermissionGeneration(ID, 1);
+    }
+
+    public long generation() { return generation; }
+}
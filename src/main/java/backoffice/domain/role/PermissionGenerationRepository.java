@@ -0,0 +1,14 @@
+package backoffice.domain.role;
+
+import io.vavr.control.Try;
+
+public interface PermissionGenerationRepository {
+
+    Try<Void> increment();
+
+    /**
+     * @return the current generation, zero until it is incremented for the
+     * first time
+     */
+    Try<Long> current();
+}
@@ -0,0 +1,49 @@
+package backoffice.domain.role;
+
+import java.util.Collection;
+
+/**
+ * Packs permissions into an int with one bit per (resource, access) pair,
+ * so checking a permission against a set of them is a single AND
+ */
+public final class PermissionMask {
+    private static final int ACCESS_LEVELS = Access.values().length;
+
+    public static final int NONE = 0;
+    public static final int ALL  = (1 << (Resource.values().length * ACCESS_LEVELS)) - 1;
+
+    static {
+        if (Resource.values().length * ACCESS_LEVELS > Integer.SIZE - 1)
+            throw new IllegalStateException("Too many resources to fit permissions in an int mask");
+    }
+
+    private PermissionMask() {}
+
+    public static int bit(Resource resource, Access access) {
+        return 1 << (resource.ordinal() * ACCESS_LEVELS + access.ordinal());
+    }
+
+    public static int bit(Permission permission) {
+        return bit(permission.resource(), permission.access());
+    }
+
+    /**
+     * Write access to a resource also grants read access to it
+     */
+    public static int granted(Permission permission) {
+        return permission.access().equals(Access.WRITE)
+                ? bit(permission.resource(), Access.WRITE) | bit(permission.resource(), Access.READ)
+                : bit(permission);
+    }
+
+    public static int of(Collection<Permission> permissions) {
+        int mask = NONE;
+        for (Permission permission : permissions)
+            mask |= granted(permission);
+        return mask;
+    }
+
+    public static boolean allows(int mask, Permission permission) {
+        return (mask & bit(permission)) != 0;
+    }
+}
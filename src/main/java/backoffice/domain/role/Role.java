@@ -2,13 +2,10 @@ package backoffice.domain.role;
 
 import backoffice.application.dto.role.RoleResponse;
 import backoffice.domain.office_branch.OfficeBranch;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -20,11 +17,11 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 @Entity
 @Table(name = "roles")
 @NoArgsConstructor
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @EqualsAndHashCode(of = {"id", "name", "permissions"})
 public class Role {
     @EmbeddedId
@@ -42,17 +39,32 @@ public class Role {
     private Set<Permission> permissions;
     @ManyToOne(fetch = FetchType.LAZY)
     private OfficeBranch officeBranch;
+    @Transient
+    private Integer permissionMask;
+
+    private Role(RoleId id, String name, boolean deleted, Set<Permission> permissions, OfficeBranch officeBranch) {
+        this.id           = id;
+        this.name         = name;
+        this.deleted      = deleted;
+        this.permissions  = permissions;
+        this.officeBranch = officeBranch;
+    }
 
     public static Role create(RoleId id, String name, Set<Permission> permissions, OfficeBranch officeBranch) {
         return new Role(id, name, false, permissions, officeBranch);
     }
 
+    /**
+     * Derived from the permissions the first time it is needed after the role is created or loaded
+     */
+    public int permissionMask() {
+        if (permissionMask == null)
+            permissionMask = PermissionMask.of(permissions);
+        return permissionMask;
+    }
+
     public boolean hasAccessTo(Permission permission) {
-        Predicate<Permission> permHasWriteAccessForSameResource = perm ->
-                (perm.resource().equals(permission.resource()) && perm.access().equals(Access.WRITE));
-        return permissions
-                .stream()
-                .anyMatch(perm -> perm.equals(permission) || permHasWriteAccessForSameResource.test(perm));
+        return PermissionMask.allows(permissionMask(), permission);
     }
 
     public RoleId id() { return id; }
@@ -58,5 +58,8 @@ public class Service {
     public ServiceResponse toResponse() {
         return ServiceResponse.of(id.toString(), name, category.toString());
     }
-}
 
+    public ServiceCreatedEvent serviceCreatedEvent() {
+        return ServiceCreatedEvent.of(id.toString(), officeBranch.id().toString(), name, category.toString());
+    }
+}
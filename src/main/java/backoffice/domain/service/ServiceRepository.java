@@ -2,6 +2,7 @@ package backoffice.domain.service;
 
 import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 
@@ -9,5 +10,7 @@ public interface ServiceRepository {
 
     Try<Void> store (Service service);
 
+    Try<Void> store(Service service, DomainEvent event);
+
     List<Service> findByOfficeBranch(OfficeBranch officeBranch);
 }
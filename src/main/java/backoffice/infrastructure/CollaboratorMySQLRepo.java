@@ -5,12 +5,18 @@ import backoffice.domain.collaborator.CollaboratorId;
 import backoffice.domain.collaborator.CollaboratorRepository;
 import backoffice.domain.collaborator.Status;
 import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.office_branch.OfficeBranchId;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.JoinType;
@@ -25,6 +31,11 @@ public class CollaboratorMySQLRepo
         return save(collaborator);
     }
 
+    @Override
+    public Try<Void> storeAll(List<Collaborator> collaborators) {
+        return saveAll(collaborators);
+    }
+
     @Override
     public Try<Void> update(Collaborator collaborator) { return merge(collaborator); }
 
@@ -96,7 +107,26 @@ public class CollaboratorMySQLRepo
 
     @Override
     public boolean exists(String email, OfficeBranch officeBranch) {
-        return find(email, officeBranch).isDefined();
+        return !findExistingEmails(List.of(email), officeBranch).isEmpty();
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails, OfficeBranch officeBranch) {
+        if (emails.isEmpty())
+            return Set.of();
+        var entityManager = entityManagerFactory.createEntityManager();
+        var builder = entityManager.getCriteriaBuilder();
+        var lowerCaseEmails = emails.stream().map(email -> email.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        var query = builder.createQuery(String.class);
+        var table = query.from(Collaborator.class);
+        var lowerCaseEmail = builder.lower(table.get("email"));
+        query.select(lowerCaseEmail).where(builder.and(
+                builder.equal(table.get("officeBranch"), officeBranch),
+                lowerCaseEmail.in(lowerCaseEmails)
+        ));
+        var existingEmails = new HashSet<>(entityManager.createQuery(query).getResultList());
+        entityManager.close();
+        return existingEmails;
     }
 
     @Override
@@ -117,6 +147,32 @@ public class CollaboratorMySQLRepo
         return findOne(addConstraints, join, Collaborator.class);
     }
 
+    @Override
+    public List<Collaborator> find(String email, Collection<OfficeBranchId> officeBranchIds) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        /* Use distinct in the query because when fetch join multiple roles
+        we receive multiple rows of the same collaborator */
+        Consumer<Root<Collaborator>> join = table -> {
+            table.fetch("officeBranch");
+            table.fetch("roles", JoinType.LEFT);
+        };
+        Function3<
+                CriteriaQuery<Collaborator>,
+                Root<Collaborator>,
+                CriteriaBuilder,
+                CriteriaQuery<Collaborator>
+                > addConstraints = (query, table, builder) -> {
+            var equalToEmail = builder.equal(table.get("email"), email);
+            var inOfficeBranches = table.get("officeBranch").get("id").in(officeBranchIds);
+            return query.select(table)
+                    .where(builder.and(equalToEmail, inOfficeBranches))
+                    .distinct(true);
+        };
+        var collaborators = findAll(entityManager, addConstraints, join, getEntityClass());
+        entityManager.close();
+        return collaborators;
+    }
+
     @Override
     public Class<Collaborator> getEntityClass() {
         return Collaborator.class;
@@ -6,6 +6,7 @@ import backoffice.domain.equipment.EquipmentRepository;
 import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.Function3;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -21,6 +22,11 @@ public class EquipmentMySQLRepo extends BackofficeJPARepo<Equipment, EquipmentId
         return save(equipment);
     }
 
+    @Override
+    public Try<Void> store(Equipment equipment, DomainEvent event) {
+        return save(equipment, event);
+    }
+
     @Override
     public List<Equipment> findByOfficeBranch(OfficeBranch officeBranch) {
         var entityManager = entityManagerFactory.createEntityManager();
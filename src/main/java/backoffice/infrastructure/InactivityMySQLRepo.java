@@ -6,6 +6,7 @@ import backoffice.domain.office_inactivity.InactivityId;
 import backoffice.domain.office_inactivity.InactivityRepository;
 import io.vavr.Function3;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -25,13 +26,8 @@ public class InactivityMySQLRepo
     }
 
     @Override
-    public Try<Void> bulkStore(List<Inactivity> inactivities) {
-        Consumer<EntityManager> bulkSave = entityManager -> {
-            for (Inactivity inactivity : inactivities) {
-                entityManager.persist(inactivity);
-            }
-        };
-        return super.executeWrite(bulkSave);
+    public Try<Void> store(Inactivity inactivity, DomainEvent event) {
+        return save(inactivity, event);
     }
 
     @Override
@@ -60,6 +56,23 @@ public class InactivityMySQLRepo
         return super.executeWrite(deleteQuery);
     }
 
+    @Override
+    public Try<Void> replace(
+            List<Inactivity> inactivitiesToStore,
+            List<Inactivity> inactivitiesToDelete,
+            DomainEvent event
+    ) {
+        Consumer<EntityManager> replaceQuery = entityManager -> {
+            for (Inactivity inactivity : inactivitiesToDelete) {
+                entityManager.remove(entityManager.getReference(getEntityClass(), inactivity.id()));
+            }
+            for (Inactivity inactivity : inactivitiesToStore) {
+                entityManager.persist(inactivity);
+            }
+        };
+        return super.executeWrite(replaceQuery, List.of(event));
+    }
+
     @Override
     public Class<Inactivity> getEntityClass() {
         return Inactivity.class;
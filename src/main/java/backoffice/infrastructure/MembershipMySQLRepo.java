@@ -7,6 +7,7 @@ import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -25,11 +26,21 @@ public class MembershipMySQLRepo
         return save(membership);
     }
 
+    @Override
+    public Try<Void> store(Membership membership, DomainEvent event) {
+        return save(membership, event);
+    }
+
     @Override
     public Try<Void> update(Membership membership) {
         return merge(membership);
     }
 
+    @Override
+    public Try<Void> update(Membership membership, DomainEvent event) {
+        return merge(membership, event);
+    }
+
     @Override
     public Option<Membership> findById(MembershipId id) {
         Function3<CriteriaQuery<Membership>, Root<Membership>,
@@ -7,9 +7,13 @@ import backoffice.domain.office_holder.OfficeHolder;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.JoinType;
@@ -25,11 +29,21 @@ public class OfficeBranchMySQLRepo
         return save(officeBranch);
     }
 
+    @Override
+    public Try<Void> store(OfficeBranch officeBranch, DomainEvent event) {
+        return save(officeBranch, event);
+    }
+
     @Override
     public Try<Void> update(OfficeBranch officeBranch) {
         return merge(officeBranch);
     }
 
+    @Override
+    public Try<Void> update(OfficeBranch officeBranch, DomainEvent event) {
+        return merge(officeBranch, event);
+    }
+
     @Override
     public Option<OfficeBranch> findById(OfficeBranchId id) {
         Function3<
@@ -49,11 +63,29 @@ public class OfficeBranchMySQLRepo
         return findOne(constraints, joins, getEntityClass());
     }
 
+    /**
+     * Loads the images of all the office branches given with a single IN query, the
+     * office branches are managed by the entity manager so their images get initialized
+     */
+    private void fetchImages(EntityManager entityManager, List<OfficeBranch> officeBranches) {
+        if (officeBranches.isEmpty())
+            return;
+        var ids = officeBranches.stream().map(OfficeBranch::id).collect(Collectors.toList());
+        Function3<
+                CriteriaQuery<OfficeBranch>,
+                Root<OfficeBranch>,
+                CriteriaBuilder,
+                CriteriaQuery<OfficeBranch>
+                > constraints = (query, table, criteriaBuilder) -> query.where(table.get("id").in(ids));
+        Consumer<Root<OfficeBranch>> joins = table -> table.fetch("images", JoinType.LEFT);
+        findAll(entityManager, constraints, joins, getEntityClass());
+    }
+
     @Override
-    public List<OfficeBranch> findByOfficeHolder(OfficeHolder officeHolder) {
+    public List<OfficeBranch> findByOfficeHolder(OfficeHolder officeHolder, Integer offset, Integer limit) {
         var entityManager = entityManagerFactory.createEntityManager();
-        /* Use distinct in the query because when fetch join multiple images
-        we receive multiple rows of the same office branch */
+        /* Images are not fetch joined here, so there is a single row per office branch
+        and the page is done by the database instead of in memory */
         Function3<
                 CriteriaQuery<OfficeBranch>,
                 Root<OfficeBranch>,
@@ -62,22 +94,47 @@ public class OfficeBranchMySQLRepo
                 > constraints = (query, table, criteriaBuilder) -> {
             var hasOwner = criteriaBuilder.equal(table.get("owner"), officeHolder);
             var isNotDeleted = criteriaBuilder.equal(table.get("deleted"), false);
-            return query.where(criteriaBuilder.and(hasOwner, isNotDeleted)).distinct(true);
+            return query
+                    .where(criteriaBuilder.and(hasOwner, isNotDeleted))
+                    .orderBy(
+                            criteriaBuilder.asc(table.get("created")),
+                            criteriaBuilder.asc(table.get("id").get("id"))
+                    );
         };
-        Consumer<Root<OfficeBranch>> joins = table -> {
-            table.fetch("images", JoinType.LEFT);
-            table.fetch("location");
-        };
-        var officeBranches = findAll(entityManager, constraints, joins, getEntityClass());
+        Consumer<Root<OfficeBranch>> joins = table -> table.fetch("location");
+        List<OfficeBranch> officeBranches;
+        if (offset != null && limit != null)
+            officeBranches = findAll(entityManager, constraints, joins, offset, limit, getEntityClass());
+        else
+            officeBranches = findAll(entityManager, constraints, joins, getEntityClass());
+        fetchImages(entityManager, officeBranches);
         entityManager.close();
         return officeBranches;
     }
 
+    @Override
+    public List<OfficeBranch> findByOfficeHolder(OfficeHolder officeHolder) {
+        return findByOfficeHolder(officeHolder, null, null);
+    }
+
+    @Override
+    public Long count(OfficeHolder officeHolder) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(Long.class);
+        var officeBranchTable = query.from(getEntityClass());
+        query.select(criteriaBuilder.count(officeBranchTable));
+        var hasOwner = criteriaBuilder.equal(officeBranchTable.get("owner"), officeHolder);
+        var isNotDeleted = criteriaBuilder.equal(officeBranchTable.get("deleted"), false);
+        query.where(criteriaBuilder.and(hasOwner, isNotDeleted));
+        var result = entityManager.createQuery(query).getSingleResult();
+        entityManager.close();
+        return result;
+    }
 
+    @Override
     public List<OfficeBranch> findByIds(List<OfficeBranchId> ids) {
         var entityManager = entityManagerFactory.createEntityManager();
-        /* Use distinct in the query because when fetch join multiple images
-        we receive multiple rows of the same office branch */
         Function3<
                 CriteriaQuery<OfficeBranch>,
                 Root<OfficeBranch>,
@@ -86,17 +143,34 @@ public class OfficeBranchMySQLRepo
                 > constraints = (query, table, criteriaBuilder) -> {
             var hasId = table.get("id").in(ids);
             var isNotDeleted = criteriaBuilder.equal(table.get("deleted"), false);
-            return query.where(criteriaBuilder.and(hasId, isNotDeleted)).distinct(true);
-        };
-        Consumer<Root<OfficeBranch>> joins = table -> {
-            table.fetch("images", JoinType.LEFT);
-            table.fetch("location");
+            return query.where(criteriaBuilder.and(hasId, isNotDeleted));
         };
+        Consumer<Root<OfficeBranch>> joins = table -> table.fetch("location");
         var officeBranches = findAll(entityManager, constraints, joins, getEntityClass());
+        fetchImages(entityManager, officeBranches);
         entityManager.close();
         return officeBranches;
     }
 
+    /**
+     * Ownership does not depend on the office branch being deleted, as it did
+     * not when it was checked one office branch at a time. Only the ids are read
+     */
+    @Override
+    public List<OfficeBranchId> findIdsOwnedBy(String ownerEmail, Collection<OfficeBranchId> ids) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(OfficeBranchId.class);
+        var officeBranchTable = query.from(getEntityClass());
+        query.select(officeBranchTable.get("id"));
+        var hasId = officeBranchTable.get("id").in(ids);
+        var isOwnedBy = criteriaBuilder.equal(officeBranchTable.get("owner").get("email"), ownerEmail);
+        query.where(criteriaBuilder.and(hasId, isOwnedBy));
+        var officeBranchIds = entityManager.createQuery(query).getResultList();
+        entityManager.close();
+        return officeBranchIds;
+    }
+
     @Override
     public Class<OfficeBranch> getEntityClass() {
         return OfficeBranch.class;
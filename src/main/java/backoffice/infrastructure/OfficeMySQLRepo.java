@@ -7,12 +7,14 @@ import backoffice.domain.office_branch.OfficeBranch;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Consumer;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
 import org.springframework.stereotype.Repository;
 
@@ -25,9 +27,27 @@ public class OfficeMySQLRepo
         return save(office);
     }
 
+    @Override
+    public Try<Void> store(Office office, DomainEvent event) {
+        return save(office, event);
+    }
+
+    @Override
+    public Try<Void> storeAll(List<Office> offices) {
+        return saveAll(offices);
+    }
+
+    @Override
+    public Try<Void> storeAll(List<Office> offices, DomainEvent event) {
+        return saveAll(offices, List.of(event));
+    }
+
     @Override
     public Try<Void> update(Office office) { return merge(office); }
 
+    @Override
+    public Try<Void> update(Office office, DomainEvent event) { return merge(office, event); }
+
     public Option<Office> findById(OfficeId id) {
         Function3<
                 CriteriaQuery<Office>,
@@ -35,12 +55,8 @@ public class OfficeMySQLRepo
                 CriteriaBuilder,
                 CriteriaQuery<Office>
                 > addConstraints = (query, table, builder) -> query
-                .where(builder.equal(table.get("id"), id)).distinct(true);
-        Consumer<Root<Office>> join = table -> {
-            table.fetch("officeBranch");
-            table.fetch("services", JoinType.LEFT);
-            table.fetch("equipments", JoinType.LEFT);
-        };
+                .where(builder.equal(table.get("id"), id));
+        Consumer<Root<Office>> join = table -> table.fetch("officeBranch");
         return findOne(addConstraints, join, getEntityClass());
     }
 
@@ -53,11 +69,32 @@ public class OfficeMySQLRepo
                 CriteriaBuilder,
                 CriteriaQuery<Office>
                 > addConstraints = (query, table, builder) -> query
-                .where(builder.equal(table.get("officeBranch"), officeBranch)).distinct(true);
-        Consumer<Root<Office>> join = table -> {
-            table.fetch("services", JoinType.LEFT);
-            table.fetch("equipments", JoinType.LEFT);
+                .where(builder.equal(table.get("officeBranch"), officeBranch));
+        Consumer<Root<Office>> join = table -> { };
+        List<Office> offices = findAll(entityManager, addConstraints, join, getEntityClass());
+        entityManager.close();
+        return offices;
+    }
+
+    @Override
+    public List<Office> findNonDeleted(OfficeBranch officeBranch, LocalDate today) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        Function3<
+                CriteriaQuery<Office>,
+                Root<Office>,
+                CriteriaBuilder,
+                CriteriaQuery<Office>
+                > addConstraints = (query, table, builder) -> {
+            var isRelatedWithOfficeBranch = builder.equal(table.get("officeBranch"), officeBranch);
+            // Same rule as Office.isDeleted, an office is still available the day it is deleted
+            Path<LocalDate> deletedAt = table.get("deletedAt");
+            var isNotDeleted = builder.or(
+                    builder.isNull(deletedAt),
+                    builder.greaterThanOrEqualTo(deletedAt, today)
+            );
+            return query.where(builder.and(isRelatedWithOfficeBranch, isNotDeleted));
         };
+        Consumer<Root<Office>> join = table -> { };
         List<Office> offices = findAll(entityManager, addConstraints, join, getEntityClass());
         entityManager.close();
         return offices;
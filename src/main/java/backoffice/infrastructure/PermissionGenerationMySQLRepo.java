@@ -0,0 +1,39 @@
+package backoffice.infrastructure;
+
+import backoffice.domain.role.PermissionGeneration;
+import backoffice.domain.role.PermissionGenerationRepository;
+import io.vavr.control.Try;
+
+import java.util.function.Consumer;
+import javax.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class PermissionGenerationMySQLRepo
+        extends BackofficeJPARepo<PermissionGeneration, Integer>
+        implements PermissionGenerationRepository {
+
+    /* The row is created by the first increment, two instances creating it at once fail one of them */
+    @Override
+    public Try<Void> increment() {
+        Consumer<EntityManager> increment = entityManager -> {
+            int updated = entityManager
+                    .createQuery("update PermissionGeneration g set g.generation = g.generation + 1 where g.id = :id")
+                    .setParameter("id", PermissionGeneration.ID)
+                    .executeUpdate();
+            if (updated == 0)
+                entityManager.persist(PermissionGeneration.first());
+        };
+        return executeWrite(increment);
+    }
+
+    @Override
+    public Try<Long> current() {
+        return Try.of(() -> findById(PermissionGeneration.ID).map(PermissionGeneration::generation).getOrElse(0L));
+    }
+
+    @Override
+    public Class<PermissionGeneration> getEntityClass() {
+        return PermissionGeneration.class;
+    }
+}
@@ -6,6 +6,7 @@ import backoffice.domain.service.ServiceId;
 import backoffice.domain.service.ServiceRepository;
 import io.vavr.Function3;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -23,6 +24,11 @@ public class ServiceMySQLRepo
         return save(service);
     }
 
+    @Override
+    public Try<Void> store(Service service, DomainEvent event) {
+        return save(service, event);
+    }
+
     @Override
     public List<Service> findByOfficeBranch(OfficeBranch officeBranch) {
         var entityManager = entityManagerFactory.createEntityManager();
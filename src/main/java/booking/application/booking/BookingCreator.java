@@ -8,7 +8,6 @@ import booking.application.dto.booking.BookingError;
 import booking.application.dto.booking.BookingInformation;
 import booking.application.dto.booking.BookingResponse;
 import booking.domain.booking.Booking;
-import booking.domain.booking.BookingRepository;
 import booking.domain.office.Office;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
@@ -22,19 +21,19 @@ import org.springframework.stereotype.Service;
 public class BookingCreator {
     private final AuthUserFinder          authUserFinder;
     private final OfficeRepository        officeRepo;
-    private final BookingRepository       bookingRepo;
     private final BookingCreationStrategy bookingCreationStrategy;
+    private final OfficeOccupancyNotifier occupancyNotifier;
 
     public BookingCreator(
             AuthUserFinder          authUserFinder,
             OfficeRepository        officeRepo,
-            BookingRepository       bookingRepo,
-            BookingCreationStrategy bookingCreationStrategy
+            BookingCreationStrategy bookingCreationStrategy,
+            OfficeOccupancyNotifier occupancyNotifier
     ) {
         this.authUserFinder          = authUserFinder;
         this.officeRepo              = officeRepo;
-        this.bookingRepo             = bookingRepo;
         this.bookingCreationStrategy = bookingCreationStrategy;
+        this.occupancyNotifier       = occupancyNotifier;
     }
 
     private Function3<Office, String, BookingInformation, Either<UseCaseError, Booking>> createBooking() {
@@ -54,7 +53,7 @@ public class BookingCreator {
                         .toEither((UseCaseError) UserError.USER_NOT_FOUND)
                         .map(user -> createBooking.apply(user.getEmail())))
                 .flatMap(createBooking -> createBooking.apply(info))
-                .flatMap(booking -> bookingRepo.store(booking)
+                .flatMap(booking -> occupancyNotifier.store(booking)
                         .toEither((UseCaseError) BookingError.DB_ERROR)
                         .map(v -> booking))
                 .map(Booking::toResponse);
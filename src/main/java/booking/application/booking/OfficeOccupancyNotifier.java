@@ -0,0 +1,63 @@
+package booking.application.booking;
+
+import booking.domain.booking.Booking;
+import booking.domain.booking.BookingRepository;
+import booking.domain.office.Office;
+import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes bookings along the occupancy of their office on the day they are
+ * scheduled. The occupancy is computed by the repository with the office
+ * locked and appended to the outbox in the same transaction, so concurrent
+ * bookings of an office publish their occupancies in the order they were
+ * written
+ */
+@Service
+public class OfficeOccupancyNotifier {
+    private final BookingRepository bookingRepo;
+
+    public OfficeOccupancyNotifier(BookingRepository bookingRepo) {
+        this.bookingRepo = bookingRepo;
+    }
+
+    /**
+     * Bookings are stored by their day in UTC, so the day in the timezone of
+     * the booking can span two of them
+     */
+    private static List<LocalDate> scheduleDates(Booking booking) {
+        var timezone = booking.timezone();
+        var date = booking.startScheduleTime().toLocalDate();
+        return Stream.of(
+                date.atStartOfDay(timezone),
+                date.plusDays(1).atStartOfDay(timezone).minusNanos(1)
+        )
+                .map(time -> time.withZoneSameInstant(ZoneId.of("UTC")).toLocalDate())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static BiFunction<Office, List<Booking>, DomainEvent> occupancy(Booking booking) {
+        var date = booking.startScheduleTime().toLocalDate();
+        return (office, bookings) -> office.officeOccupancyUpdatedEvent(date, booking.timezone(), bookings);
+    }
+
+    public Try<Void> store(Booking booking) {
+        return bookingRepo.store(booking, scheduleDates(booking), occupancy(booking));
+    }
+
+    /**
+     * @return whether the booking was still pending and got cancelled
+     */
+    public Try<Boolean> expire(Booking booking) {
+        return bookingRepo.expire(booking, scheduleDates(booking), occupancy(booking));
+    }
+}
@@ -0,0 +1,44 @@
+package booking.application.booking;
+
+import booking.domain.booking.Booking;
+import booking.domain.booking.BookingRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pending bookings stop holding their office an hour after being created,
+ * they are marked as cancelled once expired so the occupancy of their office
+ * is published again. Every instance runs it, the bookings are cancelled only
+ * while still pending so a booking confirmed meanwhile or expired by another
+ * instance is left untouched
+ */
+@Service
+public class PendingBookingExpirer {
+    private static final int BATCH_SIZE = 100;
+
+    private final BookingRepository       bookingRepo;
+    private final OfficeOccupancyNotifier occupancyNotifier;
+    private final Logger                  logger;
+
+    public PendingBookingExpirer(BookingRepository bookingRepo, OfficeOccupancyNotifier occupancyNotifier) {
+        this.bookingRepo       = bookingRepo;
+        this.occupancyNotifier = occupancyNotifier;
+        this.logger            = LoggerFactory.getLogger(getClass());
+    }
+
+    @Scheduled(fixedDelayString = "${bookings.expiration.poll_interval_ms:60000}")
+    public void expire() {
+        var createdBefore = LocalDateTime.now(Clock.systemUTC()).minusHours(1);
+        bookingRepo.findExpired(createdBefore, BATCH_SIZE)
+                .stream()
+                .filter(Booking::hasExpired)
+                .forEach(booking -> occupancyNotifier
+                        .expire(booking)
+                        .onFailure(error -> logger.error("Expiring booking " + booking.id() + " failed", error)));
+    }
+}
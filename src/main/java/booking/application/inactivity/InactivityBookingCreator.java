@@ -1,6 +1,7 @@
 package booking.application.inactivity;
 
 import backoffice.domain.office_inactivity.InactivityCreatedEvent;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
 import booking.domain.inactivity.Inactivity;
 import booking.domain.inactivity.InactivityId;
 import booking.domain.inactivity.RecurringDay;
@@ -8,6 +9,8 @@ import booking.domain.inactivity.SpecificDate;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
@@ -23,9 +26,8 @@ public class InactivityBookingCreator {
         this.officeRepo = officeRepo;
     }
 
-    @EventListener
-    public void create(InactivityCreatedEvent event) {
-        Inactivity inactivity = Match(event.getInactivityType()).of(
+    private Inactivity toInactivity(InactivityCreatedEvent event) {
+        return Match(event.getInactivityType()).of(
                 Case($("SPECIFIC_DATE"), () -> new SpecificDate(
                         InactivityId.fromString(event.getInactivityId()),
                         event.getSpecificInactivityDay().get())),
@@ -34,11 +36,28 @@ public class InactivityBookingCreator {
                         event.getDayOfWeek().get()
                 ))
         );
+    }
+
+    @EventListener
+    public void create(InactivityCreatedEvent event) {
+        Inactivity inactivity = toInactivity(event);
         officeRepo.findById(OfficeId.fromString(event.getOfficeId()))
                 .map(office -> {
                     office.addInactivity(inactivity);
                     return office;
-                }).peek(officeRepo::update);
+                }).forEach(office -> officeRepo.update(office).get());
+    }
 
+    @EventListener
+    public void replace(OfficeInactivitiesReplacedEvent event) {
+        List<Inactivity> inactivities = event.getInactivities()
+                .stream()
+                .map(this::toInactivity)
+                .collect(Collectors.toList());
+        officeRepo.findById(OfficeId.fromString(event.getOfficeId()))
+                .map(office -> {
+                    office.replaceInactivities(inactivities);
+                    return office;
+                }).forEach(office -> officeRepo.update(office).get());
     }
 }
@@ -1,12 +1,15 @@
 package booking.application.office;
 
 import backoffice.domain.office.OfficeCreatedEvent;
+import backoffice.domain.office.OfficesCreatedEvent;
 import booking.domain.office.Office;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
 import booking.domain.office.privacy.Privacy;
 import io.vavr.control.Try;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
@@ -19,23 +22,44 @@ public class OfficeBookingCreator {
         this.officeRepo = officeRepo;
     }
 
-    @EventListener
-    public void create(OfficeCreatedEvent event) {
+    private Try<Office> createOffice(OfficeCreatedEvent event) {
         Try<Privacy> privacyOrError = Privacy.createPrivacy(
                 event.getPrivacy(),
                 event.getCapacity(),
                 event.getTablesQuantity(),
                 event.getCapacityPerTable()
         );
-        privacyOrError.
-                map(privacy -> Office.create(
+        return privacyOrError
+                .map(privacy -> Office.create(
                         OfficeId.fromString(event.getId()),
                         event.getOfficeBranchId(),
                         event.getName(),
                         event.getPrice(),
                         privacy))
-                .onSuccess(officeRepo::store)
                 .onFailure(error -> LoggerFactory.getLogger(this.getClass()).error(error.toString()));
     }
-}
 
+    /* Events dispatched again find their offices already stored */
+    private boolean isNew(OfficeCreatedEvent event) {
+        return officeRepo.findById(OfficeId.fromString(event.getId())).isEmpty();
+    }
+
+    @EventListener
+    public void create(OfficeCreatedEvent event) {
+        if (isNew(event))
+            createOffice(event).forEach(office -> officeRepo.store(office).get());
+    }
+
+    @EventListener
+    public void create(OfficesCreatedEvent event) {
+        List<Office> offices = event.getOffices()
+                .stream()
+                .filter(this::isNew)
+                .map(this::createOffice)
+                .filter(Try::isSuccess)
+                .map(Try::get)
+                .collect(Collectors.toList());
+        if (!offices.isEmpty())
+            officeRepo.storeAll(offices).get();
+    }
+}
@@ -4,22 +4,26 @@ import backoffice.domain.office.OfficeDeletedEvent;
 import booking.domain.office.Office;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
+import shared.domain.ChangeCoalescer;
+import shared.domain.ProjectionWriter;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeBookingDeleter {
-    private final OfficeRepository officeRepo;
+    private final ProjectionWriter<Office> officeWriter;
 
-    public OfficeBookingDeleter(OfficeRepository officeRepo) {
-        this.officeRepo = officeRepo;
+    public OfficeBookingDeleter(OfficeRepository officeRepo, ChangeCoalescer changeCoalescer) {
+        this.officeWriter = changeCoalescer.writer(
+                "booking_offices",
+                officeId -> officeRepo.findById(OfficeId.fromString(officeId)),
+                officeRepo::update
+        );
     }
 
     @EventListener
     public void delete(OfficeDeletedEvent event) {
-        officeRepo.findById(OfficeId.fromString(event.getOfficeId()))
-                .map(Office::delete)
-                .peek(officeRepo::update);
+        officeWriter.update(event, event.getOfficeId(), Office::delete);
     }
 }
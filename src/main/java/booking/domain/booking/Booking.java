@@ -186,6 +186,18 @@ public class Booking {
         return status.equals(Status.PENDING) && now.isBefore(created.plusHours(1));
     }
 
+    /**
+     * A pending booking whose payment did not arrive in time, it does not
+     * hold the office anymore
+     */
+    public boolean hasExpired() {
+        return status.equals(Status.PENDING) && !isPending();
+    }
+
+    public void expire() {
+        this.status = Status.CANCELLED;
+    }
+
     public Integer amountOfHours() {
         return scheduleTime.endTime().getHour() - scheduleTime.startTime().getHour();
     }
@@ -221,6 +233,8 @@ public class Booking {
         return scheduleTime.endTimeUTC();
     }
 
+    public ZoneId timezone() { return scheduleTime.zoneId(); }
+
     public Integer totalAmount() { return totalAmount; }
 
     public BookingConfirmedEvent bookingConfirmedEvent() {
@@ -1,5 +1,6 @@
 package booking.domain.booking;
 
+import io.vavr.control.Option;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -22,4 +23,9 @@ public class BookingConfirmedEvent extends DomainEvent {
     public String getEventName() {
         return "BOOKING_CONFIRMED_EVENT";
     }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
 }
@@ -3,9 +3,12 @@ package booking.domain.booking;
 import booking.domain.office.Office;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
 
 public interface BookingRepository {
 
@@ -13,6 +16,42 @@ public interface BookingRepository {
 
     Try<Void> update(Booking booking);
 
+    Try<Void> update(Booking booking, DomainEvent event);
+
+    /**
+     * Stores the booking along the event computed from its office and the
+     * bookings of the office scheduled on the dates given, including itself.
+     * The office is locked for the transaction, so concurrent bookings of an
+     * office compute their events from each other's and append them in order
+     */
+    Try<Void> store(
+            Booking booking,
+            List<LocalDate> scheduleDates,
+            BiFunction<Office, List<Booking>, DomainEvent> event
+    );
+
+    /**
+     * Cancels the booking only if it is still pending, with its office locked
+     * as when storing it. The event is appended only when the booking was
+     * cancelled, so a booking confirmed meanwhile is left as it is
+     *
+     * @return whether the booking was cancelled
+     */
+    Try<Boolean> expire(
+            Booking booking,
+            List<LocalDate> scheduleDates,
+            BiFunction<Office, List<Booking>, DomainEvent> event
+    );
+
+    /**
+     * Writes the booking confirmed along its event only if it is still pending,
+     * with its office locked as when expiring it, so a booking expired
+     * meanwhile is not brought back by a copy read before
+     *
+     * @return whether the booking was confirmed
+     */
+    Try<Boolean> confirm(Booking booking, DomainEvent event);
+
     Option<Booking> findById(BookingId id);
 
     List<Booking> find(Office office, LocalDate proposedScheduleDate);
@@ -25,6 +64,11 @@ public interface BookingRepository {
             Integer limit
     );
 
+    /**
+     * @return at most limit pending bookings created before the time given, with their office
+     */
+    List<Booking> findExpired(LocalDateTime createdBefore, Integer limit);
+
     Long count(String renterEmail, boolean fetchCurrentBookings, LocalDate currentDate);
 
     boolean exists(String renterEmail, Office officeId);
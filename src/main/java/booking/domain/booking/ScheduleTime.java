@@ -44,6 +44,8 @@ public class ScheduleTime {
         return startHourHasConflicts || endHourHasConflicts || proposedTimeContainsScheduleTime;
     }
 
+    public ZoneId zoneId() { return zoneId; }
+
     public LocalDateTime startTimeUTC() { return startTime; }
 
     public LocalDateTime endTimeUTC() { return endTime; }
@@ -10,12 +10,14 @@ import io.vavr.control.Try;
 import lombok.NoArgsConstructor;
 import shared.application.UseCaseError;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
@@ -39,7 +41,7 @@ public class Office {
     private Integer price;
     @OneToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
     private Privacy privacy;
-    @OneToMany(cascade = {CascadeType.MERGE})
+    @OneToMany(cascade = {CascadeType.MERGE}, orphanRemoval = true)
     @JoinColumn(name = "officeId")
     private List<Inactivity> inactivities;
     @Column
@@ -94,10 +96,37 @@ public class Office {
         this.inactivities.add(inactivity);
     }
 
+    public void replaceInactivities(List<Inactivity> inactivities) {
+        this.inactivities.clear();
+        this.inactivities.addAll(inactivities);
+    }
+
     public List<Inactivity> inactivities() { return inactivities; }
 
     public boolean isDeleted() { return deleted; }
 
+    /**
+     * @param date     Day in the timezone given
+     * @param bookings Bookings of the office scheduled along the day
+     */
+    public OfficeOccupancyUpdatedEvent officeOccupancyUpdatedEvent(
+            LocalDate     date,
+            ZoneId        timezone,
+            List<Booking> bookings
+    ) {
+        var activeBookings = bookings.stream().filter(Booking::isActive).collect(Collectors.toList());
+        int occupiedHours = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            var startTimeUtc = toUTC(date.atTime(hour, 0).atZone(timezone));
+            var endTimeUtc = startTimeUtc.plusHours(1);
+            var isInactive = inactivities.stream()
+                    .anyMatch(inactivity -> inactivity.isUnavailableAt(startTimeUtc.toLocalDate()));
+            if (isInactive || !privacy.canBeBooked(startTimeUtc, endTimeUtc, activeBookings))
+                occupiedHours |= 1 << hour;
+        }
+        return OfficeOccupancyUpdatedEvent.of(officeBranchId, id.toString(), date, occupiedHours);
+    }
+
     public Either<UseCaseError, Booking> book(
             String renterEmail,
             Integer attendeesQuantity,
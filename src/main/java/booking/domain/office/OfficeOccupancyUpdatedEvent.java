@@ -0,0 +1,35 @@
+package booking.domain.office;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+import java.time.LocalDate;
+
+/**
+ * Hours of a day in which an office can not take another booking, one bit
+ * per hour starting by the least significant, in the timezone of its bookings.
+ * It carries the whole occupancy of the day, so listeners apply it only when
+ * its sequence is after the one of the occupancy they kept
+ */
+@AllArgsConstructor(staticName = "of")
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class OfficeOccupancyUpdatedEvent extends DomainEvent {
+    private final String    officeBranchId;
+    private final String    officeId;
+    private final LocalDate date;
+    private final Integer   occupiedHours;
+
+    @Override
+    public String getEventName() {
+        return "OFFICE_OCCUPANCY_UPDATED_EVENT";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
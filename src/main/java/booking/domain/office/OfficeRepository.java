@@ -3,10 +3,14 @@ package booking.domain.office;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
+import java.util.List;
+
 public interface OfficeRepository {
 
     Try<Void> store(Office office);
 
+    Try<Void> storeAll(List<Office> offices);
+
     Try<Void> update(Office office);
 
     Option<Office> findById(OfficeId id);
@@ -18,7 +18,6 @@ import com.mercadopago.exceptions.MPException;
 import com.mercadopago.resources.Payment;
 import com.mercadopago.resources.datastructures.payment.FeeDetail;
 import io.vavr.control.Option;
-import shared.domain.EventBus;
 
 import java.util.List;
 import org.slf4j.Logger;
@@ -34,7 +33,6 @@ public class MercadoPagoPaymentResolver {
     private final MembershipAcquisitionRepository membershipAcquisitionRepo;
     private final BookingEmailNotificator         emailNotificator;
     private final OfficeBranchFinder              officeBranchFinder;
-    private final EventBus                        eventBus;
 
     private final List<Payment.Status> failedPaymentStatuses = ImmutableList.of(
             Payment.Status.cancelled,
@@ -48,8 +46,7 @@ public class MercadoPagoPaymentResolver {
             BookingRepository               bookingRepo,
             MembershipAcquisitionRepository membershipAcquisitionRepo,
             BookingEmailNotificator         emailNotificator,
-            OfficeBranchFinder              officeBranchFinder,
-            EventBus                        eventBus
+            OfficeBranchFinder              officeBranchFinder
     ) {
         this.env                       = env;
         this.logger                    = LoggerFactory.getLogger(getClass());
@@ -57,7 +54,6 @@ public class MercadoPagoPaymentResolver {
         this.membershipAcquisitionRepo = membershipAcquisitionRepo;
         this.emailNotificator          = emailNotificator;
         this.officeBranchFinder        = officeBranchFinder;
-        this.eventBus                  = eventBus;
     }
 
     private Option<Payment> obtainPayment(MercadoPagoPaymentNotification notification) {
@@ -90,13 +86,16 @@ public class MercadoPagoPaymentResolver {
                 payment.getPaymentTypeId().name()
         );
         booking.markAsScheduled(paymentInformation);
-        bookingRepo.update(booking)
-                .onSuccess(v -> {
+        bookingRepo.confirm(booking, booking.bookingConfirmedEvent())
+                .onSuccess(confirmed -> {
+                    if (!confirmed) {
+                        logger.warn("Payment " + payment.getId() + " accepted for booking expired " + booking.id());
+                        return;
+                    }
                     var officeBranchLocation = officeBranchFinder
                             .find(OfficeBranchId.fromString(booking.office().officeBranchId()))
                             .map(OfficeBranchResponse::getLocation)
-                            .getOrElse(new OfficeBranchResponse.Location("N/A", "", "", ""));
-                    eventBus.publish(booking.bookingConfirmedEvent());
+                            .getOrElse(new OfficeBranchResponse.Location("N/A", "", "", "", null, null));
                     emailNotificator.sendBookingPaymentAcceptedEmail(
                             booking.renterEmail(),
                             booking.id(),
@@ -3,14 +3,23 @@ package booking.infrastructure.repositories;
 import booking.domain.booking.Booking;
 import booking.domain.booking.BookingId;
 import booking.domain.booking.BookingRepository;
+import booking.domain.booking.Status;
 import booking.domain.office.Office;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+import shared.infrastructure.outbox.OutboxMessage;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.JoinType;
@@ -33,6 +42,95 @@ public class BookingMySQLRepository
         return merge(booking);
     }
 
+    @Override
+    public Try<Void> update(Booking booking, DomainEvent event) {
+        return merge(booking, event);
+    }
+
+    /**
+     * Locks the office before writing the booking, the bookings read after the
+     * write include it and the ones of every transaction committed before. The
+     * event is only appended when the write changed the booking
+     *
+     * @return whether the write changed the booking
+     */
+    private Try<Boolean> write(
+            Booking booking,
+            Predicate<EntityManager> write,
+            List<LocalDate> scheduleDates,
+            BiFunction<Office, List<Booking>, DomainEvent> event
+    ) {
+        var written = new AtomicBoolean();
+        Consumer<EntityManager> writeWithEvent = entityManager -> {
+            var office = entityManager.find(Office.class, booking.office().id(), LockModeType.PESSIMISTIC_WRITE);
+            if (!write.test(entityManager))
+                return;
+            entityManager.flush();
+            Function3<
+                    CriteriaQuery<Booking>,
+                    Root<Booking>,
+                    CriteriaBuilder,
+                    CriteriaQuery<Booking>
+                    > addConstraints = (query, table, builder) -> query.where(builder.and(
+                    builder.equal(table.get("office"), office),
+                    table.get("scheduleTime").get("scheduleDate").in(scheduleDates)
+            ));
+            var bookings = findAll(entityManager, addConstraints, table -> { }, getEntityClass());
+            entityManager.persist(OutboxMessage.of(event.apply(office, bookings)));
+            written.set(true);
+        };
+        return executeWrite(writeWithEvent).map(done -> written.get());
+    }
+
+    @Override
+    public Try<Void> store(
+            Booking booking,
+            List<LocalDate> scheduleDates,
+            BiFunction<Office, List<Booking>, DomainEvent> event
+    ) {
+        Predicate<EntityManager> persist = entityManager -> {
+            entityManager.persist(booking);
+            return true;
+        };
+        return write(booking, persist, scheduleDates, event).map(written -> null);
+    }
+
+    /* Conditional so a booking confirmed since it was read is not overwritten by a stale copy */
+    @Override
+    public Try<Boolean> expire(
+            Booking booking,
+            List<LocalDate> scheduleDates,
+            BiFunction<Office, List<Booking>, DomainEvent> event
+    ) {
+        Predicate<EntityManager> cancelIfPending = entityManager -> entityManager
+                .createQuery("update Booking b set b.status = :cancelled where b.id = :id and b.status = :pending")
+                .setParameter("cancelled", Status.CANCELLED)
+                .setParameter("pending", Status.PENDING)
+                .setParameter("id", booking.id())
+                .executeUpdate() == 1;
+        return write(booking, cancelIfPending, scheduleDates, event);
+    }
+
+    @Override
+    public Try<Boolean> confirm(Booking booking, DomainEvent event) {
+        var confirmed = new AtomicBoolean();
+        Consumer<EntityManager> confirmIfPending = entityManager -> {
+            entityManager.find(Office.class, booking.office().id(), LockModeType.PESSIMISTIC_WRITE);
+            var scheduled = entityManager
+                    .createQuery("update Booking b set b.status = :scheduled where b.id = :id and b.status = :pending")
+                    .setParameter("scheduled", Status.SCHEDULED)
+                    .setParameter("pending", Status.PENDING)
+                    .setParameter("id", booking.id())
+                    .executeUpdate() == 1;
+            if (!scheduled)
+                return;
+            entityManager.merge(booking);
+            entityManager.persist(OutboxMessage.of(event));
+            confirmed.set(true);
+        };
+        return executeWrite(confirmIfPending).map(done -> confirmed.get());
+    }
+
     @Override
     public Option<Booking> findById(BookingId id) {
         Function3<
@@ -118,6 +216,21 @@ public class BookingMySQLRepository
         return findBookings(addConstraints, offset, limit, true);
     }
 
+    @Override
+    public List<Booking> findExpired(LocalDateTime createdBefore, Integer limit) {
+        Function3<
+                CriteriaQuery<Booking>,
+                Root<Booking>,
+                CriteriaBuilder,
+                CriteriaQuery<Booking>
+                > addConstraints = (query, table, builder) -> {
+            var isPending = builder.equal(table.get("status"), Status.PENDING);
+            Path<LocalDateTime> createdColumn = table.get("created");
+            return query.where(builder.and(isPending, builder.lessThan(createdColumn, createdBefore)));
+        };
+        return findBookings(addConstraints, 0, limit, true);
+    }
+
     @Override
     public Long count(String renterEmail, boolean fetchCurrentBookings, LocalDate currentDate) {
         var entityManager = entityManagerFactory.createEntityManager();
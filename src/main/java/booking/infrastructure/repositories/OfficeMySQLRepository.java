@@ -7,6 +7,7 @@ import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
+import java.util.List;
 import java.util.function.Consumer;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -22,6 +23,11 @@ public class OfficeMySQLRepository
         return save(office);
     }
 
+    @Override
+    public Try<Void> storeAll(List<Office> offices) {
+        return saveAll(offices);
+    }
+
     @Override
     public Try<Void> update(Office office) {
         return merge(office);
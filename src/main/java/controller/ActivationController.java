@@ -14,6 +14,7 @@ import controller.response.ErrorResponse;
 
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,6 +33,10 @@ public class ActivationController extends BaseController {
     ErrorResponse tokenAlreadyUsed     = invalid("TOKEN_ALREADY_USED", "Token provided was already used");
     ErrorResponse invalidToken         = invalid("INVALID_TOKEN", "Token provided is invalid or maybe has expired");
     ErrorResponse userNotFound         = invalid("USER_NOT_FOUND", "There is no user associated with token");
+    ErrorResponse hashingUnavailable   = unavailable(
+            "PASSWORD_HASHING_UNAVAILABLE",
+            "Too many requests, try again later"
+    );
     ErrorResponse collaboratorNotFound = invalid(
             "COLLABORATOR_NOT_FOUND",
             "There is no collaborator associated with token"
@@ -63,7 +68,9 @@ public class ActivationController extends BaseController {
                 .getOrElseGet(error -> Match(error).of(
                         Case($(TokenError.TOKEN_ALREADY_USED), ResponseEntity.badRequest().body(tokenAlreadyUsed)),
                         Case($(TokenError.INVALID_TOKEN), ResponseEntity.badRequest().body(invalidToken)),
-                        Case($(UserError.USER_NOT_FOUND), ResponseEntity.badRequest().body(userNotFound))
+                        Case($(UserError.USER_NOT_FOUND), ResponseEntity.badRequest().body(userNotFound)),
+                        Case($(UserError.PASSWORD_HASHING_UNAVAILABLE), ResponseEntity
+                                .status(HttpStatus.SERVICE_UNAVAILABLE).body(hashingUnavailable))
                 ));
     }
 
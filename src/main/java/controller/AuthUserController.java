@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import static authentication.application.dto.user.UserError.FORBIDDEN;
+import static authentication.application.dto.user.UserError.PASSWORD_HASHING_UNAVAILABLE;
 import static authentication.application.dto.user.UserError.USER_EMAIL_ALREADY_EXISTS;
 import static authentication.application.dto.user.UserError.USER_NOT_FOUND;
 import static io.vavr.API.$;
@@ -43,6 +44,9 @@ public class AuthUserController extends BaseController {
     private final ResponseEntity<DataResponse> forbidden = ResponseEntity
             .status(HttpStatus.FORBIDDEN)
             .body(forbidden("USER_FORBIDDEN", "You don't have access to this auth user"));
+    private final ResponseEntity<DataResponse> hashingUnavailable = ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(unavailable("PASSWORD_HASHING_UNAVAILABLE", "Too many requests, try again later"));
 
     @Autowired AuthUserCreator        creator;
     @Autowired AuthUserFinder         finder;
@@ -58,7 +62,8 @@ public class AuthUserController extends BaseController {
         return creator.createUser(id, information)
                 .map(u -> new ResponseEntity<>(createdResponse, HttpStatus.CREATED))
                 .getOrElseGet(error -> Match(error).of(
-                        Case($(USER_EMAIL_ALREADY_EXISTS), ResponseEntity.badRequest().body(failureResponse))
+                        Case($(USER_EMAIL_ALREADY_EXISTS), ResponseEntity.badRequest().body(failureResponse)),
+                        Case($(PASSWORD_HASHING_UNAVAILABLE), hashingUnavailable)
                 ));
     }
 
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import static authentication.application.dto.user.UserError.INVALID_PASSWORD;
 import static authentication.application.dto.user.UserError.NON_ACTIVE_USER;
+import static authentication.application.dto.user.UserError.PASSWORD_HASHING_UNAVAILABLE;
 import static authentication.application.dto.user.UserError.USER_NOT_FOUND;
 import static io.vavr.API.$;
 import static io.vavr.API.Case;
@@ -42,13 +43,19 @@ public class AuthenticationController extends BaseController {
         ErrorResponse userNotFound = notFound("USER_NOT_FOUND", "There is no user with email provided");
         ErrorResponse invalidPassword = invalid("INVALID_PASSWORD", "Password is incorrect");
         ErrorResponse nonActiveUser = invalid("NON_ACTIVE_USER", "The user is not active in the system");
+        ErrorResponse hashingUnavailable = unavailable(
+                "PASSWORD_HASHING_UNAVAILABLE",
+                "Too many authentication requests, try again later"
+        );
         return authenticator
                 .login(information)
                 .map(authentication -> ResponseEntity.ok((DataResponse) new SingleResponse<>(authentication)))
                 .getOrElseGet(error -> Match(error).of(
                         Case($(USER_NOT_FOUND), ResponseEntity.status(HttpStatus.NOT_FOUND).body(userNotFound)),
                         Case($(INVALID_PASSWORD), ResponseEntity.badRequest().body(invalidPassword)),
-                        Case($(NON_ACTIVE_USER), ResponseEntity.badRequest().body(nonActiveUser))
+                        Case($(NON_ACTIVE_USER), ResponseEntity.badRequest().body(nonActiveUser)),
+                        Case($(PASSWORD_HASHING_UNAVAILABLE), ResponseEntity
+                                .status(HttpStatus.SERVICE_UNAVAILABLE).body(hashingUnavailable))
                 ));
     }
 }
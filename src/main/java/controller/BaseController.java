@@ -67,4 +67,8 @@ public abstract class BaseController {
     protected ErrorResponse forbidden(String error, String message) {
         return ErrorResponse.fromSingleError(Error.forbidden(error, message));
     }
+
+    protected ErrorResponse unavailable(String error, String message) {
+        return ErrorResponse.fromSingleError(Error.unavailable(error, message));
+    }
 }
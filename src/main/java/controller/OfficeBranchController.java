@@ -1,9 +1,12 @@
 package controller;
 
 import backoffice.application.collaborator.CollaboratorCreator;
+import backoffice.application.collaborator.CollaboratorCsvReader;
+import backoffice.application.collaborator.CollaboratorsCreator;
 import backoffice.application.collaborator.CollaboratorsFinder;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.application.dto.collaborator.CollaboratorInformation;
+import backoffice.application.dto.collaborator.CollaboratorInvitationResult;
 import backoffice.application.dto.collaborator.CollaboratorResponse;
 import backoffice.application.dto.equipment.EquipmentError;
 import backoffice.application.dto.equipment.EquipmentInformation;
@@ -11,6 +14,7 @@ import backoffice.application.dto.equipment.EquipmentResponse;
 import backoffice.application.dto.office.OfficeError;
 import backoffice.application.dto.office.OfficeInformation;
 import backoffice.application.dto.office.OfficeResponse;
+import backoffice.application.dto.office.OfficesInformation;
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.dto.office_branch.OfficeBranchUpdateInformation;
 import backoffice.application.dto.role.RoleInformation;
@@ -38,15 +42,21 @@ import backoffice.domain.role.RoleId;
 import backoffice.domain.service.ServiceId;
 import controller.response.DataResponse;
 import controller.response.SingleResponse;
+import controller.response.body.CreatedBody;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
+import office_branch_detail.application.OfficeBranchDetailFinder;
 import shared.application.UseCaseError;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -96,6 +106,8 @@ public class OfficeBranchController extends BaseController {
     @Autowired
     private CollaboratorsFinder collaboratorsFinder;
     @Autowired
+    private CollaboratorsCreator collaboratorsCreator;
+    @Autowired
     private OfficeBranchesFinderByCollaborator officeBranchesFinderByCollaborator;
     @Autowired
     private EquipmentCreator equipmentCreator;
@@ -105,6 +117,8 @@ public class OfficeBranchController extends BaseController {
     private ServiceCreator serviceCreator;
     @Autowired
     private ServiceFinder serviceFinder;
+    @Autowired
+    private OfficeBranchDetailFinder detailFinder;
 
     private Option<OfficeBranchId> parseId(String id) {
         try {
@@ -145,11 +159,27 @@ public class OfficeBranchController extends BaseController {
                 .getOrElse(notFound);
     }
 
+    @GetMapping(value = "/{id}/detail/")
+    public ResponseEntity<?> getOfficeBranchDetail(@PathVariable String id) {
+        if (parseId(id).isEmpty())
+            return invalidId;
+        return detailFinder
+                .find(id)
+                .map(detail -> ResponseEntity.ok((DataResponse) entityResponse(detail)))
+                .getOrElse(notFound);
+    }
+
     @PutMapping(value = "/{id}/")
     public ResponseEntity<?> updateOfficeBranch(
             @PathVariable String id,
             @RequestBody OfficeBranchUpdateInformation info
     ) {
+        ResponseEntity<DataResponse> invalidCoordinates = ResponseEntity
+                .badRequest()
+                .body(invalid(
+                        "INVALID_COORDINATES",
+                        "Latitude and longitude must be provided together and be in range"
+                ));
         Function<OfficeBranchId, Either<OfficeBranchError, Void>> useCase =
                 officeBranchId -> updater.update(officeBranchId, info);
         Function<Void, ResponseEntity<DataResponse>> handleSuccess =
@@ -157,7 +187,8 @@ public class OfficeBranchController extends BaseController {
         Function<OfficeBranchError, ResponseEntity<DataResponse>> handleError =
                 error -> Match(error).of(
                         Case($(OfficeBranchError.OFFICE_BRANCH_NOT_EXIST), notFound),
-                        Case($(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN), forbidden)
+                        Case($(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN), forbidden),
+                        Case($(OfficeBranchError.OFFICE_BRANCH_INVALID_COORDINATES), invalidCoordinates)
                 );
         return processResponse(id, useCase, handleSuccess, handleError);
     }
@@ -210,6 +241,36 @@ public class OfficeBranchController extends BaseController {
         return processResponse(id, useCase, handleSuccess, handleError);
     }
 
+    @PostMapping(value = "/{id}/offices/bulk/")
+    public ResponseEntity<?> createOffices(
+            @PathVariable String id,
+            @RequestBody @Valid OfficesInformation information
+    ) {
+        ResponseEntity<DataResponse> sharedOfficeError = ResponseEntity
+                .badRequest()
+                .body(invalid(
+                        "SHARED_OFFICE_WITHOUT_TABLES",
+                        "You must specify table information for every shared office"
+                ));
+
+        Function<OfficeBranchId, Either<UseCaseError, List<OfficeId>>> useCase =
+                officeBranchId -> officeCreator.createAll(officeBranchId, information.getOffices());
+        Function<List<OfficeId>, ResponseEntity<DataResponse>> handleSuccess = officeIds -> {
+            var createdOffices = officeIds
+                    .stream()
+                    .map(officeId -> CreatedBody.create("/api/offices/" + officeId + "/"))
+                    .collect(Collectors.toList());
+            return ResponseEntity.status(HttpStatus.CREATED).body(entityResponse(createdOffices));
+        };
+        Function<UseCaseError, ResponseEntity<DataResponse>> handleError = error -> Match(error).of(
+                Case($(OfficeBranchError.OFFICE_BRANCH_NOT_EXIST), notFound),
+                Case($(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN), forbidden),
+                Case($(OfficeError.SHARED_OFFICE_WITHOUT_TABLES), sharedOfficeError)
+        );
+
+        return processResponse(id, useCase, handleSuccess, handleError);
+    }
+
     @GetMapping(value = "/{id}/offices/")
     public ResponseEntity<?> getOffices(@PathVariable String id) {
         Function<OfficeBranchId, Either<UseCaseError, List<OfficeResponse>>> useCase =
@@ -280,6 +341,40 @@ public class OfficeBranchController extends BaseController {
         return processResponse(id, useCase, handleSuccess, handleError);
     }
 
+    private ResponseEntity<?> inviteCollaborators(
+            String id,
+            Function<OfficeBranchId, Either<UseCaseError, List<CollaboratorInvitationResult>>> useCase
+    ) {
+        Function<List<CollaboratorInvitationResult>, ResponseEntity<DataResponse>> handleSuccess =
+                results -> ResponseEntity.ok(entityResponse(results));
+        Function<UseCaseError, ResponseEntity<DataResponse>> handleError = error -> Match(error).of(
+                Case($(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN), forbidden),
+                Case($(OfficeBranchError.OFFICE_BRANCH_NOT_EXIST), notFound),
+                Case($(CollaboratorError.TOO_MANY_INVITATIONS), ResponseEntity.badRequest().body(invalid(
+                        "TOO_MANY_INVITATIONS",
+                        format("You can invite up to %d collaborators at once", CollaboratorsCreator.MAX_INVITATIONS)
+                )))
+        );
+        return processResponse(id, useCase, handleSuccess, handleError);
+    }
+
+    @PostMapping(value = "/{id}/collaborators/bulk/", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createCollaborators(
+            @PathVariable String id,
+            @RequestBody List<CollaboratorInformation> invitations
+    ) {
+        return inviteCollaborators(id, officeBranchId -> collaboratorsCreator.create(officeBranchId, invitations));
+    }
+
+    @PostMapping(value = "/{id}/collaborators/bulk/", consumes = "text/csv")
+    public ResponseEntity<?> createCollaboratorsFromCsv(
+            @PathVariable String id,
+            HttpServletRequest request
+    ) throws IOException {
+        var invitations = CollaboratorCsvReader.read(request.getReader(), CollaboratorsCreator.MAX_INVITATIONS + 1);
+        return inviteCollaborators(id, officeBranchId -> collaboratorsCreator.create(officeBranchId, invitations));
+    }
+
     @GetMapping(value = "/{id}/collaborators/")
     public ResponseEntity<?> getCollaborators(@PathVariable String id) {
         Function<OfficeBranchId, Either<UseCaseError, List<CollaboratorResponse>>> useCase =
@@ -1,5 +1,7 @@
 package controller;
 
+import controller.response.CursorPaginatedResponse;
+import controller.response.FacetedPaginatedResponse;
 import controller.response.PaginatedResponse;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
@@ -29,12 +31,23 @@ public class OfficeBranchSearchController extends BaseController {
 
     List<Tuple2<SearchCriteria.Field, String>> obtainCriterias(
             Optional<String> name,
+            Optional<String> namePrefix,
+            Optional<String> text,
             Optional<String> officeType,
             Optional<Integer> officeCapacityGT,
-            Optional<Integer> officeCapacityLT
+            Optional<Integer> officeCapacityLT,
+            Optional<Double> latitude,
+            Optional<Double> longitude,
+            Optional<Double> radiusInKm,
+            Optional<String> date,
+            Optional<Integer> fromHour,
+            Optional<Integer> toHour,
+            Optional<Integer> attendees
     ) {
         List<Tuple2<SearchCriteria.Field, Optional<String>>> criterias = new ArrayList<>() {{
             add(Tuple.of(SearchCriteria.Field.OFFICE_BRANCH_NAME, name));
+            add(Tuple.of(SearchCriteria.Field.OFFICE_BRANCH_NAME_PREFIX, namePrefix));
+            add(Tuple.of(SearchCriteria.Field.TEXT, text.filter(value -> !value.isBlank())));
             add(Tuple.of(SearchCriteria.Field.OFFICE_TYPE, officeType));
         }};
         if (officeCapacityGT.isPresent() && officeCapacityLT.isPresent())
@@ -46,29 +59,97 @@ public class OfficeBranchSearchController extends BaseController {
             criterias.add(Tuple.of(SearchCriteria.Field.OFFICE_CAPACITY_GT, officeCapacityGT.map(String::valueOf)));
             criterias.add(Tuple.of(SearchCriteria.Field.OFFICE_CAPACITY_LT, officeCapacityLT.map(String::valueOf)));
         }
+        if (latitude.isPresent() || longitude.isPresent())
+            criterias.add(Tuple.of(SearchCriteria.Field.NEAR, Optional.of(
+                    latitude.map(String::valueOf).orElse("")
+                            + "," + longitude.map(String::valueOf).orElse("")
+                            + radiusInKm.map(radius -> "," + radius).orElse("")
+            )));
+        // Without hours the whole day is asked for, by a single attendee when they are not specified
+        if (date.isPresent())
+            criterias.add(Tuple.of(SearchCriteria.Field.AVAILABLE, date.map(value -> value
+                    + "," + fromHour.orElse(0)
+                    + "," + toHour.orElse(24)
+                    + "," + attendees.orElse(1)
+            )));
         return criterias.stream()
                 .filter(criteria -> criteria._2.isPresent())
                 .map(criteria -> criteria.map2(Optional::get))
                 .collect(Collectors.toList());
     }
 
+    private static Integer currentPage(Page<?> page) {
+        return page.getTotalPages() == 0 ? 0 : page.getNumber() + 1;
+    }
+
+    /**
+     * Searches are paged by offset unless a cursor is given, an empty one asks
+     * for the first page and every page answers the cursor of the next one.
+     * Facets are only answered paging by offset
+     */
     @GetMapping("/")
     public ResponseEntity<?> search(
             Pageable pageable,
             @RequestParam Optional<String> name,
+            @RequestParam(name = "name_prefix") Optional<String> namePrefix,
+            @RequestParam(name = "q") Optional<String> text,
             @RequestParam(name = "office_type") Optional<String> officeType,
             @RequestParam(name = "office_capacity_gt") Optional<Integer> officeCapacityGT,
-            @RequestParam(name = "office_capacity_lt") Optional<Integer> officeCapacityLT
+            @RequestParam(name = "office_capacity_lt") Optional<Integer> officeCapacityLT,
+            @RequestParam Optional<Double> latitude,
+            @RequestParam Optional<Double> longitude,
+            @RequestParam(name = "radius_km") Optional<Double> radiusInKm,
+            @RequestParam Optional<String> date,
+            @RequestParam(name = "from_hour") Optional<Integer> fromHour,
+            @RequestParam(name = "to_hour") Optional<Integer> toHour,
+            @RequestParam Optional<Integer> attendees,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam Optional<String> cursor
     ) {
-        var criterias = obtainCriterias(name, officeType, officeCapacityGT, officeCapacityLT);
+        var criterias = obtainCriterias(
+                name,
+                namePrefix,
+                text,
+                officeType,
+                officeCapacityGT,
+                officeCapacityLT,
+                latitude,
+                longitude,
+                radiusInKm,
+                date,
+                fromHour,
+                toHour,
+                attendees
+        );
         var searchCriteria = SearchCriteria.of(criterias);
+        if (cursor.isPresent()) {
+            var cursorSearch = officeBranchSearcher.searchAfter(cursor.get(), pageable.getPageSize(), searchCriteria);
+            return ResponseEntity.ok(new CursorPaginatedResponse<>(
+                    cursorSearch.getOfficeBranches(),
+                    pageable.getPageSize(),
+                    cursorSearch.getNextCursor().isEmpty(),
+                    cursorSearch.getNextCursor().getOrNull()
+            ));
+        }
+        if (facets) {
+            var facetedSearch = officeBranchSearcher.searchWithFacets(pageable, searchCriteria);
+            var officeBranchesPaged = facetedSearch.getOfficeBranches();
+            return ResponseEntity.ok(new FacetedPaginatedResponse<>(
+                    officeBranchesPaged.getContent(),
+                    officeBranchesPaged.getSize(),
+                    officeBranchesPaged.isLast(),
+                    officeBranchesPaged.getTotalPages(),
+                    currentPage(officeBranchesPaged),
+                    facetedSearch.getFacets()
+            ));
+        }
         Page<OfficeBranchResponse> officeBranchesPaged = officeBranchSearcher.search(pageable, searchCriteria);
         var response = new PaginatedResponse<>(
                 officeBranchesPaged.getContent(),
                 officeBranchesPaged.getSize(),
                 officeBranchesPaged.isLast(),
                 officeBranchesPaged.getTotalPages(),
-                officeBranchesPaged.getTotalPages() == 0 ? 0 : officeBranchesPaged.getNumber() + 1
+                currentPage(officeBranchesPaged)
         );
         return ResponseEntity.ok(response);
     }
@@ -22,6 +22,7 @@ import backoffice.domain.office_inactivity.InactivityId;
 import backoffice.domain.service.ServiceId;
 import booking.application.booking.BookingByOfficeFinder;
 import booking.application.booking.BookingCreator;
+import booking.application.booking.OfficeOccupancyNotifier;
 import booking.application.booking.BookingScheduleTimeFinder;
 import booking.application.booking.creation.BookingFromMembershipCreator;
 import booking.application.dto.booking.BookingError;
@@ -119,6 +120,7 @@ public class OfficeController extends BaseController {
     @Autowired private MembershipAcquisitionRepository membershipAcquisitionRepo;
     @Autowired private AuthUserFinder authUserFinder;
     @Autowired private OfficeRepository officeRepo;
+    @Autowired private OfficeOccupancyNotifier occupancyNotifier;
 
     @GetMapping(value = "/{id}/")
     public ResponseEntity<?> getOffice(@PathVariable String id) {
@@ -286,7 +288,7 @@ public class OfficeController extends BaseController {
     ) {
         var id = MembershipAcquisitionId.fromString(membershipAcquisitionId);
         var bookingCreationStrategy = new BookingFromMembershipCreator(bookingRepo, membershipAcquisitionRepo, id);
-        var bookingCreator = new BookingCreator(authUserFinder, officeRepo, bookingRepo, bookingCreationStrategy);
+        var bookingCreator = new BookingCreator(authUserFinder, officeRepo, bookingCreationStrategy, occupancyNotifier);
         ResponseEntity<DataResponse> membershipAcquisitionNotFound = ResponseEntity
                 .badRequest()
                 .body(invalid(
@@ -1,5 +1,6 @@
 package controller;
 
+import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.dto.office_branch.OfficeBranchInformation;
 import backoffice.application.dto.office_branch.OfficeBranchResponse;
 import backoffice.application.dto.office_holder.OfficeHolderError;
@@ -11,20 +12,25 @@ import backoffice.domain.office_branch.OfficeBranchId;
 import backoffice.domain.office_holder.OfficeHolderId;
 import controller.response.DataResponse;
 import controller.response.ErrorResponse;
+import controller.response.PaginatedResponse;
 import controller.response.SingleResponse;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import shared.application.UseCaseError;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import static backoffice.application.dto.office_holder.OfficeHolderError.OFFICE_HOLDER_FORBIDDEN;
@@ -78,6 +84,10 @@ public class OfficeHolderController extends BaseController {
     ) {
         OfficeBranchId officeBranchId = new OfficeBranchId();
         DataResponse createdBody = entityCreated(format("/api/office_branches/%s/", officeBranchId));
+        ErrorResponse invalidCoordinates = invalid(
+                "INVALID_COORDINATES",
+                "Latitude and longitude must be provided together and be in range"
+        );
 
         Function<OfficeHolderId, Either<UseCaseError, Void>> useCase =
                 id -> officeBranchCreator.create(id, officeBranchId, info);
@@ -88,21 +98,45 @@ public class OfficeHolderController extends BaseController {
                         Case($(OFFICE_HOLDER_NOT_FOUND),
                                 ResponseEntity.status(NOT_FOUND).body(notFound)),
                         Case($(OFFICE_HOLDER_FORBIDDEN),
-                                ResponseEntity.status(FORBIDDEN).body(forbidden)));
+                                ResponseEntity.status(FORBIDDEN).body(forbidden)),
+                        Case($(OfficeBranchError.OFFICE_BRANCH_INVALID_COORDINATES),
+                                ResponseEntity.badRequest().body(invalidCoordinates)));
 
         return processResponse(officeHolderId, useCase, handleSuccess, handleError);
     }
 
+    /**
+     * Office branches are answered as a plain list unless a page is asked
+     * for, so clients written before pagination keep getting all of them
+     */
     @GetMapping(value = "/{id}/office_branches/")
-    public ResponseEntity<?> getOfficeBranches(@PathVariable String id) {
-        Function<OfficeHolderId, Either<OfficeHolderError, List<OfficeBranchResponse>>> useCase =
-                officeHolderId -> officeBranchFinder.findByOfficeHolder(officeHolderId);
-        Function<List<OfficeBranchResponse>, ResponseEntity<DataResponse>> handleSuccess =
-                officeBranches -> ResponseEntity.ok(entityResponse(officeBranches));
+    public ResponseEntity<?> getOfficeBranches(
+            @PathVariable String id,
+            @RequestParam Optional<Integer> page,
+            @RequestParam Optional<Integer> size,
+            Pageable pageable
+    ) {
         Function<OfficeHolderError, ResponseEntity<DataResponse>> handleError =
                 error -> Match(error).of(
                         Case($(OFFICE_HOLDER_NOT_FOUND), ResponseEntity.status(NOT_FOUND).body(notFound))
                 );
+        if (page.isEmpty() && size.isEmpty()) {
+            Function<OfficeHolderId, Either<OfficeHolderError, List<OfficeBranchResponse>>> useCase =
+                    officeHolderId -> officeBranchFinder.findByOfficeHolder(officeHolderId);
+            Function<List<OfficeBranchResponse>, ResponseEntity<DataResponse>> handleSuccess =
+                    officeBranches -> ResponseEntity.ok(entityResponse(officeBranches));
+            return processResponse(id, useCase, handleSuccess, handleError);
+        }
+        Function<OfficeHolderId, Either<OfficeHolderError, Page<OfficeBranchResponse>>> useCase =
+                officeHolderId -> officeBranchFinder.findByOfficeHolder(officeHolderId, pageable);
+        Function<Page<OfficeBranchResponse>, ResponseEntity<DataResponse>> handleSuccess =
+                officeBranches -> ResponseEntity.ok(new PaginatedResponse<>(
+                        officeBranches.getContent(),
+                        officeBranches.getSize(),
+                        officeBranches.isLast(),
+                        officeBranches.getTotalPages(),
+                        officeBranches.getTotalPages() == 0 ? 0 : officeBranches.getNumber() + 1
+                ));
         return processResponse(id, useCase, handleSuccess, handleError);
     }
 
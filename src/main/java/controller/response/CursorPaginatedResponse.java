@@ -0,0 +1,30 @@
+package controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPaginatedResponse<T> extends DataResponse {
+    private final List<T> data;
+    private final Pagination pagination;
+
+    public CursorPaginatedResponse(
+            List<T> data,
+            Integer pageSize,
+            boolean lastPage,
+            String nextCursor
+    ) {
+        this.data       = data;
+        this.pagination = Pagination.of(pageSize, lastPage, nextCursor);
+    }
+
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class Pagination {
+        Integer pageSize;
+        boolean lastPage;
+        String nextCursor;
+    }
+}
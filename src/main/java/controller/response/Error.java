@@ -26,4 +26,8 @@ public class Error {
     public static Error forbidden(String error, String message) {
         return new Error("FORBIDDEN", error, message);
     }
+
+    public static Error unavailable(String error, String message) {
+        return new Error("UNAVAILABLE", error, message);
+    }
 }
@@ -0,0 +1,23 @@
+package controller.response;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class FacetedPaginatedResponse<T, F> extends PaginatedResponse<T> {
+    private final Map<String, List<F>> facets;
+
+    public FacetedPaginatedResponse(
+            List<T> data,
+            Integer pageSize,
+            boolean lastPage,
+            Integer totalPages,
+            Integer currentPage,
+            Map<String, List<F>> facets
+    ) {
+        super(data, pageSize, lastPage, totalPages, currentPage);
+        this.facets = facets;
+    }
+}
@@ -1,7 +1,6 @@
 package news.application;
 
 import booking.domain.booking.BookingConfirmedEvent;
-import news.domain.OfficeBranch;
 import news.domain.OfficeBranchRepository;
 
 import org.springframework.context.event.EventListener;
@@ -17,15 +16,6 @@ public class OfficeBranchRenterUpdater {
 
     @EventListener
     public void addRenterEmailToOfficeBranch(BookingConfirmedEvent event) {
-        officeBranchRepo.findById(event.getOfficeBranchId())
-                .peek(officeBranch -> {
-                    officeBranch.addRenterEmail(event.getRenterEmail());
-                    officeBranchRepo.update(officeBranch);
-                })
-                .onEmpty(() -> {
-                    var officeBranch = new OfficeBranch(event.getOfficeBranchId());
-                    officeBranch.addRenterEmail(event.getRenterEmail());
-                    officeBranchRepo.store(officeBranch);
-                });
+        officeBranchRepo.addRenterEmail(event.getOfficeBranchId(), event.getRenterEmail());
     }
 }
@@ -12,7 +12,7 @@ import org.springframework.data.mongodb.core.mapping.MongoId;
 @NoArgsConstructor
 @EqualsAndHashCode
 public class OfficeBranch {
-    private static final Integer RENTER_EMAIL_SIZE = 30;
+    public static final Integer RENTER_EMAIL_SIZE = 30;
     @MongoId
     private String id;
     private List<String> lastRenterEmails;
@@ -7,5 +7,7 @@ public interface OfficeBranchRepository {
 
     void update(OfficeBranch officeBranch);
 
+    void addRenterEmail(String officeBranchId, String renterEmail);
+
     Option<OfficeBranch> findById(String officeBranchId);
 }
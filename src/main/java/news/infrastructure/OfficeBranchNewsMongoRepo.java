@@ -4,8 +4,12 @@ import io.vavr.control.Option;
 import news.domain.OfficeBranch;
 import news.domain.OfficeBranchRepository;
 
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,6 +27,25 @@ public class OfficeBranchNewsMongoRepo implements OfficeBranchRepository {
         mongoTemplate.save(officeBranch);
     }
 
+    /**
+     * Appends the email keeping only the last ones to the office branch when
+     * it does not have it yet. When nothing matched, either the email is
+     * already there or the office branch has no renters yet, so the document
+     * is created with the email only if it does not exist.
+     */
+    @Override
+    public void addRenterEmail(String officeBranchId, String renterEmail) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId).and("lastRenterEmails").ne(renterEmail));
+        var append = new Update()
+                .push("lastRenterEmails")
+                .slice(-OfficeBranch.RENTER_EMAIL_SIZE)
+                .each(renterEmail);
+        if (mongoTemplate.updateFirst(query, append, OfficeBranch.class).getMatchedCount() > 0)
+            return;
+        var create = new Update().setOnInsert("lastRenterEmails", List.of(renterEmail));
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(officeBranchId)), create, OfficeBranch.class);
+    }
+
     @Override
     public Option<OfficeBranch> findById(String officeBranchId) {
         return Option.of(mongoTemplate.findById(officeBranchId, OfficeBranch.class));
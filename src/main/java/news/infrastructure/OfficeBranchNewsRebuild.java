@@ -0,0 +1,81 @@
+package news.infrastructure;
+
+import io.vavr.control.Option;
+import news.domain.OfficeBranch;
+import shared.infrastructure.rebuild.JPAProjectionRebuild;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import static java.lang.String.format;
+
+/**
+ * Rebuilds the last renters of each office branch from the confirmed bookings
+ * of the booking context, replaying them in the order they were confirmed
+ */
+@Component
+public class OfficeBranchNewsRebuild extends JPAProjectionRebuild {
+    private static final String OFFICE_BRANCHES = "select distinct o.officeBranchId as id "
+            + "from Booking b join b.office o join b.paymentInformation p "
+            + "%s order by o.officeBranchId";
+    private static final String RENTERS = "select o.officeBranchId as officeBranchId, b.renterEmail as renterEmail "
+            + "from Booking b join b.office o join b.paymentInformation p "
+            + "where o.officeBranchId in :ids order by b.confirmationDate, p.id";
+
+    private final MongoTemplate mongoTemplate;
+
+    public OfficeBranchNewsRebuild(
+            @Qualifier("bookingEntityManagerFactory") EntityManagerFactory bookingEntityManagerFactory,
+            MongoTemplate mongoTemplate
+    ) {
+        super(bookingEntityManagerFactory);
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public String projection() { return "news"; }
+
+    @Override
+    public String collection() { return mongoTemplate.getCollectionName(OfficeBranch.class); }
+
+    @Override
+    public List<String> eventSources() { return List.of("booking"); }
+
+    @Override
+    public long count() {
+        return read(entityManager -> entityManager
+                .createQuery(
+                        "select count(distinct o.officeBranchId) from Booking b join b.office o "
+                                + "join b.paymentInformation p",
+                        Long.class
+                )
+                .getSingleResult());
+    }
+
+    @Override
+    public List<Tuple> nextChunk(Option<Tuple> last, int size) {
+        var after = last.map(row -> row.get("id"));
+        return chunk(format(OFFICE_BRANCHES, after.isDefined() ? "where o.officeBranchId > :after" : ""), after, size);
+    }
+
+    @Override
+    public List<OfficeBranch> transform(List<Tuple> chunk) {
+        var ids = chunk.stream().map(row -> row.get("id", String.class)).collect(Collectors.toList());
+        var renters = read(entityManager -> entityManager
+                .createQuery(RENTERS, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList());
+        var officeBranches = ids
+                .stream()
+                .collect(Collectors.toMap(id -> id, OfficeBranch::new));
+        renters.forEach(renter -> officeBranches
+                .get(renter.get("officeBranchId", String.class))
+                .addRenterEmail(renter.get("renterEmail", String.class)));
+        return List.copyOf(officeBranches.values());
+    }
+}
@@ -0,0 +1,31 @@
+package office_branch_detail.application;
+
+import backoffice.domain.office_branch.OfficeBranchCreatedEvent;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OfficeBranchDetailCreator {
+    private final OfficeBranchDetailRepository officeBranchDetailRepo;
+
+    public OfficeBranchDetailCreator(OfficeBranchDetailRepository officeBranchDetailRepo) {
+        this.officeBranchDetailRepo = officeBranchDetailRepo;
+    }
+
+    @EventListener
+    public void createOfficeBranchDetail(OfficeBranchCreatedEvent event) {
+        var officeBranchDetail = OfficeBranchDetail.create(
+                event.getId(),
+                event.getName(),
+                event.getPhone(),
+                event.getProvince(),
+                event.getCity(),
+                event.getStreet(),
+                event.getImageUrls()
+        );
+        officeBranchDetailRepo.store(officeBranchDetail);
+    }
+}
@@ -0,0 +1,21 @@
+package office_branch_detail.application;
+
+import backoffice.domain.office_branch.OfficeBranchDeletedEvent;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OfficeBranchDetailDeleter {
+    private final OfficeBranchDetailRepository officeBranchDetailRepo;
+
+    public OfficeBranchDetailDeleter(OfficeBranchDetailRepository officeBranchDetailRepo) {
+        this.officeBranchDetailRepo = officeBranchDetailRepo;
+    }
+
+    @EventListener
+    public void deleteOfficeBranchDetail(OfficeBranchDeletedEvent event) {
+        officeBranchDetailRepo.delete(event.getOfficeBranchId());
+    }
+}
@@ -0,0 +1,23 @@
+package office_branch_detail.application;
+
+import io.vavr.control.Option;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public class OfficeBranchDetailFinder {
+    private final OfficeBranchDetailRepository officeBranchDetailRepo;
+
+    public OfficeBranchDetailFinder(OfficeBranchDetailRepository officeBranchDetailRepo) {
+        this.officeBranchDetailRepo = officeBranchDetailRepo;
+    }
+
+    public Option<OfficeBranchDetailResponse> find(String officeBranchId) {
+        return officeBranchDetailRepo
+                .findById(officeBranchId)
+                .map(OfficeBranchDetail::toResponse);
+    }
+}
@@ -0,0 +1,191 @@
+package office_branch_detail.application;
+
+import backoffice.domain.equipment.EquipmentCreatedEvent;
+import backoffice.domain.membership.MembershipCreatedEvent;
+import backoffice.domain.membership.MembershipDeletedEvent;
+import backoffice.domain.membership.MembershipUpdatedEvent;
+import backoffice.domain.office.OfficeCreatedEvent;
+import backoffice.domain.office.OfficeDeletedEvent;
+import backoffice.domain.office.OfficeEquipmentsUpdatedEvent;
+import backoffice.domain.office.OfficeServicesUpdatedEvent;
+import backoffice.domain.office.OfficeUpdatedEvent;
+import backoffice.domain.office.OfficesCreatedEvent;
+import backoffice.domain.office_branch.OfficeBranchUpdatedEvent;
+import backoffice.domain.service.ServiceCreatedEvent;
+import io.vavr.control.Try;
+import office_branch_detail.domain.Amenity;
+import office_branch_detail.domain.Membership;
+import office_branch_detail.domain.Office;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+import office_branch_detail.domain.OfficeReview;
+import review.domain.office.OfficeReviewUpdatedEvent;
+import shared.domain.ChangeCoalescer;
+import shared.domain.DomainEvent;
+import shared.domain.ProjectionWriter;
+
+import java.util.function.UnaryOperator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OfficeBranchDetailUpdater {
+    private final ProjectionWriter<OfficeBranchDetail> officeBranchDetailWriter;
+
+    public OfficeBranchDetailUpdater(
+            OfficeBranchDetailRepository officeBranchDetailRepo,
+            ChangeCoalescer              changeCoalescer
+    ) {
+        this.officeBranchDetailWriter = changeCoalescer.writer(
+                "office_branch_detail",
+                officeBranchDetailRepo::findById,
+                officeBranchDetail -> Try.run(() -> officeBranchDetailRepo.update(officeBranchDetail))
+        );
+    }
+
+    private void update(DomainEvent event, String officeBranchId, UnaryOperator<OfficeBranchDetail> change) {
+        officeBranchDetailWriter.update(event, officeBranchId, change);
+    }
+
+    @EventListener
+    public void updateOfficeBranch(OfficeBranchUpdatedEvent event) {
+        update(event, event.getId(), officeBranchDetail -> officeBranchDetail.update(
+                event.getName(),
+                event.getPhone(),
+                event.getProvince(),
+                event.getCity(),
+                event.getStreet(),
+                event.getImageUrls()
+        ));
+    }
+
+    private Office toOffice(OfficeCreatedEvent event) {
+        return Office.create(
+                event.getId(),
+                event.getName(),
+                event.getPrivacy(),
+                event.getPrice(),
+                event.getCapacity(),
+                event.getTablesQuantity(),
+                event.getCapacityPerTable(),
+                event.getDescription(),
+                event.getImageUrl()
+        );
+    }
+
+    @EventListener
+    public void addOffice(OfficeCreatedEvent event) {
+        var office = toOffice(event);
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.addOffice(office));
+    }
+
+    @EventListener
+    public void addOffices(OfficesCreatedEvent event) {
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> {
+            event.getOffices().forEach(office -> officeBranchDetail.addOffice(toOffice(office)));
+            return officeBranchDetail;
+        });
+    }
+
+    @EventListener
+    public void updateOffice(OfficeUpdatedEvent event) {
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> {
+            officeBranchDetail.offices().forEach(office -> {
+                if (office.id().equals(event.getId()))
+                    office.update(
+                            event.getName(),
+                            event.getPrivacy(),
+                            event.getPrice(),
+                            event.getCapacity(),
+                            event.getTablesQuantity(),
+                            event.getCapacityPerTable(),
+                            event.getDescription(),
+                            event.getImageUrl()
+                    );
+            });
+            return officeBranchDetail;
+        });
+    }
+
+    @EventListener
+    public void removeOffice(OfficeDeletedEvent event) {
+        update(
+                event,
+                event.getOfficeBranchId(),
+                officeBranchDetail -> officeBranchDetail.removeOffice(event.getOfficeId())
+        );
+    }
+
+    @EventListener
+    public void updateOfficeServices(OfficeServicesUpdatedEvent event) {
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> {
+            officeBranchDetail.offices().forEach(office -> {
+                if (office.id().equals(event.getOfficeId()))
+                    office.updateServices(event.getServiceIds());
+            });
+            return officeBranchDetail;
+        });
+    }
+
+    @EventListener
+    public void updateOfficeEquipments(OfficeEquipmentsUpdatedEvent event) {
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> {
+            officeBranchDetail.offices().forEach(office -> {
+                if (office.id().equals(event.getOfficeId()))
+                    office.updateEquipments(event.getEquipmentIds());
+            });
+            return officeBranchDetail;
+        });
+    }
+
+    @EventListener
+    public void addService(ServiceCreatedEvent event) {
+        var service = Amenity.create(event.getId(), event.getName(), event.getCategory());
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.addService(service));
+    }
+
+    @EventListener
+    public void addEquipment(EquipmentCreatedEvent event) {
+        var equipment = Amenity.create(event.getId(), event.getName(), event.getCategory());
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.addEquipment(equipment));
+    }
+
+    @EventListener
+    public void addMembership(MembershipCreatedEvent event) {
+        var membership = Membership.create(
+                event.getId(),
+                event.getName(),
+                event.getDescription(),
+                event.getAccessDays(),
+                event.getPricePerMonth()
+        );
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.addMembership(membership));
+    }
+
+    @EventListener
+    public void updateMembership(MembershipUpdatedEvent event) {
+        var membership = Membership.create(
+                event.getId(),
+                event.getName(),
+                event.getDescription(),
+                event.getAccessDays(),
+                event.getPricePerMonth()
+        );
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.addMembership(membership));
+    }
+
+    @EventListener
+    public void removeMembership(MembershipDeletedEvent event) {
+        update(
+                event,
+                event.getOfficeBranchId(),
+                officeBranchDetail -> officeBranchDetail.removeMembership(event.getMembershipId())
+        );
+    }
+
+    @EventListener
+    public void updateReviews(OfficeReviewUpdatedEvent event) {
+        var review = OfficeReview.create(event.getOfficeId(), event.getTotalStars(), event.getTotalVotes());
+        update(event, event.getOfficeBranchId(), officeBranchDetail -> officeBranchDetail.updateReview(review));
+    }
+}
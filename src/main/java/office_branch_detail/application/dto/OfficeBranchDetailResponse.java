@@ -0,0 +1,59 @@
+package office_branch_detail.application.dto;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Set;
+
+@Value(staticConstructor = "of")
+public class OfficeBranchDetailResponse {
+    String                   id;
+    String                   name;
+    String                   phone;
+    String                   province;
+    String                   city;
+    String                   street;
+    List<String>             images;
+    List<OfficeResponse>     offices;
+    List<AmenityResponse>    services;
+    List<AmenityResponse>    equipments;
+    List<MembershipResponse> memberships;
+    ReviewStatsResponse      reviewStats;
+
+    @Value(staticConstructor = "of")
+    public static class OfficeResponse {
+        String                id;
+        String                name;
+        String                description;
+        String                imageUrl;
+        String                privacy;
+        Integer               price;
+        Integer               capacity;
+        Integer               tablesQuantity;
+        Integer               capacityPerTable;
+        List<AmenityResponse> services;
+        List<AmenityResponse> equipments;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class AmenityResponse {
+        String id;
+        String name;
+        String category;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class MembershipResponse {
+        String      id;
+        String      name;
+        String      description;
+        Set<String> accessDays;
+        Integer     pricePerMonth;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class ReviewStatsResponse {
+        Integer totalVotes;
+        Integer averageStars;
+    }
+}
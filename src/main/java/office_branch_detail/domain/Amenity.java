@@ -0,0 +1,22 @@
+package office_branch_detail.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+
+/**
+ * Amenity is a service or an equipment offered by the office branch
+ */
+@AllArgsConstructor(staticName = "create")
+@EqualsAndHashCode
+public class Amenity {
+    private final String id;
+    private final String name;
+    private final String category;
+
+    public String id() { return id; }
+
+    public OfficeBranchDetailResponse.AmenityResponse toResponse() {
+        return OfficeBranchDetailResponse.AmenityResponse.of(id, name, category);
+    }
+}
@@ -0,0 +1,23 @@
+package office_branch_detail.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+
+import java.util.Set;
+
+@AllArgsConstructor(staticName = "create")
+@EqualsAndHashCode
+public class Membership {
+    private final String      id;
+    private final String      name;
+    private final String      description;
+    private final Set<String> accessDays;
+    private final Integer     pricePerMonth;
+
+    public String id() { return id; }
+
+    public OfficeBranchDetailResponse.MembershipResponse toResponse() {
+        return OfficeBranchDetailResponse.MembershipResponse.of(id, name, description, accessDays, pricePerMonth);
+    }
+}
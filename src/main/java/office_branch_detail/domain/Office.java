@@ -0,0 +1,118 @@
+package office_branch_detail.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public class Office {
+    private final String       id;
+    private       String       name;
+    private       String       privacy;
+    private       Integer      price;
+    private       Integer      capacity;
+    private       Integer      tablesQuantity;
+    private       Integer      capacityPerTable;
+    private       String       description;
+    private       String       imageUrl;
+    private       List<String> serviceIds;
+    private       List<String> equipmentIds;
+
+    public static Office create(
+            String id,
+            String name,
+            String privacy,
+            Integer price,
+            Integer capacity,
+            Integer tablesQuantity,
+            Integer capacityPerTable,
+            String description,
+            String imageUrl
+    ) {
+        return new Office(
+                id,
+                name,
+                privacy,
+                price,
+                capacity,
+                tablesQuantity,
+                capacityPerTable,
+                description,
+                imageUrl,
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+    }
+
+    public String id() { return id; }
+
+    public void update(
+            String name,
+            String privacy,
+            Integer price,
+            Integer capacity,
+            Integer tablesQuantity,
+            Integer capacityPerTable,
+            String description,
+            String imageUrl
+    ) {
+        this.name             = name;
+        this.privacy          = privacy;
+        this.price            = price;
+        this.capacity         = capacity;
+        this.tablesQuantity   = tablesQuantity;
+        this.capacityPerTable = capacityPerTable;
+        this.description      = description;
+        this.imageUrl         = imageUrl;
+    }
+
+    public Office updateServices(List<String> serviceIds) {
+        this.serviceIds = new ArrayList<>(serviceIds);
+        return this;
+    }
+
+    public Office updateEquipments(List<String> equipmentIds) {
+        this.equipmentIds = new ArrayList<>(equipmentIds);
+        return this;
+    }
+
+    /**
+     * Services and equipments are kept once in the office branch, the office
+     * only knows which of them it offers. Offices projected before they were
+     * tracked offer none until the projection is rebuilt
+     */
+    private static List<OfficeBranchDetailResponse.AmenityResponse> offered(
+            List<Amenity> amenities,
+            List<String> amenityIds
+    ) {
+        if (amenityIds == null)
+            return new ArrayList<>();
+        return amenities
+                .stream()
+                .filter(amenity -> amenityIds.contains(amenity.id()))
+                .map(Amenity::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public OfficeBranchDetailResponse.OfficeResponse toResponse(List<Amenity> services, List<Amenity> equipments) {
+        return OfficeBranchDetailResponse.OfficeResponse.of(
+                id,
+                name,
+                description,
+                imageUrl,
+                privacy,
+                price,
+                capacity,
+                tablesQuantity,
+                capacityPerTable,
+                offered(services, serviceIds),
+                offered(equipments, equipmentIds)
+        );
+    }
+}
@@ -0,0 +1,176 @@
+package office_branch_detail.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+/**
+ * OfficeBranchDetail is a denormalized view of everything the office branch
+ * page shows, kept up to date from domain events so the page is served with
+ * a single read
+ */
+@Document(collection = "office_branch_details")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@EqualsAndHashCode
+public class OfficeBranchDetail {
+    @MongoId
+    private String             id;
+    private String             name;
+    private String             phone;
+    private String             province;
+    private String             city;
+    private String             street;
+    private List<String>       images;
+    private List<Office>       offices;
+    private List<Amenity>      services;
+    private List<Amenity>      equipments;
+    private List<Membership>   memberships;
+    private List<OfficeReview> reviews;
+
+    public static OfficeBranchDetail create(
+            String id,
+            String name,
+            String phone,
+            String province,
+            String city,
+            String street,
+            List<String> images
+    ) {
+        return new OfficeBranchDetail(
+                id,
+                name,
+                phone,
+                province,
+                city,
+                street,
+                images,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+    }
+
+    public String id() { return id; }
+
+    public List<Office> offices() { return offices; }
+
+    public List<Membership> memberships() { return memberships; }
+
+    public OfficeBranchDetail update(
+            String name,
+            String phone,
+            String province,
+            String city,
+            String street,
+            List<String> images
+    ) {
+        this.name     = name;
+        this.phone    = phone;
+        this.province = province;
+        this.city     = city;
+        this.street   = street;
+        this.images   = images;
+        return this;
+    }
+
+    private static <T> List<T> replace(List<T> items, T item, Function<T, String> id) {
+        List<T> replaced = items
+                .stream()
+                .filter(i -> !id.apply(i).equals(id.apply(item)))
+                .collect(Collectors.toList());
+        replaced.add(item);
+        return replaced;
+    }
+
+    private static <T> List<T> remove(List<T> items, String itemId, Function<T, String> id) {
+        return items
+                .stream()
+                .filter(i -> !id.apply(i).equals(itemId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Events may be delivered more than once so adding an office, service,
+     * equipment or membership that is already there replaces it
+     */
+    public OfficeBranchDetail addOffice(Office office) {
+        this.offices = replace(offices, office, Office::id);
+        return this;
+    }
+
+    public OfficeBranchDetail removeOffice(String officeId) {
+        this.offices = remove(offices, officeId, Office::id);
+        return this;
+    }
+
+    public OfficeBranchDetail addService(Amenity service) {
+        this.services = replace(services, service, Amenity::id);
+        return this;
+    }
+
+    public OfficeBranchDetail addEquipment(Amenity equipment) {
+        this.equipments = replace(equipments, equipment, Amenity::id);
+        return this;
+    }
+
+    public OfficeBranchDetail addMembership(Membership membership) {
+        this.memberships = replace(memberships, membership, Membership::id);
+        return this;
+    }
+
+    public OfficeBranchDetail removeMembership(String membershipId) {
+        this.memberships = remove(memberships, membershipId, Membership::id);
+        return this;
+    }
+
+    public OfficeBranchDetail updateReview(OfficeReview review) {
+        this.reviews = replace(reviews, review, OfficeReview::officeId);
+        return this;
+    }
+
+    private OfficeBranchDetailResponse.ReviewStatsResponse reviewStats() {
+        if (reviews.isEmpty())
+            return OfficeBranchDetailResponse.ReviewStatsResponse.of(0, 0);
+        var starsAverage = reviews
+                .stream()
+                .map(OfficeReview::starsAverage)
+                .reduce(0, Integer::sum) / reviews.size();
+        var totalVotes = reviews
+                .stream()
+                .map(OfficeReview::totalVotes)
+                .reduce(0, Integer::sum);
+        return OfficeBranchDetailResponse.ReviewStatsResponse.of(totalVotes, starsAverage);
+    }
+
+    public OfficeBranchDetailResponse toResponse() {
+        return OfficeBranchDetailResponse.of(
+                id,
+                name,
+                phone,
+                province,
+                city,
+                street,
+                images,
+                offices
+                        .stream()
+                        .map(office -> office.toResponse(services, equipments))
+                        .collect(Collectors.toList()),
+                services.stream().map(Amenity::toResponse).collect(Collectors.toList()),
+                equipments.stream().map(Amenity::toResponse).collect(Collectors.toList()),
+                memberships.stream().map(Membership::toResponse).collect(Collectors.toList()),
+                reviewStats()
+        );
+    }
+}
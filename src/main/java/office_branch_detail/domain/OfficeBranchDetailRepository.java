@@ -0,0 +1,14 @@
+package office_branch_detail.domain;
+
+import io.vavr.control.Option;
+
+public interface OfficeBranchDetailRepository {
+
+    void store(OfficeBranchDetail officeBranchDetail);
+
+    void update(OfficeBranchDetail officeBranchDetail);
+
+    void delete(String officeBranchId);
+
+    Option<OfficeBranchDetail> findById(String id);
+}
@@ -0,0 +1,20 @@
+package office_branch_detail.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+@AllArgsConstructor(staticName = "create")
+@EqualsAndHashCode
+public class OfficeReview {
+    private final String  officeId;
+    private final Integer totalStars;
+    private final Integer totalVotes;
+
+    public String officeId() { return officeId; }
+
+    public Integer starsAverage() {
+        return totalStars / totalVotes;
+    }
+
+    public Integer totalVotes() { return totalVotes; }
+}
@@ -0,0 +1,64 @@
+package office_branch_detail.infrastructure;
+
+import io.vavr.control.Option;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+
+import java.util.Set;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OfficeBranchDetailMongoRepo implements OfficeBranchDetailRepository {
+    /* Fields given by the office branch itself, the rest accumulate from the events after its creation */
+    private static final Set<String> BRANCH_FIELDS = Set.of("name", "phone", "province", "city", "street", "images");
+
+    private final MongoTemplate mongoTemplate;
+
+    public OfficeBranchDetailMongoRepo(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * The creation of an office branch dispatched again finds its detail stored,
+     * so only the fields of the branch are set and the ones accumulated since
+     * are only written when the detail is inserted
+     */
+    @Override
+    public void store(OfficeBranchDetail officeBranchDetail) {
+        var document = new Document();
+        mongoTemplate.getConverter().write(officeBranchDetail, document);
+        var update = new Update();
+        document.forEach((field, value) -> {
+            if (BRANCH_FIELDS.contains(field))
+                update.set(field, value);
+            else if (!field.equals("_id"))
+                update.setOnInsert(field, value);
+        });
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("id").is(officeBranchDetail.id())),
+                update,
+                OfficeBranchDetail.class
+        );
+    }
+
+    @Override
+    public void update(OfficeBranchDetail officeBranchDetail) {
+        mongoTemplate.save(officeBranchDetail);
+    }
+
+    @Override
+    public void delete(String officeBranchId) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId));
+        mongoTemplate.remove(query, OfficeBranchDetail.class);
+    }
+
+    @Override
+    public Option<OfficeBranchDetail> findById(String id) {
+        return Option.of(mongoTemplate.findById(id, OfficeBranchDetail.class));
+    }
+}
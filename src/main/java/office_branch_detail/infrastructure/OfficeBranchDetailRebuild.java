@@ -0,0 +1,244 @@
+package office_branch_detail.infrastructure;
+
+import io.vavr.control.Option;
+import office_branch_detail.domain.Amenity;
+import office_branch_detail.domain.Membership;
+import office_branch_detail.domain.Office;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeReview;
+import review.domain.review.Review;
+import shared.domain.EventBus;
+import shared.infrastructure.rebuild.JPAProjectionRebuild;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import static java.lang.String.format;
+
+/**
+ * Rebuilds the office branch details from the backoffice and the review
+ * totals of their offices from the review projection, deleted office
+ * branches, offices and memberships are left out as their deletion events
+ * remove them
+ */
+@Component
+public class OfficeBranchDetailRebuild extends JPAProjectionRebuild {
+    private static final String OFFICE_BRANCHES = "select b.id.id as id, b.name as name, b.phone as phone, "
+            + "l.province as province, l.city as city, l.street as street "
+            + "from OfficeBranch b join b.location l "
+            + "where b.deleted = false %s order by b.id.id";
+    private static final String IMAGES = "select b.id.id as officeBranchId, i.url as url "
+            + "from OfficeBranch b join b.images i "
+            + "where b.id.id in :ids order by i.id";
+    private static final String OFFICES = "select o.id.id as id, o.officeBranch.id.id as officeBranchId, "
+            + "o.name as name, o.description as description, o.image.url as imageUrl, o.privacy as privacy, "
+            + "o.price as price, o.capacity as capacity, "
+            + "o.tables.quantity as tablesQuantity, o.tables.capacityPerTable as capacityPerTable "
+            + "from Office o "
+            + "where o.officeBranch.id.id in :ids and o.deletedAt is null";
+    private static final String OFFICE_SERVICES = "select o.id.id as officeId, s.id.id as id "
+            + "from Office o join o.services s "
+            + "where o.officeBranch.id.id in :ids and o.deletedAt is null";
+    private static final String OFFICE_EQUIPMENTS = "select o.id.id as officeId, e.id.id as id "
+            + "from Office o join o.equipments e "
+            + "where o.officeBranch.id.id in :ids and o.deletedAt is null";
+    private static final String SERVICES = "select s.id.id as id, s.officeBranch.id.id as officeBranchId, "
+            + "s.name as name, s.category as category "
+            + "from Service s "
+            + "where s.officeBranch.id.id in :ids";
+    private static final String EQUIPMENTS = "select e.id.id as id, e.officeBranch.id.id as officeBranchId, "
+            + "e.name as name, e.category as category "
+            + "from Equipment e "
+            + "where e.officeBranch.id.id in :ids";
+    private static final String MEMBERSHIPS = "select m.id.id as id, m.officeBranch.id.id as officeBranchId, "
+            + "m.name as name, m.description as description, m.pricePerMonth as pricePerMonth "
+            + "from Membership m "
+            + "where m.officeBranch.id.id in :ids and m.deleted = false";
+    private static final String MEMBERSHIP_ACCESS_DAYS = "select m.id.id as membershipId, d as day "
+            + "from Membership m join m.accessDays d "
+            + "where m.officeBranch.id.id in :ids and m.deleted = false";
+
+    private final MongoTemplate mongoTemplate;
+    private final EventBus      eventBus;
+
+    public OfficeBranchDetailRebuild(
+            EntityManagerFactory backofficeEntityManagerFactory,
+            MongoTemplate        mongoTemplate,
+            EventBus             eventBus
+    ) {
+        super(backofficeEntityManagerFactory);
+        this.mongoTemplate = mongoTemplate;
+        this.eventBus      = eventBus;
+    }
+
+    @Override
+    public String projection() { return "office_branch_detail"; }
+
+    @Override
+    public String collection() { return mongoTemplate.getCollectionName(OfficeBranchDetail.class); }
+
+    @Override
+    public List<String> eventSources() { return List.of("backoffice"); }
+
+    @Override
+    public long count() {
+        return read(entityManager -> entityManager
+                .createQuery("select count(b) from OfficeBranch b where b.deleted = false", Long.class)
+                .getSingleResult());
+    }
+
+    @Override
+    public List<Tuple> nextChunk(Option<Tuple> last, int size) {
+        var after = last.map(row -> row.get("id"));
+        return chunk(format(OFFICE_BRANCHES, after.isDefined() ? "and b.id.id > :after" : ""), after, size);
+    }
+
+    private <T> Map<UUID, List<T>> groupedBy(String key, String jpql, List<UUID> ids, Function<Tuple, T> map) {
+        return read(entityManager -> entityManager
+                .createQuery(jpql, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(key, UUID.class),
+                        Collectors.mapping(map, Collectors.toList())
+                ));
+    }
+
+    private static Integer orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static String id(Tuple row) {
+        return row.get("id", UUID.class).toString();
+    }
+
+    private static Amenity toAmenity(Tuple row) {
+        return Amenity.create(id(row), row.get("name", String.class), row.get("category").toString());
+    }
+
+    private static Office toOffice(Tuple row, Map<UUID, List<String>> services, Map<UUID, List<String>> equipments) {
+        var officeId = row.get("id", UUID.class);
+        var office = Office.create(
+                officeId.toString(),
+                row.get("name", String.class),
+                row.get("privacy").toString(),
+                row.get("price", Integer.class),
+                row.get("capacity", Integer.class),
+                orZero(row.get("tablesQuantity", Integer.class)),
+                orZero(row.get("capacityPerTable", Integer.class)),
+                row.get("description", String.class),
+                row.get("imageUrl", String.class)
+        );
+        return office
+                .updateServices(services.getOrDefault(officeId, List.of()))
+                .updateEquipments(equipments.getOrDefault(officeId, List.of()));
+    }
+
+    private static Membership toMembership(Tuple row, Map<UUID, List<String>> accessDays) {
+        var membershipId = row.get("id", UUID.class);
+        return Membership.create(
+                membershipId.toString(),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                Set.copyOf(accessDays.getOrDefault(membershipId, List.of())),
+                row.get("pricePerMonth", Integer.class)
+        );
+    }
+
+    /**
+     * Reviews are not part of the backoffice, so the totals of the offices
+     * are read from the review projection, offices without votes have no
+     * review stats yet
+     */
+    private Map<String, List<OfficeReview>> reviews(List<UUID> ids) {
+        var officeBranchIds = ids.stream().map(UUID::toString).collect(Collectors.toList());
+        var query = Query.query(Criteria.where("officeBranchId").in(officeBranchIds).and("totalVotes").gt(0));
+        return mongoTemplate
+                .find(query, Document.class, mongoTemplate.getCollectionName(review.domain.office.Office.class))
+                .stream()
+                .collect(Collectors.groupingBy(
+                        office -> office.getString("officeBranchId"),
+                        Collectors.mapping(office -> OfficeReview.create(
+                                office.get("_id").toString(),
+                                office.getInteger("totalStars"),
+                                office.getInteger("totalVotes")
+                        ), Collectors.toList())
+                ));
+    }
+
+    @Override
+    public List<OfficeBranchDetail> transform(List<Tuple> chunk) {
+        var ids = chunk.stream().map(row -> row.get("id", UUID.class)).collect(Collectors.toList());
+        var images = groupedBy("officeBranchId", IMAGES, ids, row -> row.get("url", String.class));
+        var officeServices = groupedBy("officeId", OFFICE_SERVICES, ids, OfficeBranchDetailRebuild::id);
+        var officeEquipments = groupedBy("officeId", OFFICE_EQUIPMENTS, ids, OfficeBranchDetailRebuild::id);
+        var offices = groupedBy("officeBranchId", OFFICES, ids, row -> toOffice(row, officeServices, officeEquipments));
+        var services = groupedBy("officeBranchId", SERVICES, ids, OfficeBranchDetailRebuild::toAmenity);
+        var equipments = groupedBy("officeBranchId", EQUIPMENTS, ids, OfficeBranchDetailRebuild::toAmenity);
+        var accessDays = groupedBy(
+                "membershipId",
+                MEMBERSHIP_ACCESS_DAYS,
+                ids,
+                row -> row.get("day", DayOfWeek.class).name()
+        );
+        var memberships = groupedBy("officeBranchId", MEMBERSHIPS, ids, row -> toMembership(row, accessDays));
+        var reviews = reviews(ids);
+        return chunk.stream().map(row -> {
+            var id = row.get("id", UUID.class);
+            var officeBranchDetail = OfficeBranchDetail.create(
+                    id.toString(),
+                    row.get("name", String.class),
+                    row.get("phone", String.class),
+                    row.get("province", String.class),
+                    row.get("city", String.class),
+                    row.get("street", String.class),
+                    images.getOrDefault(id, List.of())
+            );
+            offices.getOrDefault(id, List.of()).forEach(officeBranchDetail::addOffice);
+            services.getOrDefault(id, List.of()).forEach(officeBranchDetail::addService);
+            equipments.getOrDefault(id, List.of()).forEach(officeBranchDetail::addEquipment);
+            memberships.getOrDefault(id, List.of()).forEach(officeBranchDetail::addMembership);
+            reviews.getOrDefault(id.toString(), List.of()).forEach(officeBranchDetail::updateReview);
+            return officeBranchDetail;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Review events are published without an outbox, so the ones of the
+     * offices reviewed since the rebuild started are published again with
+     * their current totals. Reviews keep the minute they were created at, the
+     * minute before the rebuild started is read again for the reviews stored
+     * while it started
+     */
+    @Override
+    public void catchUp(Instant started) {
+        var since = LocalDateTime.ofInstant(started, ZoneOffset.UTC).withSecond(0).withNano(0).minusMinutes(1);
+        var officeIds = mongoTemplate.findDistinct(
+                Query.query(Criteria.where("created").gte(since)),
+                "officeId",
+                Review.class,
+                String.class
+        );
+        if (officeIds.isEmpty())
+            return;
+        mongoTemplate
+                .find(Query.query(Criteria.where("id").in(officeIds)), review.domain.office.Office.class)
+                .forEach(office -> eventBus.publish(office.officeReviewUpdatedEvent()));
+    }
+}
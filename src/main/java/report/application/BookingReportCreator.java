@@ -4,8 +4,8 @@ import booking.domain.booking.BookingConfirmedEvent;
 import report.domain.Booking;
 import report.domain.BookingRepository;
 
-import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,8 +25,10 @@ public class BookingReportCreator {
                 event.getTransactionAmount(),
                 event.getPaymentDate()
         ); ;
+        /* An event dispatched again finds its booking already stored */
         bookingRepo
                 .store(booking)
-                .onFailure(error -> LoggerFactory.getLogger(getClass()).error(error.toString()));
+                .recover(DuplicateKeyException.class, e -> null)
+                .get();
     }
 }
@@ -0,0 +1,72 @@
+package report.infrastructure;
+
+import io.vavr.control.Option;
+import report.domain.Booking;
+import shared.infrastructure.rebuild.JPAProjectionRebuild;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import static java.lang.String.format;
+
+/**
+ * Rebuilds the bookings reported from the booking context, only bookings with
+ * a payment have been confirmed
+ */
+@Component
+public class BookingReportRebuild extends JPAProjectionRebuild {
+    private static final String BOOKINGS = "select b.id.id as id, o.officeBranchId as officeBranchId, "
+            + "o.id.id as officeId, p.transactionAmount as amount, b.confirmationDate as paymentDate "
+            + "from Booking b join b.office o join b.paymentInformation p "
+            + "%s order by b.id.id";
+
+    private final MongoTemplate mongoTemplate;
+
+    public BookingReportRebuild(
+            @Qualifier("bookingEntityManagerFactory") EntityManagerFactory bookingEntityManagerFactory,
+            MongoTemplate mongoTemplate
+    ) {
+        super(bookingEntityManagerFactory);
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public String projection() { return "report"; }
+
+    @Override
+    public String collection() { return mongoTemplate.getCollectionName(Booking.class); }
+
+    @Override
+    public List<String> eventSources() { return List.of("booking"); }
+
+    @Override
+    public long count() {
+        return read(entityManager -> entityManager
+                .createQuery("select count(b) from Booking b join b.paymentInformation p", Long.class)
+                .getSingleResult());
+    }
+
+    @Override
+    public List<Tuple> nextChunk(Option<Tuple> last, int size) {
+        var after = last.map(row -> row.get("id"));
+        return chunk(format(BOOKINGS, after.isDefined() ? "where b.id.id > :after" : ""), after, size);
+    }
+
+    @Override
+    public List<Booking> transform(List<Tuple> chunk) {
+        return chunk.stream().map(row -> Booking.create(
+                row.get("id", UUID.class).toString(),
+                row.get("officeBranchId", String.class),
+                row.get("officeId", UUID.class).toString(),
+                row.get("amount", Float.class),
+                row.get("paymentDate", LocalDate.class)
+        )).collect(Collectors.toList());
+    }
+}
@@ -1,8 +1,7 @@
 package review.application;
 
-import io.vavr.control.Option;
-import review.domain.office.Office;
 import review.domain.office.OfficeRepository;
+import shared.domain.EventBus;
 
 import org.springframework.stereotype.Service;
 
@@ -10,23 +9,16 @@ import org.springframework.stereotype.Service;
 public class OfficeReviewUpdater {
 
     private final OfficeRepository officeRepo;
+    private final EventBus         eventBus;
 
-    public OfficeReviewUpdater(OfficeRepository officeRepo) {
+    public OfficeReviewUpdater(OfficeRepository officeRepo, EventBus eventBus) {
         this.officeRepo = officeRepo;
+        this.eventBus   = eventBus;
     }
 
-    /**
-     *  This implementation needs optimistic locking in case
-     *  two reviews for the same office are done in the same time
-     *  When that case happens we will probably lose one review and
-     *  we the average reviews will be bad calculated
-     */
-    public void updateOfficeReviews(String officeId, String officeBranchId, Integer stars) {
+    public void updateOfficeReviews(String officeId, String officeBranchId, String reviewId, Integer stars) {
         officeRepo
-                .findById(officeId)
-                .orElse(() -> Option.of(Office.create(officeId, officeBranchId)))
-                .map(office -> office.addVote(stars))
-                .map(officeRepo::save);
-
+                .addVote(officeId, officeBranchId, reviewId, stars)
+                .onSuccess(office -> eventBus.publish(office.officeReviewUpdatedEvent()));
     }
 }
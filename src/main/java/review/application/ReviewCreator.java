@@ -57,7 +57,7 @@ public class ReviewCreator {
                 .flatMap(review -> reviewRepo
                         .store(review)
                         .onSuccess(v -> officeReviewUpdater
-                                .updateOfficeReviews(info.getOfficeId(), officeBranchId, info.getStars()))
+                                .updateOfficeReviews(info.getOfficeId(), officeBranchId, id, info.getStars()))
                         .toEither(ReviewError.DB_ERROR)
                 );
     }
@@ -34,4 +34,8 @@ public class Office {
     }
 
     public Integer totalVotes() { return totalVotes; }
+
+    public OfficeReviewUpdatedEvent officeReviewUpdatedEvent() {
+        return OfficeReviewUpdatedEvent.of(id, officeBranchId, totalStars, totalVotes);
+    }
 }
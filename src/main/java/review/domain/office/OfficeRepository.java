@@ -9,6 +9,8 @@ public interface OfficeRepository {
 
     Try<Void> save(Office office);
 
+    Try<Office> addVote(String officeId, String officeBranchId, String reviewId, Integer stars);
+
     Option<Office> findById(String id);
 
     List<Office> findByOfficeBranchId(String officeBranchId);
@@ -0,0 +1,27 @@
+package review.domain.office;
+
+import io.vavr.control.Option;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import shared.domain.DomainEvent;
+
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class OfficeReviewUpdatedEvent extends DomainEvent {
+    private final String  officeId;
+    private final String  officeBranchId;
+    private final Integer totalStars;
+    private final Integer totalVotes;
+
+    @Override
+    public String getEventName() {
+        return "OFFICE_REVIEW_UPDATED";
+    }
+
+    @Override
+    public Option<String> getAggregateKey() {
+        return Option.of(officeBranchId);
+    }
+}
@@ -7,13 +7,18 @@ import review.domain.office.OfficeRepository;
 
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class OfficeMongoRepo implements OfficeRepository {
+    static final String COUNTED_REVIEWS = "countedReviews";
+
     @Autowired
     private MongoTemplate mongoTemplate;
 
@@ -22,6 +27,33 @@ public class OfficeMongoRepo implements OfficeRepository {
         return Try.run(() -> mongoTemplate.save(office));
     }
 
+    /**
+     * Increments the totals on the server so concurrent votes of the same office
+     * are all counted, creating the office with its first vote. The office keeps
+     * the reviews it counted, a review already counted is not counted again
+     */
+    @Override
+    public Try<Office> addVote(String officeId, String officeBranchId, String reviewId, Integer stars) {
+        var query = Query.query(Criteria.where("id").is(officeId).and(COUNTED_REVIEWS).ne(reviewId));
+        var update = new Update()
+                .setOnInsert("officeBranchId", officeBranchId)
+                .inc("totalStars", stars)
+                .inc("totalVotes", 1)
+                .addToSet(COUNTED_REVIEWS, reviewId);
+        var upsert = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        var options = FindAndModifyOptions.options().returnNew(true);
+        return Try
+                .of(() -> mongoTemplate.findAndModify(query, update, upsert, Office.class))
+                // The office exists, either the review was already counted or it was created meanwhile
+                .recover(DuplicateKeyException.class, e -> mongoTemplate.findAndModify(
+                        query,
+                        update,
+                        options,
+                        Office.class
+                ))
+                .map(office -> Option.of(office).getOrElse(() -> findById(officeId).get()));
+    }
+
     @Override
     public Option<Office> findById(String id) {
         var criteria = Criteria.where("id").is(id);
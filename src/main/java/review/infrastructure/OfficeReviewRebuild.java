@@ -0,0 +1,124 @@
+package review.infrastructure;
+
+import io.vavr.control.Option;
+import review.domain.office.Office;
+import review.domain.office.OfficeRepository;
+import review.domain.review.Review;
+import shared.infrastructure.rebuild.ProjectionRebuild;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.count;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+/**
+ * Reviews are only stored in their own collection, so the review totals of
+ * the offices are rebuilt from it instead of from a MySQL context
+ */
+@Component
+public class OfficeReviewRebuild implements ProjectionRebuild<Document> {
+    private final MongoTemplate    mongoTemplate;
+    private final OfficeRepository officeRepo;
+
+    public OfficeReviewRebuild(MongoTemplate mongoTemplate, OfficeRepository officeRepo) {
+        this.mongoTemplate = mongoTemplate;
+        this.officeRepo    = officeRepo;
+    }
+
+    @Override
+    public String projection() { return "review"; }
+
+    @Override
+    public String collection() { return mongoTemplate.getCollectionName(Office.class); }
+
+    @Override
+    public long count() {
+        var aggregation = newAggregation(group("officeId"), count().as("offices"));
+        return Option.of(mongoTemplate.aggregate(aggregation, Review.class, Document.class).getUniqueMappedResult())
+                .map(result -> ((Number) result.get("offices")).longValue())
+                .getOrElse(0L);
+    }
+
+    private static GroupOperation totals() {
+        return group("officeId")
+                .first("officeBranchId").as("officeBranchId")
+                .sum("stars").as("totalStars")
+                .count().as("totalVotes")
+                .push("_id").as(OfficeMongoRepo.COUNTED_REVIEWS);
+    }
+
+    /**
+     * Offices have no key until their reviews are grouped, so every chunk
+     * groups the reviews of the offices after the last one
+     */
+    @Override
+    public List<Document> nextChunk(Option<Document> last, int size) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        last.forEach(row -> operations.add(match(Criteria.where("officeId").gt(row.getString("_id")))));
+        operations.add(totals());
+        operations.add(sort(Sort.by(Sort.Direction.ASC, "_id")));
+        operations.add(limit(size));
+        return mongoTemplate
+                .aggregate(newAggregation(operations), Review.class, Document.class)
+                .getMappedResults();
+    }
+
+    /**
+     * Offices keep the reviews they counted along their totals, so the votes
+     * added again once the rebuild is swapped in are not counted twice
+     */
+    @Override
+    public List<Document> transform(List<Document> chunk) {
+        return chunk.stream().map(row -> {
+            var office = Office.create(
+                    row.getString("_id"),
+                    row.getString("officeBranchId"),
+                    ((Number) row.get("totalStars")).intValue(),
+                    ((Number) row.get("totalVotes")).intValue()
+            );
+            var document = new Document();
+            mongoTemplate.getConverter().write(office, document);
+            document.put(OfficeMongoRepo.COUNTED_REVIEWS, row.get(OfficeMongoRepo.COUNTED_REVIEWS));
+            return document;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Votes are added to the live collection right after their review is
+     * stored, so the votes of the reviews stored since the rebuild started are
+     * added again. A vote is counted once whether the rebuild, the live write
+     * or the catch up adds it first. Reviews keep the minute they were created
+     * at, the minute before the rebuild started is read again for the reviews
+     * stored while it started
+     */
+    @Override
+    public void catchUp(Instant started) {
+        var since = LocalDateTime.ofInstant(started, ZoneOffset.UTC).withSecond(0).withNano(0).minusMinutes(1);
+        var reviews = mongoTemplate.getCollectionName(Review.class);
+        mongoTemplate
+                .find(Query.query(Criteria.where("created").gte(since)), Document.class, reviews)
+                .forEach(review -> officeRepo.addVote(
+                        review.getString("officeId"),
+                        review.getString("officeBranchId"),
+                        review.getString("_id"),
+                        ((Number) review.get("stars")).intValue()
+                ).get());
+    }
+}
@@ -1,6 +1,7 @@
 package search;
 
 import backoffice.domain.office_branch.OfficeBranchDeletedEvent;
+import search.application.SearchResultCache;
 import search.domain.OfficeBranchRepository;
 
 import org.springframework.context.event.EventListener;
@@ -9,13 +10,17 @@ import org.springframework.stereotype.Service;
 @Service
 public class OfficeBranchSearchDeleter {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeBranchSearchDeleter(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeBranchSearchDeleter(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     @EventListener
     public void delete(OfficeBranchDeletedEvent event) {
         officeBranchRepo.delete(event.getOfficeBranchId());
+        // What the office branch matched is gone with it
+        searchResultCache.invalidateAll();
     }
 }
@@ -11,9 +11,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class OfficeBranchSearchCreator {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeBranchSearchCreator(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeBranchSearchCreator(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     public void createOfficeBranch(String id, OfficeBranchInformation info) {
@@ -25,8 +27,9 @@ public class OfficeBranchSearchCreator {
                 info.getCity(),
                 info.getStreet(),
                 info.getImages()
-        );
+        ).locatedAt(info.getLatitude(), info.getLongitude());
         officeBranchRepo.store(officeBranch);
+        searchResultCache.officeBranchCreated();
     }
 
     @EventListener
@@ -36,6 +39,8 @@ public class OfficeBranchSearchCreator {
                 event.getProvince(),
                 event.getCity(),
                 event.getStreet(),
+                event.getLatitude(),
+                event.getLongitude(),
                 event.getPhone(),
                 event.getImageUrls()
         );
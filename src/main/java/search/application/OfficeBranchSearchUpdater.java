@@ -1,31 +1,40 @@
 package search.application;
 
 import backoffice.domain.office_branch.OfficeBranchUpdatedEvent;
+import search.application.SearchResultCache.Attribute;
 import search.domain.OfficeBranchRepository;
 
+import java.util.EnumSet;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeBranchSearchUpdater {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeBranchSearchUpdater(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeBranchSearchUpdater(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     @EventListener
     public void updateOfficeBranch(OfficeBranchUpdatedEvent event) {
-        officeBranchRepo
-                .findById(event.getId())
-                .map(officeBranch -> officeBranch.update(
-                        event.getName(),
-                        event.getPhone(),
-                        event.getProvince(),
-                        event.getCity(),
-                        event.getStreet(),
-                        event.getImageUrls()
-                ))
-                .peek(officeBranchRepo::update);
+        officeBranchRepo.updateInformation(
+                event.getId(),
+                event.getName(),
+                event.getPhone(),
+                event.getProvince(),
+                event.getCity(),
+                event.getStreet(),
+                event.getLatitude(),
+                event.getLongitude(),
+                event.getImageUrls()
+        );
+        // The event does not tell what changed, everything it carries could have
+        searchResultCache.officeBranchModified(
+                event.getId(),
+                EnumSet.of(Attribute.NAME, Attribute.LOCATION, Attribute.COORDINATES)
+        );
     }
 }
@@ -1,15 +1,26 @@
 package search.application;
 
+import backoffice.domain.office_branch.Location;
 import com.google.common.collect.ImmutableList;
 import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import search.application.dto.CursorSearchResponse;
+import search.application.dto.FacetedSearchResponse;
 import search.application.dto.OfficeBranchResponse;
 import search.application.dto.SearchCriteria;
 import search.domain.OfficeBranch;
 import search.domain.OfficeBranchRepository;
+import search.domain.SearchCursor;
 import search.domain.spec.Specification;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -22,16 +33,23 @@ import static io.vavr.API.Match;
 @Service
 public class OfficeBranchSearcher {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeBranchSearcher(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeBranchSearcher(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     private Specification obtainSpecification(SearchCriteria.Field field, String value) {
         return Match(field).of(
                 Case($(SearchCriteria.Field.OFFICE_BRANCH_NAME), () -> Specification.eq("name", value)),
-                Case($(SearchCriteria.Field.OFFICE_TYPE), () ->
-                        Specification.anyMatch("offices", Specification.eq("privacy", value))),
+                Case($(SearchCriteria.Field.OFFICE_BRANCH_NAME_PREFIX), () ->
+                        Specification.startsWith("name", value)),
+                Case($(SearchCriteria.Field.TEXT), () -> Specification.matchesText(value)),
+                Case($(SearchCriteria.Field.OFFICE_TYPE), () -> Specification.anyMatch(
+                        "offices",
+                        Specification.eq("privacy", value.toUpperCase(Locale.ROOT))
+                )),
                 Case($(SearchCriteria.Field.OFFICE_CAPACITY_GT), () ->
                         Specification.anyMatch("offices", Specification.gt("capacity", Integer.valueOf(value)))),
                 Case($(SearchCriteria.Field.OFFICE_CAPACITY_LT), () ->
@@ -43,10 +61,60 @@ public class OfficeBranchSearcher {
                                 Integer.valueOf(value.split("-")[0]),
                                 Integer.valueOf(value.split("-")[1])
                         )
-                ))
+                )),
+                Case($(SearchCriteria.Field.NEAR), () -> near(value))
+        );
+    }
+
+    /**
+     * Both conditions go to the offices, so they have to be fulfilled by the
+     * same office, along with any other office condition
+     */
+    private static List<Specification> available(String value) {
+        var availability = value.split(",");
+        return List.of(
+                Specification.anyMatch("offices", Specification.available(
+                        "availability",
+                        "inactivities",
+                        LocalDate.parse(availability[0]),
+                        Integer.valueOf(availability[1]),
+                        Integer.valueOf(availability[2])
+                )),
+                Specification.anyMatch("offices", Specification.gt("capacity", Integer.valueOf(availability[3])))
+        );
+    }
+
+    private static boolean availableValueIsValid(String value) {
+        if (!value.matches("[0-9]{4}-[0-9]{2}-[0-9]{2},[0-9]{1,2},[0-9]{1,2},[0-9]{1,4}"))
+            return false;
+        var availability = value.split(",");
+        var fromHour = Integer.parseInt(availability[1]);
+        var toHour = Integer.parseInt(availability[2]);
+        return Try.of(() -> LocalDate.parse(availability[0])).isSuccess()
+                && fromHour < toHour
+                && toHour <= 24
+                && Integer.parseInt(availability[3]) > 0;
+    }
+
+    private static Specification near(String value) {
+        var coordinates = value.split(",");
+        return Specification.near(
+                "location",
+                Double.valueOf(coordinates[0]),
+                Double.valueOf(coordinates[1]),
+                coordinates.length > 2 ? Option.of(Double.valueOf(coordinates[2])) : Option.none()
         );
     }
 
+    private static boolean nearValueIsValid(String value) {
+        var number = "-?[0-9]+(\\.[0-9]+)?";
+        if (!value.matches(number + "," + number + "(," + number + ")?"))
+            return false;
+        var coordinates = value.split(",");
+        return Location.coordinatesAreValid(Double.valueOf(coordinates[0]), Double.valueOf(coordinates[1]))
+                && (coordinates.length < 3 || Double.parseDouble(coordinates[2]) > 0);
+    }
+
     private boolean conditionsAreValid(List<Tuple2<SearchCriteria.Field, String>> conditions) {
         var capacityFields = conditions.stream()
                 .map(Tuple2::_1)
@@ -65,7 +133,17 @@ public class OfficeBranchSearcher {
                 .stream()
                 .filter(condition -> condition._1.equals(SearchCriteria.Field.OFFICE_CAPACITY_BETWEEN))
                 .allMatch(condition -> condition._2.matches("[0-9]+-[0-9]+"));
+        var nearValuesAreValid = conditions
+                .stream()
+                .filter(condition -> condition._1.equals(SearchCriteria.Field.NEAR))
+                .allMatch(condition -> nearValueIsValid(condition._2));
+        var availableValuesAreValid = conditions
+                .stream()
+                .filter(condition -> condition._1.equals(SearchCriteria.Field.AVAILABLE))
+                .allMatch(condition -> availableValueIsValid(condition._2));
 
+        if (!nearValuesAreValid || !availableValuesAreValid)
+            return false;
         if (capacityFields.isEmpty())
             return true;
         return capacityFields.size() == 1
@@ -73,13 +151,23 @@ public class OfficeBranchSearcher {
                 && officeCapacityBetweenCriteriaHasRightFormat;
     }
 
+    private List<Specification> obtainSpecifications(SearchCriteria searchCriteria) {
+        return searchCriteria.getConditions()
+                .stream()
+                .flatMap(condition -> condition._1.equals(SearchCriteria.Field.AVAILABLE)
+                        ? available(condition._2).stream()
+                        : Stream.of(condition.apply(this::obtainSpecification)))
+                .collect(Collectors.toList());
+    }
+
     public Page<OfficeBranchResponse> search(Pageable pageable, SearchCriteria searchCriteria) {
         if (!conditionsAreValid(searchCriteria.getConditions()))
             return Page.empty();
-        var specs = searchCriteria.getConditions()
-                .stream()
-                .map(condition -> condition.apply(this::obtainSpecification))
-                .collect(Collectors.toList());
+        return searchResultCache.page(searchCriteria, pageable, () -> searchPage(pageable, searchCriteria));
+    }
+
+    private Page<OfficeBranchResponse> searchPage(Pageable pageable, SearchCriteria searchCriteria) {
+        var specs = obtainSpecifications(searchCriteria);
         var list = officeBranchRepo
                 .search(specs, (int) pageable.getOffset(), pageable.getPageSize())
                 .stream()
@@ -88,4 +176,70 @@ public class OfficeBranchSearcher {
         return new PageImpl<>(list, pageable, officeBranchRepo.count(specs));
     }
 
+    /**
+     * Searches the office branches after the cursor given, or the first ones
+     * when it is blank, along with the cursor of the next page. Proximity and
+     * text searches are sorted by distance and relevance instead of by the
+     * cursor key, they can only be paged by offset
+     */
+    public CursorSearchResponse searchAfter(String cursor, Integer size, SearchCriteria searchCriteria) {
+        var conditions = searchCriteria.getConditions();
+        var after = Option.of(cursor).filter(token -> !token.isBlank()).map(SearchCursor::fromToken);
+        var sortedByCursor = conditions
+                .stream()
+                .noneMatch(condition -> ImmutableList.of(SearchCriteria.Field.NEAR, SearchCriteria.Field.TEXT)
+                        .contains(condition._1));
+        if (!conditionsAreValid(conditions) || !sortedByCursor || after.exists(Option::isEmpty))
+            return CursorSearchResponse.empty();
+
+        // One more than the page is read to know whether there is a next one
+        var officeBranches = officeBranchRepo.searchAfter(
+                obtainSpecifications(searchCriteria),
+                after.flatMap(token -> token),
+                size + 1
+        );
+        var page = officeBranches.stream().limit(size).collect(Collectors.toList());
+        var nextCursor = officeBranches.size() > size
+                ? Option.of(SearchCursor.after(page.get(page.size() - 1)).token())
+                : Option.<String>none();
+        return CursorSearchResponse.of(
+                page.stream().map(OfficeBranch::toResponse).collect(Collectors.toList()),
+                nextCursor
+        );
+    }
+
+    /**
+     * Searches the page along with the total and the facets of every office
+     * branch that matches, in a single round trip to the repo
+     */
+    public FacetedSearchResponse searchWithFacets(Pageable pageable, SearchCriteria searchCriteria) {
+        if (!conditionsAreValid(searchCriteria.getConditions()))
+            return FacetedSearchResponse.of(Page.empty(), Map.of());
+        return searchResultCache.facetedSearch(
+                searchCriteria,
+                pageable,
+                () -> searchPageWithFacets(pageable, searchCriteria)
+        );
+    }
+
+    private FacetedSearchResponse searchPageWithFacets(Pageable pageable, SearchCriteria searchCriteria) {
+        var facetedSearch = officeBranchRepo.searchWithFacets(
+                obtainSpecifications(searchCriteria),
+                (int) pageable.getOffset(),
+                pageable.getPageSize()
+        );
+        var list = facetedSearch.officeBranches()
+                .stream()
+                .map(OfficeBranch::toResponse)
+                .collect(Collectors.toList());
+        Map<String, List<FacetedSearchResponse.FacetCount>> facets = new LinkedHashMap<>();
+        facetedSearch.facets().forEach((facet, counts) -> facets.put(
+                facet.name().toLowerCase(Locale.ROOT),
+                counts.stream()
+                        .map(count -> FacetedSearchResponse.FacetCount.of(count._1, count._2))
+                        .collect(Collectors.toList())
+        ));
+        return FacetedSearchResponse.of(new PageImpl<>(list, pageable, facetedSearch.total()), facets);
+    }
+
 }
@@ -0,0 +1,47 @@
+package search.application;
+
+import backoffice.domain.office_inactivity.InactivityCreatedEvent;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
+import search.application.SearchResultCache.Attribute;
+import search.domain.OfficeBranchRepository;
+import search.domain.OfficeInactivity;
+
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the inactivities of the offices along their availability, searches
+ * leave out offices inactive on the day asked for
+ */
+@Service
+public class OfficeInactivitySearchUpdater {
+    private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
+
+    public OfficeInactivitySearchUpdater(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
+    }
+
+    private static OfficeInactivity toInactivity(InactivityCreatedEvent event) {
+        return OfficeInactivity.of(event.getInactivityId(), event.getDayOfWeek(), event.getSpecificInactivityDay());
+    }
+
+    @EventListener
+    public void addInactivity(InactivityCreatedEvent event) {
+        officeBranchRepo.addInactivity(event.getOfficeBranchId(), event.getOfficeId(), toInactivity(event));
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.AVAILABILITY));
+    }
+
+    @EventListener
+    public void replaceInactivities(OfficeInactivitiesReplacedEvent event) {
+        var inactivities = event.getInactivities()
+                .stream()
+                .map(OfficeInactivitySearchUpdater::toInactivity)
+                .collect(Collectors.toList());
+        officeBranchRepo.replaceInactivities(event.getOfficeBranchId(), event.getOfficeId(), inactivities);
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.AVAILABILITY));
+    }
+}
@@ -0,0 +1,33 @@
+package search.application;
+
+import booking.domain.office.OfficeOccupancyUpdatedEvent;
+import search.application.SearchResultCache.Attribute;
+import search.domain.OfficeBranchRepository;
+
+import java.util.EnumSet;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OfficeOccupancySearchUpdater {
+    private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
+
+    public OfficeOccupancySearchUpdater(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
+    }
+
+    @EventListener
+    public void updateOccupancy(OfficeOccupancyUpdatedEvent event) {
+        officeBranchRepo.updateOccupancy(
+                event.getOfficeBranchId(),
+                event.getOfficeId(),
+                event.getDate(),
+                event.getOccupiedHours(),
+                // Appended to the booking outbox with the office locked, so its sequence follows the bookings
+                event.getSequence().getOrElse(0L)
+        );
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.AVAILABILITY));
+    }
+}
@@ -1,10 +1,14 @@
 package search.application;
 
 import backoffice.domain.office.OfficeCreatedEvent;
+import backoffice.domain.office.OfficesCreatedEvent;
+import search.application.SearchResultCache.Attribute;
 import search.domain.Office;
 import search.domain.OfficeBranchRepository;
 import search.domain.OfficePrivacy;
 
+import java.util.EnumSet;
+import java.util.stream.Collectors;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
@@ -12,14 +16,15 @@ import org.springframework.stereotype.Service;
 public class OfficeSearchCreator {
 
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeSearchCreator(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeSearchCreator(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
-    @EventListener
-    public void createOffice(OfficeCreatedEvent event) {
-        var office = Office.create(
+    private Office toOffice(OfficeCreatedEvent event) {
+        return Office.create(
                 event.getId(),
                 event.getName(),
                 event.getPrice(),
@@ -28,11 +33,21 @@ public class OfficeSearchCreator {
                 event.getCapacityPerTable(),
                 OfficePrivacy.valueOf(event.getPrivacy())
         );
-        officeBranchRepo
-                .findById(event.getOfficeBranchId())
-                .peek(officeBranch -> {
-                    officeBranch.addNewOffice(office);
-                    officeBranchRepo.update(officeBranch);
-                });
+    }
+
+    @EventListener
+    public void createOffice(OfficeCreatedEvent event) {
+        officeBranchRepo.addOffice(event.getOfficeBranchId(), toOffice(event));
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.OFFICES));
+    }
+
+    @EventListener
+    public void createOffices(OfficesCreatedEvent event) {
+        var offices = event.getOffices()
+                .stream()
+                .map(this::toOffice)
+                .collect(Collectors.toList());
+        officeBranchRepo.addOffices(event.getOfficeBranchId(), offices);
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.OFFICES));
     }
 }
@@ -1,27 +1,26 @@
 package search.application;
 
 import backoffice.domain.office.OfficeDeletedEvent;
+import search.application.SearchResultCache.Attribute;
 import search.domain.OfficeBranchRepository;
 
+import java.util.EnumSet;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeSearchDeleter {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeSearchDeleter(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeSearchDeleter(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     @EventListener
     public void deleteOffice(OfficeDeletedEvent event) {
-        officeBranchRepo
-                .findById(event.getOfficeBranchId())
-                .map(officeBranch -> {
-                    officeBranch.removeOffice(event.getOfficeId());
-                    return officeBranch;
-                })
-                .peek(officeBranchRepo::update);
+        officeBranchRepo.removeOffice(event.getOfficeBranchId(), event.getOfficeId());
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.OFFICES));
     }
 }
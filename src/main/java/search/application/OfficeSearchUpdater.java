@@ -1,37 +1,37 @@
 package search.application;
 
 import backoffice.domain.office.OfficeUpdatedEvent;
+import search.application.SearchResultCache.Attribute;
+import search.domain.Office;
 import search.domain.OfficeBranchRepository;
 import search.domain.OfficePrivacy;
 
+import java.util.EnumSet;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OfficeSearchUpdater {
     private final OfficeBranchRepository officeBranchRepo;
+    private final SearchResultCache      searchResultCache;
 
-    public OfficeSearchUpdater(OfficeBranchRepository officeBranchRepo) {
-        this.officeBranchRepo = officeBranchRepo;
+    public OfficeSearchUpdater(OfficeBranchRepository officeBranchRepo, SearchResultCache searchResultCache) {
+        this.officeBranchRepo  = officeBranchRepo;
+        this.searchResultCache = searchResultCache;
     }
 
     @EventListener
     public void updateOffice(OfficeUpdatedEvent event) {
-        officeBranchRepo
-                .findById(event.getOfficeBranchId())
-                .map(officeBranch -> {
-                    officeBranch.offices().forEach(office -> {
-                        if (office.id().equals(event.getId()))
-                            office.update(
-                                    event.getName(),
-                                    event.getPrice(),
-                                    event.getCapacity(),
-                                    event.getTablesQuantity(),
-                                    event.getCapacityPerTable(),
-                                    OfficePrivacy.valueOf(event.getPrivacy())
-                            );
-                    });
-                    return officeBranch;
-                }).peek(officeBranchRepo::update);
+        var office = Office.create(
+                event.getId(),
+                event.getName(),
+                event.getPrice(),
+                event.getCapacity(),
+                event.getTablesQuantity(),
+                event.getCapacityPerTable(),
+                OfficePrivacy.valueOf(event.getPrivacy())
+        );
+        officeBranchRepo.updateOffice(event.getOfficeBranchId(), office);
+        searchResultCache.officeBranchModified(event.getOfficeBranchId(), EnumSet.of(Attribute.OFFICES));
     }
 }
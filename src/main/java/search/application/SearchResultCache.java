@@ -0,0 +1,237 @@
+package search.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import lombok.EqualsAndHashCode;
+import search.application.dto.FacetedSearchResponse;
+import search.application.dto.OfficeBranchResponse;
+import search.application.dto.SearchCriteria;
+import search.domain.SearchKey;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the results of the latest searches by their criteria and page.
+ *
+ * The search projection listeners report every office branch they modify
+ * along with what they modified, and the entries that office branch could
+ * have entered, left or changed are invalidated: the ones listing it and the
+ * ones whose criteria or facets depend on what was modified. Deletions and
+ * rebuilds do not know which searches the office branch matched, they
+ * invalidate every entry.
+ *
+ * Every instance keeps its own entries but each event is handled by only one
+ * of them, so the other instances are not told about the modification and
+ * keep serving their entries until they expire. Entries expire soon for that
+ * reason, the cache is meant to absorb bursts of the same searches.
+ */
+@Component
+public class SearchResultCache {
+    private static final long     MAXIMUM_SIZE = 1_000;
+    /* How stale the results of an instance that did not handle a modification can be */
+    private static final Duration EXPIRATION   = Duration.ofSeconds(30);
+
+    /**
+     * What a listener modified of an office branch, anything else it modifies
+     * (phone, images) only shows in the entries listing it
+     */
+    public enum Attribute {
+        NAME,
+        LOCATION,
+        COORDINATES,
+        OFFICES,
+        AVAILABILITY,
+    }
+
+    private static final Map<SearchCriteria.Field, Set<Attribute>> DEPENDENCIES = Map.of(
+            SearchCriteria.Field.OFFICE_BRANCH_NAME, EnumSet.of(Attribute.NAME),
+            SearchCriteria.Field.OFFICE_BRANCH_NAME_PREFIX, EnumSet.of(Attribute.NAME),
+            SearchCriteria.Field.TEXT, EnumSet.of(Attribute.NAME, Attribute.LOCATION, Attribute.OFFICES),
+            SearchCriteria.Field.OFFICE_TYPE, EnumSet.of(Attribute.OFFICES),
+            SearchCriteria.Field.OFFICE_CAPACITY_GT, EnumSet.of(Attribute.OFFICES),
+            SearchCriteria.Field.OFFICE_CAPACITY_LT, EnumSet.of(Attribute.OFFICES),
+            SearchCriteria.Field.OFFICE_CAPACITY_BETWEEN, EnumSet.of(Attribute.OFFICES),
+            SearchCriteria.Field.NEAR, EnumSet.of(Attribute.COORDINATES),
+            SearchCriteria.Field.AVAILABLE, EnumSet.of(Attribute.OFFICES, Attribute.AVAILABILITY)
+    );
+    /* Conditions only office branches with offices fulfill */
+    private static final Set<SearchCriteria.Field> OFFICE_CONDITIONS = EnumSet.of(
+            SearchCriteria.Field.OFFICE_TYPE,
+            SearchCriteria.Field.OFFICE_CAPACITY_GT,
+            SearchCriteria.Field.OFFICE_CAPACITY_LT,
+            SearchCriteria.Field.OFFICE_CAPACITY_BETWEEN,
+            SearchCriteria.Field.AVAILABLE
+    );
+    /* Facets count the offices and locations of every office branch that matches */
+    private static final Set<Attribute> FACET_DEPENDENCIES = EnumSet.of(Attribute.LOCATION, Attribute.OFFICES);
+    /* Results of searches without these conditions are sorted by the name key */
+    private static final Set<SearchCriteria.Field> OWN_ORDER_CONDITIONS = EnumSet.of(
+            SearchCriteria.Field.NEAR,
+            SearchCriteria.Field.TEXT
+    );
+
+    private final Cache<Key, Entry> cache;
+    /* Bumped by every invalidation, results searched across a bump are not cached */
+    private final AtomicLong        generation = new AtomicLong();
+    private final Counter           preciseInvalidations;
+    private final Counter           fullInvalidations;
+
+    public SearchResultCache(MeterRegistry meterRegistry) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRATION)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "search.results");
+        Gauge.builder("search.results.hit.ratio", cache, cached -> cached.stats().hitRate())
+                .description("Share of searches answered by the cache")
+                .register(meterRegistry);
+        this.preciseInvalidations = meterRegistry.counter("search.results.invalidations", "scope", "precise");
+        this.fullInvalidations    = meterRegistry.counter("search.results.invalidations", "scope", "full");
+    }
+
+    public Page<OfficeBranchResponse> page(
+            SearchCriteria searchCriteria,
+            Pageable pageable,
+            Supplier<Page<OfficeBranchResponse>> search
+    ) {
+        return get(Key.of(searchCriteria, pageable, false), search, Function.identity());
+    }
+
+    public FacetedSearchResponse facetedSearch(
+            SearchCriteria searchCriteria,
+            Pageable pageable,
+            Supplier<FacetedSearchResponse> search
+    ) {
+        return get(Key.of(searchCriteria, pageable, true), search, FacetedSearchResponse::getOfficeBranches);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> search, Function<T, Page<OfficeBranchResponse>> page) {
+        var cached = cache.getIfPresent(key);
+        if (cached != null)
+            return (T) cached.result;
+
+        long generationBeforeSearch = generation.get();
+        var result = search.get();
+        synchronized (this) {
+            // Do not cache something that could have been invalidated while it was being searched
+            if (generation.get() == generationBeforeSearch)
+                cache.put(key, new Entry(key, result, page.apply(result).getContent()));
+        }
+        return result;
+    }
+
+    /**
+     * A new office branch has no offices yet, it can only be found by the
+     * searches that do not ask for offices
+     */
+    public synchronized void officeBranchCreated() {
+        generation.incrementAndGet();
+        preciseInvalidations.increment();
+        cache.asMap().values().removeIf(entry -> !entry.requiresOffices);
+    }
+
+    public synchronized void officeBranchModified(String officeBranchId, Set<Attribute> modified) {
+        generation.incrementAndGet();
+        preciseInvalidations.increment();
+        cache.asMap().values().removeIf(entry -> entry.officeBranchIds.contains(officeBranchId)
+                || !Collections.disjoint(entry.dependencies, modified));
+    }
+
+    public synchronized void invalidateAll() {
+        generation.incrementAndGet();
+        fullInvalidations.increment();
+        cache.invalidateAll();
+    }
+
+    private static class Entry {
+        private final Object         result;
+        private final Set<String>    officeBranchIds;
+        private final Set<Attribute> dependencies;
+        private final boolean        requiresOffices;
+
+        Entry(Key key, Object result, Collection<OfficeBranchResponse> officeBranches) {
+            this.result          = result;
+            this.officeBranchIds = officeBranches
+                    .stream()
+                    .map(OfficeBranchResponse::getId)
+                    .collect(Collectors.toSet());
+            this.dependencies    = EnumSet.noneOf(Attribute.class);
+            key.conditions.forEach(condition -> dependencies.addAll(
+                    DEPENDENCIES.getOrDefault(condition._1, EnumSet.allOf(Attribute.class))));
+            if (key.faceted)
+                dependencies.addAll(FACET_DEPENDENCIES);
+            // A renamed office branch can move into or out of any page sorted by name
+            if (key.conditions.stream().noneMatch(condition -> OWN_ORDER_CONDITIONS.contains(condition._1)))
+                dependencies.add(Attribute.NAME);
+            this.requiresOffices = key.conditions
+                    .stream()
+                    .anyMatch(condition -> OFFICE_CONDITIONS.contains(condition._1));
+        }
+    }
+
+    /**
+     * Criteria are keyed by the form they are searched by, so the same search
+     * typed differently or with its conditions in another order shares entry
+     */
+    @EqualsAndHashCode
+    static class Key {
+        private final List<Tuple2<SearchCriteria.Field, String>> conditions;
+        private final long                                       offset;
+        private final int                                        size;
+        private final boolean                                    faceted;
+
+        private Key(List<Tuple2<SearchCriteria.Field, String>> conditions, long offset, int size, boolean faceted) {
+            this.conditions = conditions;
+            this.offset     = offset;
+            this.size       = size;
+            this.faceted    = faceted;
+        }
+
+        private static String normalized(SearchCriteria.Field field, String value) {
+            switch (field) {
+                case OFFICE_BRANCH_NAME:
+                case OFFICE_BRANCH_NAME_PREFIX:
+                case TEXT:
+                    return SearchKey.of(value);
+                case OFFICE_TYPE:
+                    return value.trim().toUpperCase(Locale.ROOT);
+                default:
+                    return value.trim();
+            }
+        }
+
+        static Key of(SearchCriteria searchCriteria, Pageable pageable, boolean faceted) {
+            var conditions = searchCriteria.getConditions()
+                    .stream()
+                    .map(condition -> Tuple.of(condition._1, normalized(condition._1, condition._2)))
+                    .sorted(Comparator
+                            .comparing((Tuple2<SearchCriteria.Field, String> condition) -> condition._1)
+                            .thenComparing(condition -> condition._2))
+                    .collect(Collectors.toList());
+            return new Key(conditions, pageable.getOffset(), pageable.getPageSize(), faceted);
+        }
+    }
+}
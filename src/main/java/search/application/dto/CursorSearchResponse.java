@@ -0,0 +1,17 @@
+package search.application.dto;
+
+import io.vavr.control.Option;
+import lombok.Value;
+
+import java.util.List;
+
+@Value(staticConstructor = "of")
+public class CursorSearchResponse {
+    List<OfficeBranchResponse> officeBranches;
+    /* Token of the next page, there is none after the last one */
+    Option<String>             nextCursor;
+
+    public static CursorSearchResponse empty() {
+        return of(List.of(), Option.none());
+    }
+}
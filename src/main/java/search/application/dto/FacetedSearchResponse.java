@@ -0,0 +1,19 @@
+package search.application.dto;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+
+@Value(staticConstructor = "of")
+public class FacetedSearchResponse {
+    Page<OfficeBranchResponse>    officeBranches;
+    Map<String, List<FacetCount>> facets;
+
+    @Value(staticConstructor = "of")
+    public static class FacetCount {
+        String value;
+        Long   count;
+    }
+}
@@ -12,6 +12,8 @@ public class OfficeBranchInformation {
     private final String       province;
     private final String       city;
     private final String       street;
+    private final Double       latitude;
+    private final Double       longitude;
     private final String       phone;
     private final List<String> images;
 }
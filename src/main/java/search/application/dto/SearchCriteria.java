@@ -15,9 +15,15 @@ public class SearchCriteria {
 
     public enum Field {
         OFFICE_BRANCH_NAME,
+        OFFICE_BRANCH_NAME_PREFIX,
+        TEXT,
         OFFICE_TYPE,
         OFFICE_CAPACITY_GT,
         OFFICE_CAPACITY_LT,
         OFFICE_CAPACITY_BETWEEN,
+        /* latitude,longitude optionally followed by ,radius in km */
+        NEAR,
+        /* date,from hour,to hour,attendees, offices free along the hours of the date for the attendees */
+        AVAILABLE,
     }
 }
@@ -0,0 +1,35 @@
+package search.domain;
+
+import io.vavr.Tuple2;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of office branches along with how many office branches match in
+ * total and how many of them have each value of every facet. Facets are
+ * counted over every office branch that matches, not only over the page
+ */
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode
+public class FacetedSearch {
+    public enum Facet {
+        PRIVACY,
+        CAPACITY,
+        PRICE,
+        PROVINCE,
+        CITY,
+    }
+
+    private final List<OfficeBranch>                     officeBranches;
+    private final Long                                   total;
+    private final Map<Facet, List<Tuple2<String, Long>>> facets;
+
+    public List<OfficeBranch> officeBranches() { return officeBranches; }
+
+    public Long total() { return total; }
+
+    public Map<Facet, List<Tuple2<String, Long>>> facets() { return facets; }
+}
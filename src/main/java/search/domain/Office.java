@@ -17,6 +17,8 @@ public class Office {
 
     public String id() { return  id; }
 
+    public String name() { return name; }
+
     public OfficeBranchResponse.OfficeResponse toResponse() {
         return OfficeBranchResponse.OfficeResponse.of(
                 id,
@@ -9,10 +9,16 @@ import search.application.dto.OfficeBranchResponse;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 
 @Document(collection = "office_branches")
+/* Serves both the names searched by their key and the listing sorted by it, see SearchCursor */
+@CompoundIndex(name = "nameKey_id", def = "{'nameKey': 1, '_id': 1}")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor
 @EqualsAndHashCode
@@ -26,6 +32,11 @@ public class OfficeBranch {
     private String       street;
     private List<Office> offices;
     private List<String> images;
+    /* Names are searched and sorted by their key, which is always derived from the name */
+    private String       nameKey;
+    /* Branches without coordinates are left out of the index and of proximity searches */
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location;
 
     public static OfficeBranch create(
             String id,
@@ -36,12 +47,46 @@ public class OfficeBranch {
             String street,
             List<String> images
     ) {
-        return new OfficeBranch(id, name, phone, province, city, street, new ArrayList<>(), images);
+        return new OfficeBranch(
+                id,
+                name,
+                phone,
+                province,
+                city,
+                street,
+                new ArrayList<>(),
+                images,
+                SearchKey.of(name),
+                null
+        );
+    }
+
+    /* GeoJSON points are written longitude first */
+    public static GeoJsonPoint point(Double latitude, Double longitude) {
+        return latitude == null || longitude == null ? null : new GeoJsonPoint(longitude, latitude);
+    }
+
+    public OfficeBranch locatedAt(Double latitude, Double longitude) {
+        this.location = point(latitude, longitude);
+        return this;
     }
 
     public String id() { return id; }
 
+    public String name() { return name; }
+
+    public String nameKey() { return nameKey; }
+
+    public String province() { return province; }
+
+    public String city() { return city; }
+
+    public String street() { return street; }
+
+    public GeoJsonPoint location() { return location; }
+
     public void addNewOffice(Office office) {
+        removeOffice(office.id());
         offices.add(office);
     }
 
@@ -81,6 +126,7 @@ public class OfficeBranch {
         this.city     = city;
         this.street   = street;
         this.images   = images;
+        this.nameKey  = SearchKey.of(name);
         return this;
     }
 }
@@ -3,6 +3,7 @@ package search.domain;
 import io.vavr.control.Option;
 import search.domain.spec.Specification;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface OfficeBranchRepository {
@@ -11,6 +12,38 @@ public interface OfficeBranchRepository {
 
     void update(OfficeBranch officeBranch);
 
+    void updateInformation(
+            String id,
+            String name,
+            String phone,
+            String province,
+            String city,
+            String street,
+            Double latitude,
+            Double longitude,
+            List<String> images
+    );
+
+    void addOffice(String officeBranchId, Office office);
+
+    void addOffices(String officeBranchId, List<Office> offices);
+
+    void updateOffice(String officeBranchId, Office office);
+
+    /**
+     * @param occupiedHours hours of the day in which the office can not be
+     *                      booked, one bit per hour starting by the least significant
+     * @param sequence      position of the occupancy among the ones of the office,
+     *                      it is not applied when a later one of the day already was
+     */
+    void updateOccupancy(String officeBranchId, String officeId, LocalDate date, Integer occupiedHours, Long sequence);
+
+    void addInactivity(String officeBranchId, String officeId, OfficeInactivity inactivity);
+
+    void replaceInactivities(String officeBranchId, String officeId, List<OfficeInactivity> inactivities);
+
+    void removeOffice(String officeBranchId, String officeId);
+
     void delete(String officeBranchId);
 
     Option<OfficeBranch> findById(String id);
@@ -19,5 +52,13 @@ public interface OfficeBranchRepository {
 
     List<OfficeBranch> search(List<Specification> spec, Integer offset, Integer limit);
 
+    /**
+     * Office branches listed by their name key and id, the ones after the
+     * cursor given or from the first one without it
+     */
+    List<OfficeBranch> searchAfter(List<Specification> specs, Option<SearchCursor> after, Integer limit);
+
     Long count(List<Specification> specs);
+
+    FacetedSearch searchWithFacets(List<Specification> specs, Integer offset, Integer limit);
 }
@@ -0,0 +1,32 @@
+package search.domain;
+
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * OfficeInactivity is a whole day an office can not be booked in, either a
+ * day of every week or a specific date, searches match it against the day
+ * asked for
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public class OfficeInactivity {
+    private final String            id;
+    private final Option<DayOfWeek> dayOfWeek;
+    private final Option<LocalDate> date;
+
+    public static OfficeInactivity of(String id, Option<DayOfWeek> dayOfWeek, Option<LocalDate> date) {
+        return new OfficeInactivity(id, dayOfWeek, date);
+    }
+
+    public String id() { return id; }
+
+    public Option<DayOfWeek> dayOfWeek() { return dayOfWeek; }
+
+    public Option<LocalDate> date() { return date; }
+}
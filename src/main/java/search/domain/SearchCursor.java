@@ -0,0 +1,57 @@
+package search.domain;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SearchCursor is the sort key of the last office branch of a page, office
+ * branches are listed by their name key and then by their id, so the next
+ * page is the one of the office branches after it.
+ *
+ * It is handed to the clients as an opaque token, each part is encoded on its
+ * own so no separator can be confused with a name.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public class SearchCursor {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String nameKey;
+    private final String id;
+
+    public static SearchCursor after(OfficeBranch officeBranch) {
+        return new SearchCursor(Option.of(officeBranch.nameKey()).getOrElse(""), officeBranch.id());
+    }
+
+    public static Option<SearchCursor> fromToken(String token) {
+        var parts = token.split("\\.", -1);
+        if (parts.length != 2)
+            return Option.none();
+        return Try.of(() -> new SearchCursor(decode(parts[0]), decode(parts[1])))
+                .filter(cursor -> !cursor.id.isEmpty())
+                .toOption();
+    }
+
+    private static String encode(String part) {
+        return ENCODER.encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String part) {
+        return new String(DECODER.decode(part), StandardCharsets.UTF_8);
+    }
+
+    public String token() {
+        return encode(nameKey) + "." + encode(id);
+    }
+
+    public String nameKey() { return nameKey; }
+
+    public String id() { return id; }
+}
@@ -0,0 +1,37 @@
+package search.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SearchKey is the form texts are matched by, lowercased, without accents and
+ * with blanks collapsed, so "Río  Cuarto" and "rio cuarto" have the same key
+ */
+public class SearchKey {
+    private static final Pattern MARKS  = Pattern.compile("\\p{M}+");
+    private static final Pattern BLANKS = Pattern.compile("\\s+");
+
+    private SearchKey() {}
+
+    public static String of(String text) {
+        if (text == null)
+            return null;
+        var decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        var withoutAccents = MARKS.matcher(decomposed).replaceAll("");
+        return BLANKS.matcher(withoutAccents).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * First key that does not start with the prefix given, keys starting with it
+     * are the ones between the prefix and it
+     */
+    public static String upperBound(String prefix) {
+        if (prefix.isEmpty())
+            return String.valueOf(Character.MAX_VALUE);
+        var last = prefix.charAt(prefix.length() - 1);
+        if (last == Character.MAX_VALUE)
+            return prefix + Character.MAX_VALUE;
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+}
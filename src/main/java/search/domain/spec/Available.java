@@ -0,0 +1,36 @@
+package search.domain.spec;
+
+import java.time.LocalDate;
+
+/**
+ * Available matches the elements free along the hours of a day given, from
+ * the first one until the last one excluded, by the days they are occupied
+ * in kept in the field and the days they are inactive in kept in the
+ * inactivities field
+ */
+public class Available extends Specification {
+    private final String    field;
+    private final String    inactivitiesField;
+    private final LocalDate date;
+    private final Integer   fromHour;
+    private final Integer   toHour;
+
+    public Available(String field, String inactivitiesField, LocalDate date, Integer fromHour, Integer toHour) {
+        this.field             = field;
+        this.inactivitiesField = inactivitiesField;
+        this.date              = date;
+        this.fromHour          = fromHour;
+        this.toHour            = toHour;
+    }
+
+    public String field() { return field; }
+
+    public String inactivitiesField() { return inactivitiesField; }
+
+    public LocalDate date() { return date; }
+
+    /**
+     * @return the hours as a bitmap, one bit per hour starting by the least significant
+     */
+    public Integer value() { return (1 << toHour) - (1 << fromHour); }
+}
@@ -0,0 +1,17 @@
+package search.domain.spec;
+
+import java.util.List;
+
+public class In extends Specification {
+    private final String       field;
+    private final List<String> values;
+
+    public In(String field, List<String> values) {
+        this.field = field;
+        this.values = values;
+    }
+
+    public String field() { return field; }
+
+    public List<String> value() { return values; }
+}
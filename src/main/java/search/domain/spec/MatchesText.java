@@ -0,0 +1,13 @@
+package search.domain.spec;
+
+public class MatchesText extends Specification {
+    private final String text;
+
+    public MatchesText(String text) {
+        this.text = text;
+    }
+
+    public String field() { return "text"; }
+
+    public String value() { return text; }
+}
@@ -0,0 +1,29 @@
+package search.domain.spec;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+
+/**
+ * Near matches the office branches located around a point, nearest first.
+ * Without a radius every located office branch matches
+ */
+public class Near extends Specification {
+    private final String         field;
+    private final Double         latitude;
+    private final Double         longitude;
+    private final Option<Double> radiusInKm;
+
+    public Near(String field, Double latitude, Double longitude, Option<Double> radiusInKm) {
+        this.field      = field;
+        this.latitude   = latitude;
+        this.longitude  = longitude;
+        this.radiusInKm = radiusInKm;
+    }
+
+    public String field() { return field; }
+
+    public Tuple2<Double, Double> value() { return Tuple.of(latitude, longitude); }
+
+    public Option<Double> radiusInKm() { return radiusInKm; }
+}
@@ -1,5 +1,10 @@
 package search.domain.spec;
 
+import io.vavr.control.Option;
+
+import java.time.LocalDate;
+import java.util.List;
+
 public abstract class Specification {
     private Integer offset = 0;
     private Integer limit = 20;
@@ -12,6 +17,36 @@ public abstract class Specification {
         return new Equal(field, value);
     }
 
+    public static Specification startsWith(String field, String prefix) {
+        return new StartsWith(field, prefix);
+    }
+
+    public static Specification in(String field, List<String> values) {
+        return new In(field, values);
+    }
+
+    /**
+     * Free text typed by users, matched against everything that describes an
+     * office branch and ranked by relevance
+     */
+    public static Specification matchesText(String text) {
+        return new MatchesText(text);
+    }
+
+    public static Specification near(String field, Double latitude, Double longitude, Option<Double> radiusInKm) {
+        return new Near(field, latitude, longitude, radiusInKm);
+    }
+
+    public static Specification available(
+            String field,
+            String inactivitiesField,
+            LocalDate date,
+            Integer fromHour,
+            Integer toHour
+    ) {
+        return new Available(field, inactivitiesField, date, fromHour, toHour);
+    }
+
     public static Specification gt(String field, Integer value) { return new GreaterThan(field, value); }
 
     public static Specification lt(String field, Integer value) { return new LessThan(field, value); }
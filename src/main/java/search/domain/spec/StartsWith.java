@@ -0,0 +1,15 @@
+package search.domain.spec;
+
+public class StartsWith extends Specification {
+    private final String field;
+    private final String prefix;
+
+    public StartsWith(String field, String prefix) {
+        this.field = field;
+        this.prefix = prefix;
+    }
+
+    public String field() { return field; }
+
+    public String value() { return prefix; }
+}
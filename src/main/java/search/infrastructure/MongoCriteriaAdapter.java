@@ -2,19 +2,32 @@ package search.infrastructure;
 
 import io.vavr.Tuple2;
 import io.vavr.control.Try;
+import search.domain.SearchKey;
+import search.domain.spec.Available;
 import search.domain.spec.Between;
 import search.domain.spec.Contains;
 import search.domain.spec.Equal;
 import search.domain.spec.GreaterThan;
+import search.domain.spec.In;
 import search.domain.spec.LessThan;
+import search.domain.spec.Near;
 import search.domain.spec.Specification;
+import search.domain.spec.StartsWith;
 
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 
 import static com.google.common.base.Predicates.instanceOf;
@@ -23,6 +36,8 @@ import static io.vavr.API.Case;
 import static io.vavr.API.Match;
 
 public class MongoCriteriaAdapter {
+    /* Fields matched by the key stored next to them instead of by their value */
+    private static final Map<String, String> SEARCH_KEYS = Map.of("name", "nameKey");
 
     public static Query obtainMongoQuery(Specification spec) {
         Criteria criteria = obtainMongoCriteria(spec);
@@ -47,6 +62,48 @@ public class MongoCriteriaAdapter {
         return Try.success(query.skip(offset).limit(limit));
     }
 
+    /**
+     * Counts can not sort by distance, so proximity is counted as the
+     * office branches within the radius, or as every located one without it
+     */
+    public static Try<Query> obtainMongoCountQuery(List<Specification> specs) {
+        if (specs.isEmpty())
+            return Try.failure(new IllegalArgumentException());
+        Query query = new Query();
+        specs.stream()
+                .filter(spec -> spec instanceof Near)
+                .map(near -> within((Near) near))
+                .forEach(query::addCriteria);
+        obtainMongoCriterias(specs
+                .stream()
+                .filter(spec -> !(spec instanceof Near))
+                .collect(Collectors.toList())
+        ).forEach(query::addCriteria);
+        return Try.success(query);
+    }
+
+    /**
+     * Aggregations can not match with $nearSphere, proximity is matched by a
+     * $geoNear stage instead, which has to be the first one and keeps the
+     * office branches nearest first
+     */
+    public static AggregationOperation obtainMongoMatchStage(List<Specification> specs) {
+        Query query = new Query();
+        obtainMongoCriterias(specs
+                .stream()
+                .filter(spec -> !(spec instanceof Near))
+                .collect(Collectors.toList())
+        ).forEach(query::addCriteria);
+        return specs.stream()
+                .filter(spec -> spec instanceof Near)
+                .findFirst()
+                .map(near -> (AggregationOperation) Aggregation.geoNear(
+                        nearQuery((Near) near).query(query),
+                        "distance"
+                ))
+                .orElse(context -> new Document("$match", context.getMappedObject(query.getQueryObject())));
+    }
+
     private static List<Criteria> obtainMongoCriterias(List<Specification> specs) {
         List<Specification> simpleSpecifications = specs.stream()
                 .filter(spec -> spec.getClass() != Contains.class)
@@ -86,13 +143,73 @@ public class MongoCriteriaAdapter {
                 .collect(Collectors.toList());
     }
 
+    private static Criteria equalTo(String field, String value) {
+        if (SEARCH_KEYS.containsKey(field))
+            return Criteria.where(SEARCH_KEYS.get(field)).is(SearchKey.of(value));
+        return Criteria.where(field).is(value);
+    }
+
+    /**
+     * Prefixes are matched as a range of keys, which unlike a regex can be
+     * served by the index of the field
+     */
+    private static Criteria startingWith(String field, String prefix) {
+        var keyField = SEARCH_KEYS.getOrDefault(field, field);
+        var key = SEARCH_KEYS.containsKey(field) ? SearchKey.of(prefix) : prefix;
+        return Criteria.where(keyField).gte(key).lt(SearchKey.upperBound(key));
+    }
+
+    /* GeoJSON points are written longitude first and their distances are in meters */
+    private static Criteria near(Near near) {
+        var point = new GeoJsonPoint(near.value()._2, near.value()._1);
+        var criteria = Criteria.where(near.field()).nearSphere(point);
+        near.radiusInKm().forEach(radius -> criteria.maxDistance(radius * 1000));
+        return criteria;
+    }
+
+    private static NearQuery nearQuery(Near near) {
+        var query = NearQuery
+                .near(new GeoJsonPoint(near.value()._2, near.value()._1))
+                .spherical(true);
+        near.radiusInKm().forEach(radius -> query.maxDistance(new Distance(radius, Metrics.KILOMETERS)));
+        return query;
+    }
+
+    private static Criteria within(Near near) {
+        var point = new Point(near.value()._2, near.value()._1);
+        return near.radiusInKm()
+                .map(radius -> Criteria
+                        .where(near.field())
+                        .withinSphere(new Circle(point, new Distance(radius, Metrics.KILOMETERS))))
+                .getOrElse(() -> Criteria.where(near.field()).exists(true));
+    }
+
+    /* Free means that none of the hours asked for is occupied the day asked for */
+    /**
+     * Inactivities hold the whole day, they are kept apart from the occupancy
+     * as recurring ones apply to days nobody booked yet
+     */
+    private static Criteria available(Available available) {
+        var date = available.date();
+        return new Criteria().andOperator(
+                Criteria.where(available.field()).not().elemMatch(Criteria
+                        .where("date").is(date.toString())
+                        .and("occupiedHours").bits().anySet(available.value())),
+                Criteria.where(available.inactivitiesField()).not().elemMatch(new Criteria().orOperator(
+                        Criteria.where("date").is(date.toString()),
+                        Criteria.where("dayOfWeek").is(date.getDayOfWeek().name())
+                ))
+        );
+    }
+
     private static Criteria obtainMongoCriteria(Specification spec) {
         return Match(spec).of(
-                Case($(instanceOf(Equal.class)), eq -> Criteria
-                        .where(eq.field()).regex(Pattern.compile(
-                                "^" + eq.value().toString() + "$",
-                                Pattern.CASE_INSENSITIVE
-                        ))),
+                Case($(instanceOf(Equal.class)), eq -> equalTo(eq.field(), eq.value().toString())),
+                Case($(instanceOf(StartsWith.class)), startsWith ->
+                        startingWith(startsWith.field(), startsWith.value().toString())),
+                Case($(instanceOf(In.class)), in -> Criteria.where(in.field()).in((List<?>) in.value())),
+                Case($(instanceOf(Near.class)), spec -> near((Near) spec)),
+                Case($(instanceOf(Available.class)), spec -> available((Available) spec)),
                 Case($(instanceOf(Contains.class)), contains -> {
                     Specification elementCondition = (Specification) contains.value();
                     return Criteria
@@ -0,0 +1,123 @@
+package search.infrastructure;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import search.domain.FacetedSearch;
+import search.domain.FacetedSearch.Facet;
+import search.domain.OfficeBranch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * OfficeBranchFacets builds the $facet stage that answers a faceted search,
+ * the page, the total and the count of every facet are computed over the
+ * same matched office branches in a single aggregation, and reads its result.
+ *
+ * Office facets count office branches with at least one office with the
+ * value, so an office branch with two private offices counts once.
+ */
+class OfficeBranchFacets {
+    static final List<Integer> CAPACITY_BOUNDARIES = List.of(5, 10, 20, 50, 100);
+    static final List<Integer> PRICE_BOUNDARIES    = List.of(500, 1000, 2500, 5000);
+    /* Provinces and cities can take many values, only the most frequent are counted */
+    static final int           LOCATION_VALUES     = 20;
+
+    /* Buckets are labeled by their inclusive bounds, 0-4, 5-9 ... 100+ */
+    static List<String> labels(List<Integer> boundaries) {
+        List<String> labels = new ArrayList<>();
+        int lower = 0;
+        for (Integer boundary : boundaries) {
+            labels.add(lower + "-" + (boundary - 1));
+            lower = boundary;
+        }
+        labels.add(lower + "+");
+        return labels;
+    }
+
+    private static Document bucket(String field, List<Integer> boundaries) {
+        var labels = labels(boundaries);
+        List<Document> branches = new ArrayList<>();
+        for (int i = 0; i < boundaries.size(); i++)
+            branches.add(new Document("case", new Document("$lt", List.of(field, boundaries.get(i))))
+                    .append("then", labels.get(i)));
+        return new Document("$switch", new Document("branches", branches)
+                .append("default", labels.get(boundaries.size())));
+    }
+
+    private static List<Document> officeFacet(Object value) {
+        return List.of(
+                new Document("$unwind", "$offices"),
+                new Document("$group", new Document("_id", new Document("officeBranch", "$_id")
+                        .append("value", value))),
+                new Document("$group", new Document("_id", "$_id.value")
+                        .append("count", new Document("$sum", 1))),
+                new Document("$sort", new Document("count", -1).append("_id", 1))
+        );
+    }
+
+    private static List<Document> locationFacet(String field) {
+        return List.of(
+                new Document("$group", new Document("_id", field).append("count", new Document("$sum", 1))),
+                new Document("$sort", new Document("count", -1).append("_id", 1)),
+                new Document("$limit", LOCATION_VALUES)
+        );
+    }
+
+    static AggregationOperation stage(Integer offset, Integer limit) {
+        return context -> new Document("$facet", new Document()
+                .append("page", List.of(new Document("$skip", offset), new Document("$limit", limit)))
+                .append("total", List.of(new Document("$count", "count")))
+                .append("privacy", officeFacet("$offices.privacy"))
+                .append("capacity", officeFacet(bucket("$offices.capacity", CAPACITY_BOUNDARIES)))
+                .append("price", officeFacet(bucket("$offices.price", PRICE_BOUNDARIES)))
+                .append("province", locationFacet("$province"))
+                .append("city", locationFacet("$city")));
+    }
+
+    private static List<Tuple2<String, Long>> counts(Document result, String facet) {
+        return result
+                .getList(facet, Document.class)
+                .stream()
+                .filter(count -> count.get("_id") != null)
+                .map(count -> Tuple.of(count.get("_id").toString(), ((Number) count.get("count")).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    /* Buckets are listed from the lowest to the highest instead of by count */
+    private static List<Tuple2<String, Long>> bucketCounts(Document result, String facet, List<Integer> boundaries) {
+        var labels = labels(boundaries);
+        return counts(result, facet)
+                .stream()
+                .sorted(Comparator.comparing(count -> labels.indexOf(count._1)))
+                .collect(Collectors.toList());
+    }
+
+    static FacetedSearch read(Document result, MongoConverter converter) {
+        var officeBranches = result
+                .getList("page", Document.class)
+                .stream()
+                .map(document -> converter.read(OfficeBranch.class, document))
+                .collect(Collectors.toList());
+        var total = result
+                .getList("total", Document.class)
+                .stream()
+                .findFirst()
+                .map(count -> ((Number) count.get("count")).longValue())
+                .orElse(0L);
+        Map<Facet, List<Tuple2<String, Long>>> facets = new EnumMap<>(Facet.class);
+        facets.put(Facet.PRIVACY, counts(result, "privacy"));
+        facets.put(Facet.CAPACITY, bucketCounts(result, "capacity", CAPACITY_BOUNDARIES));
+        facets.put(Facet.PRICE, bucketCounts(result, "price", PRICE_BOUNDARIES));
+        facets.put(Facet.PROVINCE, counts(result, "province"));
+        facets.put(Facet.CITY, counts(result, "city"));
+        return FacetedSearch.of(officeBranches, total, facets);
+    }
+}
@@ -1,19 +1,38 @@
 package search.infrastructure;
 
 import io.vavr.control.Option;
+import search.domain.FacetedSearch;
+import search.domain.Office;
 import search.domain.OfficeBranch;
 import search.domain.OfficeBranchRepository;
+import search.domain.OfficeInactivity;
+import search.domain.SearchCursor;
+import search.domain.SearchKey;
+import search.domain.spec.Near;
 import search.domain.spec.Specification;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class OfficeBranchMongoRepo implements OfficeBranchRepository {
+    /* Served by the nameKey_id index, the id breaks ties so every page is the same on every read */
+    private static final Sort ORDER = Sort.by("nameKey", "id");
 
     private final MongoTemplate mongoTemplate;
 
@@ -29,6 +48,172 @@ public class OfficeBranchMongoRepo implements OfficeBranchRepository {
     @Override
     public void update(OfficeBranch officeBranch) { mongoTemplate.save(officeBranch); }
 
+    @Override
+    public void updateInformation(
+            String id,
+            String name,
+            String phone,
+            String province,
+            String city,
+            String street,
+            Double latitude,
+            Double longitude,
+            List<String> images
+    ) {
+        var query = Query.query(Criteria.where("id").is(id));
+        var update = new Update()
+                .set("name", name)
+                .set("nameKey", SearchKey.of(name))
+                .set("phone", phone)
+                .set("province", province)
+                .set("city", city)
+                .set("street", street)
+                .set("images", images);
+        var location = OfficeBranch.point(latitude, longitude);
+        if (location == null)
+            update.unset("location");
+        else
+            update.set("location", location);
+        mongoTemplate.updateFirst(query, update, OfficeBranch.class);
+    }
+
+    private static Query withoutOffice(String officeBranchId, Office office) {
+        // Matching only branches without the office makes a redelivered event a no-op
+        return Query.query(Criteria.where("id").is(officeBranchId).and("offices.id").ne(office.id()));
+    }
+
+    @Override
+    public void addOffice(String officeBranchId, Office office) {
+        var update = new Update().push("offices", office);
+        mongoTemplate.updateFirst(withoutOffice(officeBranchId, office), update, OfficeBranch.class);
+    }
+
+    /**
+     * Each office is pushed only when the branch has none with its id, offices
+     * already kept changed since they were added so they are not compared whole.
+     * The updates are sent together in a single request
+     */
+    @Override
+    public void addOffices(String officeBranchId, List<Office> offices) {
+        if (offices.isEmpty())
+            return;
+        var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, OfficeBranch.class);
+        offices.forEach(office -> bulk.updateOne(
+                withoutOffice(officeBranchId, office),
+                new Update().push("offices", office)
+        ));
+        bulk.execute();
+    }
+
+    /**
+     * The fields of the office are set one by one instead of replacing it, so
+     * its availability and inactivities, which are not part of the office, are kept
+     */
+    @Override
+    public void updateOffice(String officeBranchId, Office office) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId).and("offices.id").is(office.id()));
+        var document = new Document();
+        var converter = mongoTemplate.getConverter();
+        converter.write(office, document);
+        var update = new Update();
+        converter.getMappingContext()
+                .getRequiredPersistentEntity(Office.class)
+                .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+                    if (!property.isIdProperty())
+                        update.set("offices.$." + property.getFieldName(), document.get(property.getFieldName()));
+                });
+        mongoTemplate.updateFirst(query, update, OfficeBranch.class);
+    }
+
+    private String officeIdField() {
+        return mongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(Office.class)
+                .getRequiredIdProperty()
+                .getFieldName();
+    }
+
+    /**
+     * Offices keep the occupancy of their days as {date, occupiedHours, sequence}
+     * in their availability, past days are removed. An occupancy is applied only
+     * when no later one of the day was, so one relayed late does not overwrite
+     * it, free days are kept until they are past for the same reason. The new
+     * occupancy of the day is added before the previous one is removed, so in
+     * between searches see the office as busy as both instead of free
+     */
+    @Override
+    public void updateOccupancy(
+            String officeBranchId,
+            String officeId,
+            LocalDate date,
+            Integer occupiedHours,
+            Long sequence
+    ) {
+        var later = Criteria.where("date").is(date.toString()).and("sequence").gt(sequence);
+        var office = Criteria.where(officeIdField()).is(officeId).and("availability").not().elemMatch(later);
+        var day = new Document("date", date.toString())
+                .append("occupiedHours", occupiedHours)
+                .append("sequence", sequence);
+        var added = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(officeBranchId).and("offices").elemMatch(office)),
+                new Update().addToSet("offices.$.availability", day),
+                OfficeBranch.class
+        );
+        if (added.getMatchedCount() == 0)
+            return;
+        var outdated = new Criteria().orOperator(
+                Criteria.where("date").is(date.toString()).and("sequence").lt(sequence),
+                Criteria.where("date").is(date.toString()).and("sequence").is(sequence)
+                        .and("occupiedHours").ne(occupiedHours),
+                // Kept before occupancies carried their sequence
+                Criteria.where("date").is(date.toString()).and("sequence").exists(false),
+                // A day behind UTC, so no timezone sees a day it is still in as past
+                Criteria.where("date").lt(LocalDate.now(Clock.systemUTC()).minusDays(1).toString())
+        );
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(officeBranchId).and("offices.id").is(officeId)),
+                new Update().pull("offices.$.availability", Query.query(outdated)),
+                OfficeBranch.class
+        );
+    }
+
+    /**
+     * Inactivities are kept as {inactivityId, dayOfWeek} or {inactivityId, date}
+     * in the office, apart from its availability as recurring ones apply to
+     * every week
+     */
+    static Document toDocument(OfficeInactivity inactivity) {
+        var document = new Document("inactivityId", inactivity.id());
+        inactivity.dayOfWeek().forEach(dayOfWeek -> document.append("dayOfWeek", dayOfWeek.name()));
+        inactivity.date().forEach(date -> document.append("date", date.toString()));
+        return document;
+    }
+
+    @Override
+    public void addInactivity(String officeBranchId, String officeId, OfficeInactivity inactivity) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId).and("offices.id").is(officeId));
+        // addToSet keeps the update idempotent when the same event is delivered again
+        var update = new Update().addToSet("offices.$.inactivities", toDocument(inactivity));
+        mongoTemplate.updateFirst(query, update, OfficeBranch.class);
+    }
+
+    @Override
+    public void replaceInactivities(String officeBranchId, String officeId, List<OfficeInactivity> inactivities) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId).and("offices.id").is(officeId));
+        var documents = inactivities
+                .stream()
+                .map(OfficeBranchMongoRepo::toDocument)
+                .collect(Collectors.toList());
+        mongoTemplate.updateFirst(query, new Update().set("offices.$.inactivities", documents), OfficeBranch.class);
+    }
+
+    @Override
+    public void removeOffice(String officeBranchId, String officeId) {
+        var query = Query.query(Criteria.where("id").is(officeBranchId));
+        var update = new Update().pull("offices", Query.query(Criteria.where("id").is(officeId)));
+        mongoTemplate.updateFirst(query, update, OfficeBranch.class);
+    }
+
     @Override
     public void delete(String officeBranchId) {
         var criteria = Criteria.where("id").is(officeBranchId);
@@ -48,24 +233,67 @@ public class OfficeBranchMongoRepo implements OfficeBranchRepository {
         return mongoTemplate.find(query, OfficeBranch.class);
     }
 
+    /* Proximity searches are already sorted, nearest first */
+    private static boolean isSortedByDistance(List<Specification> specs) {
+        return specs.stream().anyMatch(spec -> spec instanceof Near);
+    }
+
+    /**
+     * Without specifications every office branch is browsed, in the same
+     * order as any other search, which the nameKey_id index already keeps,
+     * so Mongo skips to the page through the index instead of the whole
+     * collection being read
+     */
     @Override
     public List<OfficeBranch> search(List<Specification> specs, Integer offset, Integer limit) {
-        var query = MongoCriteriaAdapter.obtainMongoQuery(specs, offset, limit);
+        var query = MongoCriteriaAdapter
+                .obtainMongoQuery(specs, offset, limit)
+                .getOrElse(() -> new Query().skip(offset).limit(limit));
+        if (!isSortedByDistance(specs))
+            query.with(ORDER);
+        return mongoTemplate.find(query, OfficeBranch.class);
+    }
 
-        return query
-                .map(q -> mongoTemplate.find(q, OfficeBranch.class))
-                .getOrElse(mongoTemplate.query(OfficeBranch.class)
-                        .stream()
-                        .skip(offset)
-                        .limit(limit)
-                        .collect(Collectors.toList()));
+    /**
+     * The office branches after the cursor are the ones with a greater name
+     * key or with the same one and a greater id. The name key bound is also
+     * given on its own so the index scan starts at the cursor instead of
+     * skipping every office branch before it
+     */
+    private static Criteria after(SearchCursor cursor) {
+        return new Criteria().andOperator(
+                Criteria.where("nameKey").gte(cursor.nameKey()),
+                new Criteria().orOperator(
+                        Criteria.where("nameKey").gt(cursor.nameKey()),
+                        Criteria.where("id").gt(cursor.id())
+                )
+        );
+    }
+
+    @Override
+    public List<OfficeBranch> searchAfter(List<Specification> specs, Option<SearchCursor> after, Integer limit) {
+        var query = MongoCriteriaAdapter.obtainMongoQuery(specs).getOrElse(Query::new);
+        after.forEach(cursor -> query.addCriteria(after(cursor)));
+        return mongoTemplate.find(query.with(ORDER).limit(limit), OfficeBranch.class);
     }
 
     @Override
     public Long count(List<Specification> specs) {
-        var query = MongoCriteriaAdapter.obtainMongoQuery(specs);
+        var query = MongoCriteriaAdapter.obtainMongoCountQuery(specs);
         return query
                 .map(q -> mongoTemplate.count(q, OfficeBranch.class))
-                .getOrElse(mongoTemplate.estimatedCount(OfficeBranch.class));
+                .getOrElse(() -> mongoTemplate.estimatedCount(OfficeBranch.class));
+    }
+
+    @Override
+    public FacetedSearch searchWithFacets(List<Specification> specs, Integer offset, Integer limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(MongoCriteriaAdapter.obtainMongoMatchStage(specs));
+        if (!isSortedByDistance(specs))
+            stages.add(context -> new Document("$sort", new Document("nameKey", 1).append("_id", 1)));
+        stages.add(OfficeBranchFacets.stage(offset, limit));
+        var aggregation = Aggregation.newAggregation(OfficeBranch.class, stages);
+        var result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+        return OfficeBranchFacets.read(result, mongoTemplate.getConverter());
     }
 }
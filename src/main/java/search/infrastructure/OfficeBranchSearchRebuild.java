@@ -0,0 +1,207 @@
+package search.infrastructure;
+
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import search.application.SearchResultCache;
+import search.domain.Office;
+import search.domain.OfficeBranch;
+import search.domain.OfficeInactivity;
+import search.domain.OfficePrivacy;
+import shared.infrastructure.rebuild.JPAProjectionRebuild;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import static java.lang.String.format;
+
+/**
+ * Rebuilds the search projection from the backoffice, deleted office branches
+ * and offices are left out as their deletion events remove them
+ */
+@Component
+public class OfficeBranchSearchRebuild extends JPAProjectionRebuild {
+    private static final String OFFICE_BRANCHES = "select b.id.id as id, b.name as name, b.phone as phone, "
+            + "l.province as province, l.city as city, l.street as street, "
+            + "l.latitude as latitude, l.longitude as longitude "
+            + "from OfficeBranch b join b.location l "
+            + "where b.deleted = false %s order by b.id.id";
+    private static final String IMAGES = "select b.id.id as officeBranchId, i.url as url "
+            + "from OfficeBranch b join b.images i "
+            + "where b.id.id in :ids order by i.id";
+    private static final String OFFICES = "select o.id.id as id, o.officeBranch.id.id as officeBranchId, "
+            + "o.name as name, o.price as price, o.capacity as capacity, o.privacy as privacy, "
+            + "o.tables.quantity as tablesQuantity, o.tables.capacityPerTable as capacityPerTable "
+            + "from Office o "
+            + "where o.officeBranch.id.id in :ids and o.deletedAt is null";
+    private static final String INACTIVITIES = "select i.id.id as id, i.office.id.id as officeId, "
+            + "i.office.officeBranch.id.id as officeBranchId, "
+            + "i.dayOfWeek as dayOfWeek, i.specificInactivityDay as date "
+            + "from Inactivity i "
+            + "where i.office.officeBranch.id.id in :ids and i.office.deletedAt is null";
+
+    private final MongoTemplate              mongoTemplate;
+    private final OfficeBranchTextSearchRepo textSearchRepo;
+    private final SearchResultCache          searchResultCache;
+
+    public OfficeBranchSearchRebuild(
+            EntityManagerFactory       backofficeEntityManagerFactory,
+            MongoTemplate              mongoTemplate,
+            OfficeBranchTextSearchRepo textSearchRepo,
+            SearchResultCache          searchResultCache
+    ) {
+        super(backofficeEntityManagerFactory);
+        this.mongoTemplate     = mongoTemplate;
+        this.textSearchRepo    = textSearchRepo;
+        this.searchResultCache = searchResultCache;
+    }
+
+    @Override
+    public String projection() { return "search"; }
+
+    @Override
+    public String collection() { return mongoTemplate.getCollectionName(OfficeBranch.class); }
+
+    /* The availability carried over from the live collection is kept up to date by the booking events */
+    @Override
+    public List<String> eventSources() { return List.of("backoffice", "booking"); }
+
+    @Override
+    public long count() {
+        return read(entityManager -> entityManager
+                .createQuery("select count(b) from OfficeBranch b where b.deleted = false", Long.class)
+                .getSingleResult());
+    }
+
+    @Override
+    public List<Tuple> nextChunk(Option<Tuple> last, int size) {
+        var after = last.map(row -> row.get("id"));
+        return chunk(format(OFFICE_BRANCHES, after.isDefined() ? "and b.id.id > :after" : ""), after, size);
+    }
+
+    private <T> Map<UUID, List<T>> byOfficeBranch(String jpql, List<UUID> ids, Function<Tuple, T> map) {
+        return read(entityManager -> entityManager
+                .createQuery(jpql, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get("officeBranchId", UUID.class),
+                        Collectors.mapping(map, Collectors.toList())
+                ));
+    }
+
+    private static Integer orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static Office toOffice(Tuple row) {
+        return Office.create(
+                row.get("id", UUID.class).toString(),
+                row.get("name", String.class),
+                row.get("price", Integer.class),
+                row.get("capacity", Integer.class),
+                orZero(row.get("tablesQuantity", Integer.class)),
+                orZero(row.get("capacityPerTable", Integer.class)),
+                OfficePrivacy.valueOf(row.get("privacy").toString())
+        );
+    }
+
+    private String officeIdField() {
+        return mongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(Office.class)
+                .getRequiredIdProperty()
+                .getFieldName();
+    }
+
+    /**
+     * Availability is projected from the bookings, which are not part of the
+     * rebuild, so the one of every office is carried over from the live collection
+     */
+    private Map<Object, Object> liveAvailability(List<UUID> ids) {
+        var officeId = officeIdField();
+        var officeBranchIds = ids.stream().map(UUID::toString).collect(Collectors.toList());
+        var query = Query.query(Criteria.where("_id").in(officeBranchIds));
+        query.fields().include("offices." + officeId).include("offices.availability");
+        Map<Object, Object> availability = new HashMap<>();
+        mongoTemplate.find(query, Document.class, collection()).forEach(officeBranch -> officeBranch
+                .getList("offices", Document.class, List.of())
+                .stream()
+                .filter(office -> office.containsKey("availability"))
+                .forEach(office -> availability.put(office.get(officeId), office.get("availability"))));
+        return availability;
+    }
+
+    private static Tuple2<String, Document> toInactivity(Tuple row) {
+        var inactivity = OfficeInactivity.of(
+                row.get("id", UUID.class).toString(),
+                Option.of(row.get("dayOfWeek", DayOfWeek.class)),
+                Option.of(row.get("date", LocalDate.class))
+        );
+        return new Tuple2<>(row.get("officeId", UUID.class).toString(), OfficeBranchMongoRepo.toDocument(inactivity));
+    }
+
+    /* Availability and inactivities are not part of the office, they are added to it as the listeners keep them */
+    private Document toDocument(
+            OfficeBranch officeBranch,
+            Map<Object, Object> availability,
+            List<Tuple2<String, Document>> inactivities
+    ) {
+        var officeId = officeIdField();
+        var document = new Document();
+        mongoTemplate.getConverter().write(officeBranch, document);
+        document.getList("offices", Document.class, List.of()).forEach(office -> {
+            Option.of(availability.get(office.get(officeId))).forEach(days -> office.put("availability", days));
+            var officeInactivities = inactivities
+                    .stream()
+                    .filter(inactivity -> inactivity._1.equals(office.get(officeId)))
+                    .map(Tuple2::_2)
+                    .collect(Collectors.toList());
+            if (!officeInactivities.isEmpty())
+                office.put("inactivities", officeInactivities);
+        });
+        return document;
+    }
+
+    @Override
+    public List<Document> transform(List<Tuple> chunk) {
+        var ids = chunk.stream().map(row -> row.get("id", UUID.class)).collect(Collectors.toList());
+        var images = byOfficeBranch(IMAGES, ids, row -> row.get("url", String.class));
+        var offices = byOfficeBranch(OFFICES, ids, OfficeBranchSearchRebuild::toOffice);
+        var inactivities = byOfficeBranch(INACTIVITIES, ids, OfficeBranchSearchRebuild::toInactivity);
+        var availability = liveAvailability(ids);
+        return chunk.stream().map(row -> {
+            var id = row.get("id", UUID.class);
+            var officeBranch = OfficeBranch.create(
+                    id.toString(),
+                    row.get("name", String.class),
+                    row.get("phone", String.class),
+                    row.get("province", String.class),
+                    row.get("city", String.class),
+                    row.get("street", String.class),
+                    images.getOrDefault(id, List.of())
+            ).locatedAt(row.get("latitude", Double.class), row.get("longitude", Double.class));
+            offices.getOrDefault(id, List.of()).forEach(officeBranch::addNewOffice);
+            return toDocument(officeBranch, availability, inactivities.getOrDefault(id, List.of()));
+        }).collect(Collectors.toList());
+    }
+
+    @Override
+    public void rebuilt() {
+        textSearchRepo.reindex();
+        searchResultCache.invalidateAll();
+    }
+}
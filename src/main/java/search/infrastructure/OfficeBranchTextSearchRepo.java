@@ -0,0 +1,373 @@
+package search.infrastructure;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import search.domain.FacetedSearch;
+import search.domain.Office;
+import search.domain.OfficeBranch;
+import search.domain.OfficeBranchRepository;
+import search.domain.OfficeInactivity;
+import search.domain.SearchCursor;
+import search.domain.spec.MatchesText;
+import search.domain.spec.Specification;
+import search.infrastructure.text.InvertedIndex;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * OfficeBranchTextSearchRepo answers free text specifications with an in
+ * memory inverted index over the names, locations and office names of the
+ * office branches, everything else is served by the Mongo repo it wraps.
+ *
+ * The index is derived from the Mongo collection, every write is applied to
+ * Mongo first and the document written is reindexed, so the index is fed by
+ * the same events as the collection. It is loaded from the collection once the
+ * application is ready and whenever the projection is rebuilt.
+ *
+ * Each event is handled by the instance whose outbox relay claimed it, so every
+ * write also records the office branch it changed. Each instance periodically
+ * rereads the office branches changed since its last reload, writes of the
+ * other instances reach its index then.
+ */
+@Repository
+@Primary
+public class OfficeBranchTextSearchRepo implements OfficeBranchRepository {
+    /* Ranked hits filtered by the rest of the specifications, deeper pages are not served */
+    static final int      MAX_HITS          = 1000;
+    /* Changes are read from this long before the last reload, the clocks of the instances may drift apart */
+    static final Duration CLOCK_SKEW        = Duration.ofMinutes(1);
+    /* An index not reloaded for this long has missed changes already removed, it is loaded as a whole */
+    static final Duration CHANGES_RETENTION = Duration.ofHours(1);
+
+    private final OfficeBranchMongoRepo    officeBranchMongoRepo;
+    private final MongoTemplate            mongoTemplate;
+    private final Set<String>              writtenWhileReindexing = ConcurrentHashMap.newKeySet();
+    private final Set<String>              rebuildsLoaded         = new HashSet<>();
+    private Instant                        reloadedAt             = Instant.EPOCH;
+    private volatile boolean               reindexing             = false;
+    private volatile Option<InvertedIndex> index                  = Option.none();
+
+    public OfficeBranchTextSearchRepo(OfficeBranchMongoRepo officeBranchMongoRepo, MongoTemplate mongoTemplate) {
+        this.officeBranchMongoRepo = officeBranchMongoRepo;
+        this.mongoTemplate         = mongoTemplate;
+    }
+
+    static List<Tuple2<String, Double>> texts(OfficeBranch officeBranch) {
+        List<Tuple2<String, Double>> texts = new ArrayList<>();
+        texts.add(Tuple.of(officeBranch.name(), 3d));
+        texts.add(Tuple.of(officeBranch.city(), 1.5));
+        texts.add(Tuple.of(officeBranch.province(), 1d));
+        texts.add(Tuple.of(officeBranch.street(), 1d));
+        officeBranch.offices().forEach(office -> texts.add(Tuple.of(office.name(), 2d)));
+        return texts;
+    }
+
+    private static Instant now() {
+        return Instant.now(Clock.systemUTC());
+    }
+
+    /**
+     * Builds a new index from the collection while searches keep using the
+     * current one. Office branches written meanwhile may have been read before
+     * the write, so they are read again once the new index is in place
+     */
+    private synchronized InvertedIndex load() {
+        var startedAt = now();
+        var loaded    = new InvertedIndex();
+        writtenWhileReindexing.clear();
+        reindexing = true;
+        try (var officeBranches = mongoTemplate.stream(new Query(), OfficeBranch.class)) {
+            officeBranches.forEachRemaining(officeBranch -> loaded.put(officeBranch.id(), texts(officeBranch)));
+            index      = Option.of(loaded);
+            reloadedAt = startedAt;
+        } finally {
+            reindexing = false;
+        }
+        writtenWhileReindexing.forEach(this::reread);
+        return loaded;
+    }
+
+    /* The projection was rewritten as a whole, the other instances load it again on their next reload */
+    public synchronized InvertedIndex reindex() {
+        rebuildsLoaded.add(mongoTemplate.insert(TextIndexChange.rebuilt(now())).id());
+        return load();
+    }
+
+    /* Searches arriving before it is loaded wait for it, a failed load is retried by them or by the reload */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Try.run(this::loadedIndex)
+                .onFailure(e -> LoggerFactory.getLogger(getClass()).error("Text index could not be loaded", e));
+    }
+
+    /**
+     * Rereads the office branches any instance wrote since the last reload. The
+     * index is loaded as a whole instead when it is not loaded yet, when it
+     * missed changes already removed or when another instance rebuilt the
+     * projection
+     */
+    @Scheduled(
+            initialDelayString = "${search.text_index.reload_interval_ms:60000}",
+            fixedDelayString = "${search.text_index.reload_interval_ms:60000}"
+    )
+    public synchronized void reload() {
+        var startedAt = now();
+        mongoTemplate.remove(
+                Query.query(Criteria.where("at").lt(startedAt.minus(CHANGES_RETENTION))),
+                TextIndexChange.class
+        );
+        if (index.isEmpty() || reloadedAt.isBefore(startedAt.minus(CHANGES_RETENTION).plus(CLOCK_SKEW))) {
+            load();
+            return;
+        }
+        var changes = mongoTemplate.find(
+                Query.query(Criteria.where("at").gte(reloadedAt.minus(CLOCK_SKEW))),
+                TextIndexChange.class
+        );
+        var rebuilds = changes
+                .stream()
+                .filter(change -> change.officeBranchId().isEmpty())
+                .map(TextIndexChange::id)
+                .filter(id -> !rebuildsLoaded.contains(id))
+                .collect(Collectors.toList());
+        if (!rebuilds.isEmpty()) {
+            rebuildsLoaded.addAll(rebuilds);
+            load();
+            return;
+        }
+        changes.stream()
+                .flatMap(change -> change.officeBranchId().toJavaStream())
+                .distinct()
+                .forEach(this::reread);
+        reloadedAt = startedAt;
+    }
+
+    private InvertedIndex index() {
+        return index.getOrElse(this::loadedIndex);
+    }
+
+    private synchronized InvertedIndex loadedIndex() {
+        return index.getOrElse(this::load);
+    }
+
+    /* Before the index is loaded there is nothing to reread, loading reads the collection */
+    private void reread(String officeBranchId) {
+        index.forEach(loaded -> officeBranchMongoRepo
+                .findById(officeBranchId)
+                .peek(officeBranch -> loaded.put(officeBranchId, texts(officeBranch)))
+                .onEmpty(() -> loaded.remove(officeBranchId)));
+    }
+
+    private void written(String officeBranchId) {
+        mongoTemplate.insert(TextIndexChange.of(officeBranchId, now()));
+        if (reindexing)
+            writtenWhileReindexing.add(officeBranchId);
+    }
+
+    private void refresh(String officeBranchId) {
+        written(officeBranchId);
+        reread(officeBranchId);
+    }
+
+    private void refresh(OfficeBranch officeBranch) {
+        written(officeBranch.id());
+        index.forEach(loaded -> loaded.put(officeBranch.id(), texts(officeBranch)));
+    }
+
+    @Override
+    public void store(OfficeBranch officeBranch) {
+        officeBranchMongoRepo.store(officeBranch);
+        refresh(officeBranch);
+    }
+
+    @Override
+    public void update(OfficeBranch officeBranch) {
+        officeBranchMongoRepo.update(officeBranch);
+        refresh(officeBranch);
+    }
+
+    @Override
+    public void updateInformation(
+            String id,
+            String name,
+            String phone,
+            String province,
+            String city,
+            String street,
+            Double latitude,
+            Double longitude,
+            List<String> images
+    ) {
+        officeBranchMongoRepo.updateInformation(id, name, phone, province, city, street, latitude, longitude, images);
+        refresh(id);
+    }
+
+    @Override
+    public void addOffice(String officeBranchId, Office office) {
+        officeBranchMongoRepo.addOffice(officeBranchId, office);
+        refresh(officeBranchId);
+    }
+
+    @Override
+    public void addOffices(String officeBranchId, List<Office> offices) {
+        officeBranchMongoRepo.addOffices(officeBranchId, offices);
+        refresh(officeBranchId);
+    }
+
+    @Override
+    public void updateOffice(String officeBranchId, Office office) {
+        officeBranchMongoRepo.updateOffice(officeBranchId, office);
+        refresh(officeBranchId);
+    }
+
+    /* Occupancy is not part of any text, the index is left as it is */
+    @Override
+    public void updateOccupancy(
+            String officeBranchId,
+            String officeId,
+            LocalDate date,
+            Integer occupiedHours,
+            Long sequence
+    ) {
+        officeBranchMongoRepo.updateOccupancy(officeBranchId, officeId, date, occupiedHours, sequence);
+    }
+
+    @Override
+    public void addInactivity(String officeBranchId, String officeId, OfficeInactivity inactivity) {
+        officeBranchMongoRepo.addInactivity(officeBranchId, officeId, inactivity);
+    }
+
+    @Override
+    public void replaceInactivities(String officeBranchId, String officeId, List<OfficeInactivity> inactivities) {
+        officeBranchMongoRepo.replaceInactivities(officeBranchId, officeId, inactivities);
+    }
+
+    @Override
+    public void removeOffice(String officeBranchId, String officeId) {
+        officeBranchMongoRepo.removeOffice(officeBranchId, officeId);
+        refresh(officeBranchId);
+    }
+
+    @Override
+    public void delete(String officeBranchId) {
+        officeBranchMongoRepo.delete(officeBranchId);
+        refresh(officeBranchId);
+    }
+
+    @Override
+    public Option<OfficeBranch> findById(String id) {
+        return officeBranchMongoRepo.findById(id);
+    }
+
+    private static Option<String> text(List<Specification> specs) {
+        return Option.ofOptional(specs
+                .stream()
+                .filter(spec -> spec instanceof MatchesText)
+                .map(spec -> spec.value().toString())
+                .reduce((text, another) -> text + " " + another));
+    }
+
+    /* The text is replaced by the ids of its hits so Mongo applies the rest of the specifications */
+    private static List<Specification> withHits(List<Specification> specs, List<String> hits) {
+        List<Specification> specsWithHits = specs
+                .stream()
+                .filter(spec -> !(spec instanceof MatchesText))
+                .collect(Collectors.toList());
+        specsWithHits.add(Specification.in("id", hits));
+        return specsWithHits;
+    }
+
+    @Override
+    public List<OfficeBranch> search(Specification spec) {
+        if (spec instanceof MatchesText)
+            return search(List.of(spec), spec.offset(), spec.limit());
+        return officeBranchMongoRepo.search(spec);
+    }
+
+    private static List<OfficeBranch> ranked(
+            List<OfficeBranch> officeBranches,
+            List<String> hits,
+            Integer offset,
+            Integer limit
+    ) {
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < hits.size(); rank++)
+            ranks.put(hits.get(rank), rank);
+        return officeBranches
+                .stream()
+                .sorted(Comparator.comparing(officeBranch -> ranks.get(officeBranch.id())))
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OfficeBranch> search(List<Specification> specs, Integer offset, Integer limit) {
+        return text(specs)
+                .map(text -> {
+                    var hits = index().search(text, MAX_HITS);
+                    if (hits.isEmpty())
+                        return List.<OfficeBranch>of();
+                    var officeBranches = officeBranchMongoRepo.search(withHits(specs, hits), 0, hits.size());
+                    return ranked(officeBranches, hits, offset, limit);
+                })
+                .getOrElse(() -> officeBranchMongoRepo.search(specs, offset, limit));
+    }
+
+    /* Text hits are listed by relevance, which has no cursor, only the rest of the searches are */
+    @Override
+    public List<OfficeBranch> searchAfter(List<Specification> specs, Option<SearchCursor> after, Integer limit) {
+        return officeBranchMongoRepo.searchAfter(specs, after, limit);
+    }
+
+    @Override
+    public Long count(List<Specification> specs) {
+        return text(specs)
+                .map(text -> {
+                    var hits = index().search(text, MAX_HITS);
+                    return hits.isEmpty() ? 0L : officeBranchMongoRepo.count(withHits(specs, hits));
+                })
+                .getOrElse(() -> officeBranchMongoRepo.count(specs));
+    }
+
+    /* Facets are counted by Mongo over every hit, only the page is ranked here */
+    @Override
+    public FacetedSearch searchWithFacets(List<Specification> specs, Integer offset, Integer limit) {
+        return text(specs)
+                .map(text -> {
+                    var hits = index().search(text, MAX_HITS);
+                    // Without hits nothing matches, but $limit still has to be positive
+                    var facetedSearch = officeBranchMongoRepo
+                            .searchWithFacets(withHits(specs, hits), 0, Math.max(hits.size(), 1));
+                    return FacetedSearch.of(
+                            ranked(facetedSearch.officeBranches(), hits, offset, limit),
+                            facetedSearch.total(),
+                            facetedSearch.facets()
+                    );
+                })
+                .getOrElse(() -> officeBranchMongoRepo.searchWithFacets(specs, offset, limit));
+    }
+}
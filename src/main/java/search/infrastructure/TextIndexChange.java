@@ -0,0 +1,37 @@
+package search.infrastructure;
+
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * TextIndexChange records an office branch whose texts were written, so the
+ * text indexes of every instance reread it on their next reload. A change
+ * without an office branch is a rebuild of the whole projection
+ */
+@Document(collection = "office_branch_text_changes")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+class TextIndexChange {
+    @Id
+    private String  id;
+    private String  officeBranchId;
+    private Instant at;
+
+    static TextIndexChange of(String officeBranchId, Instant at) {
+        return new TextIndexChange(null, officeBranchId, at);
+    }
+
+    static TextIndexChange rebuilt(Instant at) {
+        return new TextIndexChange(null, null, at);
+    }
+
+    String id() { return id; }
+
+    Option<String> officeBranchId() { return Option.of(officeBranchId); }
+}
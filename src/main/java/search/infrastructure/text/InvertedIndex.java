@@ -0,0 +1,345 @@
+package search.infrastructure.text;
+
+import io.vavr.Tuple2;
+import search.domain.SearchKey;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * InvertedIndex maps the terms of weighted texts to the documents holding
+ * them. Queries match every term exactly, by prefix and with one typo, and
+ * documents are ranked with BM25 where the weight of the text a term comes
+ * from counts as its frequency.
+ *
+ * Typos are found through the terms left after deleting one of their
+ * characters, a query term and an indexed term are one edit away only if they
+ * share one of those, so candidates are looked up instead of comparing the
+ * query with the whole vocabulary.
+ *
+ * Documents are numbered when indexed and postings are kept as arrays of
+ * those numbers, so scoring a query walks arrays instead of maps.
+ */
+public class InvertedIndex {
+    private static final Pattern SEPARATORS        = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double  K1                = 1.2;
+    private static final double  B                 = 0.75;
+    private static final double  PREFIX_BOOST      = 0.8;
+    private static final double  TYPO_BOOST        = 0.6;
+    private static final int     MIN_PREFIX_LENGTH = 2;
+    private static final int     MIN_TYPO_LENGTH   = 4;
+    private static final int     MAX_EXPANSIONS    = 64;
+
+    private static class Postings {
+        private int[]    documents   = new int[4];
+        private double[] frequencies = new double[4];
+        private int      size;
+
+        void add(int document, double frequency) {
+            if (size == documents.length) {
+                documents   = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size]   = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /* Order does not matter, the last posting takes the place of the removed one */
+        void remove(int document) {
+            for (int i = 0; i < size; i++)
+                if (documents[i] == document) {
+                    size--;
+                    documents[i]   = documents[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+        }
+    }
+
+    /**
+     * Per thread accumulators of a query, sized to the documents numbered.
+     * They are left zeroed after every query so they are reused instead of
+     * allocated again
+     */
+    private static class Scores {
+        private double[] scores       = new double[0];
+        private double[] termScores   = new double[0];
+        private int[]    matchedTerms = new int[0];
+        private int[]    matched      = new int[0];
+        private int[]    termMatched  = new int[0];
+
+        Scores fitting(int capacity) {
+            if (scores.length < capacity) {
+                scores       = new double[capacity];
+                termScores   = new double[capacity];
+                matchedTerms = new int[capacity];
+                matched      = new int[capacity];
+                termMatched  = new int[capacity];
+            }
+            return this;
+        }
+    }
+
+    private final ThreadLocal<Scores>              scratch   = ThreadLocal.withInitial(Scores::new);
+    private final TreeMap<String, Postings>        postings  = new TreeMap<>();
+    /* term with one character deleted -> terms it comes from */
+    private final Map<String, Set<String>>         deletions = new HashMap<>();
+    /* document id -> term -> weighted frequency, needed to unindex documents */
+    private final Map<String, Map<String, Double>> documents = new HashMap<>();
+    private final Map<String, Integer>             numbers   = new HashMap<>();
+    private final List<String>                     ids       = new ArrayList<>();
+    private final Deque<Integer>                   released  = new ArrayDeque<>();
+    private final ReadWriteLock                    lock      = new ReentrantReadWriteLock();
+    private       double[]                         lengths   = new double[16];
+    private       double                           totalLength;
+
+    static List<String> terms(String text) {
+        if (text == null)
+            return List.of();
+        return Arrays
+                .stream(SEPARATORS.split(SearchKey.of(text)))
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> oneDeleted(String term) {
+        List<String> deleted = new ArrayList<>(term.length());
+        for (int i = 0; i < term.length(); i++)
+            deleted.add(term.substring(0, i) + term.substring(i + 1));
+        return deleted;
+    }
+
+    /**
+     * Optimal string alignment distance, an adjacent transposition counts as a
+     * single edit
+     */
+    static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++)
+            d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++)
+            d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++)
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1))
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+            }
+        return d[a.length()][b.length()];
+    }
+
+    private int number(String id) {
+        if (!released.isEmpty()) {
+            int number = released.pop();
+            ids.set(number, id);
+            return number;
+        }
+        ids.add(id);
+        if (ids.size() > lengths.length)
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        return ids.size() - 1;
+    }
+
+    /**
+     * Indexes the texts of the document given, replacing the ones it had
+     */
+    public void put(String id, List<Tuple2<String, Double>> texts) {
+        Map<String, Double> frequencies = new HashMap<>();
+        texts.forEach(text -> terms(text._1).forEach(term -> frequencies.merge(term, text._2, Double::sum)));
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+            int number = number(id);
+            frequencies.forEach((term, frequency) -> {
+                if (!postings.containsKey(term) && term.length() >= MIN_TYPO_LENGTH)
+                    oneDeleted(term).forEach(deleted -> deletions
+                            .computeIfAbsent(deleted, key -> new HashSet<>())
+                            .add(term));
+                postings.computeIfAbsent(term, key -> new Postings()).add(number, frequency);
+                lengths[number] += frequency;
+            });
+            totalLength += lengths[number];
+            numbers.put(id, number);
+            documents.put(id, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(String id) {
+        var frequencies = documents.remove(id);
+        if (frequencies == null)
+            return;
+        int number = numbers.remove(id);
+        frequencies.keySet().forEach(term -> {
+            var documentsWithTerm = postings.get(term);
+            documentsWithTerm.remove(number);
+            if (documentsWithTerm.size > 0)
+                return;
+            postings.remove(term);
+            if (term.length() >= MIN_TYPO_LENGTH)
+                oneDeleted(term).forEach(deleted -> {
+                    var terms = deletions.get(deleted);
+                    terms.remove(term);
+                    if (terms.isEmpty())
+                        deletions.remove(deleted);
+                });
+        });
+        totalLength -= lengths[number];
+        lengths[number] = 0;
+        ids.set(number, null);
+        released.push(number);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed terms the query term given matches, with the boost of the way
+     * they match
+     */
+    private Map<String, Double> expansions(String queryTerm) {
+        Map<String, Double> expansions = new HashMap<>();
+        if (queryTerm.length() >= MIN_TYPO_LENGTH) {
+            List<String> candidates = new ArrayList<>(deletions.getOrDefault(queryTerm, Set.of()));
+            for (String deleted : oneDeleted(queryTerm)) {
+                candidates.add(deleted);
+                candidates.addAll(deletions.getOrDefault(deleted, Set.of()));
+            }
+            candidates
+                    .stream()
+                    .filter(candidate -> postings.containsKey(candidate) && distance(queryTerm, candidate) == 1)
+                    .forEach(candidate -> expansions.put(candidate, TYPO_BOOST));
+        }
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH)
+            postings
+                    .subMap(queryTerm, false, SearchKey.upperBound(queryTerm), false)
+                    .keySet()
+                    .stream()
+                    .limit(MAX_EXPANSIONS)
+                    .forEach(term -> expansions.put(term, PREFIX_BOOST));
+        if (postings.containsKey(queryTerm))
+            expansions.put(queryTerm, 1d);
+        return expansions;
+    }
+
+    /**
+     * Ids of the documents that best match the query, most relevant first.
+     * Every query term adds the score of its best match in the document, and
+     * documents that match more of them rank higher
+     */
+    public List<String> search(String query, int limit) {
+        var queryTerms = terms(query).stream().distinct().collect(Collectors.toList());
+        if (queryTerms.isEmpty() || limit <= 0)
+            return List.of();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty())
+                return List.of();
+            double averageLength = totalLength / documents.size();
+            var accumulators = scratch.get().fitting(ids.size());
+            double[] scores = accumulators.scores;
+            double[] termScores = accumulators.termScores;
+            int[] matchedTerms = accumulators.matchedTerms;
+            int[] matched = accumulators.matched;
+            int[] termMatched = accumulators.termMatched;
+            int matchedCount = 0;
+            for (String queryTerm : queryTerms) {
+                var expansions = expansions(queryTerm);
+                // Expansions share the idf of the most frequent one, rare typos do not outrank exact matches
+                double documentFrequency = expansions
+                        .keySet()
+                        .stream()
+                        .mapToInt(term -> postings.get(term).size)
+                        .max()
+                        .orElse(0);
+                double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                int termMatchedCount = 0;
+                for (Map.Entry<String, Double> expansion : expansions.entrySet()) {
+                    var termPostings = postings.get(expansion.getKey());
+                    double boost = expansion.getValue();
+                    for (int i = 0; i < termPostings.size; i++) {
+                        int document = termPostings.documents[i];
+                        double frequency = termPostings.frequencies[i];
+                        double norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                        double score = boost * idf * frequency * (K1 + 1) / (frequency + norm);
+                        if (termScores[document] == 0)
+                            termMatched[termMatchedCount++] = document;
+                        termScores[document] = Math.max(termScores[document], score);
+                    }
+                }
+                for (int i = 0; i < termMatchedCount; i++) {
+                    int document = termMatched[i];
+                    if (matchedTerms[document] == 0)
+                        matched[matchedCount++] = document;
+                    scores[document] += termScores[document];
+                    matchedTerms[document]++;
+                    termScores[document] = 0;
+                }
+            }
+            for (int i = 0; i < matchedCount; i++)
+                scores[matched[i]] *= (double) matchedTerms[matched[i]] / queryTerms.size();
+            var ranked = top(scores, matched, matchedCount, limit);
+            for (int i = 0; i < matchedCount; i++) {
+                scores[matched[i]] = 0;
+                matchedTerms[matched[i]] = 0;
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* Least relevant on top of the heap, ties go to the lowest id */
+    private List<String> top(double[] scores, int[] matched, int matchedCount, int limit) {
+        Comparator<Integer> byRelevance = Comparator
+                .<Integer>comparingDouble(document -> scores[document])
+                .thenComparing(ids::get, Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(byRelevance);
+        for (int i = 0; i < matchedCount; i++) {
+            int document = matched[i];
+            if (top.size() == limit && scores[document] < scores[top.peek()])
+                continue;
+            top.add(document);
+            if (top.size() > limit)
+                top.poll();
+        }
+        List<String> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty())
+            ranked.add(ids.get(top.poll()));
+        Collections.reverse(ranked);
+        return ranked;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.ComponentScans;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScans(
@@ -14,6 +15,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
                 @ComponentScan("backoffice"),
                 @ComponentScan("booking"),
                 @ComponentScan("news"),
+                @ComponentScan("office_branch_detail"),
                 @ComponentScan("shared"),
                 @ComponentScan("search"),
                 @ComponentScan("report"),
@@ -21,6 +23,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
         }
 )
 @EnableAsync
+@EnableScheduling
 public class WorkfficeApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,43 @@
+package shared.domain;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * ChangeCoalescer gives projections a writer that may merge the changes
+ * several events make to the same document into a single read and write.
+ * Writers are shared by projection name, so every listener of a projection
+ * has to give the same load and write functions. A failed write fails the
+ * changes it applied, so the listeners that made them fail as well.
+ */
+public interface ChangeCoalescer {
+
+    <D> ProjectionWriter<D> writer(
+            String                      projection,
+            Function<String, Option<D>> load,
+            Function<D, Try<Void>>      write
+    );
+
+    /**
+     * @return coalescer whose writers apply every change right away with its
+     * own read and write, a failed write is thrown to the listener
+     */
+    static ChangeCoalescer immediate() {
+        return new ChangeCoalescer() {
+            @Override
+            public <D> ProjectionWriter<D> writer(
+                    String                      projection,
+                    Function<String, Option<D>> load,
+                    Function<D, Try<Void>>      write
+            ) {
+                return (event, documentId, change) -> {
+                    load.apply(documentId).map(change).map(write).forEach(Try::get);
+                    return CompletableFuture.completedFuture(null);
+                };
+            }
+        };
+    }
+}
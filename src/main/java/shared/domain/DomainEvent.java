@@ -1,6 +1,39 @@
 package shared.domain;
 
+import io.vavr.control.Option;
+
+/**
+ * Events are stored in the outboxes as JSON, field by field, until they are
+ * relayed. Every event only adds fields that are fine being missing from the
+ * events stored before them, and keeps its class and field names while any
+ * of them may still be waiting
+ */
 public abstract class DomainEvent {
+    /* Set by the relay, it is the id of the outbox message and not part of the payload */
+    private Long sequence;
 
     public abstract String getEventName();
+
+    /**
+     * Events with the same aggregate key are delivered to each listener in the
+     * order they were published, events without one in no particular order
+     */
+    public Option<String> getAggregateKey() {
+        return Option.none();
+    }
+
+    /**
+     * Events relayed from an outbox carry the position they were stored at in
+     * it. The events of an aggregate key are relayed in that order, each one
+     * once the previous was handled or dead lettered, while events without a
+     * key are relayed in any order. Sequences are only comparable between
+     * events of the same outbox
+     */
+    public Option<Long> getSequence() {
+        return Option.of(sequence);
+    }
+
+    public void sequencedAt(long sequence) {
+        this.sequence = sequence;
+    }
 }
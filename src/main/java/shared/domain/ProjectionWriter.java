@@ -0,0 +1,16 @@
+package shared.domain;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+public interface ProjectionWriter<D> {
+
+    /**
+     * Applies the change the event makes to the document with the id given,
+     * changes to documents that do not exist are ignored
+     *
+     * @return future completed once the change is written, it fails when
+     * writing it did
+     */
+    CompletableFuture<Void> update(DomainEvent event, String documentId, UnaryOperator<D> change);
+}
@@ -1,18 +1,55 @@
 package shared.infrastructure;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.env.Environment;
 
 @Configuration
 public class AsynchronousSpringEventsConfig {
-    @Bean(name = "applicationEventMulticaster")
-    public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-        SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
 
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
-        return eventMulticaster;
+    private final Environment   env;
+    private final MeterRegistry meterRegistry;
+
+    public AsynchronousSpringEventsConfig(Environment env, MeterRegistry meterRegistry) {
+        this.env           = env;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private RejectedExecutionHandler rejectionPolicy() {
+        String policy = env.getProperty("events.executor.rejection_policy", "BLOCK");
+        switch (policy) {
+            case "ABORT":
+                return new ThreadPoolExecutor.AbortPolicy();
+            case "CALLER_RUNS":
+                // Slows producers down without losing events, but the event can overtake the ones queued in its lane
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            default:
+                long blockTimeoutMs = env.getProperty("events.executor.block_timeout_ms", Long.class, 500L);
+                return LaneExecutor.blockPolicy(Duration.ofMillis(blockTimeoutMs), meterRegistry);
+        }
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public LaneExecutor eventDispatchExecutor() {
+        int defaultLanes = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int lanes = env.getProperty("events.executor.lanes", Integer.class, defaultLanes);
+        int queueCapacity = env.getProperty("events.executor.queue_capacity", Integer.class, 1000);
+        return LaneExecutor.create(lanes, queueCapacity, rejectionPolicy());
+    }
+
+    @Bean
+    public LaneChangeCoalescer changeCoalescer() {
+        long windowMs = env.getProperty("events.coalescing.window_ms", Long.class, 50L);
+        return new LaneChangeCoalescer(eventDispatchExecutor(), windowMs, meterRegistry);
+    }
+
+    @Bean(name = "applicationEventMulticaster")
+    public InstrumentedEventMulticaster simpleApplicationEventMulticaster() {
+        return new InstrumentedEventMulticaster(eventDispatchExecutor(), meterRegistry);
     }
 }
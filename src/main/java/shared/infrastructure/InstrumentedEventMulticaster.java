@@ -0,0 +1,152 @@
+package shared.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import shared.domain.DomainEvent;
+import shared.infrastructure.outbox.EventDispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+/**
+ * InstrumentedEventMulticaster dispatches every listener invocation on the lane
+ * of the aggregate the event is about, so the events of an aggregate reach each
+ * listener in the order they were published while other aggregates are handled
+ * in parallel. It records, per event and listener, how long the invocation
+ * waited in the lane, how long it took and whether it failed. What happens when
+ * a lane is saturated is decided by the rejection policy of its executor.
+ *
+ * Events relayed from an outbox are dispatched through it directly, so the
+ * relay learns when their listeners are done.
+ */
+public class InstrumentedEventMulticaster extends SimpleApplicationEventMulticaster implements EventDispatcher {
+
+    private final LaneExecutor  executor;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedEventMulticaster(LaneExecutor executor, MeterRegistry meterRegistry) {
+        this.executor      = executor;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("events.executor.queue_size", executor, e -> e.lanes().stream()
+                .mapToInt(lane -> lane.getQueue().size())
+                .sum());
+        meterRegistry.gauge("events.executor.active", executor, e -> e.lanes().stream()
+                .mapToInt(ThreadPoolExecutor::getActiveCount)
+                .sum());
+        for (int lane = 0; lane < executor.lanes().size(); lane++) {
+            Tags tags = Tags.of("lane", String.valueOf(lane));
+            ThreadPoolExecutor laneExecutor = executor.lanes().get(lane);
+            meterRegistry.gauge("events.lane.queue_size", tags, laneExecutor, e -> e.getQueue().size());
+            meterRegistry.gauge("events.lane.active", tags, laneExecutor, ThreadPoolExecutor::getActiveCount);
+        }
+    }
+
+    static String eventName(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent
+                && ((PayloadApplicationEvent<?>) event).getPayload() instanceof DomainEvent)
+            return ((DomainEvent) ((PayloadApplicationEvent<?>) event).getPayload()).getEventName();
+        return event.getClass().getSimpleName();
+    }
+
+    static String aggregateKey(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent
+                && ((PayloadApplicationEvent<?>) event).getPayload() instanceof DomainEvent)
+            return ((DomainEvent) ((PayloadApplicationEvent<?>) event).getPayload()).getAggregateKey().getOrNull();
+        return null;
+    }
+
+    private static String listenerName(ApplicationListener<?> listener) {
+        if (listener instanceof ApplicationListenerMethodAdapter)
+            return ((ApplicationListenerMethodAdapter) listener).getListenerId();
+        return listener.getClass().getName();
+    }
+
+    /**
+     * Failures are recorded and rethrown, so the invocation of a relayed event
+     * fails with them. The future returned is completed once the writes the
+     * listener left pending, like coalesced projection changes, are done
+     */
+    private CompletableFuture<Void> invoke(
+            ApplicationListener<?> listener,
+            String                 listenerName,
+            ApplicationEvent       event,
+            Tags                   tags,
+            long                   submittedAt
+    ) {
+        meterRegistry.timer("events.dispatch_lag", tags)
+                .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+            List<CompletableFuture<Void>> writes = meterRegistry.timer("events.listener", tags)
+                    .record(() -> PendingWrites.collect(() -> invokeListener(listener, event)));
+            return CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]));
+        } catch (RuntimeException e) {
+            meterRegistry.counter("events.listener.failures", tags).increment();
+            LoggerFactory.getLogger(this.getClass()).error("Listener " + listenerName + " failed", e);
+            throw e;
+        }
+    }
+
+    private List<CompletableFuture<Void>> submit(ApplicationEvent event, ResolvableType eventType) {
+        ResolvableType type = eventType != null ? eventType : ResolvableType.forInstance(event);
+        String eventName = eventName(event);
+        String aggregateKey = aggregateKey(event);
+        List<CompletableFuture<Void>> invocations = new ArrayList<>();
+        for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+            String listenerName = listenerName(listener);
+            Tags tags = Tags.of("event", eventName, "listener", listenerName);
+            long submittedAt = System.nanoTime();
+            CompletableFuture<Void> invocation = new CompletableFuture<>();
+            invocations.add(invocation);
+            try {
+                executor.execute(aggregateKey, () -> {
+                    try {
+                        invoke(listener, listenerName, event, tags, submittedAt).whenComplete((done, error) -> {
+                            if (error != null)
+                                invocation.completeExceptionally(error);
+                            else
+                                invocation.complete(null);
+                        });
+                    } catch (RuntimeException e) {
+                        invocation.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                meterRegistry.counter("events.executor.rejected", tags).increment();
+                LoggerFactory.getLogger(this.getClass()).error(
+                        "Event " + eventName + " dropped for listener " + listenerName, e
+                );
+                invocation.completeExceptionally(e);
+            }
+        }
+        return invocations;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        submit(event, eventType);
+    }
+
+    /**
+     * The future is completed once the writes left pending by the listeners are
+     * done too. It fails when a listener or one of those writes failed, or an
+     * invocation was rejected by its lane, so the relay dispatches the event
+     * again
+     */
+    @Override
+    public CompletableFuture<Void> dispatch(DomainEvent event) {
+        meterRegistry.counter("events.published", "event", event.getEventName()).increment();
+        var invocations = submit(new PayloadApplicationEvent<>(this, event), null);
+        return CompletableFuture.allOf(invocations.toArray(new CompletableFuture[0]));
+    }
+}
@@ -4,7 +4,10 @@ import io.vavr.CheckedRunnable;
 import io.vavr.Function3;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+import shared.infrastructure.outbox.OutboxMessage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -16,6 +19,9 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 
 public abstract class JPARepository<E, EID> {
+    /* Keep it aligned with hibernate.jdbc.batch_size so every flush sends full batches */
+    protected static final int BATCH_SIZE = 50;
+
     protected abstract EntityManagerFactory getEntityManagerFactory();
 
     protected Try<Void> executeWrite(Consumer<EntityManager> writeQuery) {
@@ -31,16 +37,59 @@ public abstract class JPARepository<E, EID> {
                 .andFinally(entityManager::close);
     }
 
+    /**
+     * Runs the write and appends the events to the outbox of the context in the
+     * same transaction, they are dispatched by the outbox relay once committed
+     */
+    protected Try<Void> executeWrite(Consumer<EntityManager> writeQuery, Collection<DomainEvent> events) {
+        Consumer<EntityManager> appendEvents = entityManager -> events
+                .forEach(event -> entityManager.persist(OutboxMessage.of(event)));
+        return this.executeWrite(writeQuery.andThen(appendEvents));
+    }
+
     protected Try<Void> merge(E entity) {
         Consumer<EntityManager> update = entityManager -> entityManager.merge(entity);
         return this.executeWrite(update);
     }
 
+    protected Try<Void> merge(E entity, DomainEvent event) {
+        Consumer<EntityManager> update = entityManager -> entityManager.merge(entity);
+        return this.executeWrite(update, List.of(event));
+    }
+
     protected Try<Void> save(E entity) {
         Consumer<EntityManager> insert = entityManager -> entityManager.persist(entity);
         return this.executeWrite(insert);
     }
 
+    protected Try<Void> save(E entity, DomainEvent event) {
+        Consumer<EntityManager> insert = entityManager -> entityManager.persist(entity);
+        return this.executeWrite(insert, List.of(event));
+    }
+
+    /**
+     * Persists all entities in a single transaction, flushing and clearing the
+     * persistence context every BATCH_SIZE entities so inserts are sent as JDBC
+     * batches and the context does not grow with the amount of entities
+     */
+    protected Try<Void> saveAll(Collection<E> entities) {
+        return this.saveAll(entities, List.of());
+    }
+
+    protected Try<Void> saveAll(Collection<E> entities, Collection<DomainEvent> events) {
+        Consumer<EntityManager> insert = entityManager -> {
+            int persisted = 0;
+            for (E entity : entities) {
+                entityManager.persist(entity);
+                if (++persisted % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        };
+        return this.executeWrite(insert, events);
+    }
+
     protected <T> Option<T> findOne(
             Function3<CriteriaQuery<T>, Root<T>, CriteriaBuilder, CriteriaQuery<T>> addConstraints,
             Consumer<Root<T>> join,
@@ -0,0 +1,214 @@
+package shared.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.ChangeCoalescer;
+import shared.domain.DomainEvent;
+import shared.domain.ProjectionWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * LaneChangeCoalescer buffers the changes made to a document during a window
+ * that starts with the first of them, and then applies all of them with a
+ * single read and write. The write runs on the lane of the aggregate of the
+ * first event, so it keeps its order with the rest of the listeners of that
+ * aggregate. When the application stops the pending changes are written
+ * before any bean is destroyed, and later changes are written right away.
+ *
+ * The listener invocation that made a change is not finished until the change
+ * is written, so the relay keeps the outbox message of its event until then
+ * and dispatches it again when the write fails.
+ */
+public class LaneChangeCoalescer implements ChangeCoalescer, SmartLifecycle {
+    private final LaneExecutor                     executor;
+    private final long                             windowMs;
+    private final MeterRegistry                    meterRegistry;
+    private final ScheduledExecutorService         timer;
+    private final Logger                           logger;
+    private final Map<String, CoalescingWriter<?>> writers = new ConcurrentHashMap<>();
+    private volatile boolean                       running = true;
+
+    public LaneChangeCoalescer(LaneExecutor executor, long windowMs, MeterRegistry meterRegistry) {
+        this.executor      = executor;
+        this.windowMs      = windowMs;
+        this.meterRegistry = meterRegistry;
+        this.timer         = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("event-coalescing-")
+        );
+        this.logger        = LoggerFactory.getLogger(getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <D> ProjectionWriter<D> writer(
+            String                      projection,
+            Function<String, Option<D>> load,
+            Function<D, Try<Void>>      write
+    ) {
+        return (ProjectionWriter<D>) writers.computeIfAbsent(
+                projection,
+                name -> new CoalescingWriter<>(name, load, write)
+        );
+    }
+
+    public void flush() {
+        writers.values().forEach(CoalescingWriter::flushAll);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+        timer.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static class Pending<D> {
+        private final String                  laneKey;
+        private final List<UnaryOperator<D>>  changes = new ArrayList<>();
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        Pending(String laneKey) {
+            this.laneKey = laneKey;
+        }
+    }
+
+    private class CoalescingWriter<D> implements ProjectionWriter<D> {
+        private final String                      projection;
+        private final Function<String, Option<D>> load;
+        private final Function<D, Try<Void>>      write;
+        private final Map<String, Pending<D>>     pending = new ConcurrentHashMap<>();
+        private final Counter                     received;
+        private final Counter                     writes;
+        private final Counter                     failures;
+        private final Counter                     redispatches;
+        private final DistributionSummary         changesPerWrite;
+
+        CoalescingWriter(String projection, Function<String, Option<D>> load, Function<D, Try<Void>> write) {
+            this.projection      = projection;
+            this.load            = load;
+            this.write           = write;
+            this.received        = meterRegistry.counter("events.coalescing.changes", "projection", projection);
+            this.writes          = meterRegistry.counter("events.coalescing.writes", "projection", projection);
+            this.failures        = meterRegistry.counter("events.coalescing.failures", "projection", projection);
+            this.redispatches    = meterRegistry.counter("events.coalescing.redispatches", "projection", projection);
+            // Its mean is the coalescing ratio, how many changes are applied by each write
+            this.changesPerWrite = meterRegistry.summary(
+                    "events.coalescing.changes_per_write",
+                    "projection",
+                    projection
+            );
+            meterRegistry.gauge("events.coalescing.pending", Tags.of("projection", projection), pending, Map::size);
+        }
+
+        @Override
+        public CompletableFuture<Void> update(DomainEvent event, String documentId, UnaryOperator<D> change) {
+            received.increment();
+            if (!running || windowMs <= 0) {
+                var written = new CompletableFuture<Void>();
+                apply(documentId, List.of(change), written);
+                PendingWrites.add(written);
+                return written;
+            }
+            var created = new boolean[] { false };
+            var buffered = pending.compute(documentId, (id, current) -> {
+                var entry = current;
+                if (entry == null) {
+                    entry = new Pending<>(event.getAggregateKey().getOrElse(id));
+                    created[0] = true;
+                }
+                entry.changes.add(change);
+                return entry;
+            });
+            if (created[0])
+                schedule(documentId, buffered.laneKey);
+            PendingWrites.add(buffered.written);
+            return buffered.written;
+        }
+
+        private void schedule(String documentId, String laneKey) {
+            try {
+                timer.schedule(() -> dispatch(documentId, laneKey), windowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flush(documentId);
+            }
+        }
+
+        /*
+         * Writing on the timer thread would overtake the events of the aggregate
+         * still queued on its lane, so a rejected write is dispatched again after
+         * another window. Once stopping, the pending changes are written by stop
+         */
+        private void dispatch(String documentId, String laneKey) {
+            try {
+                executor.execute(laneKey, () -> flush(documentId));
+            } catch (RejectedExecutionException e) {
+                redispatches.increment();
+                if (running)
+                    schedule(documentId, laneKey);
+                else
+                    flush(documentId);
+            }
+        }
+
+        void flush(String documentId) {
+            var buffered = pending.remove(documentId);
+            if (buffered != null)
+                apply(documentId, buffered.changes, buffered.written);
+        }
+
+        void flushAll() {
+            pending.keySet().forEach(this::flush);
+        }
+
+        private void apply(String documentId, List<UnaryOperator<D>> changes, CompletableFuture<Void> written) {
+            try {
+                load.apply(documentId)
+                        .map(document -> {
+                            var changed = document;
+                            for (UnaryOperator<D> change : changes)
+                                changed = change.apply(changed);
+                            return changed;
+                        })
+                        .peek(document -> {
+                            write.apply(document).get();
+                            writes.increment();
+                            changesPerWrite.record(changes.size());
+                        });
+                written.complete(null);
+            } catch (Exception e) {
+                failures.increment();
+                logger.error("Writing changes of " + projection + " " + documentId + " failed", e);
+                written.completeExceptionally(e);
+            }
+        }
+    }
+}
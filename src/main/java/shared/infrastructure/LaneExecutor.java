@@ -0,0 +1,112 @@
+package shared.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * LaneExecutor runs tasks on a fixed set of single threaded lanes. Tasks with
+ * the same key always go to the same lane, so they run one after the other in
+ * the order they were submitted, while tasks of different keys run in
+ * parallel on the other lanes. Tasks without key are spread over the lanes.
+ */
+public class LaneExecutor {
+    private static final ThreadLocal<ThreadPoolExecutor> CURRENT_LANE = new ThreadLocal<>();
+
+    private final List<ThreadPoolExecutor> lanes;
+    private final AtomicInteger            nextLane = new AtomicInteger();
+
+    public LaneExecutor(List<ThreadPoolExecutor> lanes) {
+        this.lanes = List.copyOf(lanes);
+    }
+
+    public static LaneExecutor create(int lanes, int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+        List<ThreadPoolExecutor> executors = new ArrayList<>();
+        for (int lane = 0; lane < lanes; lane++)
+            executors.add(new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("event-lane-" + lane + "-"),
+                    rejectionPolicy
+            ) {
+                @Override
+                protected void beforeExecute(Thread thread, Runnable task) {
+                    CURRENT_LANE.set(this);
+                }
+            });
+        return new LaneExecutor(executors);
+    }
+
+    /**
+     * Rejection policy that makes the submitter wait until the lane has room.
+     * Unlike running the task on the submitter thread it keeps the order of the
+     * tasks of a key when the lane is saturated.
+     *
+     * A task submitted from its own lane, like an event published by a listener
+     * of an event of the same aggregate, runs right away on the submitter as
+     * the lane would never make room while it waits. Submitters wait at most
+     * the timeout given, then the task is rejected.
+     */
+    public static RejectedExecutionHandler blockPolicy(Duration timeout, MeterRegistry meterRegistry) {
+        return (task, executor) -> {
+            if (executor.isShutdown())
+                throw new RejectedExecutionException("Lane is shut down");
+            if (CURRENT_LANE.get() == executor) {
+                meterRegistry.counter("events.lane.caller_runs").increment();
+                task.run();
+                return;
+            }
+            long waitStartedAt = System.nanoTime();
+            try {
+                boolean queued = executor.getQueue().offer(task, timeout.toNanos(), TimeUnit.NANOSECONDS);
+                meterRegistry.timer("events.lane.blocked")
+                        .record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+                if (!queued) {
+                    meterRegistry.counter("events.lane.block_timeouts").increment();
+                    throw new RejectedExecutionException("Lane still saturated after " + timeout.toMillis() + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for lane", e);
+            }
+        };
+    }
+
+    public int laneOf(String key) {
+        if (key == null)
+            return Math.floorMod(nextLane.getAndIncrement(), lanes.size());
+        return Math.floorMod(key.hashCode(), lanes.size());
+    }
+
+    public void execute(String key, Runnable task) {
+        lanes.get(laneOf(key)).execute(task);
+    }
+
+    public List<ThreadPoolExecutor> lanes() {
+        return lanes;
+    }
+
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : lanes)
+            if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package shared.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PendingWrites collects the writes a listener left pending while it ran on
+ * the current thread, so its invocation is only finished once they are done
+ */
+final class PendingWrites {
+    private static final ThreadLocal<List<CompletableFuture<Void>>> CURRENT = new ThreadLocal<>();
+
+    private PendingWrites() {
+    }
+
+    static List<CompletableFuture<Void>> collect(Runnable listener) {
+        var previous = CURRENT.get();
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        CURRENT.set(writes);
+        try {
+            listener.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+        return writes;
+    }
+
+    static void add(CompletableFuture<Void> write) {
+        var writes = CURRENT.get();
+        if (writes != null)
+            writes.add(write);
+    }
+}
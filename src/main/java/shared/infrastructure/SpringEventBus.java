@@ -1,5 +1,6 @@
 package shared.infrastructure;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import shared.domain.DomainEvent;
 import shared.domain.EventBus;
 
@@ -11,14 +12,19 @@ import org.springframework.stereotype.Component;
 public class SpringEventBus implements EventBus {
     
     private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry             meterRegistry;
     
-    public SpringEventBus(ApplicationEventPublisher eventPublisher) {
+    public SpringEventBus(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.eventPublisher = eventPublisher;
+        this.meterRegistry  = meterRegistry;
     }
     
     @Override
     public void publish(DomainEvent event) {
         LoggerFactory.getLogger(this.getClass()).info("Dispatching event: " + event.getEventName());
-        eventPublisher.publishEvent(event);
+        meterRegistry.counter("events.published", "event", event.getEventName()).increment();
+        // Includes the time spent running listeners on this thread when the dispatch pool is saturated
+        meterRegistry.timer("events.publish", "event", event.getEventName())
+                .record(() -> eventPublisher.publishEvent(event));
     }
 }
@@ -29,7 +29,7 @@ public class AuthenticationJPAConfig {
     public LocalSessionFactoryBean authenticationSessionFactoryBean() {
         LocalSessionFactoryBean sessionFactoryBean = new LocalSessionFactoryBean();
         sessionFactoryBean.setDataSource(authenticationDataSource());
-        sessionFactoryBean.setPackagesToScan("authentication.domain");
+        sessionFactoryBean.setPackagesToScan("authentication.domain", "shared.infrastructure.outbox");
         sessionFactoryBean.setHibernateProperties(authenticationHibernateProperties());
         return sessionFactoryBean;
     }
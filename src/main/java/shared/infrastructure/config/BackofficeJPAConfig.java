@@ -29,7 +29,7 @@ public class BackofficeJPAConfig {
     public LocalSessionFactoryBean sessionFactoryBean() {
         LocalSessionFactoryBean sessionFactoryBean = new LocalSessionFactoryBean();
         sessionFactoryBean.setDataSource(dataSource());
-        sessionFactoryBean.setPackagesToScan("backoffice.domain");
+        sessionFactoryBean.setPackagesToScan("backoffice.domain", "shared.infrastructure.outbox");
         sessionFactoryBean.setHibernateProperties(hibernateProperties());
         return sessionFactoryBean;
     }
@@ -72,6 +72,12 @@ public class BackofficeJPAConfig {
         properties.setProperty("hibernate.hbm2ddl.auto", env.getProperty("db.ddl"));
         properties.setProperty("hibernate.dialect", env.getProperty("db.dialect"));
         properties.setProperty("hibernate.show_sql", env.getProperty("db.show_sql", "false"));
+        properties.setProperty("hibernate.jdbc.batch_size", env.getProperty("db.batch_size", "50"));
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty(
+                "hibernate.generate_statistics",
+                env.getProperty("db.generate_statistics", "false")
+        );
         return properties;
     }
 }
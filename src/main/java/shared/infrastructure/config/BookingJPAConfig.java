@@ -28,7 +28,7 @@ public class BookingJPAConfig {
     public LocalSessionFactoryBean bookingSessionFactoryBean() {
         LocalSessionFactoryBean sessionFactoryBean = new LocalSessionFactoryBean();
         sessionFactoryBean.setDataSource(bookingDataSource());
-        sessionFactoryBean.setPackagesToScan("booking.domain");
+        sessionFactoryBean.setPackagesToScan("booking.domain", "shared.infrastructure.outbox");
         sessionFactoryBean.setHibernateProperties(bookingHibernateProperties());
         return sessionFactoryBean;
     }
@@ -68,6 +68,8 @@ public class BookingJPAConfig {
         properties.setProperty("hibernate.hbm2ddl.auto", env.getProperty("db.ddl"));
         properties.setProperty("hibernate.dialect", env.getProperty("db.dialect"));
         properties.setProperty("hibernate.show_sql", env.getProperty("db.show_sql", "false"));
+        properties.setProperty("hibernate.jdbc.batch_size", env.getProperty("db.batch_size", "50"));
+        properties.setProperty("hibernate.order_inserts", "true");
         return properties;
     }
 }
@@ -5,11 +5,18 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+import java.util.Collections;
 import java.util.HashMap;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
 @Configuration
 public class MongoConfig {
@@ -37,8 +44,27 @@ public class MongoConfig {
         return MongoClients.create(mongoClientSettings);
     }
 
+    /**
+     * Same converter MongoTemplate creates by default but with index creation
+     * enabled, the indexes declared on a document are ensured the first time
+     * the document is used
+     */
+    private MappingMongoConverter mongoConverter(MongoDatabaseFactory databaseFactory) {
+        var conversions = new MongoCustomConversions(Collections.emptyList());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.setAutoIndexCreation(true);
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(new DefaultDbRefResolver(databaseFactory), mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.setCodecRegistryProvider(databaseFactory);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(mongoClient(), MONGO_DB);
+        var databaseFactory = new SimpleMongoClientDatabaseFactory(mongoClient(), MONGO_DB);
+        return new MongoTemplate(databaseFactory, mongoConverter(databaseFactory));
     }
 }
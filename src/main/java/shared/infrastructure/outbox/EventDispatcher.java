@@ -0,0 +1,16 @@
+package shared.infrastructure.outbox;
+
+import shared.domain.DomainEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * EventDispatcher hands an event to its listeners, the future returned is
+ * completed once every listener ran and fails when some of them could not be
+ * run at all
+ */
+@FunctionalInterface
+public interface EventDispatcher {
+
+    CompletableFuture<Void> dispatch(DomainEvent event);
+}
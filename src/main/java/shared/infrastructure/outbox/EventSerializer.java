@@ -0,0 +1,150 @@
+package shared.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import org.springframework.objenesis.Objenesis;
+import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Writes events as JSON, field by field, and reads them back by their type as
+ * Java serialization did: without running their constructors. Fields missing
+ * from events stored before they were added are left null and the ones no
+ * longer declared are ignored.
+ */
+final class EventSerializer {
+    private static final Objenesis    OBJENESIS = new ObjenesisStd();
+    private static final ObjectMapper MAPPER    = new ObjectMapper()
+            .findAndRegisterModules()
+            .registerModule(new EventsModule())
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private EventSerializer() {}
+
+    static String write(DomainEvent event) {
+        try {
+            return MAPPER.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Try<DomainEvent> read(String eventType, String payload) {
+        return Try.of(() -> MAPPER.readValue(
+                payload,
+                ClassUtils.forName(eventType, DomainEvent.class.getClassLoader()).asSubclass(DomainEvent.class)
+        ));
+    }
+
+    private static class EventsModule extends SimpleModule {
+        EventsModule() {
+            setMixInAnnotation(DomainEvent.class, DomainEventMixIn.class);
+            addSerializer(new OptionSerializer());
+            setDeserializers(new SimpleDeserializers(Map.<Class<?>, JsonDeserializer<?>>of(
+                    Option.class, new OptionDeserializer(null)
+            )));
+        }
+
+        @Override
+        public void setupModule(SetupContext context) {
+            super.setupModule(context);
+            context.addValueInstantiators(new EventInstantiators());
+        }
+    }
+
+    /* The sequence is the id of the message the event is stored in, it is not written along the event */
+    private abstract static class DomainEventMixIn {
+        @JsonIgnore
+        private Long sequence;
+    }
+
+    /* Events are instantiated without running any constructor, their fields are set afterwards */
+    private static class EventInstantiators extends ValueInstantiators.Base {
+        @Override
+        public ValueInstantiator findValueInstantiator(
+                DeserializationConfig config,
+                BeanDescription description,
+                ValueInstantiator defaultInstantiator
+        ) {
+            var type = description.getBeanClass();
+            if (!DomainEvent.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers()))
+                return defaultInstantiator;
+            return new ValueInstantiator.Base(type) {
+                @Override
+                public boolean canCreateUsingDefault() { return true; }
+
+                @Override
+                public Object createUsingDefault(DeserializationContext context) {
+                    return OBJENESIS.newInstance(type);
+                }
+            };
+        }
+    }
+
+    /* Options are written as their value, or null when empty */
+    private static class OptionSerializer extends StdSerializer<Option<?>> {
+        OptionSerializer() { super(Option.class, false); }
+
+        @Override
+        public void serialize(Option<?> value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            provider.defaultSerializeValue(value.getOrNull(), generator);
+        }
+    }
+
+    private static class OptionDeserializer extends StdDeserializer<Option<?>> implements ContextualDeserializer {
+        private final JavaType valueType;
+
+        OptionDeserializer(JavaType valueType) {
+            super(Option.class);
+            this.valueType = valueType;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+            var type = property != null ? property.getType() : context.getContextualType();
+            return new OptionDeserializer(type.containedTypeOrUnknown(0));
+        }
+
+        @Override
+        public Option<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return Option.of(context.readValue(parser, valueType));
+        }
+
+        @Override
+        public Option<?> getNullValue(DeserializationContext context) { return Option.none(); }
+    }
+}
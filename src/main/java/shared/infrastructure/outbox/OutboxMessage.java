@@ -0,0 +1,101 @@
+package shared.infrastructure.outbox;
+
+import io.vavr.control.Try;
+import lombok.NoArgsConstructor;
+import shared.domain.DomainEvent;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+/**
+ * OutboxMessage is a domain event waiting to be dispatched, kept as JSON along
+ * the class it is read back as. It is written in the same transaction as the
+ * aggregate that raised it, so the event is stored if and only if the change
+ * is, and removed by the relay once its listeners handled it.
+ * Messages of the same aggregate are dispatched one after the other, in the
+ * order they were stored.
+ * A relay claims the messages it dispatches until a given time, so they are
+ * dispatched again if it does not remove them by then. Messages whose event can
+ * not be read back, or that were claimed too many times without their listeners
+ * handling them, are kept as dead letters instead.
+ */
+@Entity
+/* Serves the earlier messages of an aggregate a message waits for */
+@Table(name = "outbox_messages", indexes = @Index(columnList = "aggregateKey, id"))
+@NoArgsConstructor
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String eventName;
+    @Column(nullable = false)
+    private String eventType;
+    @Column
+    private String aggregateKey;
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+    @Column
+    private LocalDateTime claimedUntil;
+    @Column(nullable = false)
+    private int attempts;
+    @Column
+    private LocalDateTime deadLetteredAt;
+
+    private OutboxMessage(
+            String        eventName,
+            String        eventType,
+            String        aggregateKey,
+            String        payload,
+            LocalDateTime occurredAt
+    ) {
+        this.eventName    = eventName;
+        this.eventType    = eventType;
+        this.aggregateKey = aggregateKey;
+        this.payload      = payload;
+        this.occurredAt   = occurredAt;
+    }
+
+    public static OutboxMessage of(DomainEvent event) {
+        return new OutboxMessage(
+                event.getEventName(),
+                event.getClass().getName(),
+                event.getAggregateKey().getOrNull(),
+                EventSerializer.write(event),
+                LocalDateTime.now(Clock.systemUTC())
+        );
+    }
+
+    public Try<DomainEvent> event() {
+        return EventSerializer.read(eventType, payload);
+    }
+
+    public Long id() { return id; }
+
+    public String eventName() { return eventName; }
+
+    public LocalDateTime occurredAt() { return occurredAt; }
+
+    public int attempts() { return attempts; }
+
+    /* Every claim is an attempt to dispatch the message */
+    public void claimUntil(LocalDateTime until) {
+        this.claimedUntil = until;
+        this.attempts++;
+    }
+
+    public void deadLetter(LocalDateTime now) {
+        this.deadLetteredAt = now;
+    }
+}
@@ -0,0 +1,49 @@
+package shared.infrastructure.outbox;
+
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * OutboxPause stops the relays of every instance from claiming the messages
+ * of a context. It is held by a single holder at a time until it resumes the
+ * relays or its lease expires, so a holder that stops without resuming them
+ * does not stop the outbox for good.
+ */
+@Entity
+@Table(name = "outbox_pauses")
+@NoArgsConstructor
+public class OutboxPause {
+    @Id
+    private String context;
+    @Column
+    private String pausedBy;
+    @Column
+    private LocalDateTime pausedUntil;
+
+    OutboxPause(String context) {
+        this.context = context;
+    }
+
+    boolean isPaused(LocalDateTime now) {
+        return pausedUntil != null && pausedUntil.isAfter(now);
+    }
+
+    boolean isHeldBy(String holder, LocalDateTime now) {
+        return isPaused(now) && holder.equals(pausedBy);
+    }
+
+    void pause(String holder, LocalDateTime until) {
+        this.pausedBy    = holder;
+        this.pausedUntil = until;
+    }
+
+    void resume() {
+        this.pausedBy    = null;
+        this.pausedUntil = null;
+    }
+}
@@ -0,0 +1,355 @@
+package shared.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import shared.domain.DomainEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OutboxRelay dispatches the messages stored in the outbox of a context in
+ * batches, oldest first. A batch is claimed in a transaction of its own, so no
+ * lock is held while the listeners run, and its messages are removed once
+ * every listener of their event ran. Messages of an aggregate are claimed one
+ * at a time, the next one once the previous was removed or dead lettered, so
+ * a failed event is never overtaken by a later one of its aggregate. Messages of a relay that stops before
+ * removing them, or whose listeners failed, are dispatched again when their
+ * claim expires: delivery is at least once and listeners have to be idempotent.
+ * A message claimed the maximum amount of attempts given is dead lettered, so an
+ * event its listeners always fail on does not keep being dispatched.
+ *
+ * The relays of every instance can be paused for a while, for instance to read
+ * the source of a projection without its events being applied meanwhile.
+ */
+public class OutboxRelay {
+    /* Makes concurrent relays of other instances skip the rows locked by this one */
+    private static final String LOCK_TIMEOUT_HINT = "javax.persistence.lock.timeout";
+    private static final int    SKIP_LOCKED       = -2;
+    private static final long   PAUSE_POLL_MS     = 100;
+
+    private final String               context;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EventDispatcher      dispatcher;
+    private final int                  batchSize;
+    private final Duration             claimDuration;
+    private final int                  maxAttempts;
+    private final Logger               logger;
+    private final Counter              relayed;
+    private final Counter              undeliverable;
+    private final Counter              exhausted;
+    private final Counter              unfinished;
+    private final Timer                lag;
+    private final Timer                batchTimer;
+    private final DistributionSummary  batchSizes;
+
+    public OutboxRelay(
+            String               context,
+            EntityManagerFactory entityManagerFactory,
+            EventDispatcher      dispatcher,
+            int                  batchSize,
+            Duration             claimDuration,
+            int                  maxAttempts,
+            MeterRegistry        meterRegistry
+    ) {
+        this.context              = context;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dispatcher           = dispatcher;
+        this.batchSize            = batchSize;
+        this.claimDuration        = claimDuration;
+        this.maxAttempts          = maxAttempts;
+        this.logger               = LoggerFactory.getLogger(getClass());
+        this.relayed              = meterRegistry.counter("events.outbox.relayed", "context", context);
+        this.undeliverable        = meterRegistry.counter("events.outbox.undeliverable", "context", context);
+        this.exhausted            = meterRegistry.counter("events.outbox.exhausted", "context", context);
+        this.unfinished           = meterRegistry.counter("events.outbox.unfinished", "context", context);
+        this.lag                  = meterRegistry.timer("events.outbox.lag", "context", context);
+        this.batchTimer           = meterRegistry.timer("events.outbox.batch", "context", context);
+        this.batchSizes           = meterRegistry.summary("events.outbox.batch_size", "context", context);
+    }
+
+    private <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        try {
+            transaction.begin();
+            T result = work.apply(entityManager);
+            transaction.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (transaction.isActive())
+                transaction.rollback();
+            throw e;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * A message waits for the earlier messages of its aggregate to be removed
+     * or dead lettered, whoever claimed them, so the listeners of an aggregate
+     * never see one of its events before an earlier one was handled
+     */
+    private List<OutboxMessage> pendingMessages(EntityManager entityManager, LocalDateTime now) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OutboxMessage> query = builder.createQuery(OutboxMessage.class);
+        Root<OutboxMessage> table = query.from(OutboxMessage.class);
+        Subquery<Long> earlier = query.subquery(Long.class);
+        Root<OutboxMessage> earlierTable = earlier.from(OutboxMessage.class);
+        earlier.select(earlierTable.get("id"))
+                .where(
+                        builder.equal(earlierTable.get("aggregateKey"), table.get("aggregateKey")),
+                        builder.lessThan(earlierTable.get("id"), table.get("id")),
+                        builder.isNull(earlierTable.get("deadLetteredAt"))
+                );
+        query.select(table)
+                .where(
+                        builder.isNull(table.get("deadLetteredAt")),
+                        builder.or(
+                                builder.isNull(table.get("claimedUntil")),
+                                builder.lessThan(table.get("claimedUntil"), now)
+                        ),
+                        builder.not(builder.exists(earlier))
+                )
+                .orderBy(builder.asc(table.get("id")));
+        return entityManager
+                .createQuery(query)
+                .setMaxResults(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                .getResultList();
+    }
+
+    /**
+     * Every claim reads the pause of the context with a shared lock, so pausing
+     * waits for the claims in progress and the ones after it see the pause
+     */
+    private OutboxPause lockedPause(EntityManager entityManager, LockModeType lockMode) {
+        var pause = entityManager.find(OutboxPause.class, context, lockMode);
+        if (pause != null)
+            return pause;
+        pause = new OutboxPause(context);
+        entityManager.persist(pause);
+        entityManager.flush();
+        return pause;
+    }
+
+    /**
+     * Claims the next batch of messages and reads their events, by message id.
+     * A payload that can not be read back never will, so its message is dead
+     * lettered instead of blocking the outbox, as are the messages that ran
+     * out of attempts
+     */
+    private List<OutboxMessage> claimBatch(LocalDateTime now, Map<Long, DomainEvent> events) {
+        return inTransaction(entityManager -> {
+            if (lockedPause(entityManager, LockModeType.PESSIMISTIC_READ).isPaused(now))
+                return List.of();
+            List<OutboxMessage> messages = pendingMessages(entityManager, now);
+            for (OutboxMessage message : messages) {
+                if (message.attempts() >= maxAttempts) {
+                    message.deadLetter(now);
+                    exhausted.increment();
+                    logger.error(
+                            "Dead lettering " + message.eventName() + " of " + context + " outbox after "
+                                    + message.attempts() + " attempts"
+                    );
+                    continue;
+                }
+                message.event()
+                        .onSuccess(event -> {
+                            event.sequencedAt(message.id());
+                            message.claimUntil(now.plus(claimDuration));
+                            events.put(message.id(), event);
+                        })
+                        .onFailure(error -> {
+                            message.deadLetter(now);
+                            undeliverable.increment();
+                            logger.error("Dead lettering " + message.eventName() + " of " + context + " outbox", error);
+                        });
+            }
+            return messages;
+        });
+    }
+
+    private CompletableFuture<Void> dispatch(DomainEvent event) {
+        try {
+            return dispatcher.dispatch(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /* Waits for the listeners at most until the claim expires, unfinished dispatches are checked afterwards */
+    private void awaitListeners(Map<Long, CompletableFuture<Void>> dispatches) {
+        try {
+            CompletableFuture
+                    .allOf(dispatches.values().toArray(new CompletableFuture[0]))
+                    .get(claimDuration.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn(
+                    "Listeners of " + context + " outbox failed or did not finish, "
+                            + "their messages will be dispatched again"
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean finished(CompletableFuture<Void> dispatch) {
+        return dispatch.isDone() && !dispatch.isCompletedExceptionally();
+    }
+
+    private void remove(List<Long> messageIds) {
+        if (messageIds.isEmpty())
+            return;
+        inTransaction(entityManager -> entityManager
+                .createQuery("delete from OutboxMessage m where m.id in :ids")
+                .setParameter("ids", messageIds)
+                .executeUpdate());
+    }
+
+    /**
+     * Dispatches one batch of messages
+     *
+     * @return the amount of messages settled, removed or dead lettered, when it
+     * is not zero the messages that waited for them may be claimed now
+     */
+    public int relayBatch() {
+        return batchTimer.record(() -> {
+            try {
+                var now = LocalDateTime.now(Clock.systemUTC());
+                Map<Long, DomainEvent> events = new LinkedHashMap<>();
+                List<OutboxMessage> messages = claimBatch(now, events);
+                messages.forEach(message -> lag.record(Duration.between(message.occurredAt(), now)));
+                Map<Long, CompletableFuture<Void>> dispatches = new LinkedHashMap<>();
+                events.forEach((messageId, event) -> dispatches.put(messageId, dispatch(event)));
+                awaitListeners(dispatches);
+
+                List<Long> handled = dispatches.entrySet()
+                        .stream()
+                        .filter(dispatch -> finished(dispatch.getValue()))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+                remove(handled);
+                relayed.increment(handled.size());
+                unfinished.increment(dispatches.size() - handled.size());
+                batchSizes.record(messages.size());
+                return messages.size() - dispatches.size() + handled.size();
+            } catch (RuntimeException e) {
+                logger.error("Relaying " + context + " outbox failed", e);
+                return 0;
+            }
+        });
+    }
+
+    public void relay() {
+        int dispatched;
+        do {
+            dispatched = relayBatch();
+        } while (dispatched > 0);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(PAUSE_POLL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while pausing " + context + " outbox", e);
+        }
+    }
+
+    /* A pause created concurrently by another instance fails the attempt, it is tried again */
+    private boolean tryPause(String holder, Duration lease) {
+        try {
+            return inTransaction(entityManager -> {
+                var now = LocalDateTime.now(Clock.systemUTC());
+                var pause = lockedPause(entityManager, LockModeType.PESSIMISTIC_WRITE);
+                if (pause.isPaused(now) && !pause.isHeldBy(holder, now))
+                    return false;
+                pause.pause(holder, now.plus(lease));
+                return true;
+            });
+        } catch (PersistenceException e) {
+            return false;
+        }
+    }
+
+    private boolean hasClaimedMessages() {
+        return inTransaction(entityManager -> entityManager
+                .createQuery(
+                        "select count(m) from OutboxMessage m "
+                                + "where m.deadLetteredAt is null and m.claimedUntil > :now",
+                        Long.class
+                )
+                .setParameter("now", LocalDateTime.now(Clock.systemUTC()))
+                .getSingleResult() > 0);
+    }
+
+    /**
+     * Stops the relays of every instance from claiming messages until the holder
+     * resumes them or the lease given expires, and waits for the messages they
+     * already claimed to be removed or their claim to expire. When another
+     * holder paused them it waits for it to resume them, at most for the lease.
+     */
+    public void pause(String holder, Duration lease) {
+        var deadline = LocalDateTime.now(Clock.systemUTC()).plus(lease);
+        while (!tryPause(holder, lease)) {
+            if (LocalDateTime.now(Clock.systemUTC()).isAfter(deadline))
+                throw new IllegalStateException("Outbox of " + context + " is paused by another holder");
+            sleep();
+        }
+        while (hasClaimedMessages())
+            sleep();
+    }
+
+    /**
+     * Extends the pause of the holder, it fails when the pause expired so the
+     * holder does not go on as if no message had been dispatched meanwhile
+     */
+    public void renew(String holder, Duration lease) {
+        boolean renewed = inTransaction(entityManager -> {
+            var now = LocalDateTime.now(Clock.systemUTC());
+            var pause = lockedPause(entityManager, LockModeType.PESSIMISTIC_WRITE);
+            if (!pause.isHeldBy(holder, now))
+                return false;
+            pause.pause(holder, now.plus(lease));
+            return true;
+        });
+        if (!renewed)
+            throw new IllegalStateException("Pause of " + context + " outbox expired");
+    }
+
+    /* Resuming relays paused by another holder does nothing */
+    public void resume(String holder) {
+        inTransaction(entityManager -> {
+            var now = LocalDateTime.now(Clock.systemUTC());
+            var pause = lockedPause(entityManager, LockModeType.PESSIMISTIC_WRITE);
+            if (pause.isHeldBy(holder, now))
+                pause.resume();
+            return null;
+        });
+    }
+}
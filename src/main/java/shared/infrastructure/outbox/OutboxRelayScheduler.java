@@ -0,0 +1,86 @@
+package shared.infrastructure.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import shared.infrastructure.rebuild.EventSources;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays the outbox of every MySQL context. Contexts are paused in the same
+ * order by every holder, so holders pausing several of them never wait for
+ * each other in a cycle
+ */
+@Component
+public class OutboxRelayScheduler implements EventSources {
+    private final Map<String, OutboxRelay> relays = new LinkedHashMap<>();
+    private final Duration                 pauseLease;
+
+    public OutboxRelayScheduler(
+            EntityManagerFactory backofficeEntityManagerFactory,
+            @Qualifier("bookingEntityManagerFactory") EntityManagerFactory bookingEntityManagerFactory,
+            @Qualifier("authenticationEntityManagerFactory") EntityManagerFactory authenticationEntityManagerFactory,
+            EventDispatcher dispatcher,
+            MeterRegistry   meterRegistry,
+            Environment     env
+    ) {
+        int batchSize = env.getProperty("events.outbox.batch_size", Integer.class, 100);
+        var claim = Duration.ofMillis(env.getProperty("events.outbox.claim_ms", Long.class, 30000L));
+        int maxAttempts = env.getProperty("events.outbox.max_attempts", Integer.class, 10);
+        BiFunction<String, EntityManagerFactory, OutboxRelay> relay = (context, entityManagerFactory) ->
+                new OutboxRelay(
+                        context,
+                        entityManagerFactory,
+                        dispatcher,
+                        batchSize,
+                        claim,
+                        maxAttempts,
+                        meterRegistry
+                );
+        this.relays.put("backoffice", relay.apply("backoffice", backofficeEntityManagerFactory));
+        this.relays.put("booking", relay.apply("booking", bookingEntityManagerFactory));
+        this.relays.put("authentication", relay.apply("authentication", authenticationEntityManagerFactory));
+        this.pauseLease = Duration.ofMillis(env.getProperty("events.outbox.pause_lease_ms", Long.class, 60000L));
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll_interval_ms:200}")
+    public void relay() {
+        relays.values().forEach(OutboxRelay::relay);
+    }
+
+    private List<OutboxRelay> relays(List<String> contexts) {
+        for (String context : contexts)
+            if (!relays.containsKey(context))
+                throw new IllegalArgumentException("There is no outbox for context " + context);
+        return relays
+                .entrySet()
+                .stream()
+                .filter(relay -> contexts.contains(relay.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void pause(String holder, List<String> contexts) {
+        relays(contexts).forEach(relay -> relay.pause(holder, pauseLease));
+    }
+
+    @Override
+    public void renew(String holder, List<String> contexts) {
+        relays(contexts).forEach(relay -> relay.renew(holder, pauseLease));
+    }
+
+    @Override
+    public void resume(String holder, List<String> contexts) {
+        relays(contexts).forEach(relay -> relay.resume(holder));
+    }
+}
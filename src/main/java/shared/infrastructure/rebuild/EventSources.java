@@ -0,0 +1,41 @@
+package shared.infrastructure.rebuild;
+
+import java.util.List;
+
+/**
+ * EventSources stops the delivery of the events of some contexts, on every
+ * instance, while a projection they update is rebuilt. Events raised in the
+ * meantime are delivered once they are resumed, so they are applied to the
+ * rebuilt collection instead of the one it replaces. Pausing a context holds
+ * its events for every listener, not only the ones of the projection.
+ */
+public interface EventSources {
+
+    /**
+     * Returns once the events of the contexts already being delivered were
+     * handled, the pause is held until resumed or for a lease that has to be
+     * renewed
+     */
+    void pause(String holder, List<String> contexts);
+
+    /**
+     * Fails when the pause of some context was lost, events may have been
+     * delivered since
+     */
+    void renew(String holder, List<String> contexts);
+
+    void resume(String holder, List<String> contexts);
+
+    static EventSources none() {
+        return new EventSources() {
+            @Override
+            public void pause(String holder, List<String> contexts) {}
+
+            @Override
+            public void renew(String holder, List<String> contexts) {}
+
+            @Override
+            public void resume(String holder, List<String> contexts) {}
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package shared.infrastructure.rebuild;
+
+import io.vavr.control.Option;
+
+import java.util.List;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+
+/**
+ * Base of the rebuilds whose source is a MySQL context, rows are read as
+ * tuples so projections do not depend on the entities of other contexts
+ */
+public abstract class JPAProjectionRebuild implements ProjectionRebuild<Tuple> {
+    private final EntityManagerFactory entityManagerFactory;
+
+    protected JPAProjectionRebuild(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    protected <T> T read(Function<EntityManager, T> query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return query.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Runs a keyset query, after is bound to the :after parameter when the
+     * query is not for the first chunk
+     */
+    protected List<Tuple> chunk(String jpql, Option<Object> after, int size) {
+        return read(entityManager -> {
+            var query = entityManager.createQuery(jpql, Tuple.class).setMaxResults(size);
+            after.forEach(key -> query.setParameter("after", key));
+            return query.getResultList();
+        });
+    }
+}
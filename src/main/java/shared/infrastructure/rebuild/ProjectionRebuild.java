@@ -0,0 +1,58 @@
+package shared.infrastructure.rebuild;
+
+import io.vavr.control.Option;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ProjectionRebuild describes how to regenerate a projection from its source
+ * of truth: the rows it is built from, read in chunks ordered by their key,
+ * and how a chunk of rows is turned into the documents of the collection.
+ *
+ * @param <R> the rows read from the source
+ */
+public interface ProjectionRebuild<R> {
+
+    String projection();
+
+    String collection();
+
+    /**
+     * Amount of rows the rebuild is going to read, it is only used to report
+     * the progress so it is fine if it changes while rebuilding
+     */
+    long count();
+
+    /**
+     * @return at most size rows whose key comes after the key of the last row
+     * given, or the first ones when there is no last row, ordered by key
+     */
+    List<R> nextChunk(Option<R> last, int size);
+
+    /**
+     * Called in parallel for different chunks
+     */
+    List<?> transform(List<R> chunk);
+
+    /**
+     * Contexts whose outbox events update the projection, their delivery is
+     * paused while the projection is rebuilt so no event is applied to the
+     * live collection after the rows it changed were read. Every event of
+     * those contexts is held, including the ones other listeners wait for
+     */
+    default List<String> eventSources() { return List.of(); }
+
+    /**
+     * Called once the rebuilt collection replaced the live one, to apply again
+     * the changes made since the rebuild started by writers that do not go
+     * through an outbox
+     */
+    default void catchUp(Instant started) {}
+
+    /**
+     * Called once the rebuilt collection replaced the live one, for whatever
+     * is derived from the collection
+     */
+    default void rebuilt() {}
+}
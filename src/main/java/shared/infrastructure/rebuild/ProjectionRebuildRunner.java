@@ -0,0 +1,80 @@
+package shared.infrastructure.rebuild;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the projections listed in projections.rebuild.run once the
+ * application is started, one after the other.
+ *
+ * A rebuild pauses the whole outbox of the contexts its projection is built
+ * from, on every instance, until it is swapped in. Every listener of their
+ * events waits meanwhile, not only the ones of the projection: while the
+ * backoffice outbox is paused the booking context does not learn about new
+ * offices or inactivities, so they can not be booked until it resumes. Run
+ * rebuilds when a delay of the events of those contexts is acceptable.
+ */
+@Component
+public class ProjectionRebuildRunner implements ApplicationRunner {
+    private final Map<String, ProjectionRebuild<?>> rebuilds;
+    private final ProjectionRebuilder               rebuilder;
+    private final List<String>                      requested;
+
+    public ProjectionRebuildRunner(
+            List<ProjectionRebuild<?>> rebuilds,
+            MongoTemplate              mongoTemplate,
+            EventSources               eventSources,
+            MeterRegistry              meterRegistry,
+            Environment                env
+    ) {
+        int defaultParallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.rebuilds  = rebuilds
+                .stream()
+                .collect(Collectors.toMap(ProjectionRebuild::projection, Function.identity()));
+        this.rebuilder = new ProjectionRebuilder(
+                mongoTemplate,
+                env.getProperty("projections.rebuild.chunk_size", Integer.class, 500),
+                env.getProperty("projections.rebuild.parallelism", Integer.class, defaultParallelism),
+                Duration.ofMillis(env.getProperty("projections.rebuild.report_interval_ms", Long.class, 5000L)),
+                meterRegistry,
+                eventSources,
+                Clock.systemUTC()
+        );
+        this.requested = Arrays
+                .stream(env.getProperty("projections.rebuild.run", "").split(","))
+                .map(String::trim)
+                .filter(projection -> !projection.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public Try<RebuildProgress> rebuild(String projection) {
+        return Option.<ProjectionRebuild<?>>of(rebuilds.get(projection))
+                .toTry(() -> new IllegalArgumentException("There is no rebuild for projection " + projection))
+                .flatMap(rebuild -> rebuilder.rebuild(rebuild));
+    }
+
+    public Option<RebuildProgress> progress(String projection) {
+        return rebuilder.progress(projection);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        requested.forEach(projection -> rebuild(projection)
+                .onFailure(error -> LoggerFactory.getLogger(getClass()).error(error.getMessage())));
+    }
+}
@@ -0,0 +1,262 @@
+package shared.infrastructure.rebuild;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.RenameCollectionOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * ProjectionRebuilder regenerates the collection of a projection from its
+ * source of truth. Chunks are read one after the other in key order, so the
+ * source is never scanned with offsets, while they are transformed and bulk
+ * written by a bounded pool. When the pool is busy the reader transforms the
+ * chunk itself, which keeps at most a few chunks in memory. Documents are
+ * written into a shadow collection that replaces the live one with a single
+ * rename once it is complete, readers never see a half built projection.
+ *
+ * The events of the contexts the projection is built from are not delivered
+ * on any instance while it is rebuilt. Their listeners would update the live
+ * collection, which is dropped by the swap, after the rows they changed were
+ * read. They are delivered once the rebuilt collection replaced it instead.
+ */
+public class ProjectionRebuilder {
+    static final String SHADOW_SUFFIX = "__rebuild";
+
+    private final MongoTemplate                mongoTemplate;
+    private final int                          chunkSize;
+    private final int                          parallelism;
+    private final Duration                     reportInterval;
+    private final MeterRegistry                meterRegistry;
+    private final EventSources                 eventSources;
+    private final Clock                        clock;
+    private final Logger                       logger;
+    private final Map<String, RebuildProgress> rebuilds = new ConcurrentHashMap<>();
+
+    public ProjectionRebuilder(
+            MongoTemplate mongoTemplate,
+            int           chunkSize,
+            int           parallelism,
+            Duration      reportInterval,
+            MeterRegistry meterRegistry,
+            EventSources  eventSources,
+            Clock         clock
+    ) {
+        this.mongoTemplate  = mongoTemplate;
+        this.chunkSize      = chunkSize;
+        this.parallelism    = parallelism;
+        this.reportInterval = reportInterval;
+        this.meterRegistry  = meterRegistry;
+        this.eventSources   = eventSources;
+        this.clock          = clock;
+        this.logger         = LoggerFactory.getLogger(getClass());
+    }
+
+    public Option<RebuildProgress> progress(String projection) {
+        return Option.of(rebuilds.get(projection));
+    }
+
+    public <R> Try<RebuildProgress> rebuild(ProjectionRebuild<R> rebuild) {
+        return Try.of(rebuild::count).flatMap(total -> rebuild(rebuild, total));
+    }
+
+    private <R> Try<RebuildProgress> rebuild(ProjectionRebuild<R> rebuild, long total) {
+        var shadow = rebuild.collection() + SHADOW_SUFFIX;
+        var progress = new RebuildProgress(rebuild.projection(), total, clock);
+        if (rebuilds.put(rebuild.projection(), progress) == null)
+            registerGauges(rebuild.projection());
+        var workers = workers();
+        var sample = Timer.start(meterRegistry);
+        var holder = "rebuild-" + rebuild.projection() + "-" + UUID.randomUUID();
+        var sources = rebuild.eventSources();
+        var started = clock.instant();
+        logger.info(progress.toString());
+        return Try
+                .run(() -> {
+                    mongoTemplate.dropCollection(shadow);
+                    mongoTemplate.createCollection(shadow);
+                    eventSources.pause(holder, sources);
+                    load(rebuild, shadow, progress, workers, () -> eventSources.renew(holder, sources));
+                    copyIndexes(rebuild.collection(), shadow);
+                    // Events delivered after the pause was lost would be dropped by the swap
+                    eventSources.renew(holder, sources);
+                    swap(shadow, rebuild.collection());
+                })
+                .map(swapped -> progress.completed())
+                .onSuccess(completed -> logger.info(completed.toString()))
+                // The collection is already replaced, a failing hook does not fail the rebuild
+                .onSuccess(completed -> Try
+                        .run(() -> eventSources.resume(holder, sources))
+                        .onFailure(error -> logger.error(
+                                "Resuming events of rebuilt projection " + rebuild.projection() + " failed, "
+                                        + "they are delivered once the pause expires",
+                                error
+                        )))
+                .onSuccess(completed -> Try.run(() -> rebuild.catchUp(started)).onFailure(error -> logger.error(
+                        "Catching up rebuilt projection " + rebuild.projection() + " failed",
+                        error
+                )))
+                .onSuccess(completed -> Try.run(rebuild::rebuilt).onFailure(error -> logger.error(
+                        "Hook of rebuilt projection " + rebuild.projection() + " failed",
+                        error
+                )))
+                .onFailure(error -> {
+                    Try.run(() -> eventSources.resume(holder, sources));
+                    progress.failed();
+                    logger.error(progress.toString(), error);
+                    Try.run(() -> mongoTemplate.dropCollection(shadow));
+                })
+                .andFinally(() -> {
+                    workers.shutdownNow();
+                    sample.stop(meterRegistry.timer(
+                            "projections.rebuild.duration",
+                            "projection",
+                            rebuild.projection(),
+                            "status",
+                            progress.status().name()
+                    ));
+                });
+    }
+
+    private ExecutorService workers() {
+        return new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                new CustomizableThreadFactory("projection-rebuild-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    private void registerGauges(String projection) {
+        var tags = Tags.of("projection", projection);
+        gauge("projections.rebuild.total", tags, projection, RebuildProgress::total);
+        gauge("projections.rebuild.rows", tags, projection, RebuildProgress::rows);
+        gauge("projections.rebuild.rows_per_second", tags, projection, RebuildProgress::rowsPerSecond);
+        gauge("projections.rebuild.eta_seconds", tags, projection, progress -> progress
+                .eta()
+                .map(Duration::toSeconds)
+                .getOrElse(-1L));
+    }
+
+    /* Gauges read the latest rebuild of the projection, they are registered once */
+    private void gauge(String name, Tags tags, String projection, ToDoubleFunction<RebuildProgress> value) {
+        meterRegistry.gauge(name, tags, rebuilds, latest -> Option
+                .of(latest.get(projection))
+                .map(value::applyAsDouble)
+                .getOrElse(0d));
+    }
+
+    private <R> void load(
+            ProjectionRebuild<R> rebuild,
+            String               shadow,
+            RebuildProgress      progress,
+            ExecutorService      workers,
+            Runnable             renewPause
+    ) {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        Option<R> last = Option.none();
+        Instant lastReport = clock.instant();
+        List<R> chunk;
+        try {
+            do {
+                renewPause.run();
+                chunk = rebuild.nextChunk(last, chunkSize);
+                if (chunk.isEmpty())
+                    break;
+                var rows = chunk;
+                writes.add(CompletableFuture.runAsync(() -> write(rebuild, rows, shadow, progress), workers));
+                last = Option.of(chunk.get(chunk.size() - 1));
+                // A failed chunk fails the rebuild, there is no point in reading the rest of the source
+                writes.stream().filter(CompletableFuture::isCompletedExceptionally).findFirst().ifPresent(
+                        CompletableFuture::join
+                );
+                // Only chunks that succeeded are forgotten, a chunk that failed after the check is joined later
+                writes.removeIf(write -> write.isDone() && !write.isCompletedExceptionally());
+                if (Duration.between(lastReport, clock.instant()).compareTo(reportInterval) >= 0) {
+                    logger.info(progress.toString());
+                    lastReport = clock.instant();
+                }
+            } while (chunk.size() == chunkSize);
+        } catch (RuntimeException e) {
+            // Chunks in flight are waited for so none of them writes after the shadow is dropped
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+            throw e;
+        }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+    }
+
+    private <R> void write(ProjectionRebuild<R> rebuild, List<R> rows, String shadow, RebuildProgress progress) {
+        var documents = rebuild.transform(rows);
+        if (!documents.isEmpty())
+            mongoTemplate
+                    .bulkOps(BulkOperations.BulkMode.UNORDERED, shadow)
+                    .insert(documents)
+                    .execute();
+        progress.add(rows.size(), documents.size());
+    }
+
+    /**
+     * Indexes are built once all the documents are in, which is cheaper than
+     * maintaining them on every insert
+     */
+    private void copyIndexes(String collection, String shadow) {
+        if (!mongoTemplate.collectionExists(collection))
+            return;
+        for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+            if (index.getString("name").equals("_id_"))
+                continue;
+            var keys = index.get("key", Document.class);
+            var options = new IndexOptions()
+                    .name(index.getString("name"))
+                    .unique(index.getBoolean("unique", false))
+                    .sparse(index.getBoolean("sparse", false));
+            if (index.containsKey("partialFilterExpression"))
+                options.partialFilterExpression(index.get("partialFilterExpression", Document.class));
+            if (index.containsKey("expireAfterSeconds"))
+                options.expireAfter(((Number) index.get("expireAfterSeconds")).longValue(), TimeUnit.SECONDS);
+            if (index.containsKey("weights")) {
+                // Text indexes list their fields as weights, their key only holds the internal text fields
+                var weights = index.get("weights", Document.class);
+                keys = new Document();
+                for (String field : weights.keySet())
+                    keys.append(field, "text");
+                options.weights(weights).defaultLanguage(index.getString("default_language"));
+            }
+            mongoTemplate.getCollection(shadow).createIndex(keys, options);
+        }
+    }
+
+    private void swap(String shadow, String collection) {
+        var target = new MongoNamespace(mongoTemplate.getDb().getName(), collection);
+        mongoTemplate
+                .getCollection(shadow)
+                .renameCollection(target, new RenameCollectionOptions().dropTarget(true));
+    }
+}
@@ -0,0 +1,104 @@
+package shared.infrastructure.rebuild;
+
+import io.vavr.control.Option;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+public class RebuildProgress {
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String     projection;
+    private final long       total;
+    private final Clock      clock;
+    private final Instant    started;
+    private final AtomicLong rows      = new AtomicLong();
+    private final AtomicLong documents = new AtomicLong();
+    private volatile Status  status    = Status.RUNNING;
+    private volatile Instant finished;
+
+    public RebuildProgress(String projection, long total, Clock clock) {
+        this.projection = projection;
+        this.total      = total;
+        this.clock      = clock;
+        this.started    = clock.instant();
+    }
+
+    void add(int rows, int documents) {
+        this.rows.addAndGet(rows);
+        this.documents.addAndGet(documents);
+    }
+
+    RebuildProgress completed() {
+        finished = clock.instant();
+        status = Status.COMPLETED;
+        return this;
+    }
+
+    RebuildProgress failed() {
+        finished = clock.instant();
+        status = Status.FAILED;
+        return this;
+    }
+
+    public String projection() { return projection; }
+
+    public Status status() { return status; }
+
+    public long total() { return total; }
+
+    public long rows() { return rows.get(); }
+
+    public long documents() { return documents.get(); }
+
+    public Duration elapsed() {
+        return Duration.between(started, finished != null ? finished : clock.instant());
+    }
+
+    public double ratio() {
+        if (total == 0)
+            return status == Status.COMPLETED ? 1 : 0;
+        return Math.min(1, (double) rows() / total);
+    }
+
+    public double rowsPerSecond() {
+        long elapsedMs = elapsed().toMillis();
+        if (elapsedMs == 0)
+            return 0;
+        return rows() * 1000d / elapsedMs;
+    }
+
+    /**
+     * Time left at the throughput reached so far, none until the first chunk
+     * is written
+     */
+    public Option<Duration> eta() {
+        if (status != Status.RUNNING)
+            return Option.of(Duration.ZERO);
+        double rowsPerSecond = rowsPerSecond();
+        if (rowsPerSecond == 0)
+            return Option.none();
+        long rowsLeft = Math.max(0, total - rows());
+        return Option.of(Duration.ofMillis((long) (rowsLeft / rowsPerSecond * 1000)));
+    }
+
+    @Override
+    public String toString() {
+        return format(
+                "Rebuild of %s %s: %d/%d rows (%.1f%%), %d documents, %.1f rows/s, elapsed %ss, ETA %s",
+                projection,
+                status,
+                rows(),
+                total,
+                ratio() * 100,
+                documents(),
+                rowsPerSecond(),
+                elapsed().toSeconds(),
+                eta().map(eta -> eta.toSeconds() + "s").getOrElse("unknown")
+        );
+    }
+}
@@ -110,6 +110,8 @@ class OfficeBranchFinderByOfficeHolderSpec extends Specification {
                                     'street'  : officeBranch1.toResponse().location.street,
                                     'province': officeBranch1.toResponse().location.province,
                                     'zipCode' : officeBranch1.toResponse().location.zipCode,
+                                    'latitude': officeBranch1.toResponse().location.latitude,
+                                    'longitude': officeBranch1.toResponse().location.longitude,
                             ]
                     ],
                     [
@@ -124,6 +126,8 @@ class OfficeBranchFinderByOfficeHolderSpec extends Specification {
                                     'street'  : officeBranch2.toResponse().location.street,
                                     'province': officeBranch2.toResponse().location.province,
                                     'zipCode' : officeBranch2.toResponse().location.zipCode,
+                                    'latitude': officeBranch2.toResponse().location.latitude,
+                                    'longitude': officeBranch2.toResponse().location.longitude,
                             ]
                     ],
                     [
@@ -138,9 +142,58 @@ class OfficeBranchFinderByOfficeHolderSpec extends Specification {
                                     'street'  : officeBranch3.toResponse().location.street,
                                     'province': officeBranch3.toResponse().location.province,
                                     'zipCode' : officeBranch3.toResponse().location.zipCode,
+                                    'latitude': officeBranch3.toResponse().location.latitude,
+                                    'longitude': officeBranch3.toResponse().location.longitude,
                             ]
                     ]
             ] as Set
         }
     }
+
+    void "it should return the page of office branches requested with pagination information"() {
+        given: "An office holder with 3 office branches"
+        def officeHolder = new OfficeHolderBuilder().build()
+        officeHolderRepo.store(officeHolder)
+        officeBranchRepo.store(new OfficeBranchBuilder().withOwner(officeHolder).build()).get()
+        officeBranchRepo.store(new OfficeBranchBuilder().withOwner(officeHolder).build()).get()
+        officeBranchRepo.store(new OfficeBranchBuilder().withOwner(officeHolder).build()).get()
+
+        when:
+        def response = mockMvc
+                .perform(get("/api/office_holders/${officeHolder.id()}/office_branches/?page=1&size=2"))
+                .andReturn().response
+
+        then:
+        response.status == HttpStatus.OK.value()
+        and:
+        with(objectMapper.readValue(response.contentAsString, Map)) {
+            it.data.size() == 1
+            it.pagination == [
+                    'pageSize'   : 2,
+                    'totalPages' : 2,
+                    'currentPage': 2,
+                    'lastPage'   : true,
+            ]
+        }
+    }
+
+    void "it should return every office branch as a list when no page is requested"() {
+        given: "An office holder with 25 office branches"
+        def officeHolder = new OfficeHolderBuilder().build()
+        officeHolderRepo.store(officeHolder)
+        25.times { officeBranchRepo.store(new OfficeBranchBuilder().withOwner(officeHolder).build()).get() }
+
+        when:
+        def response = mockMvc
+                .perform(get("/api/office_holders/${officeHolder.id()}/office_branches/"))
+                .andReturn().response
+
+        then:
+        response.status == HttpStatus.OK.value()
+        and:
+        with(objectMapper.readValue(response.contentAsString, Map)) {
+            it.data.size() == 25
+            it.pagination == null
+        }
+    }
 }
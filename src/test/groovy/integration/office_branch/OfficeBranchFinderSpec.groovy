@@ -98,7 +98,9 @@ class OfficeBranchFinderSpec extends Specification {
                             'province'  : officeBranch.location().province(),
                             'city'      : officeBranch.location().city(),
                             'street'    : officeBranch.location().street(),
-                            'zipCode': officeBranch.location().zipCode()
+                            'zipCode': officeBranch.location().zipCode(),
+                            'latitude'  : officeBranch.location().latitude(),
+                            'longitude' : officeBranch.location().longitude()
                     ]
             ]
         }
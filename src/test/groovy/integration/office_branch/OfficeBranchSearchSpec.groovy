@@ -5,10 +5,14 @@ import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
 import org.springframework.boot.test.context.SpringBootTest
 import org.springframework.data.mongodb.core.MongoTemplate
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType
+import org.springframework.data.mongodb.core.index.GeospatialIndex
 import org.springframework.http.HttpStatus
 import org.springframework.test.context.ContextConfiguration
 import org.springframework.test.web.servlet.MockMvc
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
+import search.application.SearchResultCache
+import search.domain.OfficeBranch
 import search.domain.OfficeBranchRepository
 import search.domain.OfficePrivacy
 import search.factories.OfficeBranchBuilder
@@ -28,10 +32,14 @@ class OfficeBranchSearchSpec extends Specification {
     MockMvc mockMvc
     @Autowired
     ObjectMapper objectMapper
+    @Autowired
+    SearchResultCache searchResultCache
 
     def cleanup() {
         var collection = mongoTemplate.getCollection("office_branches")
         collection.drop()
+        // Office branches are stored straight into the projection, the listeners never invalidate the cache
+        searchResultCache.invalidateAll()
     }
 
     void "it should return empty when there is no office branch stored"() {
@@ -495,4 +503,115 @@ class OfficeBranchSearchSpec extends Specification {
             ] as Set
         }
     }
+
+    void "it should return office branches that match the text typed most relevant first"() {
+        given:
+        def officeBranch1 = OfficeBranchBuilder.builder()
+                .withName("Palermo Hollywood")
+                .build()
+        def officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .addOffice(OfficeBuilder.builder().withName("Sala de reuniones").build())
+                .build()
+        def officeBranch3 = OfficeBranchBuilder.builder()
+                .withName("Monumental")
+                .build()
+        officeBranchRepo.store(officeBranch1)
+        officeBranchRepo.store(officeBranch2)
+        officeBranchRepo.store(officeBranch3)
+
+        when:
+        def response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/office_branches/search/?q=cowrk palermo reuniones"))
+                .andReturn().response
+
+        then:
+        response.status == HttpStatus.OK.value()
+        and:
+        with(objectMapper.readValue(response.contentAsString, Map)) {
+            it.data.collect { officeBranch -> officeBranch.id } == [
+                    officeBranch2.toResponse().id,
+                    officeBranch1.toResponse().id
+            ]
+        }
+    }
+
+    void "it should return office branches within the radius specified nearest first"() {
+        given: 'The geospatial index, which is dropped with the collection after every feature'
+        mongoTemplate
+                .indexOps(OfficeBranch)
+                .ensureIndex(new GeospatialIndex("location").typed(GeoSpatialIndexType.GEO_2DSPHERE))
+        def officeBranch1 = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5627, -58.4565)
+                .build()
+        def officeBranch2 = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5889, -58.4306)
+                .build()
+        def officeBranch3 = OfficeBranchBuilder.builder()
+                .withCoordinates(-32.8895, -68.8458)
+                .build()
+        officeBranchRepo.store(officeBranch1)
+        officeBranchRepo.store(officeBranch2)
+        officeBranchRepo.store(officeBranch3)
+
+        when:
+        def response = mockMvc
+                .perform(MockMvcRequestBuilders.get(
+                        "/api/office_branches/search/?latitude=-34.581&longitude=-58.421&radius_km=10"))
+                .andReturn().response
+
+        then:
+        response.status == HttpStatus.OK.value()
+        and:
+        with(objectMapper.readValue(response.contentAsString, Map)) {
+            it.data.collect { officeBranch -> officeBranch.id } == [
+                    officeBranch2.toResponse().id,
+                    officeBranch1.toResponse().id
+            ]
+            it.pagination.totalPages == 1
+        }
+    }
+
+    void "it should return the facets of the office branches that match when they are requested"() {
+        given:
+        def officeBranch1 = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCity("Palermo")
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.PRIVATE).withCapacity(4).withPrice(300).build())
+                .build()
+        def officeBranch2 = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCity("Belgrano")
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.SHARED).withCapacity(30).withPrice(1200).build())
+                .build()
+        officeBranchRepo.store(officeBranch1)
+        officeBranchRepo.store(officeBranch2)
+
+        when:
+        def response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/office_branches/search/?facets=true&size=1"))
+                .andReturn().response
+
+        then:
+        response.status == HttpStatus.OK.value()
+        and:
+        with(objectMapper.readValue(response.contentAsString, Map)) {
+            it.data.size() == 1
+            it.pagination == [
+                    'pageSize'   : 1,
+                    'totalPages' : 2,
+                    'currentPage': 1,
+                    'lastPage'   : false
+            ]
+            it.facets == [
+                    'privacy' : [['value': 'PRIVATE', 'count': 1], ['value': 'SHARED', 'count': 1]],
+                    'capacity': [['value': '0-4', 'count': 1], ['value': '20-49', 'count': 1]],
+                    'price'   : [['value': '0-499', 'count': 1], ['value': '1000-2499', 'count': 1]],
+                    'province': [['value': 'Buenos Aires', 'count': 2]],
+                    'city'    : [['value': 'Belgrano', 'count': 1], ['value': 'Palermo', 'count': 1]]
+            ]
+        }
+    }
 }
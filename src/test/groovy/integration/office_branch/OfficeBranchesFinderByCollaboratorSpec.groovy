@@ -147,7 +147,9 @@ class OfficeBranchesFinderByCollaboratorSpec extends Specification {
                                     'city'    : collaborator1.officeBranch().toResponse().location.city,
                                     'street'  : collaborator1.officeBranch().toResponse().location.street,
                                     'province': collaborator1.officeBranch().toResponse().location.province,
-                                    'zipCode' : collaborator1.officeBranch().toResponse().location.zipCode
+                                    'zipCode' : collaborator1.officeBranch().toResponse().location.zipCode,
+                                    'latitude': collaborator1.officeBranch().toResponse().location.latitude,
+                                    'longitude': collaborator1.officeBranch().toResponse().location.longitude
                             ]
                     ],
                     [
@@ -161,7 +163,9 @@ class OfficeBranchesFinderByCollaboratorSpec extends Specification {
                                     'city'    : collaborator2.officeBranch().toResponse().location.city,
                                     'street'  : collaborator2.officeBranch().toResponse().location.street,
                                     'province': collaborator2.officeBranch().toResponse().location.province,
-                                    'zipCode' : collaborator2.officeBranch().toResponse().location.zipCode
+                                    'zipCode' : collaborator2.officeBranch().toResponse().location.zipCode,
+                                    'latitude': collaborator2.officeBranch().toResponse().location.latitude,
+                                    'longitude': collaborator2.officeBranch().toResponse().location.longitude
                             ]
                     ],
                     [
@@ -175,7 +179,9 @@ class OfficeBranchesFinderByCollaboratorSpec extends Specification {
                                     'city'    : collaborator3.officeBranch().toResponse().location.city,
                                     'street'  : collaborator3.officeBranch().toResponse().location.street,
                                     'province': collaborator3.officeBranch().toResponse().location.province,
-                                    'zipCode' : collaborator3.officeBranch().toResponse().location.zipCode
+                                    'zipCode' : collaborator3.officeBranch().toResponse().location.zipCode,
+                                    'latitude': collaborator3.officeBranch().toResponse().location.latitude,
+                                    'longitude': collaborator3.officeBranch().toResponse().location.longitude
                             ]
                     ],
             ] as Set
@@ -9,6 +9,7 @@ import authentication.domain.token.TokenRepository;
 import authentication.domain.user.AuthUser;
 import authentication.domain.user.AuthUserRepository;
 import authentication.domain.user.PasswordEncoder;
+import authentication.domain.user.PasswordHashingUnavailable;
 import authentication.domain.user.Status;
 import authentication.factories.AuthUserBuilder;
 import io.vavr.control.Either;
@@ -18,6 +19,7 @@ import shared.application.UseCaseError;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -93,6 +95,29 @@ public class TestAuthUserAuthenticator {
         assertThat(authentication.getLeft()).isEqualTo(UserError.NON_ACTIVE_USER);
     }
 
+    @Test
+    void itShouldReturnPasswordHashingUnavailableWhenEncoderRejectsTheRequest() {
+        AuthUser authUser = new AuthUserBuilder().build();
+        when(authUserRepository.findByEmail(anyString())).thenReturn(Option.of(authUser));
+        when(passwordEncoder.match(anyString(), anyString()))
+                .thenThrow(new PasswordHashingUnavailable("Password hashing pool is saturated"));
+
+        Either<UseCaseError, Authentication> authentication = authenticator
+                .login(new UserLoginInformation("test@mail.com", "12"));
+
+        assertThat(authentication.getLeft()).isEqualTo(UserError.PASSWORD_HASHING_UNAVAILABLE);
+    }
+
+    @Test
+    void itShouldRethrowFailuresThatAreNotAnUnavailableHashing() {
+        AuthUser authUser = new AuthUserBuilder().build();
+        when(authUserRepository.findByEmail(anyString())).thenReturn(Option.of(authUser));
+        when(passwordEncoder.match(anyString(), anyString())).thenThrow(new IllegalStateException("Bug"));
+
+        assertThatThrownBy(() -> authenticator.login(new UserLoginInformation("test@mail.com", "12")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void itShouldStoreTokenWhenCallLogout() {
         Token token = new Token("a123");
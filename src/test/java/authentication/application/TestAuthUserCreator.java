@@ -8,12 +8,12 @@ import authentication.domain.user.AuthUser;
 import authentication.domain.user.AuthUserId;
 import authentication.domain.user.AuthUserRepository;
 import authentication.domain.user.PasswordEncoder;
+import authentication.domain.user.PasswordHashingUnavailable;
 import authentication.domain.user.UserCreatedEvent;
 import authentication.domain.user.UserEmailAlreadyExist;
 import io.vavr.control.Either;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 import shared.domain.email.EmailSender;
 import shared.domain.email.Message;
 import shared.domain.email.template.AccountConfirmationTemplate;
@@ -23,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -32,7 +34,6 @@ import static org.mockito.Mockito.when;
 
 public class TestAuthUserCreator {
 
-    EventBus eventBus = mock(EventBus.class);
     EmailSender emailSender = mock(EmailSender.class);
     TokenGenerator tokenGenerator = mock(TokenGenerator.class);
     PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
@@ -41,7 +42,6 @@ public class TestAuthUserCreator {
     ArgumentCaptor<AuthUser> userArgumentCaptor = ArgumentCaptor.forClass(AuthUser.class);
 
     AuthUserCreator creator = new AuthUserCreator(
-            eventBus,
             emailSender,
             tokenGenerator,
             templateFactory,
@@ -52,12 +52,12 @@ public class TestAuthUserCreator {
     @Test
     void itShouldStoreNewUserWithEmailAndIdProvided() {
         AuthUserId id = new AuthUserId();
-        when(authUserRepository.store(any())).thenReturn(Try.success(null));
+        when(authUserRepository.store(any(), any())).thenReturn(Try.success(null));
         when(tokenGenerator.create(any())).thenReturn(new Token("123"));
 
         creator.createUser(id, new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER"));
 
-        verify(authUserRepository).store(userArgumentCaptor.capture());
+        verify(authUserRepository).store(userArgumentCaptor.capture(), any());
         AuthUser authUser = userArgumentCaptor.getValue();
         assertThat(authUser.email()).isEqualTo("test@mail.com");
         assertThat(authUser.id()).isEqualTo(id);
@@ -66,12 +66,12 @@ public class TestAuthUserCreator {
     @Test
     void itShouldStoreNewUserWithPendingStatus() {
         AuthUserId id = new AuthUserId();
-        when(authUserRepository.store(any())).thenReturn(Try.success(null));
+        when(authUserRepository.store(any(), any())).thenReturn(Try.success(null));
         when(tokenGenerator.create(any())).thenReturn(new Token("123"));
 
         creator.createUser(id, new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER"));
 
-        verify(authUserRepository).store(userArgumentCaptor.capture());
+        verify(authUserRepository).store(userArgumentCaptor.capture(), any());
         AuthUser authUser = userArgumentCaptor.getValue();
         assertThat(authUser.isActive()).isFalse();
     }
@@ -79,11 +79,11 @@ public class TestAuthUserCreator {
     @Test
     void itShouldStoreNewUserWithPasswordEncoded() {
         when(passwordEncoder.encode(anyString())).thenReturn("super_secret_password");
-        when(authUserRepository.store(any())).thenReturn(Try.success(null));
+        when(authUserRepository.store(any(), any())).thenReturn(Try.success(null));
         when(tokenGenerator.create(any())).thenReturn(new Token("123"));
 
         creator.createUser(new AuthUserId(), new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER"));
-        verify(authUserRepository).store(userArgumentCaptor.capture());
+        verify(authUserRepository).store(userArgumentCaptor.capture(), any());
         AuthUser authUser = userArgumentCaptor.getValue();
         assertThat(authUser.password()).isEqualTo("super_secret_password");
     }
@@ -91,20 +91,20 @@ public class TestAuthUserCreator {
     @Test
     void itShouldPublishUserCreatedEvent() {
         AuthUserId id = new AuthUserId();
-        when(authUserRepository.store(any())).thenReturn(Try.success(null));
+        when(authUserRepository.store(any(), any())).thenReturn(Try.success(null));
         when(tokenGenerator.create(any())).thenReturn(new Token("123"));
 
         creator.createUser(id, new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER"));
 
-        verify(eventBus, times(1)).publish(
+        verify(authUserRepository, times(1)).store(any(), eq(
                 new UserCreatedEvent(id.toString(), "test@mail.com", "OFFICE_HOLDER")
-        );
+        ));
     }
 
     @Test
     void itShouldReturnUserCreationErrorWhenStoreFails() {
         AuthUserId id = new AuthUserId();
-        when(authUserRepository.store(any())).thenReturn(
+        when(authUserRepository.store(any(), any())).thenReturn(
                 Try.failure(new UserEmailAlreadyExist())
         );
 
@@ -116,10 +116,35 @@ public class TestAuthUserCreator {
         assertThat(response.getLeft()).isEqualTo(UserError.USER_EMAIL_ALREADY_EXISTS);
     }
 
+    @Test
+    void itShouldReturnPasswordHashingUnavailableWhenEncoderRejectsTheRequest() {
+        when(passwordEncoder.encode(anyString()))
+                .thenThrow(new PasswordHashingUnavailable("Password hashing pool is saturated"));
+
+        Either<UseCaseError, Void> response = creator.createUser(
+                new AuthUserId(),
+                new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER")
+        );
+
+        assertThat(response.getLeft()).isEqualTo(UserError.PASSWORD_HASHING_UNAVAILABLE);
+        verify(authUserRepository, times(0)).store(any(), any());
+    }
+
+    @Test
+    void itShouldRethrowFailuresThatAreNotAnUnavailableHashing() {
+        when(passwordEncoder.encode(anyString())).thenThrow(new IllegalStateException("Bug"));
+
+        assertThatThrownBy(() -> creator.createUser(
+                new AuthUserId(),
+                new UserInformation("test@mail.com", "1234", "OFFICE_HOLDER")
+        )).isInstanceOf(IllegalStateException.class);
+        verify(authUserRepository, times(0)).store(any(), any());
+    }
+
     @Test
     void itShouldSendEmailAfterUserIsCreated() {
         AuthUserId id = new AuthUserId();
-        when(authUserRepository.store(any())).thenReturn(Try.success(null));
+        when(authUserRepository.store(any(), any())).thenReturn(Try.success(null));
         when(tokenGenerator.create(any())).thenReturn(new Token("1234"));
         when(templateFactory.createAccountConfirmationTemplate("1234"))
                 .thenReturn(new AccountConfirmationTemplate("1234", "localhost:3000"));
@@ -0,0 +1,51 @@
+package authentication.infrastructure;
+
+import authentication.infrastructure.springsecurity.RouteTrieRequestMatcher;
+import authentication.infrastructure.springsecurity.settings.SpringSecurityConfig;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static authentication.infrastructure.TestRouteTrieRequestMatcher.METHODS;
+import static authentication.infrastructure.TestRouteTrieRequestMatcher.PATHS;
+import static authentication.infrastructure.TestRouteTrieRequestMatcher.antMatcherChain;
+import static authentication.infrastructure.TestRouteTrieRequestMatcher.request;
+
+@Tag("benchmark")
+public class RouteTrieRequestMatcherBenchmark {
+    static final int WARMUP_ROUNDS = 2_000;
+    static final int MEASURED_ROUNDS = 20_000;
+
+    List<HttpServletRequest> requests = METHODS.stream()
+            .flatMap(method -> PATHS.stream().map(path -> request(method, path)))
+            .collect(Collectors.toList());
+
+    long run(RequestMatcher matcher, int rounds) {
+        long matched = 0;
+        for (int i = 0; i < rounds; i++)
+            for (HttpServletRequest request : requests)
+                if (matcher.matches(request))
+                    matched++;
+        return matched;
+    }
+
+    double nanosPerMatch(RequestMatcher matcher) {
+        run(matcher, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        run(matcher, MEASURED_ROUNDS);
+        return (System.nanoTime() - start) / (double) (MEASURED_ROUNDS * requests.size());
+    }
+
+    @Test
+    void compareTrieAgainstAntMatcherChain() {
+        RequestMatcher antMatchers = antMatcherChain(SpringSecurityConfig.PROTECTED_ROUTES);
+        RequestMatcher trie = RouteTrieRequestMatcher.compile(SpringSecurityConfig.PROTECTED_ROUTES);
+
+        System.out.printf("Ant matcher chain: %.1f ns/request%n", nanosPerMatch(antMatchers));
+        System.out.printf("Route trie:        %.1f ns/request%n", nanosPerMatch(trie));
+    }
+}
@@ -0,0 +1,46 @@
+package authentication.infrastructure;
+
+import authentication.infrastructure.springsecurity.settings.BCryptWorkFactorCalibrator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static authentication.infrastructure.springsecurity.settings.BCryptWorkFactorCalibrator.MAX_STRENGTH;
+import static authentication.infrastructure.springsecurity.settings.BCryptWorkFactorCalibrator.MIN_STRENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBCryptWorkFactorCalibrator {
+
+    List<Integer> probed = new ArrayList<>();
+
+    /* A millisecond at the minimum strength, doubling with every strength point as bcrypt does */
+    BCryptWorkFactorCalibrator calibrator = new BCryptWorkFactorCalibrator(strength -> {
+        probed.add(strength);
+        return Duration.ofMillis(1L << (strength - MIN_STRENGTH)).toNanos();
+    });
+
+    @Test
+    void itShouldNeverGoBelowMinimumStrength() {
+        assertThat(calibrator.calibrate(Duration.ZERO)).isEqualTo(MIN_STRENGTH);
+    }
+
+    @Test
+    void itShouldPickTheHighestStrengthWithinTheBudget() {
+        // 1, 2, 4 and 8ms fit in 10ms, 16ms does not
+        assertThat(calibrator.calibrate(Duration.ofMillis(10))).isEqualTo(MIN_STRENGTH + 3);
+    }
+
+    @Test
+    void itShouldNotProbeStrengthsWhoseEstimateIsOutOfBudget() {
+        calibrator.calibrate(Duration.ofMillis(10));
+
+        assertThat(probed).containsExactly(MIN_STRENGTH, MIN_STRENGTH + 1, MIN_STRENGTH + 2, MIN_STRENGTH + 3);
+    }
+
+    @Test
+    void itShouldNeverGoAboveMaximumStrength() {
+        assertThat(calibrator.calibrate(Duration.ofHours(1))).isEqualTo(MAX_STRENGTH);
+    }
+}
@@ -0,0 +1,87 @@
+package authentication.infrastructure;
+
+import authentication.domain.user.PasswordEncoder;
+import authentication.domain.user.PasswordHashingUnavailable;
+import authentication.infrastructure.springsecurity.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestBoundedPasswordEncoder {
+
+    PasswordEncoder delegate = mock(PasswordEncoder.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            delegate,
+            executor,
+            Duration.ofMillis(200),
+            meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void itShouldEncodeUsingDelegateEncoder() {
+        when(delegate.encode("1234")).thenReturn("encoded");
+
+        assertThat(encoder.encode("1234")).isEqualTo("encoded");
+        assertThat(meterRegistry.get("auth.password_hashing").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldMatchUsingDelegateEncoder() {
+        when(delegate.match("1234", "encoded")).thenReturn(true);
+
+        assertThat(encoder.match("1234", "encoded")).isTrue();
+        assertThat(meterRegistry.get("auth.password_hashing").tag("operation", "match").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldRejectWhenPoolAndQueueAreFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        assertThatThrownBy(() -> encoder.encode("1234")).isInstanceOf(PasswordHashingUnavailable.class);
+        assertThat(meterRegistry.get("auth.password_hashing.rejected").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void itShouldFailWhenHashingTakesLongerThanTimeout() {
+        when(delegate.match(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return true;
+        });
+
+        assertThatThrownBy(() -> encoder.match("1234", "encoded")).isInstanceOf(PasswordHashingUnavailable.class);
+    }
+}
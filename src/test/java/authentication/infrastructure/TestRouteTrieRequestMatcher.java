@@ -0,0 +1,104 @@
+package authentication.infrastructure;
+
+import authentication.infrastructure.springsecurity.RouteTrieRequestMatcher;
+import authentication.infrastructure.springsecurity.RouteTrieRequestMatcher.Route;
+import authentication.infrastructure.springsecurity.settings.SpringSecurityConfig;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestRouteTrieRequestMatcher {
+
+    static final List<String> METHODS = List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS");
+    static final List<String> PATHS = List.of(
+            "/",
+            "/api/users/",
+            "/api/users/me/",
+            "/api/users/me",
+            "/api/users/123/",
+            "/api/users//me/",
+            "/api/bookings/",
+            "/api/bookings",
+            "/api/bookings/1/",
+            "/api/bookings/1/mp_preferences/",
+            "/api/bookings/1/mp_notifications/",
+            "/api/office_holders/",
+            "/api/office_holders/1/",
+            "/api/office_holders/1/office_branches/",
+            "/api/office_branches/",
+            "/api/office_branches/search/",
+            "/api/office_branches/1/",
+            "/api/office_branches/1/offices/",
+            "/api/office_branches/1/review_stats/",
+            "/api/office_branches/1/roles/extra/",
+            "/api/offices/1/inactivities/",
+            "/api/offices/1/booking_scheduled_times/",
+            "/api/office_branch_reports/1/total_amount_per_month/",
+            "/api/roles/1",
+            "/api/roles/1/",
+            "/unknown/path/"
+    );
+
+    static HttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    static RequestMatcher antMatcherChain(List<Route> routes) {
+        return new OrRequestMatcher(routes.stream()
+                .map(route -> new AntPathRequestMatcher(
+                        route.pattern(),
+                        route.method() == null ? null : route.method().name()
+                ))
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void itShouldMatchTheSameRequestsAsTheAntMatcherChain() {
+        RequestMatcher antMatchers = antMatcherChain(SpringSecurityConfig.PROTECTED_ROUTES);
+        RequestMatcher trie = RouteTrieRequestMatcher.compile(SpringSecurityConfig.PROTECTED_ROUTES);
+
+        for (String method : METHODS)
+            for (String path : PATHS)
+                assertThat(trie.matches(request(method, path)))
+                        .as("%s %s", method, path)
+                        .isEqualTo(antMatchers.matches(request(method, path)));
+    }
+
+    @Test
+    void itShouldOnlyMatchRouteMethod() {
+        RequestMatcher trie = RouteTrieRequestMatcher.compile(List.of(Route.of("/api/offices/*/", "PUT")));
+
+        assertThat(trie.matches(request("PUT", "/api/offices/1/"))).isTrue();
+        assertThat(trie.matches(request("GET", "/api/offices/1/"))).isFalse();
+    }
+
+    @Test
+    void itShouldPreferLiteralSegmentButFallbackToWildcard() {
+        RequestMatcher trie = RouteTrieRequestMatcher.compile(List.of(
+                Route.of("/api/users/me/", "GET"),
+                Route.of("/api/users/*/", "PUT")
+        ));
+
+        assertThat(trie.matches(request("GET", "/api/users/me/"))).isTrue();
+        assertThat(trie.matches(request("PUT", "/api/users/me/"))).isTrue();
+        assertThat(trie.matches(request("GET", "/api/users/1/"))).isFalse();
+    }
+
+    @Test
+    void itShouldRejectPartialWildcardSegments() {
+        assertThatThrownBy(() -> RouteTrieRequestMatcher.compile(List.of(Route.of("/api/users/**"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
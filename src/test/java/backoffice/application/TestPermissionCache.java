@@ -0,0 +1,96 @@
+package backoffice.application;
+
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.role.PermissionGenerationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestPermissionCache {
+    PermissionGenerationRepository generationRepo = mock(PermissionGenerationRepository.class);
+    AtomicLong nanoTime = new AtomicLong();
+    AtomicInteger resolutions = new AtomicInteger();
+    PermissionCache permissionCache = new PermissionCache(new SimpleMeterRegistry(), generationRepo, nanoTime::get);
+    OfficeBranchId officeBranchId = new OfficeBranchId();
+
+    @BeforeEach
+    void setUp() {
+        when(generationRepo.current()).thenReturn(Try.success(0L));
+        when(generationRepo.increment()).thenReturn(Try.success(null));
+    }
+
+    private Map<OfficeBranchId, ResolvedPermissions> get() {
+        return permissionCache.getAll("john@wick.com", List.of(officeBranchId), missing -> {
+            resolutions.incrementAndGet();
+            return missing.stream().collect(Collectors.toMap(id -> id, id -> ResolvedPermissions.owner()));
+        });
+    }
+
+    private void elapse(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void itShouldKeepPermissionsWhileTheGenerationDoesNotMove() {
+        get();
+        elapse(Duration.ofSeconds(5));
+        get();
+
+        assertThat(resolutions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldDropPermissionsWhenAnotherInstanceMovedTheGeneration() {
+        get();
+        when(generationRepo.current()).thenReturn(Try.success(1L));
+        elapse(Duration.ofSeconds(1));
+        get();
+
+        assertThat(resolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldReadTheGenerationAtMostOncePerCheckInterval() {
+        get();
+        get();
+        elapse(Duration.ofMillis(500));
+        get();
+
+        verify(generationRepo, times(1)).current();
+    }
+
+    @Test
+    void itShouldDropPermissionsWhenTheGenerationCanNotBeRead() {
+        get();
+        when(generationRepo.current()).thenReturn(Try.failure(new RuntimeException("Database down")));
+        elapse(Duration.ofSeconds(1));
+        get();
+
+        assertThat(resolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldMoveTheGenerationWhenPermissionsAreInvalidated() {
+        get();
+        permissionCache.invalidate(officeBranchId);
+        permissionCache.invalidate("john@wick.com", officeBranchId);
+        get();
+
+        verify(generationRepo, times(2)).increment();
+        assertThat(resolutions.get()).isEqualTo(2);
+    }
+}
@@ -2,31 +2,41 @@ package backoffice.application;
 
 import authentication.application.AuthUserFinder;
 import authentication.application.dto.user.AuthUserResponse;
-import backoffice.application.office_branch.OfficeBranchAuthValidator;
 import backoffice.domain.collaborator.CollaboratorRepository;
 import backoffice.domain.collaborator.Status;
-import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.office_branch.OfficeBranchRepository;
 import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
+import backoffice.domain.role.PermissionGenerationRepository;
 import backoffice.domain.role.Resource;
 import backoffice.factories.CollaboratorBuilder;
 import backoffice.factories.OfficeBranchBuilder;
 import backoffice.factories.RoleBuilder;
 import com.google.common.collect.ImmutableSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Option;
+import io.vavr.control.Try;
 
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestPermissionValidator {
     AuthUserFinder authUserFinder = mock(AuthUserFinder.class);
     CollaboratorRepository collaboratorRepo = mock(CollaboratorRepository.class);
-    OfficeBranchAuthValidator officeBranchAuthValidator = mock(OfficeBranchAuthValidator.class);
+    OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
 
     AuthUserResponse authUserResponse = AuthUserResponse.of(
             "1",
@@ -38,10 +48,20 @@ public class TestPermissionValidator {
             "",
             "image.url"
     );
+    PermissionGenerationRepository generationRepo = mock(PermissionGenerationRepository.class);
+    PermissionCache permissionCache = new PermissionCache(new SimpleMeterRegistry(), generationRepo);
+
+    @BeforeEach
+    void setUp() {
+        when(generationRepo.current()).thenReturn(Try.success(0L));
+        when(generationRepo.increment()).thenReturn(Try.success(null));
+    }
+
     PermissionValidator permissionValidator = new PermissionValidator(
             authUserFinder,
             collaboratorRepo,
-            officeBranchAuthValidator
+            officeBranchRepo,
+            permissionCache
     );
 
     @Test
@@ -66,8 +86,8 @@ public class TestPermissionValidator {
         var collaborator = new CollaboratorBuilder()
                 .withOfficeBranch(officeBranch)
                 .addRole(role).build();
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.of(collaborator));
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, permission);
 
@@ -79,9 +99,9 @@ public class TestPermissionValidator {
         var officeBranch = new OfficeBranchBuilder().build();
         var permission = Permission.create(Access.READ, Resource.OFFICE);
         when(authUserFinder.findAuthenticatedUser()).thenReturn(Option.of(authUserResponse));
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.none());
-        when(officeBranchAuthValidator.authUserIsOwner(any())).thenReturn(false);
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of());
+        when(officeBranchRepo.findIdsOwnedBy(eq("wick@john.com"), anyCollection())).thenReturn(List.of());
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, permission);
 
@@ -100,8 +120,8 @@ public class TestPermissionValidator {
                 .withOfficeBranch(officeBranch)
                 .withStatus(Status.PENDING)
                 .addRole(role).build();
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.of(collaborator));
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, permission);
 
@@ -120,8 +140,8 @@ public class TestPermissionValidator {
                 .withOfficeBranch(officeBranch)
                 .withStatus(Status.ACTIVE)
                 .addRole(role).build();
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.of(collaborator));
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, permission);
 
@@ -141,8 +161,8 @@ public class TestPermissionValidator {
                 .withOfficeBranch(officeBranch)
                 .withStatus(Status.ACTIVE)
                 .addRole(role).build();
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.of(collaborator));
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, readPermission);
 
@@ -154,12 +174,104 @@ public class TestPermissionValidator {
         var officeBranch = new OfficeBranchBuilder().build();
         var permission = Permission.create(Access.READ, Resource.OFFICE);
         when(authUserFinder.findAuthenticatedUser()).thenReturn(Option.of(authUserResponse));
-        when(collaboratorRepo.find(eq("wick@john.com"), any(OfficeBranch.class)))
-                .thenReturn(Option.none());
-        when(officeBranchAuthValidator.authUserIsOwner(any())).thenReturn(true);
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of());
+        when(officeBranchRepo.findIdsOwnedBy(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(officeBranch.id()));
 
         boolean hasPermission = permissionValidator.userHasPerms(officeBranch, permission);
 
         assertThat(hasPermission).isTrue();
     }
+
+    @Test
+    void itShouldResolvePermissionsOnlyOnceForTheSameUserAndOfficeBranch() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        when(authUserFinder.findAuthenticatedUser()).thenReturn(Option.of(authUserResponse));
+        var role = new RoleBuilder()
+                .withPermissions(ImmutableSet.of(Permission.create(Access.WRITE, Resource.OFFICE)))
+                .build();
+        var collaborator = new CollaboratorBuilder()
+                .withOfficeBranch(officeBranch)
+                .withStatus(Status.ACTIVE)
+                .addRole(role).build();
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
+
+        boolean canWriteOffices = permissionValidator
+                .userHasPerms(officeBranch, Permission.create(Access.WRITE, Resource.OFFICE));
+        boolean canReadRoles = permissionValidator
+                .userHasPerms(officeBranch, Permission.create(Access.READ, Resource.ROLE));
+
+        assertThat(canWriteOffices).isTrue();
+        assertThat(canReadRoles).isFalse();
+        verify(collaboratorRepo, times(1)).find(eq("wick@john.com"), anyCollection());
+    }
+
+    @Test
+    void itShouldResolvePermissionsAgainAfterOfficeBranchIsInvalidated() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var permission = Permission.create(Access.READ, Resource.OFFICE);
+        when(authUserFinder.findAuthenticatedUser()).thenReturn(Option.of(authUserResponse));
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of());
+        when(officeBranchRepo.findIdsOwnedBy(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(officeBranch.id()), List.of());
+
+        boolean hasPermissionBefore = permissionValidator.userHasPerms(officeBranch, permission);
+        permissionCache.invalidate(officeBranch.id());
+        boolean hasPermissionAfter = permissionValidator.userHasPerms(officeBranch, permission);
+
+        assertThat(hasPermissionBefore).isTrue();
+        assertThat(hasPermissionAfter).isFalse();
+        verify(collaboratorRepo, times(2)).find(eq("wick@john.com"), anyCollection());
+    }
+
+    @Test
+    void itShouldResolvePermissionsForEveryOfficeBranchRequestedWithOneQueryEach() {
+        var collaboratorOfficeBranch = new OfficeBranchBuilder().build();
+        var ownedOfficeBranch = new OfficeBranchBuilder().build();
+        var unrelatedOfficeBranchId = new OfficeBranchId();
+        var role = new RoleBuilder()
+                .withPermissions(ImmutableSet.of(Permission.create(Access.READ, Resource.BOOKING)))
+                .build();
+        var collaborator = new CollaboratorBuilder()
+                .withOfficeBranch(collaboratorOfficeBranch)
+                .withStatus(Status.ACTIVE)
+                .addRole(role).build();
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
+        when(officeBranchRepo.findIdsOwnedBy(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(ownedOfficeBranch.id()));
+
+        Map<OfficeBranchId, ResolvedPermissions> permissions = permissionValidator.permissionsFor(
+                "wick@john.com",
+                List.of(collaboratorOfficeBranch.id(), ownedOfficeBranch.id(), unrelatedOfficeBranchId)
+        );
+
+        var readBookings = Permission.create(Access.READ, Resource.BOOKING);
+        var writeOffices = Permission.create(Access.WRITE, Resource.OFFICE);
+        assertThat(permissions).hasSize(3);
+        assertThat(permissions.get(collaboratorOfficeBranch.id()).allows(readBookings)).isTrue();
+        assertThat(permissions.get(collaboratorOfficeBranch.id()).allows(writeOffices)).isFalse();
+        assertThat(permissions.get(ownedOfficeBranch.id()).allows(writeOffices)).isTrue();
+        assertThat(permissions.get(unrelatedOfficeBranchId).allows(readBookings)).isFalse();
+        verify(collaboratorRepo, times(1)).find(eq("wick@john.com"), anyCollection());
+        verify(officeBranchRepo, times(1)).findIdsOwnedBy(eq("wick@john.com"), anyCollection());
+    }
+
+    @Test
+    void itShouldNotQueryOwnershipWhenUserCollaboratesInEveryOfficeBranchRequested() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var collaborator = new CollaboratorBuilder()
+                .withOfficeBranch(officeBranch)
+                .withStatus(Status.ACTIVE)
+                .addRole(new RoleBuilder().build()).build();
+        when(collaboratorRepo.find(eq("wick@john.com"), anyCollection()))
+                .thenReturn(List.of(collaborator));
+
+        permissionValidator.permissionsFor("wick@john.com", List.of(officeBranch.id()));
+
+        verify(officeBranchRepo, never()).findIdsOwnedBy(any(), anyCollection());
+    }
 }
@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.domain.collaborator.Collaborator;
 import backoffice.domain.collaborator.CollaboratorId;
@@ -26,9 +27,14 @@ public class TestCollaboratorActivator {
 
     CollaboratorRepository collaboratorRepo = mock(CollaboratorRepository.class);
     CollaboratorTokenGenerator tokenGenerator = mock(CollaboratorTokenGenerator.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
     ArgumentCaptor<Collaborator> collaboratorArgumentCaptor = ArgumentCaptor.forClass(Collaborator.class);
 
-    CollaboratorActivator collaboratorActivator = new CollaboratorActivator(collaboratorRepo, tokenGenerator);
+    CollaboratorActivator collaboratorActivator = new CollaboratorActivator(
+            collaboratorRepo,
+            tokenGenerator,
+            permissionCache
+    );
 
     @Test
     void itShouldReturnInvalidTokenWhenParseFails() {
@@ -70,6 +76,6 @@ public class TestCollaboratorActivator {
         verify(collaboratorRepo, times(1)).update(collaboratorArgumentCaptor.capture());
         var collaboratorUpdated = collaboratorArgumentCaptor.getValue();
         assertThat(collaboratorUpdated.isActive()).isTrue();
-
+        verify(permissionCache, times(1)).invalidate(collaborator.email(), collaborator.officeBranch().id());
     }
 }
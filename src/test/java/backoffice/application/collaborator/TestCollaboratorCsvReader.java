@@ -0,0 +1,54 @@
+package backoffice.application.collaborator;
+
+import backoffice.application.dto.collaborator.CollaboratorInformation;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCollaboratorCsvReader {
+
+    @Test
+    void itShouldReadInvitationsByTheirLineSkippingHeaderAndBlankLines() throws IOException {
+        var roleId = UUID.randomUUID();
+        var roleId2 = UUID.randomUUID();
+        var csv = "email,name,role_ids\n"
+                + "john@doe.com,John," + roleId + ";" + roleId2 + "\n"
+                + "\n"
+                + "jane@doe.com, Jane ," + roleId + "\n";
+
+        var invitations = CollaboratorCsvReader.read(new StringReader(csv), 10);
+
+        assertThat(invitations).hasSize(2);
+        assertThat(invitations.get(2).getEmail()).isEqualTo("john@doe.com");
+        assertThat(invitations.get(2).getRoleIds()).isEqualTo(Set.of(roleId, roleId2));
+        assertThat(invitations.get(4).getName()).isEqualTo("Jane");
+    }
+
+    @Test
+    void itShouldKeepMalformedLinesWithoutValues() throws IOException {
+        var csv = "john@doe.com,John\n"
+                + "jane@doe.com,Jane,not-a-uuid\n";
+
+        var invitations = CollaboratorCsvReader.read(new StringReader(csv), 10);
+
+        assertThat(invitations).hasSize(2);
+        assertThat(invitations.get(1).getEmail()).isNull();
+        assertThat(invitations.get(2).getEmail()).isEqualTo("jane@doe.com");
+        assertThat(invitations.get(2).getRoleIds()).isNull();
+    }
+
+    @Test
+    void itShouldStopReadingAfterMaxRows() throws IOException {
+        var csv = "a@doe.com,A,\nb@doe.com,B,\nc@doe.com,C,\n";
+
+        var invitations = CollaboratorCsvReader.read(new StringReader(csv), 2);
+
+        assertThat(invitations.values()).extracting(CollaboratorInformation::getEmail)
+                .containsExactly("a@doe.com", "b@doe.com");
+    }
+}
@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.domain.collaborator.Collaborator;
@@ -27,9 +28,10 @@ import static org.mockito.Mockito.when;
 public class TestCollaboratorDeleter {
     CollaboratorRepository collaboratorRepo = mock(CollaboratorRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
     ArgumentCaptor<Collaborator> collaboratorArgumentCaptor = ArgumentCaptor.forClass(Collaborator.class);
 
-    CollaboratorDeleter deleter = new CollaboratorDeleter(collaboratorRepo, permissionValidator);
+    CollaboratorDeleter deleter = new CollaboratorDeleter(collaboratorRepo, permissionValidator, permissionCache);
 
     @Test
     void itShouldReturnNotFoundWhenThereIsNoCollaboratorWithIdSpecified() {
@@ -1,5 +1,6 @@
 package backoffice.application.collaborator;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.collaborator.CollaboratorError;
 import backoffice.application.dto.collaborator.CollaboratorUpdateInformation;
@@ -37,9 +38,15 @@ public class TestCollaboratorUpdater {
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
     RoleRepository roleRepo = mock(RoleRepository.class);
     CollaboratorRepository collaboratorRepo = mock(CollaboratorRepository.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
     ArgumentCaptor<Collaborator> collaboratorArgumentCaptor = ArgumentCaptor.forClass(Collaborator.class);
 
-    CollaboratorUpdater updater = new CollaboratorUpdater(permissionValidator, roleRepo, collaboratorRepo);
+    CollaboratorUpdater updater = new CollaboratorUpdater(
+            permissionValidator,
+            roleRepo,
+            collaboratorRepo,
+            permissionCache
+    );
 
     @Test
     void itShouldReturnCollaboratorNotFoundWhenThereIsNoCollaboratorWithIdSpecified() {
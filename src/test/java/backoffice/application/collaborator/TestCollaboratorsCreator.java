@@ -0,0 +1,225 @@
+package backoffice.application.collaborator;
+
+import backoffice.application.dto.collaborator.CollaboratorError;
+import backoffice.application.dto.collaborator.CollaboratorInformation;
+import backoffice.application.dto.collaborator.CollaboratorInvitationResult;
+import backoffice.application.dto.collaborator.CollaboratorInvitationResult.Status;
+import backoffice.application.dto.office_branch.OfficeBranchError;
+import backoffice.application.office_branch.OfficeBranchFinder;
+import backoffice.domain.collaborator.Collaborator;
+import backoffice.domain.collaborator.CollaboratorRepository;
+import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.role.Access;
+import backoffice.domain.role.Permission;
+import backoffice.domain.role.Resource;
+import backoffice.domain.role.RoleRepository;
+import backoffice.factories.OfficeBranchBuilder;
+import backoffice.factories.RoleBuilder;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.PersistenceException;
+import javax.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestCollaboratorsCreator {
+    OfficeBranchFinder officeBranchFinder = mock(OfficeBranchFinder.class);
+    CollaboratorRepository collaboratorRepo = mock(CollaboratorRepository.class);
+    RoleRepository roleRepo = mock(RoleRepository.class);
+    InvitationEmailSender invitationEmailSender = mock(InvitationEmailSender.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Collaborator>> collaboratorsCaptor = ArgumentCaptor.forClass(List.class);
+
+    CollaboratorsCreator collaboratorsCreator = new CollaboratorsCreator(
+            roleRepo,
+            officeBranchFinder,
+            collaboratorRepo,
+            invitationEmailSender,
+            Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    private void authorize(OfficeBranch officeBranch) {
+        when(officeBranchFinder.findWithAuthorization(
+                officeBranch.id(),
+                Permission.create(Access.WRITE, Resource.COLLABORATOR)
+        )).thenReturn(Either.right(officeBranch.toResponse()));
+    }
+
+    @Test
+    void itShouldReturnForbiddenWhenAuthUserDoesNotHaveAccessToOfficeBranch() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        when(officeBranchFinder.findWithAuthorization(
+                officeBranch.id(),
+                Permission.create(Access.WRITE, Resource.COLLABORATOR)
+        )).thenReturn(Either.left(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN));
+
+        var response = collaboratorsCreator.create(
+                officeBranch.id(),
+                List.of(CollaboratorInformation.of(Set.of(UUID.randomUUID()), "some@mail.com", "pirlonzio"))
+        );
+
+        assertThat(response.getLeft()).isEqualTo(OfficeBranchError.OFFICE_BRANCH_FORBIDDEN);
+        verify(collaboratorRepo, times(0)).storeAll(any());
+    }
+
+    @Test
+    void itShouldReturnTooManyInvitationsWhenLimitIsExceeded() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var invitations = Collections.nCopies(
+                CollaboratorsCreator.MAX_INVITATIONS + 1,
+                CollaboratorInformation.of(Set.of(UUID.randomUUID()), "some@mail.com", "pirlonzio")
+        );
+
+        var response = collaboratorsCreator.create(officeBranch.id(), invitations);
+
+        assertThat(response.getLeft()).isEqualTo(CollaboratorError.TOO_MANY_INVITATIONS);
+    }
+
+    @Test
+    void itShouldReportResultOfEveryRow() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var role = new RoleBuilder().withOfficeBranch(officeBranch).build();
+        var roleIds = Set.of(UUID.fromString(role.id().toString()));
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class)))
+                .thenReturn(Set.of("existent@mail.com"));
+        when(roleRepo.findByOfficeBranch(any(OfficeBranch.class))).thenReturn(List.of(role));
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.success(null));
+
+        var response = collaboratorsCreator.create(officeBranch.id(), List.of(
+                CollaboratorInformation.of(roleIds, "new@mail.com", "John"),
+                CollaboratorInformation.of(roleIds, "not an email", "John"),
+                CollaboratorInformation.of(roleIds, "existent@mail.com", "John"),
+                CollaboratorInformation.of(roleIds, "new@mail.com", "John")
+        ));
+
+        verify(collaboratorRepo, times(1)).storeAll(collaboratorsCaptor.capture());
+        var collaboratorStored = collaboratorsCaptor.getValue().get(0);
+        assertThat(collaboratorsCaptor.getValue()).hasSize(1);
+        assertThat(collaboratorStored.roles()).containsExactly(role);
+        assertThat(response.get()).containsExactly(
+                CollaboratorInvitationResult.invited(1, "new@mail.com", collaboratorStored.id().toString()),
+                CollaboratorInvitationResult.rejected(2, "not an email", Status.INVALID),
+                CollaboratorInvitationResult.rejected(3, "existent@mail.com", Status.ALREADY_EXISTS),
+                CollaboratorInvitationResult.rejected(4, "new@mail.com", Status.DUPLICATED)
+        );
+    }
+
+    @Test
+    void itShouldCompareEmailsIgnoringCase() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var role = new RoleBuilder().withOfficeBranch(officeBranch).build();
+        var roleIds = Set.of(UUID.fromString(role.id().toString()));
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class)))
+                .thenReturn(Set.of("existent@mail.com"));
+        when(roleRepo.findByOfficeBranch(any(OfficeBranch.class))).thenReturn(List.of(role));
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.success(null));
+
+        var response = collaboratorsCreator.create(officeBranch.id(), List.of(
+                CollaboratorInformation.of(roleIds, "Existent@Mail.com", "John"),
+                CollaboratorInformation.of(roleIds, "new@mail.com", "John"),
+                CollaboratorInformation.of(roleIds, "NEW@mail.com", "John")
+        ));
+
+        assertThat(response.get().get(0))
+                .isEqualTo(CollaboratorInvitationResult.rejected(1, "Existent@Mail.com", Status.ALREADY_EXISTS));
+        assertThat(response.get().get(2))
+                .isEqualTo(CollaboratorInvitationResult.rejected(3, "NEW@mail.com", Status.DUPLICATED));
+    }
+
+    @Test
+    void itShouldReportRowsByTheNumbersGivenAlongTheInvitations() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class))).thenReturn(Set.of());
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.success(null));
+        Map<Integer, CollaboratorInformation> invitations = new LinkedHashMap<>();
+        invitations.put(2, CollaboratorInformation.of(Set.of(), "not an email", "John"));
+        invitations.put(5, CollaboratorInformation.of(Set.of(), "new@mail.com", "John"));
+
+        var response = collaboratorsCreator.create(officeBranch.id(), invitations);
+
+        assertThat(response.get()).extracting(CollaboratorInvitationResult::getRow).containsExactly(2, 5);
+        assertThat(response.get().get(0)).isEqualTo(
+                CollaboratorInvitationResult.rejected(2, "not an email", Status.INVALID)
+        );
+    }
+
+    @Test
+    void itShouldRejectMissingInvitationsAsInvalid() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class))).thenReturn(Set.of());
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.success(null));
+
+        var response = collaboratorsCreator.create(officeBranch.id(), Arrays.asList(
+                null,
+                CollaboratorInformation.of(Set.of(), "new@mail.com", "John")
+        ));
+
+        assertThat(response.get().get(0)).isEqualTo(CollaboratorInvitationResult.rejected(1, null, Status.INVALID));
+        assertThat(response.get().get(1).getStatus()).isEqualTo(Status.INVITED);
+    }
+
+    @Test
+    void itShouldSendAllInvitationsAsOneBatch() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var role = new RoleBuilder().withOfficeBranch(officeBranch).build();
+        var roleIds = Set.of(UUID.fromString(role.id().toString()));
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class))).thenReturn(Set.of());
+        when(roleRepo.findByOfficeBranch(any(OfficeBranch.class))).thenReturn(List.of(role));
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.success(null));
+        var invitations = IntStream.range(0, 200)
+                .mapToObj(i -> CollaboratorInformation.of(roleIds, "collaborator" + i + "@mail.com", "John"))
+                .collect(Collectors.toList());
+
+        collaboratorsCreator.create(officeBranch.id(), invitations);
+
+        verify(collaboratorRepo, times(1)).findExistingEmails(anyCollection(), any(OfficeBranch.class));
+        verify(collaboratorRepo, times(1)).storeAll(collaboratorsCaptor.capture());
+        assertThat(collaboratorsCaptor.getValue()).hasSize(200);
+        verify(invitationEmailSender, times(1)).sendInvitations(collaboratorsCaptor.getValue());
+        verify(invitationEmailSender, times(0)).sendInvitation(any());
+    }
+
+    @Test
+    void itShouldReportDBErrorAndNotSendInvitationsWhenStoreFails() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var role = new RoleBuilder().withOfficeBranch(officeBranch).build();
+        var roleIds = Set.of(UUID.fromString(role.id().toString()));
+        authorize(officeBranch);
+        when(collaboratorRepo.findExistingEmails(anyCollection(), any(OfficeBranch.class))).thenReturn(Set.of());
+        when(roleRepo.findByOfficeBranch(any(OfficeBranch.class))).thenReturn(List.of(role));
+        when(collaboratorRepo.storeAll(any())).thenReturn(Try.failure(new PersistenceException()));
+
+        var response = collaboratorsCreator.create(
+                officeBranch.id(),
+                List.of(CollaboratorInformation.of(roleIds, "new@mail.com", "John"))
+        );
+
+        assertThat(response.get()).containsExactly(
+                CollaboratorInvitationResult.rejected(1, "new@mail.com", Status.DB_ERROR)
+        );
+        verify(invitationEmailSender, times(0)).sendInvitations(any());
+    }
+}
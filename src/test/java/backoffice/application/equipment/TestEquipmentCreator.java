@@ -5,6 +5,7 @@ import backoffice.application.dto.equipment.EquipmentInformation;
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.office_branch.OfficeBranchFinder;
 import backoffice.domain.equipment.Equipment;
+import backoffice.domain.equipment.EquipmentCreatedEvent;
 import backoffice.domain.equipment.EquipmentId;
 import backoffice.domain.equipment.EquipmentRepository;
 import backoffice.domain.office_branch.OfficeBranch;
@@ -88,7 +89,7 @@ public class TestEquipmentCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.EQUIPMENT)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(equipmentRepository.store(any())).thenReturn(Try.failure(new PersistenceException()));
+        when(equipmentRepository.store(any(), any())).thenReturn(Try.failure(new PersistenceException()));
 
         Either<UseCaseError, Void> response = equipmentCreator.createEquipment(
                 equipmentId,
@@ -111,15 +112,21 @@ public class TestEquipmentCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.EQUIPMENT)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(equipmentRepository.store(any())).thenReturn(Try.success(null));
+        when(equipmentRepository.store(any(), any())).thenReturn(Try.success(null));
 
         equipmentCreator.createEquipment(equipmentId, equipmentInformation, officeBranch.id());
 
-        verify(equipmentRepository, times(1)).store(equipmentArgCaptor.capture());
+        verify(equipmentRepository, times(1)).store(equipmentArgCaptor.capture(), any());
         Equipment equipmentStored = equipmentArgCaptor.getValue();
         var equipmentResponse = equipmentStored.toResponse();
         assertThat(equipmentResponse.getId()).isEqualTo(equipmentId.toString());
         assertThat(equipmentResponse.getName()).isEqualTo("Some name");
         assertThat(equipmentResponse.getCategory()).isEqualTo("TECHNOLOGY");
+        verify(equipmentRepository, times(1)).store(any(), eq(EquipmentCreatedEvent.of(
+                equipmentId.toString(),
+                officeBranch.id().toString(),
+                "Some name",
+                "TECHNOLOGY"
+        )));
     }
 }
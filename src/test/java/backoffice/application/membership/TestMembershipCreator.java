@@ -4,6 +4,7 @@ import backoffice.application.dto.membership.MembershipInformation;
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.office_branch.OfficeBranchFinder;
 import backoffice.domain.membership.Membership;
+import backoffice.domain.membership.MembershipCreatedEvent;
 import backoffice.domain.membership.MembershipId;
 import backoffice.domain.membership.MembershipRepository;
 import backoffice.domain.office_branch.OfficeBranchId;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -88,7 +90,7 @@ public class TestMembershipCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.MEMBERSHIP)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(membershipRepo.store(any())).thenReturn(Try.success(null));
+        when(membershipRepo.store(any(), any())).thenReturn(Try.success(null));
 
         membershipCreator.create(officeBranch.id(), membershipId, info);
 
@@ -100,6 +102,14 @@ public class TestMembershipCreator {
                 officeBranch
         );
         expectedMembership.configAccessDays(Sets.newHashSet(DayOfWeek.MONDAY));
-        verify(membershipRepo, times(1)).store(expectedMembership);
+        verify(membershipRepo, times(1)).store(eq(expectedMembership), any());
+        verify(membershipRepo, times(1)).store(any(), eq(MembershipCreatedEvent.of(
+                membershipId.toString(),
+                officeBranch.id().toString(),
+                "Awesome membership",
+                "Some desc",
+                Sets.newHashSet("MONDAY"),
+                1000
+        )));
     }
 }
@@ -2,6 +2,7 @@ package backoffice.application.membership;
 
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.membership.MembershipError;
+import backoffice.domain.membership.MembershipDeletedEvent;
 import backoffice.domain.membership.MembershipId;
 import backoffice.domain.membership.MembershipRepository;
 import backoffice.domain.office_branch.OfficeBranch;
@@ -63,12 +64,16 @@ public class TestMembershipDeleter {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.MEMBERSHIP))
         )).thenReturn(true);
-        when(membershipRepo.update(any())).thenReturn(Try.success(null));
+        when(membershipRepo.update(any(), any())).thenReturn(Try.success(null));
 
         Either<MembershipError, Void> response = deleter.delete(membership.id());
 
         assertThat(response.isRight()).isTrue();
         membership.delete();
-        verify(membershipRepo, times(1)).update(membership);
+        verify(membershipRepo, times(1)).update(eq(membership), any());
+        verify(membershipRepo, times(1)).update(any(), eq(MembershipDeletedEvent.of(
+                membership.officeBranch().id().toString(),
+                membership.id().toString()
+        )));
     }
 }
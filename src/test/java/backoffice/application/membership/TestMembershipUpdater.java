@@ -6,6 +6,7 @@ import backoffice.application.dto.membership.MembershipInformation;
 import backoffice.domain.membership.Membership;
 import backoffice.domain.membership.MembershipId;
 import backoffice.domain.membership.MembershipRepository;
+import backoffice.domain.membership.MembershipUpdatedEvent;
 import backoffice.domain.office_branch.OfficeBranch;
 import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
@@ -70,7 +71,7 @@ public class TestMembershipUpdater {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.MEMBERSHIP))
         )).thenReturn(true);
-        when(membershipRepo.update(any())).thenReturn(Try.success(null));
+        when(membershipRepo.update(any(), any())).thenReturn(Try.success(null));
         var info = MembershipInformation.of("New name", "New desc", 100, null);
 
         Either<MembershipError, Void> response = updater.update(membership.id(), info);
@@ -84,6 +85,14 @@ public class TestMembershipUpdater {
                 membership.officeBranch()
         );
         expectedMembership.configAccessDays(ImmutableSet.of(DayOfWeek.THURSDAY));
-        verify(membershipRepo, times(1)).update(expectedMembership);
+        verify(membershipRepo, times(1)).update(eq(expectedMembership), any());
+        verify(membershipRepo, times(1)).update(any(), eq(MembershipUpdatedEvent.of(
+                membership.id().toString(),
+                membership.officeBranch().id().toString(),
+                "New name",
+                "New desc",
+                ImmutableSet.of("THURSDAY"),
+                100
+        )));
     }
 }
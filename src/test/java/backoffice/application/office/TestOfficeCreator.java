@@ -9,6 +9,7 @@ import backoffice.domain.office.Office;
 import backoffice.domain.office.OfficeCreatedEvent;
 import backoffice.domain.office.OfficeId;
 import backoffice.domain.office.OfficeRepository;
+import backoffice.domain.office.OfficesCreatedEvent;
 import backoffice.domain.office.Privacy;
 import backoffice.domain.office_branch.OfficeBranch;
 import backoffice.domain.office_branch.OfficeBranchId;
@@ -19,26 +20,30 @@ import backoffice.factories.OfficeBranchBuilder;
 import io.vavr.control.Either;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
+import shared.domain.DomainEvent;
 
+import java.util.List;
 import javax.persistence.PersistenceException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestOfficeCreator {
-    EventBus eventBus = mock(EventBus.class);
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     OfficeBranchFinder officeBranchFinder = mock(OfficeBranchFinder.class);
     ArgumentCaptor<Office> officeArgCaptor = ArgumentCaptor.forClass(Office.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Office>> officesArgCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<DomainEvent> eventArgCaptor = ArgumentCaptor.forClass(DomainEvent.class);
 
-    OfficeCreator officeCreator = new OfficeCreator(eventBus, officeRepo, officeBranchFinder);
+    OfficeCreator officeCreator = new OfficeCreator(officeRepo, officeBranchFinder);
 
     @Test
     void itShouldReturnOfficeBranchNotFoundWhenOfficeBranchDoesNotExist() {
@@ -108,7 +113,7 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.failure(new PersistenceException()));
+        when(officeRepo.store(any(), any())).thenReturn(Try.failure(new PersistenceException()));
 
         Either<UseCaseError, Void> response = officeCreator.create(officeId, officeBranch.id(), info);
 
@@ -134,11 +139,11 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.store(any(), any())).thenReturn(Try.success(null));
 
         officeCreator.create(officeId, officeBranch.id(), info);
 
-        verify(officeRepo, times(1)).store(officeArgCaptor.capture());
+        verify(officeRepo, times(1)).store(officeArgCaptor.capture(), any());
         Office officeStored = officeArgCaptor.getValue();
         var officeResponse = officeStored.toResponse();
         assertThat(officeResponse.getId()).isEqualTo(officeId.toString());
@@ -169,11 +174,11 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.store(any(), any())).thenReturn(Try.success(null));
 
         officeCreator.create(officeId, officeBranch.id(), info);
 
-        verify(officeRepo, times(1)).store(officeArgCaptor.capture());
+        verify(officeRepo, times(1)).store(officeArgCaptor.capture(), any());
         Office officeStored = officeArgCaptor.getValue();
         assertThat(officeStored.toResponse().getPrivacy()).isEqualTo(Privacy.SHARED.name());
     }
@@ -196,7 +201,7 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.store(any(), any())).thenReturn(Try.success(null));
 
         var response = officeCreator.create(officeId, officeBranch.id(), info);
 
@@ -222,11 +227,11 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.store(any(), any())).thenReturn(Try.success(null));
 
         officeCreator.create(officeId, officeBranch.id(), info);
 
-        verify(eventBus, times(1)).publish(OfficeCreatedEvent.of(
+        verify(officeRepo, times(1)).store(any(), eq(OfficeCreatedEvent.of(
                 officeId.toString(),
                 officeBranch.id().toString(),
                 "some name",
@@ -234,8 +239,10 @@ public class TestOfficeCreator {
                 1000,
                 100,
                 10,
-                10
-        ));
+                10,
+                "some desc",
+                "imageurl"
+        )));
     }
 
     @Test
@@ -256,11 +263,11 @@ public class TestOfficeCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.OFFICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.store(any(), any())).thenReturn(Try.success(null));
 
         officeCreator.create(officeId, officeBranch.id(), info);
 
-        verify(eventBus, times(1)).publish(OfficeCreatedEvent.of(
+        verify(officeRepo, times(1)).store(any(), eq(OfficeCreatedEvent.of(
                 officeId.toString(),
                 officeBranch.id().toString(),
                 "some name",
@@ -268,7 +275,92 @@ public class TestOfficeCreator {
                 1000,
                 100,
                 0,
-                0
+                0,
+                "some desc",
+                "imageurl"
+        )));
+    }
+
+    @Test
+    void itShouldNotStoreAnyOfficeWhenOneSharedOfficeHasNoTables() {
+        OfficeBranch officeBranch = new OfficeBranchBuilder().build();
+        var offices = List.of(
+                OfficeInformation.of("private", "desc", 10, 100, "PRIVATE", null, null, null),
+                OfficeInformation.of("shared", "desc", 10, 100, "SHARED", null, null, null)
+        );
+        when(officeBranchFinder.findWithAuthorization(
+                officeBranch.id(),
+                Permission.create(Access.WRITE, Resource.OFFICE)
+        )).thenReturn(Either.right(officeBranch.toResponse()));
+
+        var response = officeCreator.createAll(officeBranch.id(), offices);
+
+        assertThat(response.getLeft()).isEqualTo(OfficeError.SHARED_OFFICE_WITHOUT_TABLES);
+        verify(officeRepo, times(0)).storeAll(any(), any());
+    }
+
+    @Test
+    void itShouldStoreAllOfficesAtOnceWithASingleEvent() {
+        OfficeBranch officeBranch = new OfficeBranchBuilder().build();
+        var offices = List.of(
+                OfficeInformation.of("private", "desc", 10, 100, "PRIVATE", null, null, null),
+                OfficeInformation.of("shared", "desc", 20, 200, "SHARED", null, 5, 4)
+        );
+        when(officeBranchFinder.findWithAuthorization(
+                officeBranch.id(),
+                Permission.create(Access.WRITE, Resource.OFFICE)
+        )).thenReturn(Either.right(officeBranch.toResponse()));
+        when(officeRepo.storeAll(any(), any())).thenReturn(Try.success(null));
+
+        var response = officeCreator.createAll(officeBranch.id(), offices);
+
+        assertThat(response.get()).hasSize(2);
+        verify(officeRepo, times(1)).storeAll(officesArgCaptor.capture(), eventArgCaptor.capture());
+        assertThat(officesArgCaptor.getValue()).map(Office::id).containsExactlyElementsOf(response.get());
+        assertThat(eventArgCaptor.getValue()).isEqualTo(OfficesCreatedEvent.of(
+                officeBranch.id().toString(),
+                List.of(
+                        OfficeCreatedEvent.of(
+                                response.get().get(0).toString(),
+                                officeBranch.id().toString(),
+                                "private",
+                                "PRIVATE",
+                                100,
+                                10,
+                                0,
+                                0,
+                                "desc",
+                                null
+                        ),
+                        OfficeCreatedEvent.of(
+                                response.get().get(1).toString(),
+                                officeBranch.id().toString(),
+                                "shared",
+                                "SHARED",
+                                200,
+                                20,
+                                5,
+                                4,
+                                "desc",
+                                null
+                        )
+                )
         ));
+        verify(officeRepo, times(0)).store(any(), any());
+    }
+
+    @Test
+    void itShouldReturnDbErrorWhenOfficesCannotBeStored() {
+        OfficeBranch officeBranch = new OfficeBranchBuilder().build();
+        var offices = List.of(OfficeInformation.of("private", "desc", 10, 100, "PRIVATE", null, null, null));
+        when(officeBranchFinder.findWithAuthorization(
+                officeBranch.id(),
+                Permission.create(Access.WRITE, Resource.OFFICE)
+        )).thenReturn(Either.right(officeBranch.toResponse()));
+        when(officeRepo.storeAll(any(), any())).thenReturn(Try.failure(new PersistenceException()));
+
+        var response = officeCreator.createAll(officeBranch.id(), offices);
+
+        assertThat(response.getLeft()).isEqualTo(OfficeError.DB_ERROR);
     }
 }
@@ -14,7 +14,6 @@ import backoffice.factories.OfficeBuilder;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -32,10 +31,9 @@ import static org.mockito.Mockito.when;
 public class TestOfficeDeleter {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
-    EventBus eventBus = mock(EventBus.class);
     ArgumentCaptor<Office> officeArgumentCaptor = ArgumentCaptor.forClass(Office.class);
 
-    OfficeDeleter deleter = new OfficeDeleter(officeRepo, permissionValidator, eventBus);
+    OfficeDeleter deleter = new OfficeDeleter(officeRepo, permissionValidator);
 
     @Test
     void itShouldReturnOfficeNotFoundWhenOfficeDoesNotExist() {
@@ -71,18 +69,18 @@ public class TestOfficeDeleter {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.OFFICE))
         )).thenReturn(true);
-        when(officeRepo.update(any())).thenReturn(Try.success(null));
+        when(officeRepo.update(any(), any())).thenReturn(Try.success(null));
 
         Either<OfficeError, Void> response = deleter.delete(office.id());
 
         assertThat(response.isRight()).isTrue();
-        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture());
+        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture(), any());
         var officeDeleted = officeArgumentCaptor.getValue();
         assertThat(officeDeleted.isDeleted(LocalDate.now(Clock.systemUTC()).plusMonths(2).plusDays(1))).isTrue();
         assertThat(officeDeleted.isDeleted(LocalDate.now(Clock.systemUTC()).plusMonths(1))).isFalse();
-        verify(eventBus, times(1)).publish(OfficeDeletedEvent.of(
+        verify(officeRepo, times(1)).update(any(), eq(OfficeDeletedEvent.of(
                 office.officeBranch().id().toString(),
                 office.id().toString()
-        ));
+        )));
     }
 }
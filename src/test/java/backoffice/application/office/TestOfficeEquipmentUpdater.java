@@ -75,14 +75,15 @@ public class TestOfficeEquipmentUpdater {
         var equipment1 = new EquipmentBuilder().build();
         var equipment2 = new EquipmentBuilder().build();
         when(equipmentRepo.findByOfficeBranch(any())).thenReturn(ImmutableList.of(equipment1, equipment2));
-        when(officeRepo.update(any())).thenReturn(Try.success(null));
+        when(officeRepo.update(any(), any())).thenReturn(Try.success(null));
 
         Either<OfficeError, Void> response = updater.update(office.id(), ImmutableSet.of(new EquipmentId(),
                 equipment1.id(), equipment2.id()));
 
         assertThat(response.isRight()).isTrue();
-        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture());
+        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture(), any());
         var officeUpdated = officeArgumentCaptor.getValue();
+        verify(officeRepo, times(1)).update(officeUpdated, officeUpdated.officeEquipmentsUpdatedEvent());
         assertThat(officeUpdated.toResponse().getEquipments()).containsExactlyInAnyOrder(
                 equipment1.toResponse(),
                 equipment2.toResponse()
@@ -75,14 +75,15 @@ public class TestOfficeServiceUpdater {
         var service1 = new ServiceBuilder().build();
         var service2 = new ServiceBuilder().build();
         when(serviceRepo.findByOfficeBranch(any())).thenReturn(ImmutableList.of(service1, service2));
-        when(officeRepo.update(any())).thenReturn(Try.success(null));
+        when(officeRepo.update(any(), any())).thenReturn(Try.success(null));
 
         Either<OfficeError, Void> response = updater.update(office.id(), ImmutableSet.of(new ServiceId(),
                 service1.id(), service2.id()));
 
         assertThat(response.isRight()).isTrue();
-        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture());
+        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture(), any());
         var officeUpdated = officeArgumentCaptor.getValue();
+        verify(officeRepo, times(1)).update(officeUpdated, officeUpdated.officeServicesUpdatedEvent());
         assertThat(officeUpdated.toResponse().getServices()).containsExactlyInAnyOrder(
                 service1.toResponse(),
                 service2.toResponse()
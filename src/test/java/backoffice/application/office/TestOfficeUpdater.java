@@ -19,7 +19,6 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -35,10 +34,9 @@ import static org.mockito.Mockito.when;
 public class TestOfficeUpdater {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
-    EventBus eventBus = mock(EventBus.class);
     ArgumentCaptor<Office> officeArgumentCaptor = ArgumentCaptor.forClass(Office.class);
 
-    OfficeUpdater updater = new OfficeUpdater(eventBus, officeRepo, permissionValidator);
+    OfficeUpdater updater = new OfficeUpdater(officeRepo, permissionValidator);
     OfficeUpdateInformation info = OfficeUpdateInformation.of(
             "Updated name",
             "Second desc",
@@ -109,12 +107,12 @@ public class TestOfficeUpdater {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.OFFICE))
         )).thenReturn(true);
-        when(officeRepo.update(any(Office.class))).thenReturn(Try.success(null));
+        when(officeRepo.update(any(Office.class), any())).thenReturn(Try.success(null));
 
         Either<UseCaseError, Void> response = updater.update(office.id(), info);
 
         assertThat(response.isRight()).isTrue();
-        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture());
+        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture(), any());
         var officeUpdated = officeArgumentCaptor.getValue();
         var officeResponse = officeUpdated.toResponse();
         assertThat(officeResponse.getName()).isEqualTo("Updated name");
@@ -134,12 +132,12 @@ public class TestOfficeUpdater {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.OFFICE))
         )).thenReturn(true);
-        when(officeRepo.update(any(Office.class))).thenReturn(Try.success(null));
+        when(officeRepo.update(any(Office.class), any())).thenReturn(Try.success(null));
 
         Either<UseCaseError, Void> response = updater.update(office.id(), info);
 
         assertThat(response.isRight()).isTrue();
-        verify(eventBus, times(1)).publish(
+        verify(officeRepo, times(1)).update(any(), eq(
                 OfficeUpdatedEvent.of(
                         office.id().toString(),
                         office.officeBranch().id().toString(),
@@ -148,8 +146,10 @@ public class TestOfficeUpdater {
                         1000,
                         100,
                         2,
-                        5
+                        5,
+                        "Second desc",
+                        "newimage.url"
                 )
-        );
+        ));
     }
 }
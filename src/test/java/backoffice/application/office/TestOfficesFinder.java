@@ -19,7 +19,10 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestOfficesFinder {
@@ -45,7 +48,7 @@ public class TestOfficesFinder {
         var office1 = new OfficeBuilder().build();
         var office2 = new OfficeBuilder().build();
         when(officeBranchFinder.find(officeBranch.id())).thenReturn(Option.of(officeBranch.toResponse()));
-        when(officeRepo.findByOfficeBranch(any())).thenReturn(ImmutableList.of(office1, office2));
+        when(officeRepo.findNonDeleted(any(), any())).thenReturn(ImmutableList.of(office1, office2));
 
         Either<UseCaseError, List<OfficeResponse>> response = finder.find(officeBranch.id());
 
@@ -55,18 +58,16 @@ public class TestOfficesFinder {
     }
 
     @Test
-    void itShouldFilterDeletedOffices() {
+    void itShouldAskOnlyForOfficesThatAreNotDeletedToday() {
         var officeBranch = new OfficeBranchBuilder().build();
-        var office1 = new OfficeBuilder().build();
-        office1.delete(LocalDate.now(Clock.systemUTC()).minusDays(1));
-        var office2 = new OfficeBuilder().build();
+        var office = new OfficeBuilder().build();
         when(officeBranchFinder.find(officeBranch.id())).thenReturn(Option.of(officeBranch.toResponse()));
-        when(officeRepo.findByOfficeBranch(any())).thenReturn(ImmutableList.of(office1, office2));
+        when(officeRepo.findNonDeleted(any(), any())).thenReturn(ImmutableList.of(office));
 
         Either<UseCaseError, List<OfficeResponse>> response = finder.find(officeBranch.id());
 
         assertThat(response.isRight()).isTrue();
-        assertThat(response.get()).size().isEqualTo(1);
-        assertThat(response.get()).containsExactlyInAnyOrder(office2.toResponse());
+        assertThat(response.get()).containsExactly(office.toResponse());
+        verify(officeRepo, times(1)).findNonDeleted(any(), eq(LocalDate.now(Clock.systemUTC())));
     }
 }
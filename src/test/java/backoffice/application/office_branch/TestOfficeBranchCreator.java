@@ -16,7 +16,6 @@ import backoffice.domain.office_holder.OfficeHolderRepository;
 import backoffice.factories.OfficeHolderBuilder;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,11 +35,9 @@ public class TestOfficeBranchCreator {
     OfficeBranchRepository mockOfficeBranchRepo = mock(OfficeBranchRepository.class);
     OfficeHolderRepository mockOfficeHolderRepo = mock(OfficeHolderRepository.class);
     AuthUserValidator mockAuthUserValidator = mock(AuthUserValidator.class);
-    EventBus eventBus = mock(EventBus.class);
     ArgumentCaptor<OfficeBranch> officeBranchCaptor = ArgumentCaptor.forClass(OfficeBranch.class);
 
     OfficeBranchCreator creator = new OfficeBranchCreator(
-            eventBus,
             mockAuthUserValidator,
             mockOfficeBranchRepo,
             mockOfficeHolderRepo
@@ -86,7 +84,7 @@ public class TestOfficeBranchCreator {
         OfficeHolder officeHolder = new OfficeHolderBuilder().build();
         when(mockAuthUserValidator.isSameUserAsAuthenticated(officeHolder.email())).thenReturn(true);
         when(mockOfficeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
-        when(mockOfficeBranchRepo.store(any())).thenReturn(Try.failure(new PersistenceException()));
+        when(mockOfficeBranchRepo.store(any(), any())).thenReturn(Try.failure(new PersistenceException()));
 
         var response = creator.create(officeHolder.id(), new OfficeBranchId(),
                 emptyOfficeBranchInfo());
@@ -94,10 +92,72 @@ public class TestOfficeBranchCreator {
         assertThat(response.getLeft()).isEqualTo(OfficeBranchError.DB_ERROR);
     }
 
+    @Test
+    void itShouldReturnInvalidCoordinatesWhenOnlyOneOfThemIsSpecified() {
+        OfficeHolder officeHolder = new OfficeHolderBuilder().build();
+        when(mockAuthUserValidator.isSameUserAsAuthenticated(officeHolder.email())).thenReturn(true);
+        when(mockOfficeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
+        OfficeBranchInformation info = OfficeBranchInformation.of(
+                "Monumental",
+                "Some description",
+                "123456789",
+                Arrays.asList("image1.com", "image2.com"),
+                "Mendoza",
+                "Godoy Cruz",
+                "Calle falsa",
+                "5501",
+                -32.92,
+                null
+        );
+
+        var response = creator.create(officeHolder.id(), new OfficeBranchId(), info);
+
+        assertThat(response.getLeft()).isEqualTo(OfficeBranchError.OFFICE_BRANCH_INVALID_COORDINATES);
+        verify(mockOfficeBranchRepo, times(0)).store(any(), any());
+    }
+
+    @Test
+    void itShouldStoreOfficeBranchWithCoordinatesSpecified() {
+        OfficeHolder officeHolder = new OfficeHolderBuilder().build();
+        when(mockOfficeBranchRepo.store(any(), any())).thenReturn(Try.success(null));
+        when(mockAuthUserValidator.isSameUserAsAuthenticated(officeHolder.email())).thenReturn(true);
+        when(mockOfficeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
+        OfficeBranchId officeBranchId = new OfficeBranchId();
+        OfficeBranchInformation info = OfficeBranchInformation.of(
+                "Monumental",
+                "Some description",
+                "123456789",
+                Arrays.asList("image1.com", "image2.com"),
+                "Mendoza",
+                "Godoy Cruz",
+                "Calle falsa",
+                "5501",
+                -32.92,
+                -68.84
+        );
+
+        creator.create(officeHolder.id(), officeBranchId, info);
+
+        verify(mockOfficeBranchRepo, times(1)).store(officeBranchCaptor.capture(), eq(OfficeBranchCreatedEvent.of(
+                officeBranchId.toString(),
+                officeHolder.id().toString(),
+                "Monumental",
+                "Mendoza",
+                "Godoy Cruz",
+                "Calle falsa",
+                -32.92,
+                -68.84,
+                "123456789",
+                Arrays.asList("image1.com", "image2.com")
+        )));
+        assertThat(officeBranchCaptor.getValue().location().latitude()).isEqualTo(-32.92);
+        assertThat(officeBranchCaptor.getValue().location().longitude()).isEqualTo(-68.84);
+    }
+
     @Test
     void itShouldStoreOfficeBranchWithAttributesSpecified() {
         OfficeHolder officeHolder = new OfficeHolderBuilder().build();
-        when(mockOfficeBranchRepo.store(any())).thenReturn(Try.success(null));
+        when(mockOfficeBranchRepo.store(any(), any())).thenReturn(Try.success(null));
         when(mockAuthUserValidator.isSameUserAsAuthenticated(officeHolder.email())).thenReturn(true);
         when(mockOfficeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
         OfficeBranchId officeBranchId = new OfficeBranchId();
@@ -114,7 +174,7 @@ public class TestOfficeBranchCreator {
 
         var response = creator.create(officeHolder.id(), officeBranchId, info);
 
-        verify(mockOfficeBranchRepo, times(1)).store(officeBranchCaptor.capture());
+        verify(mockOfficeBranchRepo, times(1)).store(officeBranchCaptor.capture(), any());
         OfficeBranch officeBranchSaved = officeBranchCaptor.getValue();
 
         assertThat(response.isRight()).isTrue();
@@ -136,7 +196,7 @@ public class TestOfficeBranchCreator {
     @Test
     void itShouldPublishOfficeBranchCreatedWhenItIsStoredSuccesfully() {
         OfficeHolder officeHolder = new OfficeHolderBuilder().build();
-        when(mockOfficeBranchRepo.store(any())).thenReturn(Try.success(null));
+        when(mockOfficeBranchRepo.store(any(), any())).thenReturn(Try.success(null));
         when(mockAuthUserValidator.isSameUserAsAuthenticated(officeHolder.email())).thenReturn(true);
         when(mockOfficeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
         OfficeBranchId officeBranchId = new OfficeBranchId();
@@ -153,15 +213,17 @@ public class TestOfficeBranchCreator {
 
         creator.create(officeHolder.id(), officeBranchId, info);
 
-        verify(eventBus, times(1)).publish(OfficeBranchCreatedEvent.of(
+        verify(mockOfficeBranchRepo, times(1)).store(any(), eq(OfficeBranchCreatedEvent.of(
                 officeBranchId.toString(),
                 officeHolder.id().toString(),
                 "Monumental",
                 "Mendoza",
                 "Godoy Cruz",
                 "Calle falsa",
+                null,
+                null,
                 "123456789",
                 Arrays.asList("image1.com", "image2.com")
-        ));
+        )));
     }
 }
@@ -1,5 +1,6 @@
 package backoffice.application.office_branch;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.dto.office_branch.OfficeBranchError;
 import backoffice.application.office.OfficesFinder;
 import backoffice.domain.office_branch.OfficeBranch;
@@ -12,27 +13,27 @@ import com.google.inject.internal.util.ImmutableList;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestOfficeBranchDeleter {
-    EventBus eventBus = mock(EventBus.class);
     OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
     OfficeBranchAuthValidator officeBranchAuthValidator = mock(OfficeBranchAuthValidator.class);
     OfficesFinder officesFinder = mock(OfficesFinder.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
     ArgumentCaptor<OfficeBranch> officeBranchArgumentCaptor = ArgumentCaptor.forClass(OfficeBranch.class);
 
-    OfficeBranchDeleter deleter = new OfficeBranchDeleter(eventBus, officeBranchRepo, officeBranchAuthValidator,
-            officesFinder);
+    OfficeBranchDeleter deleter = new OfficeBranchDeleter(officeBranchRepo, officeBranchAuthValidator,
+            officesFinder, permissionCache);
 
     @Test
     void itShouldReturnNotFoundWhenThereIsNoOfficeBranchWithIdProvided() {
@@ -81,14 +82,14 @@ public class TestOfficeBranchDeleter {
         when(officesFinder.find(officeBranch.id())).thenReturn(
                 Either.right(ImmutableList.of())
         );
-        when(officeBranchRepo.update(any())).thenReturn(Try.success(null));
+        when(officeBranchRepo.update(any(), any())).thenReturn(Try.success(null));
 
         Either<OfficeBranchError, Void> response = deleter.delete(officeBranch.id());
 
         assertThat(response.isRight()).isTrue();
-        verify(officeBranchRepo, times(1)).update(officeBranchArgumentCaptor.capture());
+        verify(officeBranchRepo, times(1)).update(officeBranchArgumentCaptor.capture(), any());
         var officeBranchDeleted = officeBranchArgumentCaptor.getValue();
         assertThat(officeBranchDeleted.isDeleted()).isTrue();
-        verify(eventBus, times(1)).publish(OfficeBranchDeletedEvent.of(officeBranch.id().toString()));
+        verify(officeBranchRepo, times(1)).update(any(), eq(OfficeBranchDeletedEvent.of(officeBranch.id().toString())));
     }
 }
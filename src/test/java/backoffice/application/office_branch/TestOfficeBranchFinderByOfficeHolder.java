@@ -15,9 +15,12 @@ import io.vavr.control.Option;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -37,7 +40,8 @@ public class TestOfficeBranchFinderByOfficeHolder {
         var officeHolderId = new OfficeHolderId();
         when(officeHolderRepo.findById(officeHolderId)).thenReturn(Option.none());
 
-        Either<OfficeHolderError, List<OfficeBranchResponse>> response = finder.findByOfficeHolder(officeHolderId);
+        Either<OfficeHolderError, Page<OfficeBranchResponse>> response = finder
+                .findByOfficeHolder(officeHolderId, PageRequest.of(0, 10));
 
         assertThat(response.isLeft()).isTrue();
         assertThat(response.getLeft()).isEqualTo(OfficeHolderError.OFFICE_HOLDER_NOT_FOUND);
@@ -56,18 +60,56 @@ public class TestOfficeBranchFinderByOfficeHolder {
         var officeBranch3 = new OfficeBranchBuilder()
                 .withOwner(officeHolder)
                 .build();
-        when(officeBranchRepo.findByOfficeHolder(any(OfficeHolder.class))).thenReturn(
+        when(officeBranchRepo.findByOfficeHolder(any(OfficeHolder.class), eq(0), eq(10))).thenReturn(
                 ImmutableList.of(officeBranch, officeBranch2, officeBranch3)
         );
+        when(officeBranchRepo.count(any(OfficeHolder.class))).thenReturn(3L);
 
-        Either<OfficeHolderError, List<OfficeBranchResponse>> response = finder
-                .findByOfficeHolder(officeHolder.id());
+        Either<OfficeHolderError, Page<OfficeBranchResponse>> response = finder
+                .findByOfficeHolder(officeHolder.id(), PageRequest.of(0, 10));
 
         assertThat(response.isRight()).isTrue();
-        assertThat(response.get()).containsExactlyInAnyOrder(
+        assertThat(response.get().getContent()).containsExactlyInAnyOrder(
                 officeBranch.toResponse(),
                 officeBranch2.toResponse(),
                 officeBranch3.toResponse()
         );
     }
+
+    @Test
+    void itShouldReturnPageRequestedWithTotalOfOfficeBranchesRelatedWithOfficeHolder() {
+        var officeHolder = new OfficeHolderBuilder().build();
+        when(officeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
+        var officeBranch = new OfficeBranchBuilder()
+                .withOwner(officeHolder)
+                .build();
+        when(officeBranchRepo.findByOfficeHolder(any(OfficeHolder.class), eq(2), eq(2)))
+                .thenReturn(ImmutableList.of(officeBranch));
+        when(officeBranchRepo.count(any(OfficeHolder.class))).thenReturn(5L);
+
+        Either<OfficeHolderError, Page<OfficeBranchResponse>> response = finder
+                .findByOfficeHolder(officeHolder.id(), PageRequest.of(1, 2));
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(response.get().getContent()).containsExactly(officeBranch.toResponse());
+        assertThat(response.get().getTotalPages()).isEqualTo(3);
+        assertThat(response.get().getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldReturnEveryOfficeBranchRelatedWithOfficeHolderWhenNoPageIsRequested() {
+        var officeHolder = new OfficeHolderBuilder().build();
+        when(officeHolderRepo.findById(officeHolder.id())).thenReturn(Option.of(officeHolder));
+        var officeBranch = new OfficeBranchBuilder()
+                .withOwner(officeHolder)
+                .build();
+        when(officeBranchRepo.findByOfficeHolder(any(OfficeHolder.class)))
+                .thenReturn(ImmutableList.of(officeBranch));
+
+        Either<OfficeHolderError, List<OfficeBranchResponse>> response = finder
+                .findByOfficeHolder(officeHolder.id());
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(response.get()).containsExactly(officeBranch.toResponse());
+    }
 }
@@ -12,20 +12,19 @@ import com.google.common.collect.ImmutableList;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestOfficeBranchUpdater {
-    EventBus eventBus = mock(EventBus.class);
     OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
     OfficeBranchAuthValidator officeBranchAuthValidator = mock(OfficeBranchAuthValidator.class);
     ArgumentCaptor<OfficeBranch> officeBranchArgumentCaptor = ArgumentCaptor.forClass(OfficeBranch.class);
@@ -40,7 +39,7 @@ public class TestOfficeBranchUpdater {
             "5501"
     );
 
-    OfficeBranchUpdater updater = new OfficeBranchUpdater(eventBus, officeBranchRepo, officeBranchAuthValidator);
+    OfficeBranchUpdater updater = new OfficeBranchUpdater(officeBranchRepo, officeBranchAuthValidator);
 
     @Test
     void itShouldReturnOfficeBranchNotFoundWhenThereIsNoOfficeBranchWithSpecifiedId() {
@@ -70,13 +69,13 @@ public class TestOfficeBranchUpdater {
         var officeBranch = new OfficeBranchBuilder().build();
         when(officeBranchRepo.findById(officeBranch.id())).thenReturn(Option.of(officeBranch));
         when(officeBranchAuthValidator.authUserIsOwner(any(OfficeBranch.class))).thenReturn(true);
-        when(officeBranchRepo.update(any(OfficeBranch.class))).thenReturn(Try.success(null));
+        when(officeBranchRepo.update(any(OfficeBranch.class), any())).thenReturn(Try.success(null));
 
         Either<OfficeBranchError, Void> response = updater.update(officeBranch.id(), info);
 
         assertThat(response.isRight()).isTrue();
         verify(officeBranchRepo, times(1))
-                .update(officeBranchArgumentCaptor.capture());
+                .update(officeBranchArgumentCaptor.capture(), any());
         var officeBranchUpdated = officeBranchArgumentCaptor.getValue();
         assertThat(officeBranchUpdated.name()).isEqualTo(info.name().get());
         assertThat(officeBranchUpdated.description()).isEqualTo(info.description().get());
@@ -95,20 +94,22 @@ public class TestOfficeBranchUpdater {
         var officeBranch = new OfficeBranchBuilder().build();
         when(officeBranchRepo.findById(officeBranch.id())).thenReturn(Option.of(officeBranch));
         when(officeBranchAuthValidator.authUserIsOwner(any(OfficeBranch.class))).thenReturn(true);
-        when(officeBranchRepo.update(any(OfficeBranch.class))).thenReturn(Try.success(null));
+        when(officeBranchRepo.update(any(OfficeBranch.class), any())).thenReturn(Try.success(null));
 
         Either<OfficeBranchError, Void> response = updater.update(officeBranch.id(), info);
 
         assertThat(response.isRight()).isTrue();
 
-        verify(eventBus, times(1)).publish(OfficeBranchUpdatedEvent.of(
+        verify(officeBranchRepo, times(1)).update(any(), eq(OfficeBranchUpdatedEvent.of(
                 officeBranch.id().toString(),
                 info.getName(),
                 info.getProvince(),
                 info.getCity(),
                 info.getStreet(),
+                info.getLatitude(),
+                info.getLongitude(),
                 info.getPhone(),
                 info.getImagesUrls()
-        ));
+        )));
     }
 }
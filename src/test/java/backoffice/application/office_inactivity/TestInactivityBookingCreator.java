@@ -19,7 +19,6 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -38,13 +37,11 @@ public class TestInactivityBookingCreator {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     InactivityRepository inactivityRepo = mock(InactivityRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
-    EventBus eventBus = mock(EventBus.class);
 
     InactivityCreator creator = new InactivityCreator(
             officeRepo,
             inactivityRepo,
-            permissionValidator,
-            eventBus
+            permissionValidator
     );
 
     @Test
@@ -101,7 +98,7 @@ public class TestInactivityBookingCreator {
                 any(OfficeBranch.class),
                 eq(Permission.create(Access.WRITE, Resource.OFFICE)))
         ).thenReturn(true);
-        when(inactivityRepo.store(any())).thenReturn(Try.success(null));
+        when(inactivityRepo.store(any(), any())).thenReturn(Try.success(null));
 
         creator.create(office.id(), inactivityId, info);
 
@@ -112,7 +109,9 @@ public class TestInactivityBookingCreator {
                 Option.none(),
                 office
         ).get();
-        verify(inactivityRepo, times(1)).store(expectedInactivityCreated);
-        verify(eventBus, times(1)).publish(expectedInactivityCreated.inactivityCreatedEvent());
+        verify(inactivityRepo, times(1)).store(
+                expectedInactivityCreated,
+                expectedInactivityCreated.inactivityCreatedEvent()
+        );
     }
 }
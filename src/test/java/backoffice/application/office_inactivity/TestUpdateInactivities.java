@@ -7,9 +7,9 @@ import backoffice.application.dto.office_inactivity.InactivityInformation;
 import backoffice.domain.office.OfficeId;
 import backoffice.domain.office.OfficeRepository;
 import backoffice.domain.office_inactivity.InactivityCreatedEvent;
-import backoffice.domain.office_inactivity.InactivityDeletedEvent;
 import backoffice.domain.office_inactivity.InactivityRepository;
 import backoffice.domain.office_inactivity.InactivityType;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
 import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
@@ -20,11 +20,12 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import shared.application.UseCaseError;
-import shared.domain.EventBus;
+import shared.domain.DomainEvent;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,9 +39,9 @@ public class TestUpdateInactivities {
     InactivityRepository inactivityRepo = mock(InactivityRepository.class);
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
-    EventBus eventBus = mock(EventBus.class);
+    ArgumentCaptor<DomainEvent> eventArgCaptor = ArgumentCaptor.forClass(DomainEvent.class);
 
-    InactivitiesUpdater updater = new InactivitiesUpdater(inactivityRepo, officeRepo, permissionValidator, eventBus);
+    InactivitiesUpdater updater = new InactivitiesUpdater(inactivityRepo, officeRepo, permissionValidator);
 
     @Test
     void itShouldReturnOfficeNotFoundWhenThereIsNoOfficeWithIdSpecified() {
@@ -104,8 +105,7 @@ public class TestUpdateInactivities {
                 new InactivityBuilder().withDayOfWeek(DayOfWeek.MONDAY).build(),
                 new InactivityBuilder().withDayOfWeek(DayOfWeek.FRIDAY).build()
         ));
-        when(inactivityRepo.bulkStore(any())).thenReturn(Try.success(null));
-        when(inactivityRepo.delete(any())).thenReturn(Try.success(null));
+        when(inactivityRepo.replace(any(), any(), any())).thenReturn(Try.success(null));
 
         var info = InactivityInformation.of(
                 InactivityType.RECURRING_DAY.name(),
@@ -119,11 +119,19 @@ public class TestUpdateInactivities {
         );
 
         assertThat(response.isRight()).isTrue();
-        verify(inactivityRepo, times(1)).delete(ImmutableList.of(
-                new InactivityBuilder().withDayOfWeek(DayOfWeek.THURSDAY).build(),
-                new InactivityBuilder().withDayOfWeek(DayOfWeek.FRIDAY).build()
-        ));
-        verify(eventBus, times(2)).publish(any(InactivityDeletedEvent.class));
+        verify(inactivityRepo, times(1)).replace(
+                eq(ImmutableList.of()),
+                eq(ImmutableList.of(
+                        new InactivityBuilder().withDayOfWeek(DayOfWeek.THURSDAY).build(),
+                        new InactivityBuilder().withDayOfWeek(DayOfWeek.FRIDAY).build()
+                )),
+                eventArgCaptor.capture()
+        );
+        var event = (OfficeInactivitiesReplacedEvent) eventArgCaptor.getValue();
+        assertThat(event.getOfficeId()).isEqualTo(office.id().toString());
+        assertThat(event.getInactivities())
+                .map(InactivityCreatedEvent::getDayOfWeek)
+                .containsExactly(Option.of(DayOfWeek.MONDAY));
     }
 
     @Test
@@ -139,8 +147,7 @@ public class TestUpdateInactivities {
                 new InactivityBuilder().withDayOfWeek(DayOfWeek.MONDAY).build(),
                 new InactivityBuilder().withDayOfWeek(DayOfWeek.FRIDAY).build()
         ));
-        when(inactivityRepo.bulkStore(any())).thenReturn(Try.success(null));
-        when(inactivityRepo.delete(any())).thenReturn(Try.success(null));
+        when(inactivityRepo.replace(any(), any(), any())).thenReturn(Try.success(null));
 
         var info = InactivityInformation.of(
                 InactivityType.RECURRING_DAY.name(),
@@ -159,9 +166,70 @@ public class TestUpdateInactivities {
         );
 
         assertThat(response.isRight()).isTrue();
-        verify(inactivityRepo, times(1)).bulkStore(ImmutableList.of(
-                new InactivityBuilder().withDayOfWeek(DayOfWeek.TUESDAY).build()
+        verify(inactivityRepo, times(1)).replace(
+                eq(ImmutableList.of(new InactivityBuilder().withDayOfWeek(DayOfWeek.TUESDAY).build())),
+                eq(ImmutableList.of(
+                        new InactivityBuilder().withDayOfWeek(DayOfWeek.THURSDAY).build(),
+                        new InactivityBuilder().withDayOfWeek(DayOfWeek.FRIDAY).build()
+                )),
+                eventArgCaptor.capture()
+        );
+        var event = (OfficeInactivitiesReplacedEvent) eventArgCaptor.getValue();
+        assertThat(event.getInactivities())
+                .map(InactivityCreatedEvent::getDayOfWeek)
+                .containsExactlyInAnyOrder(Option.of(DayOfWeek.MONDAY), Option.of(DayOfWeek.TUESDAY));
+    }
+
+    @Test
+    void itShouldNotWriteAnythingWhenInactivitiesDoNotChange() {
+        var office = new OfficeBuilder().build();
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+        when(permissionValidator.userHasPerms(
+                any(),
+                eq(Permission.create(Access.WRITE, Resource.OFFICE))
+        )).thenReturn(true);
+        when(inactivityRepo.findAllByOffice(any())).thenReturn(ImmutableList.of(
+                new InactivityBuilder().withDayOfWeek(DayOfWeek.MONDAY).build()
         ));
-        verify(eventBus, times(1)).publish(any(InactivityCreatedEvent.class));
+
+        var info = InactivityInformation.of(
+                InactivityType.RECURRING_DAY.name(),
+                DayOfWeek.MONDAY,
+                null
+        );
+
+        Either<UseCaseError, Void> response = updater.updateOfficeInactivities(
+                office.id(),
+                ImmutableList.of(info)
+        );
+
+        assertThat(response.isRight()).isTrue();
+        verify(inactivityRepo, times(0)).replace(any(), any(), any());
+    }
+
+    @Test
+    void itShouldReturnDbErrorWhenReplaceFails() {
+        var office = new OfficeBuilder().build();
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+        when(permissionValidator.userHasPerms(
+                any(),
+                eq(Permission.create(Access.WRITE, Resource.OFFICE))
+        )).thenReturn(true);
+        when(inactivityRepo.findAllByOffice(any())).thenReturn(ImmutableList.of());
+        when(inactivityRepo.replace(any(), any(), any())).thenReturn(Try.failure(new Exception()));
+
+        var info = InactivityInformation.of(
+                InactivityType.RECURRING_DAY.name(),
+                DayOfWeek.MONDAY,
+                null
+        );
+
+        Either<UseCaseError, Void> response = updater.updateOfficeInactivities(
+                office.id(),
+                ImmutableList.of(info)
+        );
+
+        assertThat(response.isLeft()).isTrue();
+        assertThat(response.getLeft()).isEqualTo(InactivityError.DB_ERROR);
     }
 }
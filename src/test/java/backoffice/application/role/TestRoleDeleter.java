@@ -1,5 +1,6 @@
 package backoffice.application.role;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.role.RoleError;
 import backoffice.domain.role.Access;
@@ -27,9 +28,10 @@ import static org.mockito.Mockito.when;
 public class TestRoleDeleter {
     RoleRepository roleRepo = mock(RoleRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
     ArgumentCaptor<Role> roleArgumentCaptor = ArgumentCaptor.forClass(Role.class);
 
-    RoleDeleter deleter = new RoleDeleter(roleRepo, permissionValidator);
+    RoleDeleter deleter = new RoleDeleter(roleRepo, permissionValidator, permissionCache);
 
     @Test
     void itShouldReturnNotFoundWhenThereIsNoRoleWithIdSpecified() {
@@ -69,5 +71,6 @@ public class TestRoleDeleter {
         verify(roleRepo, times(1)).update(roleArgumentCaptor.capture());
         var roleUpdated = roleArgumentCaptor.getValue();
         assertThat(roleUpdated.isActive()).isFalse();
+        verify(permissionCache, times(1)).invalidate(role.officeBranch().id());
     }
 }
@@ -1,5 +1,6 @@
 package backoffice.application.role;
 
+import backoffice.application.PermissionCache;
 import backoffice.application.PermissionValidator;
 import backoffice.application.dto.role.RoleError;
 import backoffice.application.dto.role.RoleInformation;
@@ -33,8 +34,9 @@ public class TestRoleUpdater {
 
     RoleRepository roleRepo = mock(RoleRepository.class);
     PermissionValidator permissionValidator = mock(PermissionValidator.class);
+    PermissionCache permissionCache = mock(PermissionCache.class);
 
-    RoleUpdater updater = new RoleUpdater(roleRepo, permissionValidator);
+    RoleUpdater updater = new RoleUpdater(roleRepo, permissionValidator, permissionCache);
 
     @Test
     void itShouldReturnNotFoundWhenRoleDoesNotExist() {
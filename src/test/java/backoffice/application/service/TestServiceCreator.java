@@ -10,6 +10,7 @@ import backoffice.domain.role.Access;
 import backoffice.domain.role.Permission;
 import backoffice.domain.role.Resource;
 import backoffice.domain.service.Service;
+import backoffice.domain.service.ServiceCreatedEvent;
 import backoffice.domain.service.ServiceId;
 import backoffice.domain.service.ServiceRepository;
 import backoffice.factories.OfficeBranchBuilder;
@@ -23,6 +24,7 @@ import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -96,7 +98,7 @@ public class TestServiceCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.SERVICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(serviceRepository.store(any())).thenReturn(Try.failure(new PersistenceException()));
+        when(serviceRepository.store(any(), any())).thenReturn(Try.failure(new PersistenceException()));
 
         Either<UseCaseError, Void> response = serviceCreator.createService(
                 serviceId,
@@ -119,16 +121,22 @@ public class TestServiceCreator {
                 officeBranch.id(),
                 Permission.create(Access.WRITE, Resource.SERVICE)
         )).thenReturn(Either.right(officeBranch.toResponse()));
-        when(serviceRepository.store(any())).thenReturn(Try.success(null));
+        when(serviceRepository.store(any(), any())).thenReturn(Try.success(null));
 
         serviceCreator.createService(serviceId, serviceInformation, officeBranch.id());
 
         verify(serviceRepository, times(1))
-                .store(officeBranchServiceArgCaptor.capture());
+                .store(officeBranchServiceArgCaptor.capture(), any());
         Service serviceStored = officeBranchServiceArgCaptor.getValue();
         var serviceResponse = serviceStored.toResponse();
         assertThat(serviceResponse.getId()).isEqualTo(serviceId.toString());
         assertThat(serviceResponse.getName()).isEqualTo("Some name");
         assertThat(serviceResponse.getCategory()).isEqualTo("FOOD");
+        verify(serviceRepository, times(1)).store(any(), eq(ServiceCreatedEvent.of(
+                serviceId.toString(),
+                officeBranch.id().toString(),
+                "Some name",
+                "FOOD"
+        )));
     }
 }
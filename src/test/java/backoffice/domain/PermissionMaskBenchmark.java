@@ -0,0 +1,101 @@
+package backoffice.domain;
+
+import backoffice.domain.collaborator.Collaborator;
+import backoffice.domain.collaborator.Status;
+import backoffice.domain.office_branch.OfficeBranch;
+import backoffice.domain.role.Access;
+import backoffice.domain.role.Permission;
+import backoffice.domain.role.PermissionMask;
+import backoffice.domain.role.Resource;
+import backoffice.domain.role.Role;
+import backoffice.factories.CollaboratorBuilder;
+import backoffice.factories.OfficeBranchBuilder;
+import backoffice.factories.RoleBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+public class PermissionMaskBenchmark {
+    static final int WARMUP_ROUNDS = 20_000;
+    static final int MEASURED_ROUNDS = 200_000;
+
+    List<Permission> checks = allPermissions();
+    Collaborator collaborator = collaborator();
+
+    static List<Permission> allPermissions() {
+        List<Permission> permissions = new ArrayList<>();
+        for (Resource resource : Resource.values())
+            for (Access access : Access.values())
+                permissions.add(Permission.create(access, resource));
+        return permissions;
+    }
+
+    static Collaborator collaborator() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var builder = new CollaboratorBuilder()
+                .withOfficeBranch(officeBranch)
+                .withStatus(Status.ACTIVE);
+        builder.addRole(role(officeBranch, Set.of(
+                Permission.create(Access.WRITE, Resource.OFFICE),
+                Permission.create(Access.READ, Resource.BOOKING),
+                Permission.create(Access.READ, Resource.REPORT)
+        )));
+        builder.addRole(role(officeBranch, Set.of(
+                Permission.create(Access.WRITE, Resource.NEWS),
+                Permission.create(Access.READ, Resource.MEMBERSHIP),
+                Permission.create(Access.WRITE, Resource.EQUIPMENT)
+        )));
+        return builder.build();
+    }
+
+    static Role role(OfficeBranch officeBranch, Set<Permission> permissions) {
+        return new RoleBuilder().withOfficeBranch(officeBranch).withPermissions(permissions).build();
+    }
+
+    /**
+     * Stream based check the bitmask replaced
+     */
+    static boolean streamCheck(Collaborator collaborator, Permission permission) {
+        return collaborator.roles()
+                .stream()
+                .anyMatch(role -> role.permissions()
+                        .stream()
+                        .anyMatch(perm -> perm.resource().equals(permission.resource())
+                                && (perm.access().equals(permission.access()) || perm.access().equals(Access.WRITE))
+                        )
+                );
+    }
+
+    interface Check {
+        boolean test(Permission permission);
+    }
+
+    long run(Check check, int rounds) {
+        long allowed = 0;
+        for (int i = 0; i < rounds; i++)
+            for (Permission permission : checks)
+                if (check.test(permission))
+                    allowed++;
+        return allowed;
+    }
+
+    double nanosPerCheck(Check check) {
+        run(check, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        run(check, MEASURED_ROUNDS);
+        return (System.nanoTime() - start) / (double) (MEASURED_ROUNDS * checks.size());
+    }
+
+    @Test
+    void compareBitmaskAgainstStreamChecks() {
+        int mask = collaborator.permissionMask();
+
+        System.out.printf("Stream checks:      %.1f ns/check%n", nanosPerCheck(p -> streamCheck(collaborator, p)));
+        System.out.printf("Collaborator mask:  %.1f ns/check%n", nanosPerCheck(collaborator::hasPermission));
+        System.out.printf("Resolved mask:      %.1f ns/check%n", nanosPerCheck(p -> PermissionMask.allows(mask, p)));
+    }
+}
@@ -365,4 +365,50 @@ public class TestOfficeBranch {
                 new Image("image2.com")
         );
     }
+
+    @Test
+    void itShouldUpdateCoordinatesWhenTheyAreProvided() {
+        var officeBranch = new OfficeBranchBuilder()
+                .withLocation(new Location("Mendoza", "a", "a", "1", -32.92, -68.84))
+                .build();
+        var info = OfficeBranchUpdateInformation.of(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                -34.58,
+                -58.42
+        );
+
+        var officeBranchUpdated = officeBranch.update(info);
+
+        assertThat(officeBranchUpdated.location().latitude()).isEqualTo(-34.58);
+        assertThat(officeBranchUpdated.location().longitude()).isEqualTo(-58.42);
+    }
+
+    @Test
+    void itShouldKeepTheSameCoordinatesWhenTheyAreNotProvided() {
+        var officeBranch = new OfficeBranchBuilder()
+                .withLocation(new Location("Mendoza", "a", "a", "1", -32.92, -68.84))
+                .build();
+        var info = OfficeBranchUpdateInformation.of(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        var officeBranchUpdated = officeBranch.update(info);
+
+        assertThat(officeBranchUpdated.location().latitude()).isEqualTo(-32.92);
+        assertThat(officeBranchUpdated.location().longitude()).isEqualTo(-68.84);
+    }
 }
@@ -0,0 +1,49 @@
+package backoffice.domain;
+
+import backoffice.domain.role.Access;
+import backoffice.domain.role.Permission;
+import backoffice.domain.role.PermissionMask;
+import backoffice.domain.role.Resource;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestPermissionMask {
+
+    @Test
+    void itShouldAssignADifferentBitToEveryResourceAndAccess() {
+        Set<Integer> bits = new HashSet<>();
+        for (Resource resource : Resource.values())
+            for (Access access : Access.values())
+                bits.add(PermissionMask.bit(resource, access));
+
+        assertThat(bits).hasSize(Resource.values().length * Access.values().length);
+        assertThat(bits).allMatch(bit -> Integer.bitCount(bit) == 1);
+    }
+
+    @Test
+    void itShouldGrantReadAccessWhenMaskHasWriteAccessToTheSameResource() {
+        int mask = PermissionMask.of(Set.of(Permission.create(Access.WRITE, Resource.OFFICE)));
+
+        assertThat(PermissionMask.allows(mask, Permission.create(Access.READ, Resource.OFFICE))).isTrue();
+        assertThat(PermissionMask.allows(mask, Permission.create(Access.WRITE, Resource.OFFICE))).isTrue();
+        assertThat(PermissionMask.allows(mask, Permission.create(Access.READ, Resource.ROLE))).isFalse();
+    }
+
+    @Test
+    void itShouldNotGrantWriteAccessWhenMaskOnlyHasReadAccess() {
+        int mask = PermissionMask.of(Set.of(Permission.create(Access.READ, Resource.OFFICE)));
+
+        assertThat(PermissionMask.allows(mask, Permission.create(Access.WRITE, Resource.OFFICE))).isFalse();
+    }
+
+    @Test
+    void itShouldAllowEveryPermissionWithAllMask() {
+        for (Resource resource : Resource.values())
+            for (Access access : Access.values())
+                assertThat(PermissionMask.allows(PermissionMask.ALL, Permission.create(access, resource))).isTrue();
+    }
+}
@@ -16,6 +16,8 @@ import io.vavr.control.Try;
 import server.WorkfficeApplication;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -156,6 +158,21 @@ public class TestCollaboratorMySQLRepo {
                 .isTrue();
     }
 
+    @Test
+    void itShouldCompareEmailsIgnoringCaseWhenCheckingIfCollaboratorExists() {
+        var officeBranch = createOfficeBranch();
+        var collaborator = Collaborator.createNew(
+                new CollaboratorId(),
+                "Napoleon@Gallardo.com",
+                "pirlonzio",
+                Sets.newHashSet(),
+                officeBranch
+        );
+        collaboratorMySQLRepo.store(collaborator);
+
+        assertThat(collaboratorMySQLRepo.exists("napoleon@GALLARDO.com", officeBranch)).isTrue();
+    }
+
     @Test
     void itShouldReturnExistsFalseWhenThereIsNoCollaboratorWithEmailAndOfficeBranchSpecified() {
         var collaboratorId = new CollaboratorId();
@@ -264,4 +281,109 @@ public class TestCollaboratorMySQLRepo {
         assertThat(collaborators).map(col -> col.officeBranch().id())
                 .containsExactlyInAnyOrder(officeBranch2.id(), officeBranch3.id());
     }
+
+    @Test
+    void itShouldReturnCollaboratorsWithRolesForEmailInOfficeBranchesSpecified() {
+        var officeBranch1 = createOfficeBranch();
+        var officeBranch2 = createOfficeBranch();
+        var officeBranch3 = createOfficeBranch();
+        var role = new RoleBuilder()
+                .withOfficeBranch(officeBranch1)
+                .build();
+        var role2 = new RoleBuilder()
+                .withOfficeBranch(officeBranch1)
+                .build();
+        roleRepo.store(role);
+        roleRepo.store(role2);
+        var collaborator = new CollaboratorBuilder()
+                .withEmail("bulk@doe.com")
+                .withStatus(Status.ACTIVE)
+                .withOfficeBranch(officeBranch1)
+                .addRole(role)
+                .addRole(role2)
+                .build();
+        var collaborator2 = new CollaboratorBuilder()
+                .withEmail("bulk@doe.com")
+                .withStatus(Status.ACTIVE)
+                .withOfficeBranch(officeBranch2)
+                .build();
+        var collaborator3 = new CollaboratorBuilder()
+                .withEmail("bulk@doe.com")
+                .withStatus(Status.ACTIVE)
+                .withOfficeBranch(officeBranch3)
+                .build();
+        collaboratorMySQLRepo.store(collaborator);
+        collaboratorMySQLRepo.store(collaborator2);
+        collaboratorMySQLRepo.store(collaborator3);
+
+        var collaborators = collaboratorMySQLRepo.find(
+                "bulk@doe.com",
+                List.of(officeBranch1.id(), officeBranch2.id())
+        );
+
+        assertThat(collaborators).containsExactlyInAnyOrder(collaborator, collaborator2);
+        assertThat(collaborators).map(col -> col.officeBranch().id())
+                .containsExactlyInAnyOrder(officeBranch1.id(), officeBranch2.id());
+        assertThat(collaborators)
+                .filteredOn(col -> col.id().equals(collaborator.id()))
+                .flatMap(Collaborator::roles)
+                .containsExactlyInAnyOrder(role, role2);
+    }
+
+    @Test
+    void itShouldStoreAllCollaboratorsWithTheirRoles() {
+        var officeBranch = createOfficeBranch();
+        var role = new RoleBuilder()
+                .withOfficeBranch(officeBranch)
+                .build();
+        roleRepo.store(role);
+        var collaborators = IntStream.range(0, 120)
+                .mapToObj(i -> new CollaboratorBuilder()
+                        .withEmail("invited" + i + "@doe.com")
+                        .withOfficeBranch(officeBranch)
+                        .addRole(role)
+                        .build())
+                .collect(Collectors.toList());
+
+        Try<Void> result = collaboratorMySQLRepo.storeAll(collaborators);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(collaboratorMySQLRepo.find(officeBranch)).containsExactlyInAnyOrderElementsOf(collaborators);
+        assertThat(collaboratorMySQLRepo.findWithRoles(collaborators.get(119).id()).get().roles())
+                .containsExactly(role);
+    }
+
+    @Test
+    void itShouldReturnOnlyEmailsThatAlreadyBelongToOfficeBranchCollaborators() {
+        var officeBranch = createOfficeBranch();
+        var anotherOfficeBranch = createOfficeBranch();
+        collaboratorMySQLRepo.store(new CollaboratorBuilder()
+                .withEmail("existent@doe.com")
+                .withOfficeBranch(officeBranch)
+                .build());
+        collaboratorMySQLRepo.store(new CollaboratorBuilder()
+                .withEmail("other_branch@doe.com")
+                .withOfficeBranch(anotherOfficeBranch)
+                .build());
+
+        var existingEmails = collaboratorMySQLRepo.findExistingEmails(
+                List.of("existent@doe.com", "other_branch@doe.com", "new@doe.com"),
+                officeBranch
+        );
+
+        assertThat(existingEmails).containsExactly("existent@doe.com");
+    }
+
+    @Test
+    void itShouldFindExistingEmailsIgnoringCase() {
+        var officeBranch = createOfficeBranch();
+        collaboratorMySQLRepo.store(new CollaboratorBuilder()
+                .withEmail("Existent@Doe.com")
+                .withOfficeBranch(officeBranch)
+                .build());
+
+        var existingEmails = collaboratorMySQLRepo.findExistingEmails(List.of("EXISTENT@doe.com"), officeBranch);
+
+        assertThat(existingEmails).containsExactly("existent@doe.com");
+    }
 }
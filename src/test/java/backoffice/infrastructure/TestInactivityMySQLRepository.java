@@ -7,6 +7,7 @@ import backoffice.domain.office_holder.OfficeHolderRepository;
 import backoffice.domain.office_inactivity.Inactivity;
 import backoffice.domain.office_inactivity.InactivityId;
 import backoffice.domain.office_inactivity.InactivityType;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
 import backoffice.factories.InactivityBuilder;
 import backoffice.factories.OfficeBranchBuilder;
 import backoffice.factories.OfficeBuilder;
@@ -17,6 +18,7 @@ import server.WorkfficeApplication;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -134,22 +136,33 @@ public class TestInactivityMySQLRepository {
     }
 
     @Test
-    void itShouldStoreAllInactivitiesPassed() {
+    void itShouldStoreAndDeleteInactivitiesInTheSameWrite() {
         var office = createOffice();
-        var inactivity = new InactivityBuilder()
+        var inactivityToKeep = new InactivityBuilder()
                 .withOffice(office)
                 .build();
-        var inactivity2 = new InactivityBuilder()
+        var inactivityToDelete = new InactivityBuilder()
                 .withOffice(office)
                 .build();
-        var inactivity3 = new InactivityBuilder()
+        var inactivityToStore = new InactivityBuilder()
                 .withOffice(office)
                 .build();
-
-        Try<Void> response = inactivityRepo.bulkStore(ImmutableList.of(inactivity, inactivity2, inactivity3));
+        inactivityRepo.store(inactivityToKeep);
+        inactivityRepo.store(inactivityToDelete);
+
+        Try<Void> response = inactivityRepo.replace(
+                ImmutableList.of(inactivityToStore),
+                ImmutableList.of(inactivityToDelete),
+                OfficeInactivitiesReplacedEvent.of(
+                        office.officeBranch().id().toString(),
+                        office.id().toString(),
+                        List.of()
+                )
+        );
 
         assertThat(response.isSuccess()).isTrue();
         var inactivities = inactivityRepo.findAllByOffice(office);
-        assertThat(inactivities).size().isEqualTo(3);
+        assertThat(inactivities).map(Inactivity::id)
+                .containsExactlyInAnyOrder(inactivityToKeep.id(), inactivityToStore.id());
     }
 }
@@ -12,6 +12,7 @@ import com.google.common.collect.ImmutableList;
 import io.vavr.control.Try;
 import server.WorkfficeApplication;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -227,4 +228,65 @@ public class TestOfficeBranchMySQLRepo {
                 officeBranch3.toResponse()
         );
     }
+
+    @Test
+    void itShouldReturnIdsOfOfficeBranchesOwnedByEmailSpecifiedEvenIfDeleted() {
+        OfficeHolder officeHolder = new OfficeHolderBuilder().build();
+        OfficeHolder anotherOfficeHolder = new OfficeHolderBuilder().build();
+        officeHolderRepo.store(officeHolder);
+        officeHolderRepo.store(anotherOfficeHolder);
+        var officeBranch1 = new OfficeBranchBuilder().withOwner(officeHolder).build();
+        var officeBranch2 = new OfficeBranchBuilder().withOwner(officeHolder).build();
+        officeBranch2.delete();
+        var officeBranch3 = new OfficeBranchBuilder().withOwner(anotherOfficeHolder).build();
+        repo.store(officeBranch1);
+        repo.store(officeBranch2);
+        repo.store(officeBranch3);
+
+        var officeBranchIds = repo.findIdsOwnedBy(officeHolder.email(), ImmutableList.of(
+                officeBranch1.id(),
+                officeBranch2.id(),
+                officeBranch3.id()
+        ));
+
+        assertThat(officeBranchIds).containsExactlyInAnyOrder(officeBranch1.id(), officeBranch2.id());
+    }
+
+    @Test
+    void itShouldReturnPageOfOfficeBranchesRelatedWithOfficeHolderWithTheirImages() {
+        OfficeHolder officeHolder = new OfficeHolderBuilder().build();
+        officeHolderRepo.store(officeHolder);
+        var officeBranch1 = new OfficeBranchBuilder()
+                .withOwner(officeHolder)
+                .withImages(List.of(new Image("image1url"), new Image("image2url")))
+                .build();
+        var officeBranch2 = new OfficeBranchBuilder()
+                .withOwner(officeHolder)
+                .withImages(List.of(new Image("image3url")))
+                .build();
+        var officeBranch3 = new OfficeBranchBuilder()
+                .withOwner(officeHolder)
+                .build();
+        repo.store(officeBranch1);
+        repo.store(officeBranch2);
+        repo.store(officeBranch3);
+
+        var firstPage = repo.findByOfficeHolder(officeHolder, 0, 2);
+        var secondPage = repo.findByOfficeHolder(officeHolder, 2, 2);
+
+        assertThat(repo.count(officeHolder)).isEqualTo(3L);
+        assertThat(firstPage).size().isEqualTo(2);
+        assertThat(secondPage).size().isEqualTo(1);
+        var allOfficeBranches = new ArrayList<>(firstPage);
+        allOfficeBranches.addAll(secondPage);
+        assertThat(allOfficeBranches).map(OfficeBranch::id).containsExactlyInAnyOrder(
+                officeBranch1.id(),
+                officeBranch2.id(),
+                officeBranch3.id()
+        );
+        assertThat(allOfficeBranches)
+                .filteredOn(officeBranch -> officeBranch.id().equals(officeBranch1.id()))
+                .flatMap(OfficeBranch::images)
+                .containsExactlyInAnyOrder(new Image("image1url"), new Image("image2url"));
+    }
 }
@@ -20,7 +20,12 @@ import com.google.common.collect.ImmutableSet;
 import io.vavr.control.Try;
 import server.WorkfficeApplication;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -41,6 +46,8 @@ public class TestOfficeMySQLRepo {
     ServiceRepository serviceRepo;
     @Autowired
     EquipmentRepository equipmentRepo;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
 
     OfficeBranch createOfficeBranch() {
         OfficeHolder officeHolder = new OfficeHolderBuilder().build();
@@ -112,6 +119,18 @@ public class TestOfficeMySQLRepo {
         assertThat(offices).size().isEqualTo(3);
     }
 
+    @Test
+    void itShouldStoreAllOfficesOfBatch() {
+        var officeBranch = createOfficeBranch();
+        var office1 = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+        var office2 = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+
+        var response = officeMySQLRepo.storeAll(List.of(office1, office2));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(officeMySQLRepo.findByOfficeBranch(officeBranch)).size().isEqualTo(2);
+    }
+
     @Test
     void itShouldReturnOfficesRelatedWithOfficeBranchWithServices() {
         var officeBranch = createOfficeBranch();
@@ -198,4 +217,57 @@ public class TestOfficeMySQLRepo {
         );
         assertThat(officeUpdated.toResponse().getEquipments()).containsExactly(equipment.toResponse());
     }
+
+    @Test
+    void itShouldReturnOnlyOfficesThatAreNotDeletedAtDateSpecified() {
+        var officeBranch = createOfficeBranch();
+        var today = LocalDate.of(2021, 6, 10);
+        var office1 = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+        var office2 = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+        office2.delete(today);
+        var office3 = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+        office3.delete(today.minusDays(1));
+        officeMySQLRepo.store(office1);
+        officeMySQLRepo.store(office2);
+        officeMySQLRepo.store(office3);
+
+        List<Office> offices = officeMySQLRepo.findNonDeleted(officeBranch, today);
+
+        assertThat(offices).map(Office::id).containsExactlyInAnyOrder(office1.id(), office2.id());
+    }
+
+    @Test
+    void itShouldLoadOfficesOfOfficeBranchWithoutMultiplyingRowsByServicesAndEquipments() {
+        var officeBranch = createOfficeBranch();
+        var service = new ServiceBuilder().withOfficeBranch(officeBranch).build();
+        var service2 = new ServiceBuilder().withOfficeBranch(officeBranch).build();
+        var equipment = new EquipmentBuilder().withOfficeBranch(officeBranch).build();
+        var equipment2 = new EquipmentBuilder().withOfficeBranch(officeBranch).build();
+        serviceRepo.store(service);
+        serviceRepo.store(service2);
+        equipmentRepo.store(equipment);
+        equipmentRepo.store(equipment2);
+        for (int i = 0; i < 20; i++) {
+            var office = new OfficeBuilder().withOfficeBranch(officeBranch).build();
+            office.addServices(ImmutableSet.of(service, service2));
+            office.addEquipments(ImmutableSet.of(equipment, equipment2));
+            officeMySQLRepo.store(office);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Office> offices = officeMySQLRepo.findNonDeleted(officeBranch, LocalDate.now());
+
+        assertThat(offices).size().isEqualTo(20);
+        assertThat(offices).allMatch(office -> office.toResponse().getServices().size() == 2
+                && office.toResponse().getEquipments().size() == 2);
+        // One query for the offices and one subselect for each collection
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        // Fetch joining both collections would return 20 x 2 x 2 rows
+        long officeRows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        assertThat(officeRows).isEqualTo(20);
+        assertThat(statistics.getCollectionLoadCount()).isEqualTo(40);
+    }
 }
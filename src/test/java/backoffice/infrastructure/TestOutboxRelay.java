@@ -0,0 +1,243 @@
+package backoffice.infrastructure;
+
+import backoffice.domain.office_branch.OfficeBranchDeletedEvent;
+import backoffice.domain.office_branch.OfficeBranchId;
+import backoffice.domain.office_branch.OfficeBranchUpdatedEvent;
+import backoffice.factories.OfficeBranchBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import server.WorkfficeApplication;
+import shared.domain.DomainEvent;
+import shared.infrastructure.outbox.EventDispatcher;
+import shared.infrastructure.outbox.OutboxRelay;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ContextConfiguration(classes = WorkfficeApplication.class)
+public class TestOutboxRelay {
+    @Autowired
+    OfficeBranchMySQLRepo officeBranchRepo;
+    @Autowired
+    OfficeHolderMySQLRepo officeHolderRepo;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    EventDispatcher dispatcher = mock(EventDispatcher.class);
+
+    static class UnreadableEvent extends DomainEvent {
+        /* Written without its type, so it can not be read back */
+        private final DomainEvent cause = new FailingEvent();
+
+        @Override
+        public String getEventName() {
+            return "UNREADABLE";
+        }
+    }
+
+    static class FailingEvent extends DomainEvent {
+        @Override
+        public String getEventName() {
+            return "FAILING";
+        }
+    }
+
+    private OutboxRelay relay() {
+        var meterRegistry = new SimpleMeterRegistry();
+        return new OutboxRelay("backoffice", entityManagerFactory, dispatcher, 2, Duration.ZERO, 3, meterRegistry);
+    }
+
+    private long deadLetters(String eventName) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        var deadLetters = entityManager.createQuery(
+                "select count(m) from OutboxMessage m where m.eventName = :eventName and m.deadLetteredAt is not null",
+                Long.class
+        ).setParameter("eventName", eventName).getSingleResult();
+        entityManager.close();
+        return deadLetters;
+    }
+
+    @Test
+    void itShouldPublishEventStoredWithAggregateOnlyOnce() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var event = OfficeBranchDeletedEvent.of(officeBranch.id().toString());
+        officeHolderRepo.store(officeBranch.owner());
+
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        var response = officeBranchRepo.store(officeBranch, event);
+        relay().relay();
+        relay().relay();
+
+        assertThat(response.isSuccess()).isTrue();
+        verify(dispatcher, times(1)).dispatch(event);
+    }
+
+    @Test
+    void itShouldSequenceEventsByTheOrderTheyWereStoredIn() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var otherOfficeBranch = new OfficeBranchBuilder().build();
+        var deleted = OfficeBranchDeletedEvent.of(officeBranch.id().toString());
+        var otherDeleted = OfficeBranchDeletedEvent.of(otherOfficeBranch.id().toString());
+        officeHolderRepo.store(officeBranch.owner());
+        officeHolderRepo.store(otherOfficeBranch.owner());
+        var events = ArgumentCaptor.forClass(DomainEvent.class);
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        officeBranchRepo.store(officeBranch, deleted);
+        officeBranchRepo.store(otherOfficeBranch, otherDeleted);
+        relay().relay();
+
+        verify(dispatcher, atLeast(2)).dispatch(events.capture());
+        var sequences = events.getAllValues()
+                .stream()
+                .filter(event -> event.equals(deleted) || event.equals(otherDeleted))
+                .map(event -> event.getSequence().get())
+                .collect(Collectors.toList());
+        assertThat(sequences).hasSize(2).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void itShouldNotPublishEventWhenAggregateCanNotBeStored() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var event = OfficeBranchDeletedEvent.of(new OfficeBranchId().toString());
+        officeHolderRepo.store(officeBranch.owner());
+        officeBranchRepo.store(officeBranch);
+
+        var response = officeBranchRepo.store(officeBranch, event);
+        relay().relay();
+
+        assertThat(response.isFailure()).isTrue();
+        verify(dispatcher, never()).dispatch(event);
+    }
+
+    @Test
+    void itShouldDispatchEventAgainWhenItsListenersDidNotFinish() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var event = OfficeBranchDeletedEvent.of(officeBranch.id().toString());
+        officeHolderRepo.store(officeBranch.owner());
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(dispatcher.dispatch(event))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        officeBranchRepo.store(officeBranch, event);
+        relay().relay();
+        relay().relay();
+        relay().relay();
+
+        verify(dispatcher, times(2)).dispatch(event);
+    }
+
+    @Test
+    void itShouldNotDispatchEventsOfAnAggregateBeforeTheEarlierOnesAreHandled() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var updated = OfficeBranchUpdatedEvent.of(
+                officeBranch.id().toString(),
+                "New name",
+                "Buenos Aires",
+                "CABA",
+                "Callao 123",
+                null,
+                null,
+                "123",
+                List.of()
+        );
+        var deleted = OfficeBranchDeletedEvent.of(officeBranch.id().toString());
+        officeHolderRepo.store(officeBranch.owner());
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(dispatcher.dispatch(updated))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        officeBranchRepo.store(officeBranch, updated);
+        officeBranchRepo.update(officeBranch, deleted);
+        relay().relay();
+        verify(dispatcher, never()).dispatch(deleted);
+        relay().relay();
+
+        var inOrder = inOrder(dispatcher);
+        inOrder.verify(dispatcher, times(2)).dispatch(updated);
+        inOrder.verify(dispatcher, times(1)).dispatch(deleted);
+    }
+
+    @Test
+    void itShouldKeepMessagesThatCanNotBeReadBackAsDeadLetters() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        officeHolderRepo.store(officeBranch.owner());
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        officeBranchRepo.store(officeBranch, new UnreadableEvent());
+        relay().relay();
+        relay().relay();
+
+        verify(dispatcher, never()).dispatch(any(UnreadableEvent.class));
+        assertThat(deadLetters("UNREADABLE")).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldKeepMessagesWhoseListenersKeepFailingAsDeadLettersAfterMaxAttempts() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        officeHolderRepo.store(officeBranch.owner());
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(dispatcher.dispatch(any(FailingEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        officeBranchRepo.store(officeBranch, new FailingEvent());
+        relay().relay();
+        relay().relay();
+        relay().relay();
+        relay().relay();
+
+        verify(dispatcher, times(3)).dispatch(any(FailingEvent.class));
+        assertThat(deadLetters("FAILING")).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldNotDispatchEventsUntilResumed() {
+        var officeBranch = new OfficeBranchBuilder().build();
+        var event = OfficeBranchDeletedEvent.of(officeBranch.id().toString());
+        officeHolderRepo.store(officeBranch.owner());
+        when(dispatcher.dispatch(any())).thenReturn(CompletableFuture.completedFuture(null));
+        var relay = relay();
+
+        officeBranchRepo.store(officeBranch, event);
+        relay.pause("rebuild", Duration.ofMinutes(1));
+        relay.relay();
+        verify(dispatcher, never()).dispatch(event);
+        relay.resume("rebuild");
+        relay.relay();
+
+        verify(dispatcher, times(1)).dispatch(event);
+    }
+
+    @Test
+    void itShouldFailToRenewAPauseHeldByAnotherHolder() {
+        var relay = relay();
+
+        relay.pause("rebuild", Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> relay.renew("another rebuild", Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalStateException.class);
+        relay.resume("rebuild");
+    }
+}
@@ -6,7 +6,6 @@ import booking.application.booking.creation.BookingCreationStrategy;
 import booking.application.dto.booking.BookingInformation;
 import booking.application.dto.booking.BookingResponse;
 import booking.domain.booking.Booking;
-import booking.domain.booking.BookingRepository;
 import booking.domain.office.Office;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
@@ -35,8 +34,8 @@ import static org.mockito.Mockito.when;
 public class TestBookingCreator {
     AuthUserFinder authUserFinder = mock(AuthUserFinder.class);
     OfficeRepository officeRepo = mock(OfficeRepository.class);
-    BookingRepository bookingRepo = mock(BookingRepository.class);
     BookingCreationStrategy bookingCreationStrategy = mock(BookingCreationStrategy.class);
+    OfficeOccupancyNotifier occupancyNotifier = mock(OfficeOccupancyNotifier.class);
     ArgumentCaptor<Booking> bookingArgumentCaptor = ArgumentCaptor.forClass(Booking.class);
 
     BookingInformation info = BookingInformation.of(
@@ -54,7 +53,12 @@ public class TestBookingCreator {
             "RENTER",
             "image.url"
     );
-    BookingCreator creator = new BookingCreator(authUserFinder, officeRepo, bookingRepo, bookingCreationStrategy);
+    BookingCreator creator = new BookingCreator(
+            authUserFinder,
+            officeRepo,
+            bookingCreationStrategy,
+            occupancyNotifier
+    );
 
     @Test
     void itShouldReturnOfficeNotFoundWhenThereIsNoOfficeWithIdProvided() {
@@ -96,7 +100,7 @@ public class TestBookingCreator {
         var office = new OfficeBuilder().build();
         when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
         when(authUserFinder.findAuthenticatedUser()).thenReturn(Option.of(authUserResponse));
-        when(bookingRepo.store(any())).thenReturn(Try.success(null));
+        when(occupancyNotifier.store(any())).thenReturn(Try.success(null));
         BookingInformation info = BookingInformation.of(
                 10,
                 LocalDateTime.of(2018, 12, 8, 15, 0, 0),
@@ -109,7 +113,7 @@ public class TestBookingCreator {
         Either<UseCaseError, BookingResponse> response = creator.create(office.id(), info);
 
         assertThat(response.isRight()).isTrue();
-        verify(bookingRepo, times(1)).store(bookingArgumentCaptor.capture());
+        verify(occupancyNotifier, times(1)).store(bookingArgumentCaptor.capture());
         var bookingStored = bookingArgumentCaptor.getValue();
         assertThat(bookingStored.toResponse()).isEqualTo(booking.toResponse());
     }
@@ -0,0 +1,93 @@
+package booking.application.booking;
+
+import booking.domain.booking.Booking;
+import booking.domain.booking.BookingRepository;
+import booking.domain.office.Office;
+import booking.domain.office.OfficeOccupancyUpdatedEvent;
+import booking.domain.office.privacy.PrivateOffice;
+import booking.factories.BookingBuilder;
+import booking.factories.OfficeBuilder;
+import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestOfficeOccupancyNotifier {
+    BookingRepository bookingRepo = mock(BookingRepository.class);
+
+    OfficeOccupancyNotifier notifier = new OfficeOccupancyNotifier(bookingRepo);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<BiFunction<Office, List<Booking>, DomainEvent>> eventCaptor =
+            ArgumentCaptor.forClass(BiFunction.class);
+
+    ZoneId timeZoneARG = ZoneId.of("America/Argentina/Buenos_Aires");
+
+    @Test
+    void itShouldStoreTheBookingAlongTheOccupancyOfItsDayFromBothDaysInUTCItSpans() {
+        var office = new OfficeBuilder().withPrivacy(new PrivateOffice(5)).build();
+        var booking = new BookingBuilder()
+                .withOffice(office)
+                .withStartTime(ZonedDateTime.of(2030, 5, 10, 10, 0, 0, 0, timeZoneARG))
+                .build();
+        // 22hs in Argentina is already the next day in UTC
+        var lateBooking = new BookingBuilder()
+                .withOffice(office)
+                .withStartTime(ZonedDateTime.of(2030, 5, 10, 22, 0, 0, 0, timeZoneARG))
+                .build();
+        when(bookingRepo.store(eq(booking), any(), any())).thenReturn(Try.success(null));
+
+        var result = notifier.store(booking);
+
+        assertThat(result.isSuccess()).isTrue();
+        verify(bookingRepo, times(1)).store(
+                eq(booking),
+                eq(List.of(LocalDate.of(2030, 5, 10), LocalDate.of(2030, 5, 11))),
+                eventCaptor.capture()
+        );
+        assertThat(eventCaptor.getValue().apply(office, List.of(booking, lateBooking)))
+                .isEqualTo(OfficeOccupancyUpdatedEvent.of(
+                        office.officeBranchId(),
+                        office.id().toString(),
+                        LocalDate.of(2030, 5, 10),
+                        (1 << 10) | (1 << 22)
+                ));
+    }
+
+    @Test
+    void itShouldExpireTheBookingAlongTheOccupancyOfItsDay() {
+        var office = new OfficeBuilder().withPrivacy(new PrivateOffice(5)).build();
+        var booking = new BookingBuilder()
+                .withOffice(office)
+                .withStartTime(ZonedDateTime.of(2030, 5, 10, 10, 0, 0, 0, timeZoneARG))
+                .build();
+        when(bookingRepo.expire(eq(booking), any(), any())).thenReturn(Try.success(true));
+
+        var result = notifier.expire(booking);
+
+        assertThat(result.get()).isTrue();
+        verify(bookingRepo, times(1)).expire(eq(booking), any(), eventCaptor.capture());
+        booking.expire();
+        assertThat(eventCaptor.getValue().apply(office, List.of(booking)))
+                .isEqualTo(OfficeOccupancyUpdatedEvent.of(
+                        office.officeBranchId(),
+                        office.id().toString(),
+                        LocalDate.of(2030, 5, 10),
+                        0
+                ));
+    }
+}
@@ -1,6 +1,7 @@
 package booking.application.inactivity;
 
 import backoffice.domain.office_inactivity.InactivityCreatedEvent;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
 import booking.domain.inactivity.InactivityId;
 import booking.domain.inactivity.RecurringDay;
 import booking.domain.inactivity.SpecificDate;
@@ -9,14 +10,18 @@ import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
 import booking.factories.OfficeBuilder;
 import io.vavr.control.Option;
+import io.vavr.control.Try;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -29,11 +34,17 @@ public class TestInactivityBookingCreator {
 
     InactivityBookingCreator creator = new InactivityBookingCreator(officeRepo);
 
+    @BeforeEach
+    void setUp() {
+        when(officeRepo.update(any())).thenReturn(Try.success(null));
+    }
+
     @Test
     void itShouldNotCallOfficeUpdateWhenItDoesNotExist() {
         var officeId = new OfficeId();
         var event = InactivityCreatedEvent.of(
                 UUID.randomUUID().toString(),
+                "1",
                 officeId.toString(),
                 "RECURRING_DAY",
                 Option.of(DayOfWeek.MONDAY),
@@ -52,6 +63,7 @@ public class TestInactivityBookingCreator {
         var inactivityId = new InactivityId();
         var event = InactivityCreatedEvent.of(
                 inactivityId.toString(),
+                "1",
                 office.id().toString(),
                 "RECURRING_DAY",
                 Option.of(DayOfWeek.MONDAY),
@@ -72,6 +84,7 @@ public class TestInactivityBookingCreator {
         var inactivityId = new InactivityId();
         var event = InactivityCreatedEvent.of(
                 inactivityId.toString(),
+                "1",
                 office.id().toString(),
                 "SPECIFIC_DATE",
                 Option.none(),
@@ -86,4 +99,61 @@ public class TestInactivityBookingCreator {
         assertThat(officeUpdated.inactivities())
                 .containsExactly(new SpecificDate(inactivityId, LocalDate.of(2018, 12, 8)));
     }
+
+    @Test
+    void itShouldReplaceOfficeInactivitiesWithASingleUpdate() {
+        var office = new OfficeBuilder().build();
+        office.addInactivity(new RecurringDay(new InactivityId(), DayOfWeek.FRIDAY));
+        var inactivityId = new InactivityId();
+        var inactivityId2 = new InactivityId();
+        var event = OfficeInactivitiesReplacedEvent.of(
+                "1",
+                office.id().toString(),
+                List.of(
+                        InactivityCreatedEvent.of(
+                                inactivityId.toString(),
+                                "1",
+                                office.id().toString(),
+                                "RECURRING_DAY",
+                                Option.of(DayOfWeek.MONDAY),
+                                Option.none()
+                        ),
+                        InactivityCreatedEvent.of(
+                                inactivityId2.toString(),
+                                "1",
+                                office.id().toString(),
+                                "SPECIFIC_DATE",
+                                Option.none(),
+                                Option.of(LocalDate.of(2018, 12, 8))
+                        )
+                )
+        );
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+
+        creator.replace(event);
+
+        verify(officeRepo, times(1)).update(officeArgumentCaptor.capture());
+        var officeUpdated = officeArgumentCaptor.getValue();
+        assertThat(officeUpdated.inactivities()).containsExactly(
+                new RecurringDay(inactivityId, DayOfWeek.MONDAY),
+                new SpecificDate(inactivityId2, LocalDate.of(2018, 12, 8))
+        );
+    }
+
+    @Test
+    void itShouldFailWhenTheOfficeCanNotBeUpdated() {
+        var office = new OfficeBuilder().build();
+        var event = InactivityCreatedEvent.of(
+                new InactivityId().toString(),
+                "1",
+                office.id().toString(),
+                "RECURRING_DAY",
+                Option.of(DayOfWeek.MONDAY),
+                Option.none()
+        );
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+        when(officeRepo.update(any())).thenReturn(Try.failure(new RuntimeException("Database down")));
+
+        assertThatThrownBy(() -> creator.create(event)).hasMessage("Database down");
+    }
 }
@@ -1,28 +1,45 @@
 package booking.application.office;
 
 import backoffice.domain.office.OfficeCreatedEvent;
+import backoffice.domain.office.OfficesCreatedEvent;
 import booking.domain.office.Office;
 import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
+import booking.factories.OfficeBuilder;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
 
+import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class TestOfficeBookingCreator {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     ArgumentCaptor<Office> officeArgumentCaptor = ArgumentCaptor.forClass(Office.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Office>> officesArgumentCaptor = ArgumentCaptor.forClass(List.class);
 
     OfficeBookingCreator creator = new OfficeBookingCreator(officeRepo);
 
+    @BeforeEach
+    void setUp() {
+        when(officeRepo.findById(any())).thenReturn(Option.none());
+        when(officeRepo.store(any())).thenReturn(Try.success(null));
+        when(officeRepo.storeAll(any())).thenReturn(Try.success(null));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"PRIVATE", "SHARED"})
     void itShouldCreateOfficeWithInfoSpecified(String privacyType) {
@@ -35,7 +52,9 @@ public class TestOfficeBookingCreator {
                 100,
                 10,
                 1,
-                10
+                10,
+                null,
+                null
         );
 
         creator.create(event);
@@ -58,11 +77,72 @@ public class TestOfficeBookingCreator {
                 100,
                 10,
                 1,
-                10
+                10,
+                null,
+                null
         );
 
         creator.create(event);
 
         verify(officeRepo, times(0)).store(any());
     }
+
+    @Test
+    void itShouldStoreAllValidOfficesOfBatchAtOnce() {
+        var officeId = UUID.randomUUID().toString();
+        var officeId2 = UUID.randomUUID().toString();
+        var event = OfficesCreatedEvent.of("10", List.of(
+                OfficeCreatedEvent.of(officeId, "10", "Some name", "PRIVATE", 100, 10, 0, 0, null, null),
+                OfficeCreatedEvent.of(
+                        UUID.randomUUID().toString(), "10", "Invalid", "INVALID", 100, 10, 0, 0, null, null
+                ),
+                OfficeCreatedEvent.of(officeId2, "10", "Other name", "SHARED", 200, 10, 2, 5, null, null)
+        ));
+
+        creator.create(event);
+
+        verify(officeRepo, times(1)).storeAll(officesArgumentCaptor.capture());
+        verify(officeRepo, times(0)).store(any());
+        assertThat(officesArgumentCaptor.getValue()).map(Office::id).containsExactly(
+                OfficeId.fromString(officeId),
+                OfficeId.fromString(officeId2)
+        );
+    }
+
+    @Test
+    void itShouldNotStoreOfficesAgainWhenTheirEventIsDispatchedAgain() {
+        var office = new OfficeBuilder().build();
+        var officeId = UUID.randomUUID().toString();
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+        var event = OfficesCreatedEvent.of("10", List.of(
+                OfficeCreatedEvent.of(office.id().toString(), "10", "Stored", "PRIVATE", 100, 10, 0, 0, null, null),
+                OfficeCreatedEvent.of(officeId, "10", "Some name", "SHARED", 200, 10, 2, 5, null, null)
+        ));
+
+        creator.create(event);
+        creator.create(event.getOffices().get(0));
+
+        verify(officeRepo, times(1)).storeAll(officesArgumentCaptor.capture());
+        verify(officeRepo, times(0)).store(any());
+        assertThat(officesArgumentCaptor.getValue()).map(Office::id).containsExactly(OfficeId.fromString(officeId));
+    }
+
+    @Test
+    void itShouldFailWhenTheOfficeCanNotBeStored() {
+        when(officeRepo.store(any())).thenReturn(Try.failure(new RuntimeException("Database down")));
+        var event = OfficeCreatedEvent.of(
+                UUID.randomUUID().toString(),
+                "10",
+                "Some name",
+                "PRIVATE",
+                100,
+                10,
+                1,
+                10,
+                null,
+                null
+        );
+
+        assertThatThrownBy(() -> creator.create(event)).hasMessage("Database down");
+    }
 }
@@ -6,11 +6,15 @@ import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
 import booking.factories.OfficeBuilder;
 import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.ChangeCoalescer;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -21,7 +25,12 @@ public class TestOfficeBookingDeleter {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     ArgumentCaptor<Office> officeArgumentCaptor = ArgumentCaptor.forClass(Office.class);
 
-    OfficeBookingDeleter deleter = new OfficeBookingDeleter(officeRepo);
+    OfficeBookingDeleter deleter = new OfficeBookingDeleter(officeRepo, ChangeCoalescer.immediate());
+
+    @BeforeEach
+    void setUp() {
+        when(officeRepo.update(any())).thenReturn(Try.success(null));
+    }
 
     @Test
     void itShouldNoDeleteOfficeWhenItDoesNotExist() {
@@ -46,4 +55,14 @@ public class TestOfficeBookingDeleter {
         var officeDeleted = officeArgumentCaptor.getValue();
         assertThat(officeDeleted.isDeleted()).isTrue();
     }
+
+    @Test
+    void itShouldFailWhenTheOfficeCanNotBeUpdated() {
+        var office = new OfficeBuilder().build();
+        when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
+        when(officeRepo.update(any())).thenReturn(Try.failure(new RuntimeException("Database down")));
+
+        assertThatThrownBy(() -> deleter.delete(OfficeDeletedEvent.of("1", office.id().toString())))
+                .hasMessage("Database down");
+    }
 }
@@ -6,8 +6,11 @@ import booking.domain.office.OfficeId;
 import booking.domain.office.OfficeRepository;
 import booking.factories.OfficeBuilder;
 import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.ChangeCoalescer;
 
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -24,7 +27,12 @@ public class TestOfficeBookingUpdater {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
     ArgumentCaptor<Office> officeArgumentCaptor = ArgumentCaptor.forClass(Office.class);
 
-    OfficeBookingUpdater updater = new OfficeBookingUpdater(officeRepo);
+    OfficeBookingUpdater updater = new OfficeBookingUpdater(officeRepo, ChangeCoalescer.immediate());
+
+    @BeforeEach
+    void setUp() {
+        when(officeRepo.update(any())).thenReturn(Try.success(null));
+    }
 
     @Test
     void itShouldNotUpdateOfficeWhenThereIsNoOfficeWithIdProvided() {
@@ -37,7 +45,9 @@ public class TestOfficeBookingUpdater {
                 150,
                 20,
                 2,
-                10
+                10,
+                null,
+                null
         );
         when(officeRepo.findById(OfficeId.fromString(officeId))).thenReturn(Option.none());
 
@@ -57,7 +67,9 @@ public class TestOfficeBookingUpdater {
                 150,
                 20,
                 2,
-                10
+                10,
+                null,
+                null
         );
         when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
 
@@ -78,7 +90,9 @@ public class TestOfficeBookingUpdater {
                 150,
                 20,
                 2,
-                10
+                10,
+                null,
+                null
         );
         when(officeRepo.findById(office.id())).thenReturn(Option.of(office));
 
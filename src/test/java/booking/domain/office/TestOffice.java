@@ -261,4 +261,61 @@ public class TestOffice {
         assertThat(bookingOrError.isLeft()).isTrue();
         assertThat(bookingOrError.getLeft()).isEqualTo(BookingError.OFFICE_IS_NOT_AVAILABLE);
     }
+
+    @Test
+    void itShouldMarkTheHoursBookedAsOccupiedForPrivateOffice() {
+        var office = Office.create(new OfficeId(), "123", "MM", 10, new PrivateOffice(5));
+        var booking = new BookingBuilder()
+                .withOffice(office)
+                .withStartTime(ZonedDateTime.of(2030, 5, 10, 10, 0, 0, 0, timeZoneARG))
+                .withEndTime(ZonedDateTime.of(2030, 5, 10, 12, 0, 0, 0, timeZoneARG))
+                .build();
+
+        var event = office.officeOccupancyUpdatedEvent(
+                LocalDate.of(2030, 5, 10),
+                timeZoneARG,
+                ImmutableList.of(booking)
+        );
+
+        assertThat(event).isEqualTo(OfficeOccupancyUpdatedEvent.of(
+                "123",
+                office.id().toString(),
+                LocalDate.of(2030, 5, 10),
+                (1 << 10) | (1 << 11)
+        ));
+    }
+
+    @Test
+    void itShouldMarkOnlyTheHoursWithEveryTableBookedAsOccupiedForSharedOffice() {
+        var office = Office.create(new OfficeId(), "123", "MM", 10, new SharedOffice(2, 4));
+        var bookings = ImmutableList.of(
+                new BookingBuilder()
+                        .withOffice(office)
+                        .withStartTime(ZonedDateTime.of(2030, 5, 10, 9, 0, 0, 0, timeZoneARG))
+                        .build(),
+                new BookingBuilder()
+                        .withOffice(office)
+                        .withStartTime(ZonedDateTime.of(2030, 5, 10, 9, 0, 0, 0, timeZoneARG))
+                        .build(),
+                new BookingBuilder()
+                        .withOffice(office)
+                        .withStartTime(ZonedDateTime.of(2030, 5, 10, 14, 0, 0, 0, timeZoneARG))
+                        .build()
+        );
+
+        var event = office.officeOccupancyUpdatedEvent(LocalDate.of(2030, 5, 10), timeZoneARG, bookings);
+
+        assertThat(event.getOccupiedHours()).isEqualTo(1 << 9);
+    }
+
+    @Test
+    void itShouldMarkTheHoursOfAnInactiveDateAsOccupied() {
+        var office = Office.create(new OfficeId(), "123", "MM", 10, new PrivateOffice(5));
+        office.addInactivity(new SpecificDate(new InactivityId(), LocalDate.of(2030, 5, 10)));
+
+        var event = office.officeOccupancyUpdatedEvent(LocalDate.of(2030, 5, 10), timeZoneARG, new ArrayList<>());
+
+        // Inactivities are dates in UTC, the last three hours of the day in Argentina are already the next one
+        assertThat(event.getOccupiedHours()).isEqualTo((1 << 21) - 1);
+    }
 }
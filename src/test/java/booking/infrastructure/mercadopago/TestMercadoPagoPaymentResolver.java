@@ -16,7 +16,6 @@ import com.mercadopago.exceptions.MPConfException;
 import com.mercadopago.resources.Payment;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -32,6 +31,7 @@ import org.springframework.core.env.Environment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -45,7 +45,6 @@ public class TestMercadoPagoPaymentResolver {
     MembershipAcquisitionRepository membershipAcquisitionRepo = mock(MembershipAcquisitionRepository.class);
     BookingEmailNotificator emailNotificator = mock(BookingEmailNotificator.class);
     OfficeBranchFinder officeBranchFinder = mock(OfficeBranchFinder.class);
-    EventBus eventBus = mock(EventBus.class);
     ArgumentCaptor<Booking> bookingArgumentCaptor = ArgumentCaptor.forClass(Booking.class);
 
     MercadoPagoPaymentResolver mercadoPagoPaymentResolver = new MercadoPagoPaymentResolver(
@@ -53,8 +52,7 @@ public class TestMercadoPagoPaymentResolver {
             bookingRepo,
             membershipAcquisitionRepo,
             emailNotificator,
-            officeBranchFinder,
-            eventBus
+            officeBranchFinder
     );
 
     MercadoPagoPaymentNotification notification = MercadoPagoPaymentNotification.of(
@@ -83,7 +81,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification("12", notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
         }
     }
 
@@ -95,7 +93,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification("12", notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
         }
     }
 
@@ -109,7 +107,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification(bookingId.toString(), notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
         }
     }
 
@@ -125,7 +123,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
         }
     }
 
@@ -145,7 +143,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
             verify(emailNotificator, times(0)).sendBookingPaymentFailedEmail(booking.renterEmail());
         }
     }
@@ -166,7 +164,7 @@ public class TestMercadoPagoPaymentResolver {
 
             mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).confirm(any(), any());
             verify(emailNotificator, times(1)).sendBookingPaymentFailedEmail(booking.renterEmail());
         }
     }
@@ -189,11 +187,11 @@ public class TestMercadoPagoPaymentResolver {
             when(bookingRepo.findById(booking.id())).thenReturn(Option.of(booking));
             when(officeBranchFinder.find(officeBranchExample.id()))
                     .thenReturn(Option.of(officeBranchExample.toResponse()));
-            when(bookingRepo.update(any())).thenReturn(Try.success(null));
+            when(bookingRepo.confirm(any(), any())).thenReturn(Try.success(true));
 
             mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
 
-            verify(bookingRepo, times(1)).update(bookingArgumentCaptor.capture());
+            verify(bookingRepo, times(1)).confirm(bookingArgumentCaptor.capture(), any());
             verify(emailNotificator, times(1)).sendBookingPaymentAcceptedEmail(
                     booking.renterEmail(),
                     booking.id(),
@@ -227,18 +225,48 @@ public class TestMercadoPagoPaymentResolver {
             mpPaymentMock.when(() -> Payment.findById(notification.getData().getId())).thenReturn(payment);
             when(officeBranchFinder.find(officeBranchExample.id()))
                     .thenReturn(Option.of(officeBranchExample.toResponse()));
-            when(bookingRepo.update(any())).thenReturn(Try.success(null));
+            when(bookingRepo.confirm(any(), any())).thenReturn(Try.success(true));
 
             mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
 
-            verify(eventBus, times(1)).publish(BookingConfirmedEvent.of(
+            verify(bookingRepo, times(1)).confirm(any(), eq(BookingConfirmedEvent.of(
                     booking.id().toString(),
                     booking.office().officeBranchId(),
                     booking.office().id().toString(),
                     110f,
                     LocalDate.now(Clock.systemUTC()),
                     booking.renterEmail()
-            ));
+            )));
+        }
+    }
+
+    @Test
+    void itShouldNotSendAcceptedEmailWhenBookingExpiredBeforeBeingConfirmed() {
+        try (MockedStatic<Payment> mpPaymentMock = mockStatic(Payment.class)) {
+            var booking = new BookingBuilder().build();
+            Payment payment = Mockito.mock(Payment.class);
+            when(payment.getTransactionAmount()).thenReturn(110f);
+            when(payment.getStatus()).thenReturn(Payment.Status.approved);
+            when(payment.getFeeDetails()).thenReturn(new ArrayList<>());
+            when(payment.getCurrencyId()).thenReturn(Payment.CurrencyId.ARS);
+            when(payment.getPaymentTypeId()).thenReturn(Payment.PaymentTypeId.debit_card);
+
+            when(bookingRepo.findById(booking.id())).thenReturn(Option.of(booking));
+            mpPaymentMock.when(() -> Payment.findById(notification.getData().getId())).thenReturn(payment);
+            when(bookingRepo.confirm(any(), any())).thenReturn(Try.success(false));
+
+            mercadoPagoPaymentResolver.handleNotification(booking.id().toString(), notification);
+
+            verify(emailNotificator, times(0)).sendBookingPaymentAcceptedEmail(
+                    any(),
+                    any(),
+                    any(),
+                    any(),
+                    any(),
+                    any(),
+                    any(),
+                    any()
+            );
         }
     }
 }
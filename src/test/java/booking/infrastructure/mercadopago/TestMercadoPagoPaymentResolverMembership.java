@@ -13,7 +13,6 @@ import com.mercadopago.exceptions.MPConfException;
 import com.mercadopago.resources.Payment;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import shared.domain.EventBus;
 
 import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +26,7 @@ import org.springframework.core.env.Environment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -39,7 +39,6 @@ public class TestMercadoPagoPaymentResolverMembership {
     MembershipAcquisitionRepository membershipAcquisitionRepo = mock(MembershipAcquisitionRepository.class);
     BookingEmailNotificator emailNotificator = mock(BookingEmailNotificator.class);
     OfficeBranchFinder officeBranchFinder = mock(OfficeBranchFinder.class);
-    EventBus eventBus = mock(EventBus.class);
     ArgumentCaptor<MembershipAcquisition> membershipAcquisitionCaptor = ArgumentCaptor
             .forClass(MembershipAcquisition.class);
 
@@ -48,8 +47,7 @@ public class TestMercadoPagoPaymentResolverMembership {
             bookingRepo,
             membershipAcquisitionRepo,
             emailNotificator,
-            officeBranchFinder,
-            eventBus
+            officeBranchFinder
     );
 
     MercadoPagoPaymentNotification notification = MercadoPagoPaymentNotification.of(
@@ -91,7 +89,7 @@ public class TestMercadoPagoPaymentResolverMembership {
 
             mercadoPagoPaymentResolver.handleNotificationForMembershipAcquisition("12", notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).update(any(), any());
         }
     }
 
@@ -105,7 +103,7 @@ public class TestMercadoPagoPaymentResolverMembership {
 
             mercadoPagoPaymentResolver.handleNotificationForMembershipAcquisition(id.toString(), notification);
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).update(any(), any());
         }
     }
 
@@ -132,7 +130,7 @@ public class TestMercadoPagoPaymentResolverMembership {
                     notification
             );
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).update(any(), any());
         }
     }
 
@@ -158,7 +156,7 @@ public class TestMercadoPagoPaymentResolverMembership {
                     notification
             );
 
-            verify(bookingRepo, times(0)).update(any());
+            verify(bookingRepo, times(0)).update(any(), any());
         }
     }
 
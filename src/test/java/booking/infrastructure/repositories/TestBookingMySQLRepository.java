@@ -14,6 +14,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -146,6 +147,109 @@ public class TestBookingMySQLRepository {
         assertThat(bookingUpdated.toResponse()).isEqualTo(booking.toResponse());
     }
 
+    @Test
+    void itShouldExpireBookingWhileItIsPending() {
+        var office = createOffice();
+        var booking = new BookingBuilder().withOffice(office).build();
+        bookingRepo.store(booking);
+
+        var expired = bookingRepo.expire(
+                booking,
+                List.of(booking.startScheduleTime().toLocalDate()),
+                (lockedOffice, bookings) -> lockedOffice.officeOccupancyUpdatedEvent(
+                        booking.startScheduleTime().toLocalDate(),
+                        booking.timezone(),
+                        bookings
+                )
+        );
+
+        assertThat(expired.get()).isTrue();
+        assertThat(bookingRepo.findById(booking.id()).get().isActive()).isFalse();
+    }
+
+    @Test
+    void itShouldNotExpireBookingConfirmedSinceItWasRead() {
+        var office = createOffice();
+        var booking = new BookingBuilder().withOffice(office).build();
+        bookingRepo.store(booking);
+        var confirmed = bookingRepo.findById(booking.id()).get();
+        confirmed.markAsScheduled(new PaymentInformation(
+                1L,
+                "12-external",
+                100f,
+                8f,
+                "ARS",
+                "visa",
+                "credit_card"
+        ));
+        bookingRepo.update(confirmed);
+
+        var expired = bookingRepo.expire(
+                booking,
+                List.of(booking.startScheduleTime().toLocalDate()),
+                (lockedOffice, bookings) -> lockedOffice.officeOccupancyUpdatedEvent(
+                        booking.startScheduleTime().toLocalDate(),
+                        booking.timezone(),
+                        bookings
+                )
+        );
+
+        assertThat(expired.get()).isFalse();
+        assertThat(bookingRepo.findById(booking.id()).get().isScheduled()).isTrue();
+    }
+
+    @Test
+    void itShouldConfirmBookingWhileItIsPending() {
+        var office = createOffice();
+        var booking = new BookingBuilder().withOffice(office).build();
+        bookingRepo.store(booking);
+        booking.markAsScheduled(new PaymentInformation(
+                1L,
+                "12-external",
+                100f,
+                8f,
+                "ARS",
+                "visa",
+                "credit_card"
+        ));
+
+        var confirmed = bookingRepo.confirm(booking, booking.bookingConfirmedEvent());
+
+        assertThat(confirmed.get()).isTrue();
+        assertThat(bookingRepo.findById(booking.id()).get().toResponse()).isEqualTo(booking.toResponse());
+    }
+
+    @Test
+    void itShouldNotConfirmBookingExpiredSinceItWasRead() {
+        var office = createOffice();
+        var booking = new BookingBuilder().withOffice(office).build();
+        bookingRepo.store(booking);
+        var read = bookingRepo.findById(booking.id()).get();
+        bookingRepo.expire(
+                booking,
+                List.of(booking.startScheduleTime().toLocalDate()),
+                (lockedOffice, bookings) -> lockedOffice.officeOccupancyUpdatedEvent(
+                        booking.startScheduleTime().toLocalDate(),
+                        booking.timezone(),
+                        bookings
+                )
+        );
+        read.markAsScheduled(new PaymentInformation(
+                1L,
+                "12-external",
+                100f,
+                8f,
+                "ARS",
+                "visa",
+                "credit_card"
+        ));
+
+        var confirmed = bookingRepo.confirm(read, read.bookingConfirmedEvent());
+
+        assertThat(confirmed.get()).isFalse();
+        assertThat(bookingRepo.findById(booking.id()).get().isActive()).isFalse();
+    }
+
     @Test
     void itShouldReturnAllCurrentBookingsRelatedWithRenterEmail() {
         var office1 = createOffice();
@@ -1,5 +1,6 @@
 package booking.infrastructure.repositories;
 
+import booking.domain.inactivity.Inactivity;
 import booking.domain.inactivity.InactivityId;
 import booking.domain.inactivity.RecurringDay;
 import booking.domain.office.Office;
@@ -10,6 +11,7 @@ import io.vavr.control.Try;
 import server.WorkfficeApplication;
 
 import java.time.DayOfWeek;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -52,4 +54,23 @@ public class TestOfficeMySQLRepository {
         assertThat(officeUpdated.price()).isEqualTo(50);
         assertThat(officeUpdated.inactivities()).size().isEqualTo(1);
     }
+
+    @Test
+    void itShouldDeleteInactivitiesRemovedFromOffice() {
+        var officeId = new OfficeId();
+        var office = Office.create(officeId, "123", "NAME", 100, new PrivateOffice(10));
+        officeRepo.store(office).get();
+        office.addInactivity(new RecurringDay(new InactivityId(), DayOfWeek.FRIDAY));
+        office.addInactivity(new RecurringDay(new InactivityId(), DayOfWeek.MONDAY));
+        officeRepo.update(office).get();
+
+        var inactivityId = new InactivityId();
+        var officeStored = officeRepo.findById(officeId).get();
+        officeStored.replaceInactivities(List.of(new RecurringDay(inactivityId, DayOfWeek.SUNDAY)));
+        Try<Void> response = officeRepo.update(officeStored);
+
+        assertThat(response.isSuccess()).isTrue();
+        var officeUpdated = officeRepo.findById(officeId).get();
+        assertThat(officeUpdated.inactivities()).map(Inactivity::id).containsExactly(inactivityId);
+    }
 }
@@ -44,4 +44,36 @@ public class TestOfficeBranchNewsMongoRepo {
                 "napoleon@mail.com"
         );
     }
+
+    @Test
+    void itShouldCreateOfficeBranchWithItsFirstRenterEmail() {
+        officeBranchRepo.addRenterEmail("2", "pp@mail.com");
+
+        var officeBranchStored = officeBranchRepo.findById("2").get();
+        assertThat(officeBranchStored.renterEmails()).containsExactly("pp@mail.com");
+    }
+
+    @Test
+    void itShouldAddRenterEmailOnlyOnce() {
+        var officeBranch = new OfficeBranch("3");
+        officeBranch.addRenterEmail("pp@mail.com");
+        officeBranchRepo.store(officeBranch);
+
+        officeBranchRepo.addRenterEmail("3", "some@mail.com");
+        officeBranchRepo.addRenterEmail("3", "some@mail.com");
+
+        var officeBranchStored = officeBranchRepo.findById("3").get();
+        assertThat(officeBranchStored.renterEmails()).containsExactly("pp@mail.com", "some@mail.com");
+    }
+
+    @Test
+    void itShouldKeepOnlyTheLastRenterEmails() {
+        for (int i = 0; i <= OfficeBranch.RENTER_EMAIL_SIZE; i++)
+            officeBranchRepo.addRenterEmail("4", "renter" + i + "@mail.com");
+
+        var officeBranchStored = officeBranchRepo.findById("4").get();
+        assertThat(officeBranchStored.renterEmails()).hasSize(OfficeBranch.RENTER_EMAIL_SIZE);
+        assertThat(officeBranchStored.renterEmails()).doesNotContain("renter0@mail.com");
+        assertThat(officeBranchStored.renterEmails()).endsWith("renter30@mail.com");
+    }
 }
@@ -0,0 +1,43 @@
+package office_branch_detail.application;
+
+import io.vavr.control.Option;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestOfficeBranchDetailFinder {
+    OfficeBranchDetailRepository officeBranchDetailRepo = mock(OfficeBranchDetailRepository.class);
+
+    OfficeBranchDetailFinder finder = new OfficeBranchDetailFinder(officeBranchDetailRepo);
+
+    @Test
+    void itShouldReturnEmptyWhenThereIsNoDetailForOfficeBranch() {
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.none());
+
+        assertThat(finder.find("1").isEmpty()).isTrue();
+    }
+
+    @Test
+    void itShouldReturnDetailResponse() {
+        var officeBranchDetail = OfficeBranchDetail.create(
+                "1",
+                "Monumental",
+                "2513749180",
+                "Buenos Aires",
+                "Belgrano",
+                "Fake street 1234",
+                List.of("image1.com")
+        );
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(officeBranchDetail));
+
+        var response = finder.find("1");
+
+        assertThat(response.get()).isEqualTo(officeBranchDetail.toResponse());
+    }
+}
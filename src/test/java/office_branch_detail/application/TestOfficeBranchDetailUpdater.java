@@ -0,0 +1,162 @@
+package office_branch_detail.application;
+
+import backoffice.domain.membership.MembershipDeletedEvent;
+import backoffice.domain.office.OfficeCreatedEvent;
+import backoffice.domain.office.OfficeEquipmentsUpdatedEvent;
+import backoffice.domain.office.OfficeServicesUpdatedEvent;
+import backoffice.domain.office.OfficeUpdatedEvent;
+import backoffice.domain.service.ServiceCreatedEvent;
+import com.google.common.collect.ImmutableSet;
+import io.vavr.control.Option;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+import office_branch_detail.domain.Amenity;
+import office_branch_detail.domain.Membership;
+import office_branch_detail.domain.Office;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeBranchDetailRepository;
+import review.domain.office.OfficeReviewUpdatedEvent;
+import shared.domain.ChangeCoalescer;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestOfficeBranchDetailUpdater {
+    OfficeBranchDetailRepository officeBranchDetailRepo = mock(OfficeBranchDetailRepository.class);
+    ArgumentCaptor<OfficeBranchDetail> officeBranchDetailArgumentCaptor = ArgumentCaptor
+            .forClass(OfficeBranchDetail.class);
+
+    OfficeBranchDetailUpdater updater = new OfficeBranchDetailUpdater(
+            officeBranchDetailRepo,
+            ChangeCoalescer.immediate()
+    );
+
+    private OfficeBranchDetail createOfficeBranchDetail() {
+        return OfficeBranchDetail.create(
+                "1",
+                "Monumental",
+                "2513749180",
+                "Buenos Aires",
+                "Belgrano",
+                "Fake street 1234",
+                List.of("image1.com")
+        );
+    }
+
+    @Test
+    void itShouldNotUpdateDetailWhenThereIsNoDetailForOfficeBranch() {
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.none());
+
+        updater.addOffice(OfficeCreatedEvent.of("12", "1", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+
+        verify(officeBranchDetailRepo, times(0)).update(any());
+    }
+
+    @Test
+    void itShouldAddOfficeCreated() {
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(createOfficeBranchDetail()));
+
+        updater.addOffice(OfficeCreatedEvent.of("12", "1", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        assertThat(officeBranchDetailArgumentCaptor.getValue().offices()).containsExactly(
+                Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null)
+        );
+    }
+
+    @Test
+    void itShouldUpdateSpecifiedOffice() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null))
+                .addOffice(Office.create("13", "Other office", "PRIVATE", 200, 5, 0, 0, "Desc", null));
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(officeBranchDetail));
+
+        updater.updateOffice(
+                OfficeUpdatedEvent.of("12", "1", "New name", "PRIVATE", 300, 20, 0, 0, "New desc", "image.com")
+        );
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        assertThat(officeBranchDetailArgumentCaptor.getValue().offices()).containsExactlyInAnyOrder(
+                Office.create("12", "New name", "PRIVATE", 300, 20, 0, 0, "New desc", "image.com"),
+                Office.create("13", "Other office", "PRIVATE", 200, 5, 0, 0, "Desc", null)
+        );
+    }
+
+    @Test
+    void itShouldAddServiceCreated() {
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(createOfficeBranchDetail()));
+
+        updater.addService(ServiceCreatedEvent.of("7", "1", "Coffee", "FOOD"));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        assertThat(officeBranchDetailArgumentCaptor.getValue().toResponse().getServices()).containsExactly(
+                OfficeBranchDetailResponse.AmenityResponse.of("7", "Coffee", "FOOD")
+        );
+    }
+
+    @Test
+    void itShouldShowOnlyTheServicesOfferedBySpecifiedOffice() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addService(Amenity.create("7", "Coffee", "FOOD"))
+                .addService(Amenity.create("8", "Wifi", "INTERNET"))
+                .addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(officeBranchDetail));
+
+        updater.updateOfficeServices(OfficeServicesUpdatedEvent.of("1", "12", List.of("7")));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        var offices = officeBranchDetailArgumentCaptor.getValue().toResponse().getOffices();
+        assertThat(offices.get(0).getServices()).containsExactly(
+                OfficeBranchDetailResponse.AmenityResponse.of("7", "Coffee", "FOOD")
+        );
+        assertThat(offices.get(0).getEquipments()).isEmpty();
+    }
+
+    @Test
+    void itShouldShowOnlyTheEquipmentsOfferedBySpecifiedOffice() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addEquipment(Amenity.create("9", "Monitor", "COMPUTER"))
+                .addEquipment(Amenity.create("10", "Chair", "FURNITURE"))
+                .addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(officeBranchDetail));
+
+        updater.updateOfficeEquipments(OfficeEquipmentsUpdatedEvent.of("1", "12", List.of("10")));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        var offices = officeBranchDetailArgumentCaptor.getValue().toResponse().getOffices();
+        assertThat(offices.get(0).getEquipments()).containsExactly(
+                OfficeBranchDetailResponse.AmenityResponse.of("10", "Chair", "FURNITURE")
+        );
+    }
+
+    @Test
+    void itShouldRemoveMembershipDeleted() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addMembership(Membership.create("5", "Basic", "Desc", ImmutableSet.of("MONDAY"), 100));
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(officeBranchDetail));
+
+        updater.removeMembership(MembershipDeletedEvent.of("1", "5"));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        assertThat(officeBranchDetailArgumentCaptor.getValue().memberships()).isEmpty();
+    }
+
+    @Test
+    void itShouldUpdateReviewStatsWithOfficeReviewUpdated() {
+        when(officeBranchDetailRepo.findById("1")).thenReturn(Option.of(createOfficeBranchDetail()));
+
+        updater.updateReviews(OfficeReviewUpdatedEvent.of("12", "1", 9, 2));
+
+        verify(officeBranchDetailRepo, times(1)).update(officeBranchDetailArgumentCaptor.capture());
+        assertThat(officeBranchDetailArgumentCaptor.getValue().toResponse().getReviewStats()).isEqualTo(
+                OfficeBranchDetailResponse.ReviewStatsResponse.of(2, 4)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package office_branch_detail.domain;
+
+import com.google.common.collect.ImmutableSet;
+import office_branch_detail.application.dto.OfficeBranchDetailResponse;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestOfficeBranchDetail {
+
+    private OfficeBranchDetail createOfficeBranchDetail() {
+        return OfficeBranchDetail.create(
+                "1",
+                "Monumental",
+                "2513749180",
+                "Buenos Aires",
+                "Belgrano",
+                "Fake street 1234",
+                List.of("image1.com")
+        );
+    }
+
+    @Test
+    void itShouldReplaceOfficeWhenItIsAddedTwice() {
+        var officeBranchDetail = createOfficeBranchDetail();
+
+        officeBranchDetail.addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+        officeBranchDetail.addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null));
+
+        assertThat(officeBranchDetail.offices()).containsExactly(
+                Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null)
+        );
+    }
+
+    @Test
+    void itShouldRemoveOnlySpecifiedOffice() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null))
+                .addOffice(Office.create("13", "Other office", "PRIVATE", 200, 5, 0, 0, "Desc", null));
+
+        officeBranchDetail.removeOffice("12");
+
+        assertThat(officeBranchDetail.offices()).containsExactly(
+                Office.create("13", "Other office", "PRIVATE", 200, 5, 0, 0, "Desc", null)
+        );
+    }
+
+    @Test
+    void itShouldReplaceMembershipWithSameId() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .addMembership(Membership.create("5", "Basic", "Desc", ImmutableSet.of("MONDAY"), 100));
+
+        officeBranchDetail.addMembership(Membership.create("5", "Premium", "Desc", ImmutableSet.of("FRIDAY"), 200));
+
+        assertThat(officeBranchDetail.memberships()).containsExactly(
+                Membership.create("5", "Premium", "Desc", ImmutableSet.of("FRIDAY"), 200)
+        );
+    }
+
+    @Test
+    void itShouldReturnZeroReviewStatsWhenThereAreNoReviews() {
+        var response = createOfficeBranchDetail().toResponse();
+
+        assertThat(response.getReviewStats()).isEqualTo(OfficeBranchDetailResponse.ReviewStatsResponse.of(0, 0));
+    }
+
+    @Test
+    void itShouldCalculateReviewStatsFromOfficeReviews() {
+        var officeBranchDetail = createOfficeBranchDetail()
+                .updateReview(OfficeReview.create("12", 10, 2))
+                .updateReview(OfficeReview.create("13", 9, 3))
+                .updateReview(OfficeReview.create("12", 14, 3));
+
+        var response = officeBranchDetail.toResponse();
+
+        assertThat(response.getReviewStats()).isEqualTo(OfficeBranchDetailResponse.ReviewStatsResponse.of(6, 3));
+    }
+}
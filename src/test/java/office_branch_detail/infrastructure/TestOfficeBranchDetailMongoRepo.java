@@ -0,0 +1,85 @@
+package office_branch_detail.infrastructure;
+
+import office_branch_detail.domain.Amenity;
+import office_branch_detail.domain.Office;
+import office_branch_detail.domain.OfficeBranchDetail;
+import office_branch_detail.domain.OfficeReview;
+import server.WorkfficeApplication;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@ContextConfiguration(classes = {WorkfficeApplication.class})
+public class TestOfficeBranchDetailMongoRepo {
+    @Autowired
+    OfficeBranchDetailMongoRepo officeBranchDetailMongoRepo;
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getCollection("office_branch_details").drop();
+    }
+
+    private OfficeBranchDetail createOfficeBranchDetail(String id) {
+        return OfficeBranchDetail.create(
+                id,
+                "Monumental",
+                "2513749180",
+                "Buenos Aires",
+                "Belgrano",
+                "Fake street 1234",
+                List.of("image1.com", "image2.com")
+        );
+    }
+
+    @Test
+    void itShouldStoreOfficeBranchDetailWithEverythingTheBranchPageShows() {
+        String id = UUID.randomUUID().toString();
+        var officeBranchDetail = createOfficeBranchDetail(id)
+                .addOffice(Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null))
+                .addService(Amenity.create("7", "Coffee", "FOOD"))
+                .addEquipment(Amenity.create("8", "Projector", "TECHNOLOGY"))
+                .updateReview(OfficeReview.create("12", 9, 2));
+
+        officeBranchDetailMongoRepo.store(officeBranchDetail);
+
+        var officeBranchDetailStored = officeBranchDetailMongoRepo.findById(id);
+        assertThat(officeBranchDetailStored.isDefined()).isTrue();
+        assertThat(officeBranchDetailStored.get()).isEqualTo(officeBranchDetail);
+    }
+
+    @Test
+    void itShouldKeepWhatAccumulatedWhenTheOfficeBranchDetailIsStoredAgain() {
+        String id = UUID.randomUUID().toString();
+        var office = Office.create("12", "Office", "SHARED", 100, 10, 2, 5, "Desc", null);
+        officeBranchDetailMongoRepo.store(createOfficeBranchDetail(id));
+        officeBranchDetailMongoRepo.update(createOfficeBranchDetail(id).addOffice(office));
+
+        officeBranchDetailMongoRepo.store(createOfficeBranchDetail(id)
+                .update("Bombonera", "2513749180", "Buenos Aires", "La Boca", "Brandsen 805", List.of()));
+
+        assertThat(officeBranchDetailMongoRepo.findById(id).get()).isEqualTo(createOfficeBranchDetail(id)
+                .update("Bombonera", "2513749180", "Buenos Aires", "La Boca", "Brandsen 805", List.of())
+                .addOffice(office));
+    }
+
+    @Test
+    void itShouldDeleteOfficeBranchDetail() {
+        String id = UUID.randomUUID().toString();
+        officeBranchDetailMongoRepo.store(createOfficeBranchDetail(id));
+
+        officeBranchDetailMongoRepo.delete(id);
+
+        assertThat(officeBranchDetailMongoRepo.findById(id).isEmpty()).isTrue();
+    }
+}
@@ -7,7 +7,9 @@ import report.domain.BookingRepository;
 
 import java.time.LocalDate;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -41,4 +43,21 @@ public class TestBookingReportCreator {
                 LocalDate.of(2018, 12, 8)
         ));
     }
+
+    @Test
+    void itShouldIgnoreBookingsAlreadyStoredByAnEarlierDispatch() {
+        when(bookingRepo.store(any())).thenReturn(Try.failure(new DuplicateKeyException("Duplicated booking")));
+
+        creator.create(BookingConfirmedEvent.of("123", "1", "30", 500f, LocalDate.of(2018, 12, 8), "pepito@mail.com"));
+
+        verify(bookingRepo, times(1)).store(any());
+    }
+
+    @Test
+    void itShouldFailWhenTheBookingCanNotBeStored() {
+        when(bookingRepo.store(any())).thenReturn(Try.failure(new RuntimeException("Database down")));
+        var event = BookingConfirmedEvent.of("123", "1", "30", 500f, LocalDate.of(2018, 12, 8), "pepito@mail.com");
+
+        assertThatThrownBy(() -> creator.create(event)).hasMessage("Database down");
+    }
 }
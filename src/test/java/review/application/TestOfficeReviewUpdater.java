@@ -1,11 +1,14 @@
 package review.application;
 
-import io.vavr.control.Option;
+import io.vavr.control.Try;
 import review.domain.office.Office;
 import review.domain.office.OfficeRepository;
+import review.domain.office.OfficeReviewUpdatedEvent;
+import shared.domain.EventBus;
 
 import org.junit.jupiter.api.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,24 +16,26 @@ import static org.mockito.Mockito.when;
 
 public class TestOfficeReviewUpdater {
     OfficeRepository officeRepo = mock(OfficeRepository.class);
+    EventBus eventBus = mock(EventBus.class);
 
-    OfficeReviewUpdater updater = new OfficeReviewUpdater(officeRepo);
+    OfficeReviewUpdater updater = new OfficeReviewUpdater(officeRepo, eventBus);
 
     @Test
-    void itShouldCreateANewOfficeWhenItDoesNotExist() {
-        when(officeRepo.findById("12")).thenReturn(Option.none());
+    void itShouldPublishReviewUpdateWithTotalsReturnedByTheVote() {
+        when(officeRepo.addVote("12", "33", "41", 3)).thenReturn(Try.success(Office.create("12", "33", 18, 4)));
 
-        updater.updateOfficeReviews("12", "33", 5);
+        updater.updateOfficeReviews("12", "33", "41", 3);
 
-        verify(officeRepo, times(1)).save(Office.create("12", "33", 5, 1));
+        verify(officeRepo, times(1)).addVote("12", "33", "41", 3);
+        verify(eventBus, times(1)).publish(OfficeReviewUpdatedEvent.of("12", "33", 18, 4));
     }
 
     @Test
-    void itShouldUpdateExistentOfficeWithNewStars() {
-        when(officeRepo.findById("12")).thenReturn(Option.of(Office.create("12", "33", 15, 3)));
+    void itShouldNotPublishReviewUpdateWhenVoteCannotBeAdded() {
+        when(officeRepo.addVote("12", "33", "41", 5)).thenReturn(Try.failure(new RuntimeException()));
 
-        updater.updateOfficeReviews("12", "33", 3);
+        updater.updateOfficeReviews("12", "33", "41", 5);
 
-        verify(officeRepo, times(1)).save(Office.create("12", "33", 18, 4));
+        verify(eventBus, times(0)).publish(any());
     }
 }
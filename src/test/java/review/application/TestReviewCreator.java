@@ -126,6 +126,6 @@ public class TestReviewCreator {
                 officeId,
                 "napoleon@email.com").get();
         verify(reviewRepo, times(1)).store(expectedReview);
-        verify(officeReviewUpdater, times(1)).updateOfficeReviews(officeId, "21", 3);
+        verify(officeReviewUpdater, times(1)).updateOfficeReviews(officeId, "21", "1", 3);
     }
 }
@@ -41,4 +41,33 @@ public class TestOfficeMongoRepo {
         assertThat(offices).size().isEqualTo(3);
         assertThat(offices).containsExactlyInAnyOrder(office, office2, office3);
     }
+
+    @Test
+    void itShouldCreateOfficeWithItsFirstVote() {
+        var office = officeMongoRepo.addVote("10", "21", "31", 4);
+
+        assertThat(office.isSuccess()).isTrue();
+        assertThat(office.get()).isEqualTo(Office.create("10", "21", 4, 1));
+        assertThat(officeMongoRepo.findById("10").get()).isEqualTo(Office.create("10", "21", 4, 1));
+    }
+
+    @Test
+    void itShouldAddVoteToTotalsOfExistentOffice() {
+        officeMongoRepo.save(Office.create("11", "21", 15, 3));
+
+        var office = officeMongoRepo.addVote("11", "21", "32", 3);
+
+        assertThat(office.get()).isEqualTo(Office.create("11", "21", 18, 4));
+    }
+
+    @Test
+    void itShouldNotCountTheVoteOfAReviewTwice() {
+        officeMongoRepo.addVote("12", "21", "33", 4);
+        officeMongoRepo.addVote("12", "21", "34", 2);
+
+        var office = officeMongoRepo.addVote("12", "21", "33", 4);
+
+        assertThat(office.get()).isEqualTo(Office.create("12", "21", 6, 2));
+        assertThat(officeMongoRepo.findById("12").get()).isEqualTo(Office.create("12", "21", 6, 2));
+    }
 }
@@ -14,9 +14,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class TestOfficeBranchSearchCreator {
-    OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
 
-    OfficeBranchSearchCreator officeBranchSearchCreator = new OfficeBranchSearchCreator(officeBranchRepo);
+    OfficeBranchSearchCreator officeBranchSearchCreator = new OfficeBranchSearchCreator(
+            officeBranchRepo,
+            searchResultCache
+    );
 
     @Test
     void itShouldStoreOfficeBranchWithInformationSpecified() {
@@ -25,6 +29,8 @@ public class TestOfficeBranchSearchCreator {
                 "Buenos Aires",
                 "Belgrano",
                 "Fake street 1234",
+                -34.58,
+                -58.42,
                 "123456789",
                 Arrays.asList("image1.com", "image2.com")
         );
@@ -40,7 +46,7 @@ public class TestOfficeBranchSearchCreator {
                 "Belgrano",
                 "Fake street 1234",
                 Arrays.asList("image1.com", "image2.com")
-        );
+        ).locatedAt(-34.58, -58.42);
         verify(officeBranchRepo, times(1)).store(expectedOfficeBranchStored);
     }
 
@@ -55,6 +61,8 @@ public class TestOfficeBranchSearchCreator {
                 "Buenos Aires",
                 "Belgrano",
                 "Fake street 1234",
+                -34.58,
+                -58.42,
                 "123456789",
                 Arrays.asList("image1.com", "image2.com")
         );
@@ -69,7 +77,8 @@ public class TestOfficeBranchSearchCreator {
                 "Belgrano",
                 "Fake street 1234",
                 Arrays.asList("image1.com", "image2.com")
-        );
+        ).locatedAt(-34.58, -58.42);
         verify(officeBranchRepo, times(1)).store(expectedOfficeBranchStored);
+        verify(searchResultCache, times(1)).officeBranchCreated();
     }
 }
@@ -1,71 +1,56 @@
 package search.application;
 
 import backoffice.domain.office_branch.OfficeBranchUpdatedEvent;
-import io.vavr.control.Option;
-import search.domain.OfficeBranch;
+import search.application.SearchResultCache.Attribute;
 import search.domain.OfficeBranchRepository;
-import search.factories.OfficeBranchBuilder;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import org.junit.jupiter.api.Test;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 public class TestOfficeBranchSearchUpdater {
 
-    OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
 
-    OfficeBranchSearchUpdater updater = new OfficeBranchSearchUpdater(officeBranchRepo);
+    OfficeBranchSearchUpdater updater = new OfficeBranchSearchUpdater(officeBranchRepo, searchResultCache);
 
     @Test
-    void itShouldNotUpdateWhenOfficeBranchIdDoesNotExist() {
-        var officeBranchId = "1";
-        when(officeBranchRepo.findById(officeBranchId)).thenReturn(Option.none());
-        OfficeBranchUpdatedEvent event = OfficeBranchUpdatedEvent.of(
-                officeBranchId,
-                "New name",
-                "Mendoza",
-                "Godoy Cruz",
-                "Fake street 1234",
-                "2513749180",
-                Arrays.asList("image1.com", "image2.com")
-        );
-
-        updater.updateOfficeBranch(event);
-
-        verify(officeBranchRepo, times(0)).update(any());
-    }
-
-    @Test
-    void itShouldUpdateOfficeBranchWithInfoSpecified() {
-        var officeBranch = OfficeBranchBuilder.builder()
-                .withId("1")
-                .build();
-        when(officeBranchRepo.findById("1")).thenReturn(Option.of(officeBranch));
+    void itShouldUpdateOfficeBranchWithInfoSpecifiedWithASingleWrite() {
         OfficeBranchUpdatedEvent event = OfficeBranchUpdatedEvent.of(
                 "1",
                 "New name",
                 "Mendoza",
                 "Godoy Cruz",
                 "Fake street 1234",
+                -32.92,
+                -68.84,
                 "2513749180",
                 Arrays.asList("image1.com", "image2.com")
         );
 
         updater.updateOfficeBranch(event);
 
-        verify(officeBranchRepo, times(1)).update(OfficeBranch.create(
+        verify(officeBranchRepo, times(1)).updateInformation(
                 "1",
                 "New name",
                 "2513749180",
                 "Mendoza",
                 "Godoy Cruz",
                 "Fake street 1234",
+                -32.92,
+                -68.84,
                 Arrays.asList("image1.com", "image2.com")
-        ));
+        );
+        verify(officeBranchRepo, times(0)).findById(any());
+        verify(searchResultCache, times(1)).officeBranchModified(
+                "1",
+                EnumSet.of(Attribute.NAME, Attribute.LOCATION, Attribute.COORDINATES)
+        );
     }
 }
@@ -1,18 +1,32 @@
 package search.application;
 
 import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import search.application.dto.FacetedSearchResponse;
 import search.application.dto.OfficeBranchResponse;
 import search.application.dto.SearchCriteria;
+import search.domain.FacetedSearch;
+import search.domain.FacetedSearch.Facet;
 import search.domain.OfficeBranchRepository;
+import search.domain.SearchCursor;
+import search.domain.spec.Available;
 import search.domain.spec.Between;
 import search.domain.spec.Equal;
 import search.domain.spec.GreaterThan;
 import search.domain.spec.LessThan;
+import search.domain.spec.MatchesText;
+import search.domain.spec.Near;
 import search.domain.spec.Specification;
+import search.domain.spec.StartsWith;
 import search.factories.OfficeBranchBuilder;
 
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -32,7 +46,10 @@ public class TestOfficeBranchSearcher {
     OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
     ArgumentCaptor<List<Specification>> specsArgumentCaptor = ArgumentCaptor.forClass(List.class);
 
-    OfficeBranchSearcher searcher = new OfficeBranchSearcher(officeBranchRepo);
+    OfficeBranchSearcher searcher = new OfficeBranchSearcher(
+            officeBranchRepo,
+            new SearchResultCache(new SimpleMeterRegistry())
+    );
 
     @Test
     void itShouldReturnOfficeBranchesThatHasTheNameSpecified() {
@@ -83,6 +100,181 @@ public class TestOfficeBranchSearcher {
         assertThat(value.value()).isEqualTo("SHARED");
     }
 
+    @Test
+    void itShouldMatchOfficeTypeIgnoringCase() {
+        var pageable = PageRequest.of(0, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.OFFICE_TYPE, "shared"))
+        );
+
+        searcher.search(pageable, searchCriteria);
+
+        verify(officeBranchRepo, times(1)).search(
+                specsArgumentCaptor.capture(),
+                eq(0),
+                eq(3)
+        );
+        Equal value = (Equal) specsArgumentCaptor.getValue().get(0).value();
+        assertThat(value.value()).isEqualTo("SHARED");
+    }
+
+    @Test
+    void itShouldUseStartsWithSpecificationForNamePrefix() {
+        var pageable = PageRequest.of(0, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.OFFICE_BRANCH_NAME_PREFIX, "Mon"))
+        );
+
+        searcher.search(pageable, searchCriteria);
+
+        verify(officeBranchRepo, times(1)).search(
+                specsArgumentCaptor.capture(),
+                eq(0),
+                eq(3)
+        );
+        var specs = specsArgumentCaptor.getValue();
+        assertThat(specs.get(0)).isInstanceOf(StartsWith.class);
+        assertThat(specs.get(0).field()).isEqualTo("name");
+        assertThat(specs.get(0).value()).isEqualTo("Mon");
+    }
+
+    @Test
+    void itShouldUseMatchesTextSpecificationForText() {
+        var pageable = PageRequest.of(0, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.TEXT, "cowork palermo"))
+        );
+
+        searcher.search(pageable, searchCriteria);
+
+        verify(officeBranchRepo, times(1)).search(
+                specsArgumentCaptor.capture(),
+                eq(0),
+                eq(3)
+        );
+        var specs = specsArgumentCaptor.getValue();
+        assertThat(specs.get(0)).isInstanceOf(MatchesText.class);
+        assertThat(specs.get(0).value()).isEqualTo("cowork palermo");
+    }
+
+    @Test
+    void itShouldUseNearSpecificationForCoordinatesAndRadius() {
+        var pageable = PageRequest.of(0, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.NEAR, "-34.581,-58.421,2.5"))
+        );
+
+        searcher.search(pageable, searchCriteria);
+
+        verify(officeBranchRepo, times(1)).search(
+                specsArgumentCaptor.capture(),
+                eq(0),
+                eq(3)
+        );
+        var near = (Near) specsArgumentCaptor.getValue().get(0);
+        assertThat(near.field()).isEqualTo("location");
+        assertThat(near.value()).isEqualTo(Tuple.of(-34.581, -58.421));
+        assertThat(near.radiusInKm()).isEqualTo(Option.of(2.5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-34.581", "-34.581,", "91,-58.421", "-34.581,-181", "-34.581,-58.421,0", "a,b"})
+    void itShouldReturnEmptyPageWhenNearHasWrongFormat(String invalidArgument) {
+        /* Right format for near is latitude,longitude optionally followed by ,radius in km */
+        var pageable = PageRequest.of(0, 3);
+        var invalidCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.NEAR, invalidArgument))
+        );
+
+        var response = searcher.search(pageable, invalidCriteria);
+
+        assertThat(response.getContent()).isEmpty();
+        verify(officeBranchRepo, times(0)).search(any(List.class), any(), any());
+    }
+
+    @Test
+    void itShouldUseAvailableAndCapacitySpecificationsOnOfficesForAvailability() {
+        var pageable = PageRequest.of(0, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.AVAILABLE, "2030-05-10,9,13,4"))
+        );
+
+        searcher.search(pageable, searchCriteria);
+
+        verify(officeBranchRepo, times(1)).search(
+                specsArgumentCaptor.capture(),
+                eq(0),
+                eq(3)
+        );
+        var specs = specsArgumentCaptor.getValue();
+        assertThat(specs).size().isEqualTo(2);
+        assertThat(specs).allMatch(spec -> spec.field().equals("offices"));
+        var available = (Available) specs.get(0).value();
+        assertThat(available.field()).isEqualTo("availability");
+        assertThat(available.inactivitiesField()).isEqualTo("inactivities");
+        assertThat(available.date()).isEqualTo(LocalDate.of(2030, 5, 10));
+        assertThat(available.value()).isEqualTo((1 << 9) | (1 << 10) | (1 << 11) | (1 << 12));
+        var capacity = (GreaterThan) specs.get(1).value();
+        assertThat(capacity.field()).isEqualTo("capacity");
+        assertThat(capacity.value()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2030-05-10", "2030-05-10,13,9,4", "2030-05-10,9,25,4", "2030-02-30,9,13,4",
+            "2030-05-10,9,13,0", "10/05/2030,9,13,4"})
+    void itShouldReturnEmptyPageWhenAvailabilityHasWrongFormat(String invalidArgument) {
+        /* Right format for availability is date,from hour,to hour,attendees */
+        var pageable = PageRequest.of(0, 3);
+        var invalidCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.AVAILABLE, invalidArgument))
+        );
+
+        var response = searcher.search(pageable, invalidCriteria);
+
+        assertThat(response.getContent()).isEmpty();
+        verify(officeBranchRepo, times(0)).search(any(List.class), any(), any());
+    }
+
+    @Test
+    void itShouldReturnPageAndFacetsFromASingleFacetedSearch() {
+        var officeBranch = OfficeBranchBuilder.builder().build();
+        Map<Facet, List<Tuple2<String, Long>>> facets = new EnumMap<>(Facet.class);
+        facets.put(Facet.PRIVACY, List.of(Tuple.of("PRIVATE", 4L), Tuple.of("SHARED", 1L)));
+        facets.put(Facet.CAPACITY, List.of(Tuple.of("0-4", 5L)));
+        when(officeBranchRepo.searchWithFacets(any(List.class), eq(3), eq(3)))
+                .thenReturn(FacetedSearch.of(List.of(officeBranch), 5L, facets));
+        var pageable = PageRequest.of(1, 3);
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.OFFICE_TYPE, "private"))
+        );
+
+        var response = searcher.searchWithFacets(pageable, searchCriteria);
+
+        assertThat(response.getOfficeBranches().getContent()).containsExactly(officeBranch.toResponse());
+        assertThat(response.getOfficeBranches().getTotalElements()).isEqualTo(5);
+        assertThat(response.getFacets()).containsOnlyKeys("privacy", "capacity");
+        assertThat(response.getFacets().get("privacy")).containsExactly(
+                FacetedSearchResponse.FacetCount.of("PRIVATE", 4L),
+                FacetedSearchResponse.FacetCount.of("SHARED", 1L)
+        );
+        verify(officeBranchRepo, times(0)).search(any(List.class), any(), any());
+        verify(officeBranchRepo, times(0)).count(any());
+    }
+
+    @Test
+    void itShouldReturnEmptyFacetsWhenConditionsAreNotValid() {
+        var pageable = PageRequest.of(0, 3);
+        var invalidCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.OFFICE_CAPACITY_GT, "ten"))
+        );
+
+        var response = searcher.searchWithFacets(pageable, invalidCriteria);
+
+        assertThat(response.getOfficeBranches().getContent()).isEmpty();
+        assertThat(response.getFacets()).isEmpty();
+        verify(officeBranchRepo, times(0)).searchWithFacets(any(), any(), any());
+    }
+
     @Test
     void itShouldCallSearchRepoWith2Specs() {
         var officeBranch = OfficeBranchBuilder.builder().build();
@@ -265,4 +457,56 @@ public class TestOfficeBranchSearcher {
         assertThat(between.field()).isEqualTo("capacity");
         assertThat(between.value()).isEqualTo(Tuple.of(10, 50));
     }
+
+    @Test
+    void itShouldReturnTheCursorOfTheNextPageWhenThereAreMoreOfficeBranches() {
+        var officeBranch = OfficeBranchBuilder.builder().withName("Almagro").build();
+        var officeBranch2 = OfficeBranchBuilder.builder().withName("Belgrano").build();
+        var officeBranch3 = OfficeBranchBuilder.builder().withName("Caballito").build();
+        var cursor = SearchCursor.after(OfficeBranchBuilder.builder().withName("Abasto").build());
+        when(officeBranchRepo.searchAfter(any(List.class), eq(Option.of(cursor)), eq(3)))
+                .thenReturn(ImmutableList.of(officeBranch, officeBranch2, officeBranch3));
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.OFFICE_TYPE, "PRIVATE"))
+        );
+
+        var response = searcher.searchAfter(cursor.token(), 2, searchCriteria);
+
+        assertThat(response.getOfficeBranches())
+                .containsExactly(officeBranch.toResponse(), officeBranch2.toResponse());
+        assertThat(response.getNextCursor()).contains(SearchCursor.after(officeBranch2).token());
+    }
+
+    @Test
+    void itShouldReturnNoCursorOnTheLastPage() {
+        var officeBranch = OfficeBranchBuilder.builder().build();
+        when(officeBranchRepo.searchAfter(any(List.class), eq(Option.none()), eq(3)))
+                .thenReturn(ImmutableList.of(officeBranch));
+
+        var response = searcher.searchAfter("", 2, SearchCriteria.of(ImmutableList.of()));
+
+        assertThat(response.getOfficeBranches()).containsExactly(officeBranch.toResponse());
+        assertThat(response.getNextCursor()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid", "a.b.c", "%%.%%"})
+    void itShouldReturnEmptyWhenTheCursorIsInvalid(String cursor) {
+        var response = searcher.searchAfter(cursor, 2, SearchCriteria.of(ImmutableList.of()));
+
+        assertThat(response.getOfficeBranches()).isEmpty();
+        verify(officeBranchRepo, times(0)).searchAfter(any(List.class), any(Option.class), any(Integer.class));
+    }
+
+    @Test
+    void itShouldReturnEmptyWhenPagingProximityByCursor() {
+        var searchCriteria = SearchCriteria.of(
+                ImmutableList.of(Tuple.of(SearchCriteria.Field.NEAR, "-34.58,-58.42,5"))
+        );
+
+        var response = searcher.searchAfter("", 2, searchCriteria);
+
+        assertThat(response.getOfficeBranches()).isEmpty();
+        verify(officeBranchRepo, times(0)).searchAfter(any(List.class), any(Option.class), any(Integer.class));
+    }
 }
@@ -0,0 +1,65 @@
+package search.application;
+
+import backoffice.domain.office_inactivity.InactivityCreatedEvent;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
+import io.vavr.control.Option;
+import search.application.SearchResultCache.Attribute;
+import search.domain.OfficeBranchRepository;
+import search.domain.OfficeInactivity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TestOfficeInactivitySearchUpdater {
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
+
+    OfficeInactivitySearchUpdater updater = new OfficeInactivitySearchUpdater(officeBranchRepo, searchResultCache);
+
+    InactivityCreatedEvent sundays = InactivityCreatedEvent.of(
+            "21",
+            "1",
+            "12",
+            "RECURRING_DAY",
+            Option.of(DayOfWeek.SUNDAY),
+            Option.none()
+    );
+    InactivityCreatedEvent holiday = InactivityCreatedEvent.of(
+            "22",
+            "1",
+            "12",
+            "SPECIFIC_DATE",
+            Option.none(),
+            Option.of(LocalDate.of(2030, 5, 25))
+    );
+
+    @Test
+    void itShouldAddTheInactivityToTheOfficeSpecifiedByEvent() {
+        updater.addInactivity(sundays);
+
+        verify(officeBranchRepo, times(1)).addInactivity(
+                "1",
+                "12",
+                OfficeInactivity.of("21", Option.of(DayOfWeek.SUNDAY), Option.none())
+        );
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.AVAILABILITY));
+    }
+
+    @Test
+    void itShouldReplaceTheInactivitiesOfTheOfficeSpecifiedByEvent() {
+        updater.replaceInactivities(OfficeInactivitiesReplacedEvent.of("1", "12", List.of(sundays, holiday)));
+
+        verify(officeBranchRepo, times(1)).replaceInactivities("1", "12", List.of(
+                OfficeInactivity.of("21", Option.of(DayOfWeek.SUNDAY), Option.none()),
+                OfficeInactivity.of("22", Option.none(), Option.of(LocalDate.of(2030, 5, 25)))
+        ));
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.AVAILABILITY));
+    }
+}
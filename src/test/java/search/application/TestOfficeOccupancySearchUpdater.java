@@ -0,0 +1,31 @@
+package search.application;
+
+import booking.domain.office.OfficeOccupancyUpdatedEvent;
+import search.application.SearchResultCache.Attribute;
+import search.domain.OfficeBranchRepository;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TestOfficeOccupancySearchUpdater {
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
+
+    OfficeOccupancySearchUpdater updater = new OfficeOccupancySearchUpdater(officeBranchRepo, searchResultCache);
+
+    @Test
+    void itShouldUpdateTheOccupancyOfTheOfficeSpecifiedByEvent() {
+        var event = OfficeOccupancyUpdatedEvent.of("1", "12", LocalDate.of(2030, 5, 10), 1 << 10);
+        event.sequencedAt(42);
+
+        updater.updateOccupancy(event);
+
+        verify(officeBranchRepo, times(1)).updateOccupancy("1", "12", LocalDate.of(2030, 5, 10), 1 << 10, 42L);
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.AVAILABILITY));
+    }
+}
@@ -1,31 +1,29 @@
 package search.application;
 
 import backoffice.domain.office.OfficeCreatedEvent;
-import io.vavr.control.Option;
+import backoffice.domain.office.OfficesCreatedEvent;
+import search.application.SearchResultCache.Attribute;
 import search.domain.Office;
-import search.domain.OfficeBranch;
 import search.domain.OfficeBranchRepository;
 import search.domain.OfficePrivacy;
 
-import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 public class TestOfficeSearchCreator {
-    OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
-    ArgumentCaptor<OfficeBranch> officeBranchArgumentCaptor = ArgumentCaptor.forClass(OfficeBranch.class);
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
 
-    OfficeSearchCreator creator = new OfficeSearchCreator(officeBranchRepo);
+    OfficeSearchCreator creator = new OfficeSearchCreator(officeBranchRepo, searchResultCache);
 
     @Test
-    void itShouldUpdateOfficeWithInfoSpecifiedByEvent() {
+    void itShouldAddOfficeWithInfoSpecifiedByEventWithASingleWrite() {
         var event = OfficeCreatedEvent.of(
                 "123",
                 "1",
@@ -34,54 +32,41 @@ public class TestOfficeSearchCreator {
                 100,
                 100,
                 10,
-                10
-        );
-        var officeBranch = OfficeBranch.create(
-                "1",
-                "Monumental",
-                "2513749180",
-                "Buenos Aires",
-                "Belgrano",
-                "Fake street 1234",
-                Arrays.asList("image1.com", "image2.com")
+                10,
+                null,
+                null
         );
-        when(officeBranchRepo.findById("1")).thenReturn(Option.of(officeBranch));
 
         creator.createOffice(event);
 
-        verify(officeBranchRepo, times(1))
-                .update(officeBranchArgumentCaptor.capture());
-        var officeBranchUpdated = officeBranchArgumentCaptor.getValue();
-        assertThat(officeBranchUpdated.offices()).size().isEqualTo(1);
-        assertThat(officeBranchUpdated.offices().get(0)).isEqualTo(
-                Office.create(
-                        "123",
-                        "La scaloneta",
-                        100,
-                        100,
-                        10,
-                        10,
-                        OfficePrivacy.PRIVATE
-                )
-        );
-    }
-
-    @Test
-    void itShouldNotUpdateWhenOfficeBranchDoesNotExist() {
-        var event = OfficeCreatedEvent.of(
+        verify(officeBranchRepo, times(1)).addOffice("1", Office.create(
                 "123",
-                "1",
                 "La scaloneta",
-                "PRIVATE",
                 100,
                 100,
                 10,
-                10
-        );
-        when(officeBranchRepo.findById("1")).thenReturn(Option.none());
+                10,
+                OfficePrivacy.PRIVATE
+        ));
+        verify(officeBranchRepo, times(0)).findById(any());
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.OFFICES));
+    }
 
-        creator.createOffice(event);
+    @Test
+    void itShouldAddAllOfficesOfBatchWithASingleWrite() {
+        var event = OfficesCreatedEvent.of("1", List.of(
+                OfficeCreatedEvent.of("123", "1", "La scaloneta", "PRIVATE", 100, 100, 0, 0, null, null),
+                OfficeCreatedEvent.of("124", "1", "La bombonera", "SHARED", 200, 20, 2, 10, null, null)
+        ));
+
+        creator.createOffices(event);
 
-        verify(officeBranchRepo, times(0)).update(any(OfficeBranch.class));
+        verify(officeBranchRepo, times(1)).addOffices("1", List.of(
+                Office.create("123", "La scaloneta", 100, 100, 0, 0, OfficePrivacy.PRIVATE),
+                Office.create("124", "La bombonera", 200, 20, 2, 10, OfficePrivacy.SHARED)
+        ));
+        verify(officeBranchRepo, times(0)).findById(any());
+        verify(officeBranchRepo, times(0)).update(any());
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.OFFICES));
     }
 }
@@ -1,32 +1,27 @@
 package search.application;
 
 import backoffice.domain.office.OfficeUpdatedEvent;
-import io.vavr.control.Option;
+import search.application.SearchResultCache.Attribute;
 import search.domain.Office;
-import search.domain.OfficeBranch;
 import search.domain.OfficeBranchRepository;
 import search.domain.OfficePrivacy;
-import search.factories.OfficeBranchBuilder;
-import search.factories.OfficeBuilder;
 
+import java.util.EnumSet;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 public class TestOfficeSearchUpdater {
-    OfficeBranchRepository officeBranchRepo = mock(OfficeBranchRepository.class);
-    ArgumentCaptor<OfficeBranch> officeBranchArgumentCaptor = ArgumentCaptor.forClass(OfficeBranch.class);
+    OfficeBranchRepository officeBranchRepo  = mock(OfficeBranchRepository.class);
+    SearchResultCache      searchResultCache = mock(SearchResultCache.class);
 
-    OfficeSearchUpdater updater = new OfficeSearchUpdater(officeBranchRepo);
+    OfficeSearchUpdater updater = new OfficeSearchUpdater(officeBranchRepo, searchResultCache);
 
     @Test
-    void itShouldNotUpdateOfficeBranchWhenThereIsNoOfficeBranchWithIdSpecifiedInEvent() {
+    void itShouldUpdateSpecifiedOfficeWithInfoProvidedInEventWithASingleWrite() {
         OfficeUpdatedEvent event = OfficeUpdatedEvent.of(
                 "12",
                 "1",
@@ -35,42 +30,18 @@ public class TestOfficeSearchUpdater {
                 100,
                 500,
                 1,
-                10
+                10,
+                null,
+                null
         );
-        when(officeBranchRepo.findById("1")).thenReturn(Option.none());
 
         updater.updateOffice(event);
 
-        verify(officeBranchRepo, times(0)).update(any());
-    }
-
-    @Test
-    void itShouldUpdateOfficeBranchModifyingSpecifiedOfficeWithInfoProvidedInEvent() {
-        var office = OfficeBuilder.builder().build();
-        var office2 = OfficeBuilder.builder().build();
-        var officeBranch = OfficeBranchBuilder.builder()
-                .addOffice(office)
-                .addOffice(office2)
-                .build();
-        OfficeUpdatedEvent event = OfficeUpdatedEvent.of(
-                office.id(),
-                officeBranch.id(),
-                "New name",
-                "PRIVATE",
-                100,
-                500,
-                1,
-                10
-        );
-        when(officeBranchRepo.findById(officeBranch.id()))
-                .thenReturn(Option.of(officeBranch));
-
-        updater.updateOffice(event);
-
-        verify(officeBranchRepo, times(1)).update(officeBranchArgumentCaptor.capture());
-        var officeBranchUpdated = officeBranchArgumentCaptor.getValue();
-        assertThat(officeBranchUpdated.offices()).filteredOn(o -> o.id().equals(office.id())).containsExactly(
-                Office.create(office.id(), "New name", 100, 500, 1, 10, OfficePrivacy.PRIVATE)
+        verify(officeBranchRepo, times(1)).updateOffice(
+                "1",
+                Office.create("12", "New name", 100, 500, 1, 10, OfficePrivacy.PRIVATE)
         );
+        verify(officeBranchRepo, times(0)).findById(any());
+        verify(searchResultCache, times(1)).officeBranchModified("1", EnumSet.of(Attribute.OFFICES));
     }
 }
@@ -0,0 +1,185 @@
+package search.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.Tuple;
+import search.application.SearchResultCache.Attribute;
+import search.application.dto.OfficeBranchResponse;
+import search.application.dto.SearchCriteria;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSearchResultCache {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SearchResultCache   cache         = new SearchResultCache(meterRegistry);
+
+    AtomicInteger searches = new AtomicInteger();
+
+    private Supplier<Page<OfficeBranchResponse>> searchReturning(String... ids) {
+        return () -> {
+            searches.incrementAndGet();
+            var officeBranches = new ArrayList<OfficeBranchResponse>();
+            for (String id : ids)
+                officeBranches.add(OfficeBranchResponse.of(id, "Name", "", "", "", "", List.of(), List.of()));
+            return new PageImpl<>(officeBranches, PageRequest.of(0, 10), officeBranches.size());
+        };
+    }
+
+    private static SearchCriteria criteria(SearchCriteria.Field field, String value) {
+        return SearchCriteria.of(List.of(Tuple.of(field, value)));
+    }
+
+    @Test
+    void itShouldAnswerTheSameSearchTypedDifferentlyFromTheCache() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = SearchCriteria.of(List.of(
+                Tuple.of(SearchCriteria.Field.OFFICE_BRANCH_NAME, "Monumental"),
+                Tuple.of(SearchCriteria.Field.OFFICE_TYPE, "private")
+        ));
+        var sameCriteria = SearchCriteria.of(List.of(
+                Tuple.of(SearchCriteria.Field.OFFICE_TYPE, " PRIVATE "),
+                Tuple.of(SearchCriteria.Field.OFFICE_BRANCH_NAME, "MONUMENTAL")
+        ));
+
+        var first = cache.page(criteria, pageable, searchReturning("1"));
+        var second = cache.page(sameCriteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("search.results.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void itShouldNotShareEntriesBetweenPages() {
+        var criteria = criteria(SearchCriteria.Field.OFFICE_BRANCH_NAME, "Monumental");
+
+        cache.page(criteria, PageRequest.of(0, 10), searchReturning("1"));
+        cache.page(criteria, PageRequest.of(1, 10), searchReturning("2"));
+
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldInvalidateTheEntriesListingTheOfficeBranchModified() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = criteria(SearchCriteria.Field.NEAR, "-34.58,-58.42,5");
+        cache.page(criteria, pageable, searchReturning("1", "2"));
+
+        cache.officeBranchModified("2", EnumSet.of(Attribute.OFFICES));
+        cache.page(criteria, pageable, searchReturning("1", "2"));
+
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldKeepTheEntriesThatDoNotDependOnWhatWasModified() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = criteria(SearchCriteria.Field.NEAR, "-34.58,-58.42,5");
+        cache.page(criteria, pageable, searchReturning("1"));
+
+        cache.officeBranchModified("2", EnumSet.of(Attribute.NAME, Attribute.OFFICES));
+        cache.page(criteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldInvalidateTheEntriesThatDependOnWhatWasModified() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = criteria(SearchCriteria.Field.OFFICE_TYPE, "PRIVATE");
+        cache.page(criteria, pageable, searchReturning("1"));
+
+        cache.officeBranchModified("2", EnumSet.of(Attribute.OFFICES));
+        cache.page(criteria, pageable, searchReturning("1", "2"));
+
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("search.results.invalidations").tag("scope", "precise").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldInvalidateTheEntriesSortedByNameWhenAnOfficeBranchIsRenamed() {
+        var pageable = PageRequest.of(0, 10);
+        var officeCriteria = criteria(SearchCriteria.Field.OFFICE_TYPE, "PRIVATE");
+        var nearCriteria = criteria(SearchCriteria.Field.NEAR, "-34.58,-58.42,5");
+        cache.page(SearchCriteria.of(List.of()), pageable, searchReturning("1"));
+        cache.page(officeCriteria, pageable, searchReturning("1"));
+        cache.page(nearCriteria, pageable, searchReturning("1"));
+
+        cache.officeBranchModified("2", EnumSet.of(Attribute.NAME));
+        cache.page(SearchCriteria.of(List.of()), pageable, searchReturning("1"));
+        cache.page(officeCriteria, pageable, searchReturning("1"));
+        cache.page(nearCriteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(5);
+    }
+
+    @Test
+    void itShouldInvalidateTheEntriesAskingForAvailabilityWhenAnOccupancyChanges() {
+        var pageable = PageRequest.of(0, 10);
+        var availableCriteria = criteria(SearchCriteria.Field.AVAILABLE, "2030-05-10,9,13,4");
+        var nameCriteria = criteria(SearchCriteria.Field.OFFICE_BRANCH_NAME, "Monumental");
+        cache.page(availableCriteria, pageable, searchReturning("1"));
+        cache.page(nameCriteria, pageable, searchReturning("1"));
+
+        cache.officeBranchModified("2", EnumSet.of(Attribute.AVAILABILITY));
+        cache.page(availableCriteria, pageable, searchReturning("1"));
+        cache.page(nameCriteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(3);
+    }
+
+    @Test
+    void itShouldKeepTheEntriesAskingForOfficesWhenAnOfficeBranchIsCreated() {
+        var pageable = PageRequest.of(0, 10);
+        var officeCriteria = criteria(SearchCriteria.Field.OFFICE_CAPACITY_GT, "10");
+        var nameCriteria = criteria(SearchCriteria.Field.OFFICE_BRANCH_NAME, "Monumental");
+        cache.page(officeCriteria, pageable, searchReturning("1"));
+        cache.page(nameCriteria, pageable, searchReturning("1"));
+
+        cache.officeBranchCreated();
+        cache.page(officeCriteria, pageable, searchReturning("1"));
+        cache.page(nameCriteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(3);
+    }
+
+    @Test
+    void itShouldInvalidateEveryEntry() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = criteria(SearchCriteria.Field.NEAR, "-34.58,-58.42,5");
+        cache.page(criteria, pageable, searchReturning("1"));
+
+        cache.invalidateAll();
+        cache.page(criteria, pageable, searchReturning("1"));
+
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("search.results.invalidations").tag("scope", "full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldNotCacheAResultSearchedWhileTheProjectionWasModified() {
+        var pageable = PageRequest.of(0, 10);
+        var criteria = criteria(SearchCriteria.Field.NEAR, "-34.58,-58.42,5");
+        var search = searchReturning("1");
+
+        cache.page(criteria, pageable, () -> {
+            var result = search.get();
+            cache.invalidateAll();
+            return result;
+        });
+        cache.page(criteria, pageable, search);
+
+        assertThat(searches.get()).isEqualTo(2);
+    }
+}
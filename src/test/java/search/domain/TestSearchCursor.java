@@ -0,0 +1,31 @@
+package search.domain;
+
+import io.vavr.control.Option;
+import search.factories.OfficeBranchBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSearchCursor {
+
+    @Test
+    void itShouldBeReadBackFromItsToken() {
+        var officeBranch = OfficeBranchBuilder.builder().withName("Río Cuarto. Centro").build();
+        var cursor = SearchCursor.after(officeBranch);
+
+        var readBack = SearchCursor.fromToken(cursor.token());
+
+        assertThat(readBack).contains(cursor);
+        assertThat(readBack.get().nameKey()).isEqualTo("rio cuarto. centro");
+        assertThat(readBack.get().id()).isEqualTo(officeBranch.id());
+    }
+
+    @Test
+    void itShouldNotReadTokensItDidNotWrite() {
+        assertThat(SearchCursor.fromToken("")).isEqualTo(Option.none());
+        assertThat(SearchCursor.fromToken("cmlv")).isEqualTo(Option.none());
+        assertThat(SearchCursor.fromToken("cmlv.")).isEqualTo(Option.none());
+        assertThat(SearchCursor.fromToken("%%.%%")).isEqualTo(Option.none());
+    }
+}
@@ -0,0 +1,21 @@
+package search.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSearchKey {
+
+    @Test
+    void itShouldLowercaseRemoveAccentsAndCollapseBlanks() {
+        assertThat(SearchKey.of("  Río   CUARTO ")).isEqualTo("rio cuarto");
+        assertThat(SearchKey.of("Peñarol São Paulo")).isEqualTo("penarol sao paulo");
+    }
+
+    @Test
+    void itShouldReturnFirstKeyAfterTheKeysStartingWithPrefix() {
+        assertThat(SearchKey.upperBound("mon")).isEqualTo("moo");
+        assertThat("monumental").isGreaterThanOrEqualTo("mon").isLessThan(SearchKey.upperBound("mon"));
+        assertThat("moo").isGreaterThanOrEqualTo(SearchKey.upperBound("mon"));
+    }
+}
@@ -18,6 +18,8 @@ public class OfficeBranchBuilder {
     private String street = faker.address().streetAddress();
     private List<Office> offices = new ArrayList<>();
     private List<String> images = new ArrayList<>();
+    private Double latitude;
+    private Double longitude;
 
     public static OfficeBranchBuilder builder() {
         return new OfficeBranchBuilder();
@@ -32,7 +34,7 @@ public class OfficeBranchBuilder {
                 city,
                 street,
                 images
-        );
+        ).locatedAt(latitude, longitude);
         offices.forEach(officeBranch::addNewOffice);
         return officeBranch;
     }
@@ -47,11 +49,27 @@ public class OfficeBranchBuilder {
         return this;
     }
 
+    public OfficeBranchBuilder withProvince(String province) {
+        this.province = province;
+        return this;
+    }
+
+    public OfficeBranchBuilder withCity(String city) {
+        this.city = city;
+        return this;
+    }
+
     public OfficeBranchBuilder addOffice(Office office) {
         this.offices.add(office);
         return this;
     }
 
+    public OfficeBranchBuilder withCoordinates(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        return this;
+    }
+
     public OfficeBranchBuilder withId(String id) {
         this.id = id;
         return this;
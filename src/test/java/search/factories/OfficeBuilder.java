@@ -46,4 +46,9 @@ public class OfficeBuilder {
         this.capacity = capacity;
         return this;
     }
+
+    public OfficeBuilder withPrice(Integer price) {
+        this.price = price;
+        return this;
+    }
 }
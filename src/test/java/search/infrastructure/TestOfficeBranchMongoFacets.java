@@ -0,0 +1,153 @@
+package search.infrastructure;
+
+import com.google.common.collect.ImmutableList;
+import io.vavr.Tuple;
+import io.vavr.control.Option;
+import search.domain.FacetedSearch.Facet;
+import search.domain.OfficeBranch;
+import search.domain.OfficePrivacy;
+import search.domain.spec.Specification;
+import search.factories.OfficeBranchBuilder;
+import search.factories.OfficeBuilder;
+import server.WorkfficeApplication;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@ContextConfiguration(classes = {WorkfficeApplication.class})
+public class TestOfficeBranchMongoFacets {
+    @Autowired
+    OfficeBranchMongoRepo officeBranchMongoRepo;
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getCollection("office_branches").drop();
+        mongoTemplate
+                .indexOps(OfficeBranch.class)
+                .ensureIndex(new GeospatialIndex("location").typed(GeoSpatialIndexType.GEO_2DSPHERE));
+    }
+
+    @Test
+    void itShouldReturnPageTotalAndFacetsOfOfficeBranchesThatMatch() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCity("Palermo")
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.PRIVATE).withCapacity(4).withPrice(300).build())
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.PRIVATE).withCapacity(12).withPrice(300).build())
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCity("Belgrano")
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.SHARED).withCapacity(150).withPrice(7000).build())
+                .build();
+        var officeBranch3 = OfficeBranchBuilder.builder()
+                .withProvince("Mendoza")
+                .withCity("Godoy Cruz")
+                .addOffice(OfficeBuilder.builder()
+                        .withPrivacy(OfficePrivacy.PRIVATE).withCapacity(4).withPrice(600).build())
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        officeBranchMongoRepo.store(officeBranch2);
+        officeBranchMongoRepo.store(officeBranch3);
+
+        var facetedSearch = officeBranchMongoRepo.searchWithFacets(
+                ImmutableList.of(Specification.anyMatch("offices", Specification.gt("capacity", 1))),
+                0,
+                1
+        );
+
+        assertThat(facetedSearch.officeBranches()).containsExactly(officeBranch);
+        assertThat(facetedSearch.total()).isEqualTo(3);
+        assertThat(facetedSearch.facets().get(Facet.PRIVACY))
+                .containsExactly(Tuple.of("PRIVATE", 2L), Tuple.of("SHARED", 1L));
+        assertThat(facetedSearch.facets().get(Facet.CAPACITY))
+                .containsExactly(Tuple.of("0-4", 2L), Tuple.of("10-19", 1L), Tuple.of("100+", 1L));
+        assertThat(facetedSearch.facets().get(Facet.PRICE))
+                .containsExactly(Tuple.of("0-499", 1L), Tuple.of("500-999", 1L), Tuple.of("5000+", 1L));
+        assertThat(facetedSearch.facets().get(Facet.PROVINCE))
+                .containsExactly(Tuple.of("Buenos Aires", 2L), Tuple.of("Mendoza", 1L));
+        assertThat(facetedSearch.facets().get(Facet.CITY))
+                .containsExactly(Tuple.of("Belgrano", 1L), Tuple.of("Godoy Cruz", 1L), Tuple.of("Palermo", 1L));
+    }
+
+    @Test
+    void itShouldCountOnlyTheOfficeBranchesThatMatchEverySpecification() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.PRIVATE).build())
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withProvince("Mendoza")
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.SHARED).build())
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        officeBranchMongoRepo.store(officeBranch2);
+
+        var facetedSearch = officeBranchMongoRepo.searchWithFacets(
+                ImmutableList.of(Specification.anyMatch("offices", Specification.eq("privacy", "PRIVATE"))),
+                0,
+                10
+        );
+
+        assertThat(facetedSearch.officeBranches()).containsExactly(officeBranch);
+        assertThat(facetedSearch.total()).isEqualTo(1);
+        assertThat(facetedSearch.facets().get(Facet.PROVINCE)).containsExactly(Tuple.of("Buenos Aires", 1L));
+    }
+
+    @Test
+    void itShouldReturnEmptyFacetsWhenNoOfficeBranchMatches() {
+        var facetedSearch = officeBranchMongoRepo.searchWithFacets(
+                ImmutableList.of(Specification.eq("name", "Unexistent")),
+                0,
+                10
+        );
+
+        assertThat(facetedSearch.officeBranches()).isEmpty();
+        assertThat(facetedSearch.total()).isEqualTo(0);
+        assertThat(facetedSearch.facets().values()).allMatch(List::isEmpty);
+    }
+
+    @Test
+    void itShouldReturnTheNearestOfficeBranchesFirstWithTheirFacets() {
+        var palermo = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCoordinates(-34.5889, -58.4306)
+                .build();
+        var belgrano = OfficeBranchBuilder.builder()
+                .withProvince("Buenos Aires")
+                .withCoordinates(-34.5627, -58.4565)
+                .build();
+        var mendoza = OfficeBranchBuilder.builder()
+                .withProvince("Mendoza")
+                .withCoordinates(-32.8895, -68.8458)
+                .build();
+        officeBranchMongoRepo.store(belgrano);
+        officeBranchMongoRepo.store(mendoza);
+        officeBranchMongoRepo.store(palermo);
+
+        var facetedSearch = officeBranchMongoRepo.searchWithFacets(
+                ImmutableList.of(Specification.near("location", -34.5810, -58.4210, Option.of(10d))),
+                0,
+                10
+        );
+
+        assertThat(facetedSearch.officeBranches()).containsExactly(palermo, belgrano);
+        assertThat(facetedSearch.total()).isEqualTo(2);
+        assertThat(facetedSearch.facets().get(Facet.PROVINCE)).containsExactly(Tuple.of("Buenos Aires", 2L));
+    }
+}
@@ -2,6 +2,7 @@ package search.infrastructure;
 
 import com.google.common.collect.ImmutableList;
 import io.vavr.control.Option;
+import search.domain.Office;
 import search.domain.OfficeBranch;
 import search.domain.OfficePrivacy;
 import search.domain.spec.Specification;
@@ -9,9 +10,12 @@ import search.factories.OfficeBranchBuilder;
 import search.factories.OfficeBuilder;
 import server.WorkfficeApplication;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -176,4 +180,203 @@ public class TestOfficeBranchMongoRepo {
         var officeBranchStored = officeBranchMongoRepo.findById(id);
         assertThat(officeBranchStored.isEmpty()).isTrue();
     }
+
+    @Test
+    void itShouldAppendOfficesToOfficeBranch() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(office)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        var newOffice = OfficeBuilder.builder().build();
+        var newOffice2 = OfficeBuilder.builder().build();
+
+        officeBranchMongoRepo.addOffices(officeBranch.id(), List.of(newOffice, newOffice2));
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        assertThat(officeBranchUpdated.offices()).containsExactly(office, newOffice, newOffice2);
+    }
+
+    @Test
+    void itShouldAddOfficeToOfficeBranchOnlyOnce() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(office)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        var newOffice = OfficeBuilder.builder().build();
+
+        officeBranchMongoRepo.addOffice(officeBranch.id(), newOffice);
+        officeBranchMongoRepo.addOffice(officeBranch.id(), newOffice);
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        assertThat(officeBranchUpdated.offices()).containsExactly(office, newOffice);
+    }
+
+    @Test
+    void itShouldAddOfficesToOfficeBranchOnlyOnceAfterTheyChanged() {
+        var officeBranch = OfficeBranchBuilder.builder().build();
+        officeBranchMongoRepo.store(officeBranch);
+        var newOffice = OfficeBuilder.builder().build();
+        var newOffice2 = OfficeBuilder.builder().build();
+
+        officeBranchMongoRepo.addOffices(officeBranch.id(), List.of(newOffice, newOffice2));
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), newOffice.id(), LocalDate.of(2030, 5, 25), 4, 1L);
+        officeBranchMongoRepo.addOffices(officeBranch.id(), List.of(newOffice, newOffice2));
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        assertThat(officeBranchUpdated.offices())
+                .extracting(Office::id)
+                .containsExactly(newOffice.id(), newOffice2.id());
+    }
+
+    @Test
+    void itShouldNotCreateOfficeBranchWhenAddingOfficeToOneThatDoesNotExist() {
+        String id = UUID.randomUUID().toString();
+
+        officeBranchMongoRepo.addOffice(id, OfficeBuilder.builder().build());
+
+        assertThat(officeBranchMongoRepo.findById(id).isEmpty()).isTrue();
+    }
+
+    @Test
+    void itShouldReplaceOnlySpecifiedOfficeOfOfficeBranch() {
+        var office = OfficeBuilder.builder().build();
+        var office2 = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(office)
+                .addOffice(office2)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        var officeUpdated = Office.create(office.id(), "New name", 100, 500, 1, 10, OfficePrivacy.PRIVATE);
+
+        officeBranchMongoRepo.updateOffice(officeBranch.id(), officeUpdated);
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        assertThat(officeBranchUpdated.offices()).containsExactly(officeUpdated, office2);
+    }
+
+    @Test
+    void itShouldRemoveOfficeFromOfficeBranch() {
+        var office = OfficeBuilder.builder().build();
+        var office2 = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(office)
+                .addOffice(office2)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+
+        officeBranchMongoRepo.removeOffice(officeBranch.id(), office.id());
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        assertThat(officeBranchUpdated.offices()).containsExactly(office2);
+    }
+
+    @Test
+    void itShouldUpdateInformationOfOfficeBranchKeepingItsOffices() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(office)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+
+        officeBranchMongoRepo.updateInformation(
+                officeBranch.id(),
+                "New name",
+                "2513749180",
+                "Mendoza",
+                "Godoy Cruz",
+                "Fake street 1234",
+                -32.92,
+                -68.84,
+                Arrays.asList("image1.com", "image2.com")
+        );
+
+        var officeBranchUpdated = officeBranchMongoRepo.findById(officeBranch.id()).get();
+        var expectedOfficeBranch = OfficeBranch.create(
+                officeBranch.id(),
+                "New name",
+                "2513749180",
+                "Mendoza",
+                "Godoy Cruz",
+                "Fake street 1234",
+                Arrays.asList("image1.com", "image2.com")
+        ).locatedAt(-32.92, -68.84);
+        expectedOfficeBranch.addNewOffice(office);
+        assertThat(officeBranchUpdated).isEqualTo(expectedOfficeBranch);
+    }
+
+    private List<Document> availability(String officeBranchId, int office) {
+        var officeBranch = mongoTemplate.findById(officeBranchId, Document.class, "office_branches");
+        return officeBranch
+                .getList("offices", Document.class)
+                .get(office)
+                .getList("availability", Document.class, List.of());
+    }
+
+    private static Document day(LocalDate date, Integer occupiedHours, Long sequence) {
+        return new Document("date", date.toString())
+                .append("occupiedHours", occupiedHours)
+                .append("sequence", sequence);
+    }
+
+    @Test
+    void itShouldReplaceTheOccupancyOfTheDaySpecified() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder().addOffice(office).build();
+        officeBranchMongoRepo.store(officeBranch);
+        var date = LocalDate.now().plusDays(1);
+        var nextDate = date.plusDays(1);
+
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 1 << 10, 1L);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), nextDate, 1 << 9, 2L);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, (1 << 10) | (1 << 11), 3L);
+
+        assertThat(availability(officeBranch.id(), 0)).containsExactlyInAnyOrder(
+                day(date, (1 << 10) | (1 << 11), 3L),
+                day(nextDate, 1 << 9, 2L)
+        );
+    }
+
+    @Test
+    void itShouldKeepTheLaterOccupancyWhenAnEarlierOneArrivesAfterIt() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder().addOffice(office).build();
+        officeBranchMongoRepo.store(officeBranch);
+        var date = LocalDate.now().plusDays(1);
+
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, (1 << 10) | (1 << 11), 8L);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 1 << 10, 7L);
+
+        assertThat(availability(officeBranch.id(), 0)).containsExactly(day(date, (1 << 10) | (1 << 11), 8L));
+    }
+
+    @Test
+    void itShouldKeepFreeDaysSoAnEarlierOccupancyDoesNotOccupyThemAgain() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder().addOffice(office).build();
+        officeBranchMongoRepo.store(officeBranch);
+        var date = LocalDate.now().plusDays(1);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 1 << 10, 1L);
+
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 0, 3L);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 1 << 10, 2L);
+
+        assertThat(availability(officeBranch.id(), 0)).containsExactly(day(date, 0, 3L));
+    }
+
+    @Test
+    void itShouldKeepTheAvailabilityOfAnOfficeWhenUpdatingIt() {
+        var office = OfficeBuilder.builder().build();
+        var officeBranch = OfficeBranchBuilder.builder().addOffice(office).build();
+        officeBranchMongoRepo.store(officeBranch);
+        var date = LocalDate.now().plusDays(1);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), office.id(), date, 1 << 10, 1L);
+        var officeUpdated = Office.create(office.id(), "New name", 100, 500, 1, 10, OfficePrivacy.PRIVATE);
+
+        officeBranchMongoRepo.updateOffice(officeBranch.id(), officeUpdated);
+
+        assertThat(officeBranchMongoRepo.findById(officeBranch.id()).get().offices()).containsExactly(officeUpdated);
+        assertThat(availability(officeBranch.id(), 0)).containsExactly(day(date, 1 << 10, 1L));
+    }
 }
@@ -1,13 +1,19 @@
 package search.infrastructure;
 
 import com.google.common.collect.ImmutableList;
+import io.vavr.control.Option;
 import search.domain.OfficeBranch;
+import search.domain.OfficeInactivity;
 import search.domain.OfficePrivacy;
+import search.domain.SearchCursor;
 import search.domain.spec.Specification;
 import search.factories.OfficeBranchBuilder;
 import search.factories.OfficeBuilder;
 import server.WorkfficeApplication;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
 import org.springframework.test.context.ContextConfiguration;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +39,10 @@ public class TestOfficeBranchMongoSearch {
     void setUp() {
         var collection = mongoTemplate.getCollection("office_branches");
         collection.drop();
+        // Dropping the collection drops its indexes, proximity can not be searched without its own
+        mongoTemplate
+                .indexOps(OfficeBranch.class)
+                .ensureIndex(new GeospatialIndex("location").typed(GeoSpatialIndexType.GEO_2DSPHERE));
     }
 
     @Test
@@ -55,6 +67,56 @@ public class TestOfficeBranchMongoSearch {
         assertThat(officeBranches.get(0)).isEqualTo(officeBranch);
     }
 
+    @Test
+    void itShouldReturnOfficeBranchesThatMatchWithNameSpecifiedIgnoringAccents() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Río Cuarto")
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Rio Tercero")
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        officeBranchMongoRepo.store(officeBranch2);
+
+        List<OfficeBranch> officeBranches = officeBranchMongoRepo.search(Specification.eq("name", "rio  cuarto"));
+
+        assertThat(officeBranches).containsExactly(officeBranch);
+    }
+
+    @Test
+    void itShouldReturnOfficeBranchesWhoseNameStartsWithPrefixSpecified() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Monumental")
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Montañés")
+                .build();
+        var officeBranch3 = OfficeBranchBuilder.builder()
+                .withName("La pelela")
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        officeBranchMongoRepo.store(officeBranch2);
+        officeBranchMongoRepo.store(officeBranch3);
+
+        List<OfficeBranch> officeBranches = officeBranchMongoRepo.search(Specification.startsWith("name", "MON"));
+
+        assertThat(officeBranches).containsExactlyInAnyOrder(officeBranch, officeBranch2);
+    }
+
+    @Test
+    void itShouldMatchNameSpecifiedLiterallyInsteadOfAsAPattern() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("River Camp")
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+
+        var officeBranches = officeBranchMongoRepo.search(Specification.eq("name", "River.*"));
+        var officeBranchesByPrefix = officeBranchMongoRepo.search(Specification.startsWith("name", ".*"));
+
+        assertThat(officeBranches).isEmpty();
+        assertThat(officeBranchesByPrefix).isEmpty();
+    }
+
     @Test
     void itShouldReturnOfficeBranchesThatHaveAtLeastOnePrivateOffice() {
         var officeBranch = OfficeBranchBuilder.builder()
@@ -278,4 +340,217 @@ public class TestOfficeBranchMongoSearch {
         assertThat(officeBranches).size().isEqualTo(1);
         assertThat(officeBranches.get(0)).isEqualTo(officeBranch);
     }
+
+    @Test
+    void itShouldReturnOfficeBranchesWithinRadiusNearestFirst() {
+        var palermo = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5889, -58.4306)
+                .build();
+        var belgrano = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5627, -58.4565)
+                .build();
+        var mendoza = OfficeBranchBuilder.builder()
+                .withCoordinates(-32.8895, -68.8458)
+                .build();
+        var withoutCoordinates = OfficeBranchBuilder.builder().build();
+        officeBranchMongoRepo.store(mendoza);
+        officeBranchMongoRepo.store(belgrano);
+        officeBranchMongoRepo.store(withoutCoordinates);
+        officeBranchMongoRepo.store(palermo);
+
+        var nearPlazaItalia = Specification.near("location", -34.5810, -58.4210, Option.of(10d));
+
+        assertThat(officeBranchMongoRepo.search(ImmutableList.of(nearPlazaItalia), 0, 10))
+                .containsExactly(palermo, belgrano);
+        assertThat(officeBranchMongoRepo.search(ImmutableList.of(nearPlazaItalia), 1, 10))
+                .containsExactly(belgrano);
+        assertThat(officeBranchMongoRepo.count(ImmutableList.of(nearPlazaItalia))).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldReturnEveryLocatedOfficeBranchNearestFirstWhenThereIsNoRadius() {
+        var palermo = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5889, -58.4306)
+                .build();
+        var mendoza = OfficeBranchBuilder.builder()
+                .withCoordinates(-32.8895, -68.8458)
+                .build();
+        var withoutCoordinates = OfficeBranchBuilder.builder().build();
+        officeBranchMongoRepo.store(mendoza);
+        officeBranchMongoRepo.store(withoutCoordinates);
+        officeBranchMongoRepo.store(palermo);
+
+        var nearPlazaItalia = Specification.near("location", -34.5810, -58.4210, Option.none());
+
+        assertThat(officeBranchMongoRepo.search(ImmutableList.of(nearPlazaItalia), 0, 10))
+                .containsExactly(palermo, mendoza);
+        assertThat(officeBranchMongoRepo.count(ImmutableList.of(nearPlazaItalia))).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldCombineProximityWithTheRestOfSpecifications() {
+        var palermo = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5889, -58.4306)
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.SHARED).build())
+                .build();
+        var belgrano = OfficeBranchBuilder.builder()
+                .withCoordinates(-34.5627, -58.4565)
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.PRIVATE).build())
+                .build();
+        officeBranchMongoRepo.store(palermo);
+        officeBranchMongoRepo.store(belgrano);
+
+        var specs = ImmutableList.of(
+                Specification.near("location", -34.5810, -58.4210, Option.of(10d)),
+                Specification.anyMatch("offices", Specification.eq("privacy", OfficePrivacy.PRIVATE.name()))
+        );
+
+        assertThat(officeBranchMongoRepo.search(specs, 0, 10)).containsExactly(belgrano);
+        assertThat(officeBranchMongoRepo.count(specs)).isEqualTo(1);
+    }
+
+    private static Specification availableAt(LocalDate date, Integer fromHour, Integer toHour) {
+        return Specification.anyMatch(
+                "offices",
+                Specification.available("availability", "inactivities", date, fromHour, toHour)
+        );
+    }
+
+    @Test
+    void itShouldReturnOfficeBranchesWithAnOfficeFreeAlongTheHoursSpecified() {
+        var date = LocalDate.now().plusDays(1);
+        var busyOffice = OfficeBuilder.builder().withCapacity(10).build();
+        var busy = OfficeBranchBuilder.builder().addOffice(busyOffice).build();
+        var partiallyBusyOffice = OfficeBuilder.builder().withCapacity(10).build();
+        var partiallyBusy = OfficeBranchBuilder.builder().addOffice(partiallyBusyOffice).build();
+        var free = OfficeBranchBuilder.builder()
+                .addOffice(OfficeBuilder.builder().withCapacity(10).build())
+                .build();
+        officeBranchMongoRepo.store(busy);
+        officeBranchMongoRepo.store(partiallyBusy);
+        officeBranchMongoRepo.store(free);
+        // Booked from 10 to 12 and from 14 to 15
+        officeBranchMongoRepo.updateOccupancy(busy.id(), busyOffice.id(), date, (1 << 10) | (1 << 11) | (1 << 14), 1L);
+        officeBranchMongoRepo.updateOccupancy(partiallyBusy.id(), partiallyBusyOffice.id(), date, 1 << 14, 2L);
+
+        var specs = ImmutableList.of(
+                availableAt(date, 11, 14),
+                Specification.anyMatch("offices", Specification.gt("capacity", 5))
+        );
+
+        assertThat(officeBranchMongoRepo.search(specs, 0, 10)).containsExactlyInAnyOrder(partiallyBusy, free);
+        assertThat(officeBranchMongoRepo.count(specs)).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldLeaveOutOfficesInactiveOnTheDaySpecifiedEvenWithoutBookings() {
+        var sunday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+        var closedOnSundaysOffice = OfficeBuilder.builder().withCapacity(10).build();
+        var closedOnSundays = OfficeBranchBuilder.builder().addOffice(closedOnSundaysOffice).build();
+        var closedThatDayOffice = OfficeBuilder.builder().withCapacity(10).build();
+        var closedThatDay = OfficeBranchBuilder.builder().addOffice(closedThatDayOffice).build();
+        var reopenedOffice = OfficeBuilder.builder().withCapacity(10).build();
+        var reopened = OfficeBranchBuilder.builder().addOffice(reopenedOffice).build();
+        officeBranchMongoRepo.store(closedOnSundays);
+        officeBranchMongoRepo.store(closedThatDay);
+        officeBranchMongoRepo.store(reopened);
+        officeBranchMongoRepo.addInactivity(
+                closedOnSundays.id(),
+                closedOnSundaysOffice.id(),
+                OfficeInactivity.of("1", Option.of(DayOfWeek.SUNDAY), Option.none())
+        );
+        officeBranchMongoRepo.replaceInactivities(closedThatDay.id(), closedThatDayOffice.id(), List.of(
+                OfficeInactivity.of("2", Option.none(), Option.of(sunday))
+        ));
+        officeBranchMongoRepo.addInactivity(
+                reopened.id(),
+                reopenedOffice.id(),
+                OfficeInactivity.of("3", Option.of(DayOfWeek.SUNDAY), Option.none())
+        );
+        officeBranchMongoRepo.replaceInactivities(reopened.id(), reopenedOffice.id(), List.of());
+
+        var onSunday = ImmutableList.of(availableAt(sunday, 9, 10));
+        var onMonday = ImmutableList.of(availableAt(sunday.plusDays(1), 9, 10));
+
+        assertThat(officeBranchMongoRepo.search(onSunday, 0, 10)).containsExactly(reopened);
+        assertThat(officeBranchMongoRepo.search(onMonday, 0, 10))
+                .containsExactlyInAnyOrder(closedOnSundays, closedThatDay, reopened);
+    }
+
+    @Test
+    void itShouldRequireTheSameOfficeToBeFreeAndFitTheAttendees() {
+        var date = LocalDate.now().plusDays(1);
+        var smallOffice = OfficeBuilder.builder().withCapacity(2).build();
+        var bigOffice = OfficeBuilder.builder().withCapacity(20).build();
+        var officeBranch = OfficeBranchBuilder.builder()
+                .addOffice(smallOffice)
+                .addOffice(bigOffice)
+                .build();
+        officeBranchMongoRepo.store(officeBranch);
+        officeBranchMongoRepo.updateOccupancy(officeBranch.id(), bigOffice.id(), date, 1 << 9, 1L);
+
+        var specs = ImmutableList.of(
+                availableAt(date, 9, 10),
+                Specification.anyMatch("offices", Specification.gt("capacity", 10))
+        );
+
+        assertThat(officeBranchMongoRepo.search(specs, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void itShouldListOfficeBranchesByNameAfterTheCursorBreakingTiesById() {
+        var palermo = OfficeBranchBuilder.builder().withName("Palermo").build();
+        var belgrano = OfficeBranchBuilder.builder().withName("Belgrano").withId("b").build();
+        var otherBelgrano = OfficeBranchBuilder.builder().withName("belgrano").withId("a").build();
+        var nunez = OfficeBranchBuilder.builder().withName("Núñez").build();
+        officeBranchMongoRepo.store(palermo);
+        officeBranchMongoRepo.store(belgrano);
+        officeBranchMongoRepo.store(nunez);
+        officeBranchMongoRepo.store(otherBelgrano);
+
+        var firstPage = officeBranchMongoRepo.searchAfter(List.of(), Option.none(), 2);
+        var secondPage = officeBranchMongoRepo.searchAfter(
+                List.of(),
+                Option.of(SearchCursor.after(firstPage.get(1))),
+                2
+        );
+
+        assertThat(firstPage).containsExactly(otherBelgrano, belgrano);
+        assertThat(secondPage).containsExactly(nunez, palermo);
+    }
+
+    @Test
+    void itShouldApplyTheSpecificationsToTheOfficeBranchesAfterTheCursor() {
+        var privateOffice = OfficeBuilder.builder().withPrivacy(OfficePrivacy.PRIVATE).build();
+        var almagro = OfficeBranchBuilder.builder().withName("Almagro").addOffice(privateOffice).build();
+        var belgrano = OfficeBranchBuilder.builder().withName("Belgrano").build();
+        var caballito = OfficeBranchBuilder.builder()
+                .withName("Caballito")
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.PRIVATE).build())
+                .build();
+        officeBranchMongoRepo.store(almagro);
+        officeBranchMongoRepo.store(belgrano);
+        officeBranchMongoRepo.store(caballito);
+
+        var specs = ImmutableList.of(
+                Specification.anyMatch("offices", Specification.eq("privacy", OfficePrivacy.PRIVATE.name()))
+        );
+
+        assertThat(officeBranchMongoRepo.searchAfter(specs, Option.of(SearchCursor.after(almagro)), 10))
+                .containsExactly(caballito);
+    }
+
+    @Test
+    void itShouldBrowseEveryOfficeBranchByNameWhenThereAreNoSpecifications() {
+        var palermo = OfficeBranchBuilder.builder().withName("Palermo").build();
+        var belgrano = OfficeBranchBuilder.builder().withName("Belgrano").build();
+        var nunez = OfficeBranchBuilder.builder().withName("Núñez").build();
+        officeBranchMongoRepo.store(palermo);
+        officeBranchMongoRepo.store(belgrano);
+        officeBranchMongoRepo.store(nunez);
+
+        assertThat(officeBranchMongoRepo.search(List.of(), 0, 2)).containsExactly(belgrano, nunez);
+        assertThat(officeBranchMongoRepo.search(List.of(), 2, 2)).containsExactly(palermo);
+        assertThat(officeBranchMongoRepo.count(List.of())).isEqualTo(3);
+    }
 }
@@ -0,0 +1,217 @@
+package search.infrastructure;
+
+import io.vavr.Tuple;
+import search.domain.FacetedSearch.Facet;
+import search.domain.OfficePrivacy;
+import search.domain.spec.Specification;
+import search.factories.OfficeBranchBuilder;
+import search.factories.OfficeBuilder;
+import server.WorkfficeApplication;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@ContextConfiguration(classes = {WorkfficeApplication.class})
+public class TestOfficeBranchTextSearchRepo {
+    @Autowired
+    OfficeBranchTextSearchRepo textSearchRepo;
+    @Autowired
+    OfficeBranchMongoRepo officeBranchMongoRepo;
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getCollection("office_branches").drop();
+        mongoTemplate.getCollection("office_branch_text_changes").drop();
+        textSearchRepo.reindex();
+    }
+
+    /* Writes through a repo whose index is never loaded, as another instance would */
+    private OfficeBranchTextSearchRepo anotherInstance() {
+        return new OfficeBranchTextSearchRepo(officeBranchMongoRepo, mongoTemplate);
+    }
+
+    @Test
+    void itShouldReturnOfficeBranchesThatMatchTextMostRelevantFirst() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .addOffice(OfficeBuilder.builder().withName("Sala de reuniones").build())
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Palermo Hollywood")
+                .build();
+        var officeBranch3 = OfficeBranchBuilder.builder()
+                .withName("Monumental")
+                .build();
+        textSearchRepo.store(officeBranch);
+        textSearchRepo.store(officeBranch2);
+        textSearchRepo.store(officeBranch3);
+
+        var specs = List.of(Specification.matchesText("cowork palermo reuniones"));
+
+        assertThat(textSearchRepo.search(specs, 0, 10)).containsExactly(officeBranch, officeBranch2);
+        assertThat(textSearchRepo.search(specs, 1, 10)).containsExactly(officeBranch2);
+        assertThat(textSearchRepo.count(specs)).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldApplyTheRestOfSpecificationsToTheOfficeBranchesThatMatchText() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.SHARED).build())
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Palermo Hollywood")
+                .addOffice(OfficeBuilder.builder().withPrivacy(OfficePrivacy.PRIVATE).build())
+                .build();
+        textSearchRepo.store(officeBranch);
+        textSearchRepo.store(officeBranch2);
+
+        var specs = List.of(
+                Specification.matchesText("palermo"),
+                Specification.anyMatch("offices", Specification.eq("privacy", "PRIVATE"))
+        );
+
+        assertThat(textSearchRepo.search(specs, 0, 10)).containsExactly(officeBranch2);
+        assertThat(textSearchRepo.count(specs)).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldReturnFacetsOfEveryHitAndThePageMostRelevantFirst() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Palermo Hollywood")
+                .withProvince("Buenos Aires")
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .withProvince("Buenos Aires")
+                .addOffice(OfficeBuilder.builder().withName("Sala de reuniones").build())
+                .build();
+        var officeBranch3 = OfficeBranchBuilder.builder()
+                .withName("Monumental")
+                .withProvince("Buenos Aires")
+                .build();
+        textSearchRepo.store(officeBranch);
+        textSearchRepo.store(officeBranch2);
+        textSearchRepo.store(officeBranch3);
+
+        var facetedSearch = textSearchRepo.searchWithFacets(
+                List.of(Specification.matchesText("cowork palermo reuniones")),
+                0,
+                1
+        );
+
+        assertThat(facetedSearch.officeBranches()).containsExactly(officeBranch2);
+        assertThat(facetedSearch.total()).isEqualTo(2);
+        assertThat(facetedSearch.facets().get(Facet.PROVINCE)).containsExactly(Tuple.of("Buenos Aires", 2L));
+    }
+
+    @Test
+    void itShouldFindOfficeBranchesByTheTextsTheyWereUpdatedWith() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        var office = OfficeBuilder.builder().withName("Auditorio").build();
+        textSearchRepo.store(officeBranch);
+
+        textSearchRepo.updateInformation(
+                officeBranch.id(),
+                "Cowork Recoleta",
+                "123",
+                "Buenos Aires",
+                "CABA",
+                "Callao 123",
+                null,
+                null,
+                List.of()
+        );
+        textSearchRepo.addOffice(officeBranch.id(), office);
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("palermo")), 0, 10)).isEmpty();
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("recoleta")), 0, 10))
+                .extracting(found -> found.id())
+                .containsExactly(officeBranch.id());
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("auditorio")), 0, 10))
+                .extracting(found -> found.id())
+                .containsExactly(officeBranch.id());
+    }
+
+    @Test
+    void itShouldNotReturnDeletedOfficeBranches() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        textSearchRepo.store(officeBranch);
+
+        textSearchRepo.delete(officeBranch.id());
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("cowork")), 0, 10)).isEmpty();
+        assertThat(textSearchRepo.count(List.of(Specification.matchesText("cowork")))).isEqualTo(0);
+    }
+
+    @Test
+    void itShouldLoadOfficeBranchesStoredBeforeTheIndexWasBuilt() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        mongoTemplate.save(officeBranch);
+
+        textSearchRepo.reindex();
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("cowrok")), 0, 10))
+                .containsExactly(officeBranch);
+    }
+
+    @Test
+    void itShouldReloadWritesOfOtherInstancesFromTheCollection() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        var officeBranch2 = OfficeBranchBuilder.builder()
+                .withName("Palermo Hollywood")
+                .build();
+        textSearchRepo.store(officeBranch);
+        anotherInstance().store(officeBranch2);
+        anotherInstance().delete(officeBranch.id());
+
+        textSearchRepo.reload();
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("palermo")), 0, 10))
+                .containsExactly(officeBranch2);
+    }
+
+    @Test
+    void itShouldOnlyRereadTheOfficeBranchesChangedSinceTheLastReload() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        mongoTemplate.save(officeBranch);
+
+        textSearchRepo.reload();
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("palermo")), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void itShouldLoadTheWholeCollectionWhenAnotherInstanceRebuiltTheProjection() {
+        var officeBranch = OfficeBranchBuilder.builder()
+                .withName("Cowork Palermo")
+                .build();
+        mongoTemplate.save(officeBranch);
+        anotherInstance().reindex();
+
+        textSearchRepo.reload();
+
+        assertThat(textSearchRepo.search(List.of(Specification.matchesText("palermo")), 0, 10))
+                .containsExactly(officeBranch);
+    }
+}
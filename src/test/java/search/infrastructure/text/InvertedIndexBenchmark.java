@@ -0,0 +1,126 @@
+package search.infrastructure.text;
+
+import com.github.javafaker.Faker;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import search.domain.SearchKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+public class InvertedIndexBenchmark {
+    static final int BRANCHES        = 100_000;
+    static final int WARMUP_ROUNDS   = 200;
+    static final int MEASURED_ROUNDS = 1_000;
+    /* Scans are two orders of magnitude slower, fewer rounds are enough to measure them */
+    static final int SCAN_ROUNDS     = 50;
+    static final int LIMIT           = 20;
+
+    static final List<String> KINDS         = List.of("Cowork", "Oficinas", "Espacio", "Hub", "Centro", "Estudio");
+    static final List<String> NEIGHBORHOODS = List.of(
+            "Palermo", "Belgrano", "Recoleta", "Núñez", "Caballito", "Almagro", "San Telmo", "Puerto Madero",
+            "Villa Crespo", "Colegiales", "Chacarita", "Retiro", "Microcentro", "Saavedra", "Flores"
+    );
+    static final List<String> OFFICES       = List.of(
+            "Sala de reuniones", "Escritorio flexible", "Oficina privada", "Auditorio", "Box ejecutivo",
+            "Sala de conferencias", "Puesto fijo", "Estudio de grabación"
+    );
+    static final List<String> QUERIES       = List.of(
+            "palermo",
+            "cowork palermo sala reuniones",
+            "recol",
+            "oficina privda belgrano",
+            "auditorio nunez"
+    );
+
+    Random random = new Random(42);
+    Faker  faker  = new Faker(random);
+
+    static <T> T any(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    List<Tuple2<String, Double>> branch(int number) {
+        var neighborhood = any(NEIGHBORHOODS, random);
+        List<Tuple2<String, Double>> texts = new ArrayList<>();
+        texts.add(Tuple.of(any(KINDS, random) + " " + neighborhood + " " + number, 3d));
+        texts.add(Tuple.of(neighborhood, 1.5));
+        texts.add(Tuple.of("Buenos Aires", 1d));
+        texts.add(Tuple.of(faker.address().streetAddress(), 1d));
+        for (int i = random.nextInt(4); i >= 0; i--)
+            texts.add(Tuple.of(any(OFFICES, random), 2d));
+        return texts;
+    }
+
+    /**
+     * Scan over the search keys of every branch ranked by the terms they
+     * contain, the cost of answering text queries without an index. It does
+     * not even tolerate typos
+     */
+    static List<String> scan(Map<String, String> keys, String query) {
+        var terms = Arrays.asList(SearchKey.of(query).split(" "));
+        return keys
+                .entrySet()
+                .stream()
+                .map(entry -> Tuple.of(entry.getKey(), terms.stream().filter(entry.getValue()::contains).count()))
+                .filter(matches -> matches._2 > 0)
+                .sorted(Comparator.comparing((Tuple2<String, Long> matches) -> matches._2).reversed())
+                .limit(LIMIT)
+                .map(Tuple2::_1)
+                .collect(Collectors.toList());
+    }
+
+    interface Search {
+        List<String> run(String query);
+    }
+
+    static void report(String name, Search search, int warmupRounds, int measuredRounds) {
+        for (int i = 0; i < warmupRounds; i++)
+            QUERIES.forEach(search::run);
+        for (String query : QUERIES) {
+            long[] latencies = new long[measuredRounds];
+            for (int i = 0; i < measuredRounds; i++) {
+                long start = System.nanoTime();
+                search.run(query);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            System.out.printf(
+                    "%-12s %-32s p50 %8.1f us  p99 %8.1f us%n",
+                    name,
+                    "\"" + query + "\"",
+                    latencies[measuredRounds / 2] / 1_000d,
+                    latencies[measuredRounds * 99 / 100] / 1_000d
+            );
+        }
+    }
+
+    @Test
+    void measureQueryLatencyOver100kOfficeBranches() {
+        var index = new InvertedIndex();
+        Map<String, String> keys = new HashMap<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < BRANCHES; i++) {
+            var texts = branch(i);
+            index.put(String.valueOf(i), texts);
+            keys.put(String.valueOf(i), texts
+                    .stream()
+                    .map(text -> SearchKey.of(text._1))
+                    .collect(Collectors.joining(" ")));
+        }
+        long indexingMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Indexed %d office branches in %d ms%n", index.size(), indexingMillis);
+
+        report("Index", query -> index.search(query, LIMIT), WARMUP_ROUNDS, MEASURED_ROUNDS);
+        report("Scan", query -> scan(keys, query), SCAN_ROUNDS, SCAN_ROUNDS);
+    }
+}
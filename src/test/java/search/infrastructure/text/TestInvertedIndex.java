@@ -0,0 +1,92 @@
+package search.infrastructure.text;
+
+import io.vavr.Tuple;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestInvertedIndex {
+    InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put("1", List.of(Tuple.of("Cowork Palermo", 3d), Tuple.of("Sala de reuniones", 2d)));
+        index.put("2", List.of(Tuple.of("Oficinas Belgrano", 3d), Tuple.of("Palermo", 1d)));
+        index.put("3", List.of(Tuple.of("Espacio Núñez", 3d), Tuple.of("Sala privada", 2d)));
+    }
+
+    @Test
+    void itShouldRankDocumentsThatMatchMoreTermsFirst() {
+        assertThat(index.search("cowork palermo sala reuniones", 10)).containsExactly("1", "3", "2");
+    }
+
+    @Test
+    void itShouldRankTermsOfHeavierTextsFirst() {
+        index.put("4", List.of(Tuple.of("Palermo Soho", 3d)));
+
+        assertThat(index.search("palermo", 10)).containsExactly("4", "1", "2");
+    }
+
+    @Test
+    void itShouldMatchTermsByPrefix() {
+        assertThat(index.search("belg", 10)).containsExactly("2");
+        assertThat(index.search("reu", 10)).containsExactly("1");
+    }
+
+    @Test
+    void itShouldMatchTermsWithOneTypo() {
+        assertThat(index.search("plaermo", 10)).containsExactlyInAnyOrder("1", "2");
+        assertThat(index.search("belgramo", 10)).containsExactly("2");
+        assertThat(index.search("nunez", 10)).containsExactly("3");
+    }
+
+    @Test
+    void itShouldNotMatchTermsWithMoreThanOneTypo() {
+        assertThat(index.search("plaermoo", 10)).isEmpty();
+    }
+
+    @Test
+    void itShouldRankExactMatchesBeforeTyposAndPrefixes() {
+        var index = new InvertedIndex();
+        index.put("typo", List.of(Tuple.of("Sola", 3d)));
+        index.put("prefix", List.of(Tuple.of("Salas", 3d)));
+        index.put("exact", List.of(Tuple.of("Sala", 3d)));
+
+        assertThat(index.search("sala", 10)).containsExactly("exact", "prefix", "typo");
+    }
+
+    @Test
+    void itShouldReplaceTextsOfDocumentsIndexedAgain() {
+        index.put("1", List.of(Tuple.of("Cowork Recoleta", 3d)));
+
+        assertThat(index.search("palermo", 10)).containsExactly("2");
+        assertThat(index.search("recoleta", 10)).containsExactly("1");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void itShouldForgetTermsOfRemovedDocuments() {
+        index.remove("1");
+
+        assertThat(index.search("cowork", 10)).isEmpty();
+        assertThat(index.search("cowrk", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldReturnAtMostTheLimitSpecified() {
+        assertThat(index.search("sala palermo", 1)).hasSize(1);
+    }
+
+    @Test
+    void itShouldCountAdjacentTranspositionsAsOneEdit() {
+        assertThat(InvertedIndex.distance("palermo", "plaermo")).isEqualTo(1);
+        assertThat(InvertedIndex.distance("palermo", "palerm")).isEqualTo(1);
+        assertThat(InvertedIndex.distance("palermo", "pakermo")).isEqualTo(1);
+        assertThat(InvertedIndex.distance("palermo", "plaerm")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,217 @@
+package shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+import shared.infrastructure.InstrumentedEventMulticaster;
+import shared.infrastructure.LaneChangeCoalescer;
+import shared.infrastructure.LaneExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestInstrumentedEventMulticaster {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+    InstrumentedEventMulticaster multicaster = new InstrumentedEventMulticaster(
+            new LaneExecutor(List.of(executor)),
+            meterRegistry
+    );
+
+    static class TestEvent extends DomainEvent {
+        @Override
+        public String getEventName() {
+            return "TEST_EVENT";
+        }
+    }
+
+    static class TestListener implements ApplicationListener<ApplicationEvent> {
+        private final Runnable action;
+
+        TestListener(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            action.run();
+        }
+    }
+
+    private PayloadApplicationEvent<DomainEvent> event() {
+        return new PayloadApplicationEvent<>(this, new TestEvent());
+    }
+
+    private void awaitDispatch() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void itShouldRecordExecutionTimeAndDispatchLagOfListenerTaggedWithEventName() throws InterruptedException {
+        multicaster.addApplicationListener(new TestListener(() -> { }));
+
+        multicaster.multicastEvent(event());
+        awaitDispatch();
+
+        assertThat(meterRegistry.get("events.listener").tag("event", "TEST_EVENT").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("events.dispatch_lag").tag("event", "TEST_EVENT").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldCountListenerFailuresWithoutStoppingTheDispatch() throws InterruptedException {
+        multicaster.addApplicationListener(new TestListener(() -> {
+            throw new IllegalStateException();
+        }));
+
+        multicaster.multicastEvent(event());
+        multicaster.multicastEvent(event());
+        awaitDispatch();
+
+        assertThat(meterRegistry.get("events.listener.failures").tag("event", "TEST_EVENT").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void itShouldCountEventsRejectedWhenExecutorIsSaturated() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var latch = new CountDownLatch(1);
+        multicaster.addApplicationListener(new TestListener(() -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        multicaster.multicastEvent(event());
+        started.await(1, TimeUnit.SECONDS);
+        multicaster.multicastEvent(event());
+        multicaster.multicastEvent(event());
+        latch.countDown();
+        awaitDispatch();
+
+        assertThat(meterRegistry.get("events.executor.rejected").tag("event", "TEST_EVENT").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("events.listener").tag("event", "TEST_EVENT").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void itShouldReportOccupancyOfEachLane() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var latch = new CountDownLatch(1);
+        multicaster.addApplicationListener(new TestListener(() -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        multicaster.multicastEvent(event());
+        started.await(1, TimeUnit.SECONDS);
+        multicaster.multicastEvent(event());
+
+        assertThat(meterRegistry.get("events.lane.active").tag("lane", "0").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.lane.queue_size").tag("lane", "0").gauge().value()).isEqualTo(1);
+        latch.countDown();
+        awaitDispatch();
+    }
+
+    @Test
+    void itShouldCompleteDispatchOnceEveryListenerRan() throws Exception {
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        multicaster.addApplicationListener(new TestListener(() -> ran.add("first")));
+        multicaster.addApplicationListener(new TestListener(() -> ran.add("second")));
+
+        multicaster.dispatch(new TestEvent()).get(1, TimeUnit.SECONDS);
+
+        assertThat(ran).containsExactly("first", "second");
+    }
+
+    @Test
+    void itShouldFailDispatchWhenAListenerInvocationIsRejected() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var latch = new CountDownLatch(1);
+        multicaster.addApplicationListener(new TestListener(() -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        multicaster.multicastEvent(event());
+        started.await(1, TimeUnit.SECONDS);
+        multicaster.multicastEvent(event());
+        var dispatch = multicaster.dispatch(new TestEvent());
+        latch.countDown();
+        awaitDispatch();
+
+        assertThatThrownBy(() -> dispatch.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+
+    @Test
+    void itShouldFailDispatchWhenAListenerFails() {
+        multicaster.addApplicationListener(new TestListener(() -> {
+            throw new IllegalStateException();
+        }));
+
+        var dispatch = multicaster.dispatch(new TestEvent());
+
+        assertThatThrownBy(() -> dispatch.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(meterRegistry.get("events.listener.failures").tag("event", "TEST_EVENT").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldCompleteDispatchOnlyOnceTheChangesLeftPendingByListenersAreWritten() throws Exception {
+        var coalescer = new LaneChangeCoalescer(new LaneExecutor(List.of(executor)), 60_000, meterRegistry);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        var writer = coalescer.<String>writer("test", Option::of, document -> Try.run(() -> written.add(document)));
+        var changed = new CountDownLatch(1);
+        multicaster.addApplicationListener(new TestListener(() -> {
+            writer.update(new TestEvent(), "1", id -> id);
+            changed.countDown();
+        }));
+
+        var dispatch = multicaster.dispatch(new TestEvent());
+        changed.await(1, TimeUnit.SECONDS);
+
+        assertThat(dispatch).isNotDone();
+        coalescer.flush();
+        dispatch.get(1, TimeUnit.SECONDS);
+        assertThat(written).containsExactly("1");
+    }
+}
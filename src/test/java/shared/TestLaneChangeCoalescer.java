@@ -0,0 +1,210 @@
+package shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import shared.domain.DomainEvent;
+import shared.domain.ProjectionWriter;
+import shared.infrastructure.LaneChangeCoalescer;
+import shared.infrastructure.LaneExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestLaneChangeCoalescer {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LaneExecutor executor = LaneExecutor.create(
+            2,
+            10,
+            LaneExecutor.blockPolicy(Duration.ofSeconds(1), new SimpleMeterRegistry())
+    );
+    Map<String, List<String>> documents = new ConcurrentHashMap<>();
+    AtomicInteger reads = new AtomicInteger();
+    AtomicInteger writes = new AtomicInteger();
+    CountDownLatch written = new CountDownLatch(1);
+
+    static class TestEvent extends DomainEvent {
+        @Override
+        public String getEventName() {
+            return "TEST_EVENT";
+        }
+
+        @Override
+        public Option<String> getAggregateKey() {
+            return Option.of("office-branch-1");
+        }
+    }
+
+    private ProjectionWriter<List<String>> writer(LaneChangeCoalescer coalescer) {
+        return coalescer.writer(
+                "test",
+                id -> {
+                    reads.incrementAndGet();
+                    return Option.of(documents.get(id)).map(ArrayList::new);
+                },
+                document -> {
+                    writes.incrementAndGet();
+                    documents.put("1", document);
+                    written.countDown();
+                    return Try.success(null);
+                }
+        );
+    }
+
+    private CompletableFuture<Void> add(ProjectionWriter<List<String>> writer, String documentId, String value) {
+        return writer.update(new TestEvent(), documentId, document -> {
+            document.add(value);
+            return document;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void itShouldApplyAllChangesOfWindowWithASingleReadAndWrite() {
+        var coalescer = new LaneChangeCoalescer(executor, 60_000, meterRegistry);
+        var writer = writer(coalescer);
+        documents.put("1", List.of());
+
+        add(writer, "1", "first");
+        add(writer, "1", "second");
+        add(writer, "1", "third");
+        coalescer.flush();
+
+        assertThat(documents.get("1")).containsExactly("first", "second", "third");
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(writes.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.coalescing.changes").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("events.coalescing.writes").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.coalescing.changes_per_write").summary().mean()).isEqualTo(3);
+    }
+
+    @Test
+    void itShouldWriteChangesOnTheLaneWhenWindowIsOver() throws InterruptedException {
+        var coalescer = new LaneChangeCoalescer(executor, 10, meterRegistry);
+        var writer = writer(coalescer);
+        documents.put("1", List.of());
+
+        add(writer, "1", "first");
+
+        assertThat(written.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(documents.get("1")).containsExactly("first");
+    }
+
+    @Test
+    void itShouldDispatchChangesAgainOntoTheLaneWhenItRejectsThem() throws InterruptedException {
+        var saturatedExecutor = LaneExecutor.create(
+                1,
+                1,
+                LaneExecutor.blockPolicy(Duration.ofMillis(10), new SimpleMeterRegistry())
+        );
+        var release = new CountDownLatch(1);
+        var writerThread = new AtomicReference<String>();
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        saturatedExecutor.execute("office-branch-1", blocked);
+        saturatedExecutor.execute("office-branch-1", blocked);
+        var coalescer = new LaneChangeCoalescer(saturatedExecutor, 10, meterRegistry);
+        var writer = coalescer.<List<String>>writer(
+                "test",
+                id -> Option.of(documents.get(id)).map(ArrayList::new),
+                document -> {
+                    writerThread.set(Thread.currentThread().getName());
+                    documents.put("1", document);
+                    written.countDown();
+                    return Try.success(null);
+                }
+        );
+        documents.put("1", List.of());
+
+        add(writer, "1", "first");
+
+        assertThat(written.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(meterRegistry.get("events.coalescing.redispatches").counter().count()).isPositive();
+        release.countDown();
+        assertThat(written.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(writerThread.get()).startsWith("event-lane-");
+        assertThat(documents.get("1")).containsExactly("first");
+        saturatedExecutor.shutdown();
+    }
+
+    @Test
+    void itShouldWritePendingChangesWhenStoppedAndLaterOnesRightAway() {
+        var coalescer = new LaneChangeCoalescer(executor, 60_000, meterRegistry);
+        var writer = writer(coalescer);
+        documents.put("1", List.of());
+
+        add(writer, "1", "first");
+        coalescer.stop();
+        add(writer, "1", "second");
+
+        assertThat(documents.get("1")).containsExactly("first", "second");
+        assertThat(writes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void itShouldIgnoreChangesOfDocumentsThatDoNotExist() {
+        var coalescer = new LaneChangeCoalescer(executor, 60_000, meterRegistry);
+        var writer = writer(coalescer);
+
+        add(writer, "1", "first");
+        coalescer.flush();
+
+        assertThat(writes.get()).isEqualTo(0);
+        assertThat(meterRegistry.get("events.coalescing.failures").counter().count()).isEqualTo(0);
+    }
+
+    @Test
+    void itShouldCompleteChangesOnlyOnceTheyAreWritten() {
+        var coalescer = new LaneChangeCoalescer(executor, 60_000, meterRegistry);
+        var writer = writer(coalescer);
+        documents.put("1", List.of());
+
+        var first = add(writer, "1", "first");
+        var second = add(writer, "1", "second");
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        coalescer.flush();
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    void itShouldFailChangesWhenWritingThemFails() {
+        var coalescer = new LaneChangeCoalescer(executor, 60_000, meterRegistry);
+        ProjectionWriter<List<String>> writer = coalescer.writer(
+                "failing",
+                id -> Option.of(new ArrayList<>()),
+                document -> Try.failure(new IllegalStateException())
+        );
+
+        var change = add(writer, "1", "first");
+        coalescer.flush();
+
+        assertThat(change).isCompletedExceptionally();
+        assertThat(meterRegistry.get("events.coalescing.failures").tag("projection", "failing").counter().count())
+                .isEqualTo(1);
+    }
+}
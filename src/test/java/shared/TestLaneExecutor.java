@@ -0,0 +1,117 @@
+package shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import shared.infrastructure.LaneExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestLaneExecutor {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LaneExecutor executor = LaneExecutor.create(
+            4,
+            2,
+            LaneExecutor.blockPolicy(Duration.ofMillis(100), meterRegistry)
+    );
+
+    private String keyOnOtherLaneThan(String key) {
+        return IntStream.range(0, 100)
+                .mapToObj(String::valueOf)
+                .filter(other -> executor.laneOf(other) != executor.laneOf(key))
+                .findFirst()
+                .get();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.lanes().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    @Test
+    void itShouldAlwaysAssignSameLaneToSameKey() {
+        assertThat(executor.laneOf("office-branch-1")).isEqualTo(executor.laneOf("office-branch-1"));
+    }
+
+    @Test
+    void itShouldRunTasksOfSameKeyInSubmissionOrderEvenWhenLaneIsSaturated() throws InterruptedException {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 50; i++) {
+            int task = i;
+            executor.execute("office-branch-1", () -> executed.add(task));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        assertThat(executed).isEqualTo(IntStream.range(0, 50).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void itShouldRunTasksOfDifferentLanesInParallel() throws InterruptedException {
+        var otherKeyExecuted = new CountDownLatch(1);
+        var blockedKeyFinished = new CountDownLatch(1);
+
+        executor.execute("office-branch-1", () -> {
+            try {
+                if (otherKeyExecuted.await(1, TimeUnit.SECONDS))
+                    blockedKeyFinished.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(keyOnOtherLaneThan("office-branch-1"), otherKeyExecuted::countDown);
+
+        assertThat(blockedKeyFinished.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void itShouldRunTasksSubmittedFromTheirOwnSaturatedLaneOnTheSubmitter() throws InterruptedException {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        executor.execute("office-branch-1", () -> {
+            for (int i = 0; i < 10; i++) {
+                int task = i;
+                executor.execute("office-branch-1", () -> executed.add(task));
+            }
+        });
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasSize(10);
+        assertThat(meterRegistry.counter("events.lane.caller_runs").count()).isEqualTo(8);
+    }
+
+    @Test
+    void itShouldRejectTaskWhenLaneIsStillSaturatedAfterTimeout() {
+        var release = new CountDownLatch(1);
+        Runnable blocked = () -> {
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute("office-branch-1", blocked);
+        executor.execute("office-branch-1", blocked);
+        executor.execute("office-branch-1", blocked);
+
+        assertThatThrownBy(() -> executor.execute("office-branch-1", () -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.counter("events.lane.block_timeouts").count()).isEqualTo(1);
+        release.countDown();
+    }
+}
@@ -0,0 +1,82 @@
+package shared;
+
+import backoffice.domain.membership.MembershipCreatedEvent;
+import backoffice.domain.office_inactivity.InactivityCreatedEvent;
+import backoffice.domain.office_inactivity.OfficeInactivitiesReplacedEvent;
+import booking.domain.booking.BookingConfirmedEvent;
+import booking.domain.office.OfficeOccupancyUpdatedEvent;
+import io.vavr.control.Option;
+import shared.domain.DomainEvent;
+import shared.infrastructure.outbox.OutboxMessage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestOutboxMessage {
+
+    static class UnreadableEvent extends DomainEvent {
+        /* Written without its type, so it can not be read back */
+        private final DomainEvent cause = OfficeOccupancyUpdatedEvent.of("1", "12", LocalDate.of(2030, 5, 25), 4);
+
+        @Override
+        public String getEventName() {
+            return "UNREADABLE";
+        }
+    }
+
+    private DomainEvent readBack(DomainEvent event) {
+        return OutboxMessage.of(event).event().get();
+    }
+
+    @Test
+    void itShouldReadBackEventsWithOptionalValuesAndNestedEvents() {
+        var event = OfficeInactivitiesReplacedEvent.of("1", "12", List.of(
+                InactivityCreatedEvent.of("21", "1", "12", "RECURRING_DAY", Option.of(DayOfWeek.SUNDAY), Option.none()),
+                InactivityCreatedEvent.of(
+                        "22",
+                        "1",
+                        "12",
+                        "SPECIFIC_DATE",
+                        Option.none(),
+                        Option.of(LocalDate.of(2030, 5, 25))
+                )
+        ));
+
+        assertThat(readBack(event)).isEqualTo(event);
+    }
+
+    @Test
+    void itShouldReadBackEventsWithDatesAndDecimals() {
+        var event = BookingConfirmedEvent.of("31", "1", "12", 120.5f, LocalDate.of(2030, 5, 25), "john@wick.com");
+
+        assertThat(readBack(event)).isEqualTo(event);
+    }
+
+    @Test
+    void itShouldReadBackEventsWithSets() {
+        var event = MembershipCreatedEvent.of("41", "1", "Gold", "Every weekday", Set.of("MONDAY", "FRIDAY"), 100);
+
+        assertThat(readBack(event)).isEqualTo(event);
+    }
+
+    @Test
+    void itShouldNotWriteTheSequenceOfTheEvent() {
+        var event = OfficeOccupancyUpdatedEvent.of("1", "12", LocalDate.of(2030, 5, 25), 4);
+        event.sequencedAt(7);
+
+        var read = readBack(event);
+
+        assertThat(read).isEqualTo(event);
+        assertThat(read.getSequence().isEmpty()).isTrue();
+    }
+
+    @Test
+    void itShouldFailToReadBackEventsWhoseFieldsCanNotBeInstantiated() {
+        assertThat(OutboxMessage.of(new UnreadableEvent()).event().isFailure()).isTrue();
+    }
+}
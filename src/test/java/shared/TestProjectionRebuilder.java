@@ -0,0 +1,199 @@
+package shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Option;
+import server.WorkfficeApplication;
+import shared.infrastructure.rebuild.EventSources;
+import shared.infrastructure.rebuild.ProjectionRebuild;
+import shared.infrastructure.rebuild.ProjectionRebuilder;
+import shared.infrastructure.rebuild.RebuildProgress;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ContextConfiguration(classes = WorkfficeApplication.class)
+public class TestProjectionRebuilder {
+    static final String COLLECTION = "rebuild_test";
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    List<String> calls = new ArrayList<>();
+    ProjectionRebuilder rebuilder;
+
+    /* Records the calls along the amount of documents in the live collection at the time */
+    class RecordingEventSources implements EventSources {
+        private void record(String call, List<String> contexts) {
+            var documents = mongoTemplate.findAll(Document.class, COLLECTION).size();
+            calls.add(call + " " + contexts + " with " + documents + " documents");
+        }
+
+        @Override
+        public void pause(String holder, List<String> contexts) { record("pause", contexts); }
+
+        @Override
+        public void renew(String holder, List<String> contexts) {}
+
+        @Override
+        public void resume(String holder, List<String> contexts) { record("resume", contexts); }
+    }
+
+    static class NumbersRebuild implements ProjectionRebuild<Integer> {
+        private final List<Integer> rows;
+        private final int           failingRow;
+        private       int           rebuilt;
+
+        NumbersRebuild(int rows, int failingRow) {
+            this.rows       = IntStream.range(0, rows).boxed().collect(Collectors.toList());
+            this.failingRow = failingRow;
+        }
+
+        @Override
+        public String projection() { return "numbers"; }
+
+        @Override
+        public String collection() { return COLLECTION; }
+
+        @Override
+        public long count() { return rows.size(); }
+
+        @Override
+        public List<String> eventSources() { return List.of("numbers"); }
+
+        @Override
+        public List<Integer> nextChunk(Option<Integer> last, int size) {
+            return rows
+                    .stream()
+                    .filter(row -> last.map(lastRow -> row > lastRow).getOrElse(true))
+                    .limit(size)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Document> transform(List<Integer> chunk) {
+            if (chunk.contains(failingRow))
+                throw new IllegalStateException("Row " + failingRow + " can not be transformed");
+            return chunk
+                    .stream()
+                    .map(row -> new Document("_id", row).append("square", row * row))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void rebuilt() { rebuilt++; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(COLLECTION);
+        mongoTemplate.insert(new Document("_id", 100).append("square", 0), COLLECTION);
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index("square", Sort.Direction.ASC).named("square"));
+        rebuilder = new ProjectionRebuilder(
+                mongoTemplate,
+                3,
+                2,
+                Duration.ZERO,
+                meterRegistry,
+                new RecordingEventSources(),
+                Clock.systemUTC()
+        );
+    }
+
+    @Test
+    void itShouldReplaceCollectionWithTheDocumentsOfAllChunks() {
+        var rebuild = new NumbersRebuild(10, -1);
+
+        var progress = rebuilder.rebuild(rebuild);
+
+        assertThat(progress.isSuccess()).isTrue();
+        assertThat(mongoTemplate.findAll(Document.class, COLLECTION))
+                .extracting(document -> document.get("_id"))
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        assertThat(mongoTemplate.indexOps(COLLECTION).getIndexInfo())
+                .extracting(IndexInfo::getName)
+                .contains("square");
+        assertThat(mongoTemplate.collectionExists(COLLECTION + "__rebuild")).isFalse();
+        assertThat(rebuild.rebuilt).isEqualTo(1);
+    }
+
+    @Test
+    void itShouldReportProgressOfRebuild() {
+        rebuilder.rebuild(new NumbersRebuild(10, -1));
+
+        var progress = rebuilder.progress("numbers").get();
+        assertThat(progress.status()).isEqualTo(RebuildProgress.Status.COMPLETED);
+        assertThat(progress.rows()).isEqualTo(10);
+        assertThat(progress.documents()).isEqualTo(10);
+        assertThat(progress.ratio()).isEqualTo(1);
+        assertThat(progress.eta()).contains(Duration.ZERO);
+        assertThat(meterRegistry.get("projections.rebuild.rows").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("projections.rebuild.duration").tag("status", "COMPLETED").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void itShouldKeepLiveCollectionWhenAChunkCanNotBeTransformed() {
+        var rebuild = new NumbersRebuild(10, 4);
+
+        var progress = rebuilder.rebuild(rebuild);
+
+        assertThat(progress.isFailure()).isTrue();
+        assertThat(rebuilder.progress("numbers").get().status()).isEqualTo(RebuildProgress.Status.FAILED);
+        assertThat(mongoTemplate.findAll(Document.class, COLLECTION))
+                .extracting(document -> document.get("_id"))
+                .containsExactly(100);
+        assertThat(mongoTemplate.collectionExists(COLLECTION + "__rebuild")).isFalse();
+        assertThat(rebuild.rebuilt).isZero();
+    }
+
+    @Test
+    void itShouldKeepLiveCollectionWhenTheLastChunkCanNotBeTransformed() {
+        var rebuild = new NumbersRebuild(10, 9);
+
+        var progress = rebuilder.rebuild(rebuild);
+
+        assertThat(progress.isFailure()).isTrue();
+        assertThat(mongoTemplate.findAll(Document.class, COLLECTION))
+                .extracting(document -> document.get("_id"))
+                .containsExactly(100);
+        assertThat(rebuild.rebuilt).isZero();
+    }
+
+    @Test
+    void itShouldPauseEventSourcesUntilTheRebuiltCollectionReplacedTheLiveOne() {
+        rebuilder.rebuild(new NumbersRebuild(10, -1));
+
+        assertThat(calls).containsExactly(
+                "pause [numbers] with 1 documents",
+                "resume [numbers] with 10 documents"
+        );
+    }
+
+    @Test
+    void itShouldResumeEventSourcesWhenRebuildFails() {
+        rebuilder.rebuild(new NumbersRebuild(10, 4));
+
+        assertThat(calls).containsExactly(
+                "pause [numbers] with 1 documents",
+                "resume [numbers] with 1 documents"
+        );
+    }
+}